@@ -1,6 +1,6 @@
 import { defineStore } from 'pinia'
 import { ref, computed } from 'vue'
-import type { OptionChainData } from '@/types'
+import type { ChainLoadProgress, OptionChainData } from '@/types'
 import { apiCall } from '@/utils/api'
 
 export const useOptionStore = defineStore('option', () => {
@@ -8,6 +8,7 @@ export const useOptionStore = defineStore('option', () => {
   const chainData = ref<OptionChainData | null>(null)
   const selectedStrike = ref<number | null>(null)
   const isLoading = ref(false)
+  const loadProgress = ref<ChainLoadProgress | null>(null)
 
   // Getters
   const underlyingPrice = computed(() => chainData.value?.underlyingPrice ?? 0)
@@ -96,6 +97,11 @@ export const useOptionStore = defineStore('option', () => {
     // console.log('[Option Store] ✅ 업데이트 완료:', chainData.value.strikeChain.length, '개')
   }
 
+  // 서버 체인 적재 진행률 (적재 중에는 체인이 ATM 근처부터 점진적으로 채워짐)
+  function updateLoadProgress(progress: ChainLoadProgress) {
+    loadProgress.value = progress
+  }
+
   async function fetchChainData() {
     isLoading.value = true
     try {
@@ -123,6 +129,7 @@ export const useOptionStore = defineStore('option', () => {
     chainData.value = null
     selectedStrike.value = null
     isLoading.value = false
+    loadProgress.value = null
   }
 
   return {
@@ -130,6 +137,7 @@ export const useOptionStore = defineStore('option', () => {
     chainData,
     selectedStrike,
     isLoading,
+    loadProgress,
     // Getters
     underlyingPrice,
     atmStrike,
@@ -143,6 +151,7 @@ export const useOptionStore = defineStore('option', () => {
     // Actions
     updateChainData,
     fetchChainData,
+    updateLoadProgress,
     selectStrike,
     reset
   }
@@ -157,6 +157,15 @@ export const useWebSocketStore = defineStore('websocket', () => {
       }
     })
 
+    // 옵션 체인 적재 진행률 구독
+    client.value.subscribe('/topic/option-chain/progress', (message) => {
+      try {
+        optionStore.updateLoadProgress(JSON.parse(message.body))
+      } catch (error) {
+        console.error('[WebSocket] 적재 진행률 파싱 오류:', error)
+      }
+    })
+
     // console.log('[WebSocket] 토픽 구독 완료')
   }
 
@@ -77,6 +77,17 @@ export interface OptionChainData {
   atmStrike: number
   maxPainPrice: number
   strikeChain: OptionChainRow[]
+  version?: number        // 서버 스냅샷 버전 (같으면 같은 내용)
+}
+
+// 옵션 체인 적재 진행률 (/topic/option-chain/progress)
+export interface ChainLoadProgress {
+  done: number            // 반영된 종목 수
+  total: number           // 조회 대상 종목 수
+  elapsedMs: number
+  etaMs: number           // 남은 예상 시간 (-1: 계산 불가)
+  complete: boolean
+  lastSymbol: string | null
 }
 
 // 시장 개요 데이터
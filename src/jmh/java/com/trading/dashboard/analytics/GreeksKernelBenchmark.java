@@ -0,0 +1,68 @@
+package com.trading.dashboard.analytics;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 체인 전체 Greeks 배치 계산: 스칼라 커널 vs Vector API 커널 (+ 종목별 Black76.greeks 호출 기준선)
+ * - contracts: 최근월물 체인(200) ~ 여러 만기/기초자산을 합친 체인(4000)
+ * - kernel=vector는 -Pvector 빌드에서만 동작 (없으면 Setup에서 실패)
+ * 실행: mvn -Pbenchmark,vector -Dskip.npm=true test-compile exec:exec -Djmh.args="GreeksKernelBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GreeksKernelBenchmark {
+
+    private static final double FORWARD = 591.25;
+    private static final double RATE = 0.03;
+
+    @Param({"200", "1000", "4000"})
+    public int contracts;
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    private OptionChainArrays chain;
+    private GreeksKernel greeksKernel;
+    private final double[] greeks = new double[Black76.GREEKS];
+
+    @Setup
+    public void setUp() {
+        greeksKernel = "vector".equals(kernel) ? GreeksKernels.vector() : GreeksKernels.scalar();
+        Random random = new Random(42);
+        chain = new OptionChainArrays(contracts);
+        for (int i = 0; i < contracts; i++) {
+            double strike = FORWARD - contracts * 0.625 + (i / 2) * 2.5;
+            double years = (1 + random.nextInt(60)) / 252.0;
+            double sigma = 0.14 + 0.0005 * Math.abs(strike - FORWARD);
+            chain.add(i % 2 == 0, strike, 0.0, sigma, years);
+        }
+    }
+
+    @Benchmark
+    public double[] batch() {
+        greeksKernel.compute(chain, FORWARD, RATE);
+        return chain.deltas();
+    }
+
+    /**
+     * 기준선: 종목마다 Black76.greeks 호출 (kernel 파라미터와 무관)
+     */
+    @Benchmark
+    public void perContract(Blackhole blackhole) {
+        double[] strikes = chain.strikes();
+        double[] volatilities = chain.volatilities();
+        double[] years = chain.years();
+        for (int i = 0; i < chain.size(); i++) {
+            Black76.greeks(chain.isCall(i), FORWARD, strikes[i], years[i], RATE, volatilities[i], greeks);
+            blackhole.consume(greeks[Black76.DELTA]);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.trading.dashboard.analytics;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Max Pain 계산 비교: 기존 행사가 × 행사가 BigDecimal 이중 루프 vs 누적합 PayoffEngine
+ * - strikes: 최근월물 체인(80) ~ 여러 만기를 합친 넓은 체인(1600)
+ * 실행: mvn -Pbenchmark -Dskip.npm=true test-compile exec:exec -Djmh.args="PayoffEngineBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PayoffEngineBenchmark {
+
+    @Param({"80", "400", "1600"})
+    public int strikes;
+
+    private double[] strikePrices;
+    private long[] callOpenInterest;
+    private long[] putOpenInterest;
+    private BigDecimal[] strikeDecimals;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        strikePrices = new double[strikes];
+        callOpenInterest = new long[strikes];
+        putOpenInterest = new long[strikes];
+        strikeDecimals = new BigDecimal[strikes];
+        for (int i = 0; i < strikes; i++) {
+            strikePrices[i] = 200 + i * 2.5;
+            callOpenInterest[i] = random.nextInt(20_000);
+            putOpenInterest[i] = random.nextInt(20_000);
+            strikeDecimals[i] = BigDecimal.valueOf(strikePrices[i]);
+        }
+    }
+
+    /**
+     * 기존 방식: 행사가마다 전체 체인의 내재가치를 BigDecimal로 합산
+     */
+    @Benchmark
+    public BigDecimal quadraticBigDecimal() {
+        BigDecimal minPain = null;
+        BigDecimal maxPainPrice = null;
+        for (BigDecimal settlement : strikeDecimals) {
+            BigDecimal totalPain = BigDecimal.ZERO;
+            for (int i = 0; i < strikes; i++) {
+                BigDecimal strike = strikeDecimals[i];
+                totalPain = totalPain.add(settlement.subtract(strike).max(BigDecimal.ZERO)
+                        .multiply(BigDecimal.valueOf(callOpenInterest[i])));
+                totalPain = totalPain.add(strike.subtract(settlement).max(BigDecimal.ZERO)
+                        .multiply(BigDecimal.valueOf(putOpenInterest[i])));
+            }
+            if (minPain == null || totalPain.compareTo(minPain) < 0) {
+                minPain = totalPain;
+                maxPainPrice = settlement;
+            }
+        }
+        return maxPainPrice;
+    }
+
+    /**
+     * 누적합: 곡선 전체 + 최소값
+     */
+    @Benchmark
+    public double prefixSum() {
+        return PayoffEngine.of(strikePrices, callOpenInterest, putOpenInterest).maxPainLoss();
+    }
+}
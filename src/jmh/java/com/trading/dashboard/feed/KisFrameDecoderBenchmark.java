@@ -0,0 +1,91 @@
+package com.trading.dashboard.feed;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실시간 프레임 파싱 비교: 기존 split + BigDecimal 방식 vs 커서 기반 디코더
+ * 실행: mvn -Pbenchmark -Dskip.npm=true test-compile exec:exec -Djmh.args="KisFrameDecoderBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KisFrameDecoderBenchmark {
+
+    private static final String FUTURES_RECORD =
+            "A01603^210919^0.75^2^0.13^590.70^590.30^590.80^589.90^1^1288^190102062^590.62^0.08^0.01"
+                    + "^590.65^590.60^0.05^275012^-120^1^1^0^0^0^0^0^0^0^0^0^0^0^0^0^0^0^0^0^0^0^0^0^0^0^0^0^0";
+
+    private static final String OPTION_RECORD =
+            "B01601590^180001^1.25^2^0.05^4.16^1.20^1.30^1.10^5^100^12500^300^0^0^0^0^0^0^0^0^0^0^0";
+
+    @Param({ "1", "3" })
+    public int records;
+
+    private String futuresFrame;
+    private String optionFrame;
+
+    private final KisFrameDecoder decoder = new KisFrameDecoder();
+    private final KisTick tick = new KisTick();
+
+    @Setup
+    public void setUp() {
+        futuresFrame = frame("H0MFCNT0", FUTURES_RECORD, records);
+        optionFrame = frame("H0EUCNT0", OPTION_RECORD, records);
+    }
+
+    private static String frame(String trId, String record, int count) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("0|").append(trId).append('|').append(String.format("%03d", count)).append('|');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append('^');
+            }
+            sb.append(record);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 기존 경로: split 2회 + BigDecimal 생성, 첫 레코드만 처리
+     */
+    @Benchmark
+    public void splitBaseline(Blackhole bh) {
+        bh.consume(splitPath(futuresFrame, 5));
+        bh.consume(splitPath(optionFrame, 2));
+    }
+
+    private static long splitPath(String message, int priceIndex) {
+        String[] parts = message.split("\\|", 4);
+        String[] fields = parts[3].split("\\^");
+        String code = fields[0];
+        BigDecimal price = new BigDecimal(fields[priceIndex]);
+        long volume = Long.parseLong(fields[10]);
+        return code.length() + price.unscaledValue().longValue() + volume;
+    }
+
+    /**
+     * 커서 디코더: 모든 레코드 처리
+     */
+    @Benchmark
+    public void cursorDecoder(Blackhole bh) {
+        bh.consume(decode(futuresFrame));
+        bh.consume(decode(optionFrame));
+    }
+
+    private long decode(String message) {
+        long sum = 0;
+        if (decoder.wrap(message)) {
+            while (decoder.next(tick)) {
+                sum += (tick.symbolEnd() - tick.symbolStart()) + tick.price() + tick.volume();
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,51 @@
+package com.trading.dashboard.journal;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 저널 기록 비용 (프레임 1개 append, 세그먼트 교체 포함)
+ * 실행: mvn -Pbenchmark -Dskip.npm=true test-compile exec:exec -Djmh.args="JournalWriterBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JournalWriterBenchmark {
+
+    private static final String OPTION_FRAME = "0|H0EUCNT0|001|"
+            + "B01601590^180001^1.25^2^0.05^4.16^1.20^1.30^1.10^5^100^12500^300^0^0^0^0^0^0^0^0^0^0^0";
+
+    private Path directory;
+    private JournalWriter writer;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-bench");
+        writer = new JournalWriter(directory, 64 * 1024 * 1024);
+    }
+
+    /**
+     * 반복마다 디렉터리 삭제 (초당 수 GB가 기록되므로 디스크 누적 방지)
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        writer.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long append() throws IOException {
+        return writer.append(OPTION_FRAME, System.nanoTime(), System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,73 @@
+package com.trading.dashboard.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 옵션 시세(inquire-price) 응답 파싱 비교: 기존 String + readTree + replace/BigDecimal vs 스트리밍 디코더
+ * - 입력: 실제 응답 형식의 OTM 콜 / ITM 풋 본문 (src/jmh/resources/kis, 천 단위 쉼표 포함)
+ * - 두 경로 모두 응답 바이트에서 시작 (기존 경로는 BodyHandlers.ofString과 같은 UTF-8 디코딩 포함)
+ * 실행: mvn -Pbenchmark -Dskip.npm=true test-compile exec:exec -Djmh.args="KisQuoteDecoderBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class KisQuoteDecoderBenchmark {
+
+    @Param({"otm", "itm"})
+    public String payload;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/kis/option-inquire-price-" + payload + ".json")) {
+            body = in.readAllBytes();
+        }
+    }
+
+    /**
+     * 기존 경로: 본문 String → 트리 → 필드마다 asText + replace + BigDecimal
+     */
+    @Benchmark
+    public void treeModel(Blackhole bh) throws IOException {
+        JsonNode root = objectMapper.readTree(new String(body, StandardCharsets.UTF_8));
+        if (!"0".equals(root.path("rt_cd").asText(""))) {
+            return;
+        }
+        JsonNode output1 = root.get("output1");
+        bh.consume(output1.path("hts_kor_isnm").asText(""));
+        bh.consume(new BigDecimal(output1.path("acpr").asText("0").replace(",", "")));
+        bh.consume(new BigDecimal(output1.path("futs_prpr").asText("0").replace(",", "")));
+        bh.consume(output1.path("acml_vol").asLong(0));
+        bh.consume(new BigDecimal(output1.path("acml_tr_pbmn").asText("0").replace(",", "")));
+        bh.consume(output1.path("hts_otst_stpl_qty").asLong(0));
+        bh.consume(new BigDecimal(output1.path("hts_ints_vltl").asText("0").replace(",", "")));
+        bh.consume(new BigDecimal(output1.path("delta_val").asText("0").replace(",", "")));
+        bh.consume(new BigDecimal(output1.path("gama").asText("0").replace(",", "")));
+        bh.consume(new BigDecimal(output1.path("theta").asText("0").replace(",", "")));
+        bh.consume(new BigDecimal(output1.path("vega").asText("0").replace(",", "")));
+        bh.consume(new BigDecimal(root.get("output3").path("bstp_nmix_prpr").asText("0").replace(",", "")));
+    }
+
+    /**
+     * 스트리밍 디코더: 바이트 스트림에서 필요한 필드만
+     */
+    @Benchmark
+    public KisQuoteDecoder.OptionQuote streamingDecoder() throws IOException {
+        return KisQuoteDecoder.decodeOption(objectMapper.getFactory(), new ByteArrayInputStream(body));
+    }
+}
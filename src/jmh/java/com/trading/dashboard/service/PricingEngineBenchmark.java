@@ -0,0 +1,102 @@
+package com.trading.dashboard.service;
+
+import com.trading.dashboard.analytics.Black76;
+import com.trading.dashboard.model.FuturesData;
+import com.trading.dashboard.model.OptionData;
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.state.InstrumentState;
+import com.trading.dashboard.state.MarketStateStore;
+import com.trading.dashboard.universe.Instrument;
+import com.trading.dashboard.universe.InstrumentUniverse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 체인 전체 IV/Greeks 재계산 (스냅샷 1회분)
+ * - contracts: 최근월물 ATM 주변(100) ~ 상장 행사가 전체(400), 콜/풋 합계
+ * - warm: 직전 IV로 시작 (실시간 틱 묶음 사이 가격 변화는 작음) / cold: 매번 초기 추정부터
+ * 실행: mvn -Pbenchmark -Dskip.npm=true test-compile exec:exec -Djmh.args="PricingEngineBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PricingEngineBenchmark {
+
+    private static final double FORWARD = 591.25;
+
+    @Param({"100", "200", "400"})
+    public int contracts;
+
+    @Param({"true", "false"})
+    public boolean warm;
+
+    private MarketStateStore store;
+    private PricingEngine engine;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        YearMonth expiry = YearMonth.from(now).plusMonths(1);
+        MarketClock clock = new MarketClock();
+        TradingCalendarService calendar = new TradingCalendarService();
+        double years = calendar.yearsToExpiry(now, Instrument.lastTradingDay(expiry));
+
+        store = new MarketStateStore();
+        store.upsertFutures(FuturesData.builder()
+                .symbol("A01612").name("KOSPI200 선물")
+                .currentPrice(BigDecimal.valueOf(FORWARD)).volume(10_000L).openInterest(5L)
+                .tradingValue(BigDecimal.TEN).timestamp(now)
+                .build());
+        int strikes = contracts / 2;
+        for (int i = 0; i < strikes; i++) {
+            double strike = FORWARD - strikes * 1.25 + i * 2.5;
+            double sigma = 0.16 + 0.0005 * Math.abs(strike - FORWARD);
+            for (OptionType type : OptionType.values()) {
+                double price = Black76.price(type == OptionType.CALL, FORWARD, strike, years, 0.03, sigma);
+                store.upsertOption(OptionData.builder()
+                        .symbol((type == OptionType.CALL ? "B" : "C") + "0161" + i)
+                        .name("bench").optionType(type)
+                        .strikePrice(BigDecimal.valueOf(strike))
+                        .currentPrice(BigDecimal.valueOf(Math.max(price, 0.01)).setScale(2, RoundingMode.HALF_UP))
+                        .volume(100L).openInterest(50L).tradingValue(BigDecimal.TEN)
+                        .expiryDate(expiry.toString().replace("-", ""))
+                        .timestamp(now)
+                        .build());
+            }
+        }
+
+        engine = new PricingEngine(store, calendar, Mockito.mock(InstrumentUniverse.class), clock,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(engine, "enabled", true);
+        ReflectionTestUtils.setField(engine, "riskFreeRate", 0.03);
+        engine.init();
+        engine.reprice();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetGuess() {
+        if (!warm) {
+            for (InstrumentState state : store.slots()) {
+                if (!state.isFutures()) {
+                    state.applyModelGreeks(Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public int reprice() {
+        return engine.reprice();
+    }
+}
@@ -0,0 +1,185 @@
+package com.trading.dashboard.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trading.dashboard.config.KisApiConfig;
+import com.trading.dashboard.fetch.KisApiGovernor;
+import com.trading.dashboard.fetch.KisFetchEngine;
+import com.trading.dashboard.repository.FuturesDataRepository;
+import com.trading.dashboard.repository.OptionDataRepository;
+import com.trading.dashboard.service.KisApiService;
+import com.trading.dashboard.service.MarketClock;
+import com.trading.dashboard.service.MarketStatusService;
+import com.trading.dashboard.service.TokenManager;
+import com.trading.dashboard.service.TradingCalendarService;
+import com.trading.dashboard.state.MarketStateStore;
+import com.trading.dashboard.universe.InstrumentUniverse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST 전체 조회(선물 4종 + ATM ±15pt 옵션) 소요시간 - 로컬 KIS REST 서버 대상
+ * - optionBoard=true: 옵션 전광판 1회 조회 (주간장), false: 종목별 시세/호가 조회
+ * - 보조 지표: 조회 건수(calls), 오류 응답 건수(errors), 반영된 종목 수(loaded) - 측정 반복 합계
+ * - 초당 조회 건수는 trial 종료 시 요약 한 줄로 출력 (JMH 보조 지표는 반복 간 합산되므로 비율은 따로 계산)
+ * - errorRate/rateLimit 조합으로 오류 응답이 섞였을 때 전체 조회가 끝까지 진행되는지 확인
+ * 실행: mvn -Pbenchmark -Dskip.npm=true test-compile exec:exec -Djmh.args="KisRefreshBenchmark"
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KisRefreshBenchmark {
+
+    @Param({"30"})
+    public long latencyMillis;
+
+    @Param({"0", "0.05"})
+    public double errorRate;
+
+    /** 서버 초당 한도 (조회 엔진은 90%로 설정) */
+    @Param({"20", "200"})
+    public int rateLimitPerSecond;
+
+    /** 옵션 전광판 사용 여부 (시장 시계는 평일 주간장으로 고정) */
+    @Param({"true", "false"})
+    public boolean optionBoard;
+
+    private KisRestSimulator simulator;
+    private KisApiGovernor governor;
+    private KisFetchEngine fetchEngine;
+    private KisApiService service;
+    private MarketStateStore store;
+
+    private long refreshes;
+    private long totalCalls;
+    private long totalErrors;
+    private long totalNanos;
+
+    /**
+     * 보조 지표 (JMH 결과에 함께 출력)
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long calls;
+        public long errors;
+        public long loaded;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        simulator = new KisRestSimulator(0, KisRestSimulator.Profile.defaults().toBuilder()
+                .latencyMillis(latencyMillis)
+                .jitterMillis(latencyMillis / 2)
+                .errorRate(errorRate)
+                .rateLimitPerSecond(rateLimitPerSecond)
+                .build());
+        simulator.start();
+
+        KisApiConfig config = new KisApiConfig();
+        config.setBaseUrl(simulator.getBaseUrl());
+        config.setAppKey("bench-key");
+        config.setAppSecret("bench-secret");
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // 토큰은 미리 발급해 두어 작업 디렉터리에 kis_token.cache를 만들지 않음
+        HttpRequest tokenRequest = HttpRequest.newBuilder()
+                .uri(URI.create(simulator.getBaseUrl() + "/oauth2/tokenP"))
+                .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                .build();
+        String token = objectMapper.readTree(httpClient.send(tokenRequest, HttpResponse.BodyHandlers.ofString())
+                .body()).get("access_token").asText();
+        TokenManager tokenManager = new TokenManager();
+        tokenManager.setToken(token, LocalDateTime.now().plusHours(1));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        governor = governor(registry, rateLimitPerSecond * 0.9);
+        fetchEngine = new KisFetchEngine(httpClient, governor, registry);
+        ReflectionTestUtils.setField(fetchEngine, "maxInFlight", 16);
+        ReflectionTestUtils.setField(fetchEngine, "maxRetries", 2);
+        ReflectionTestUtils.setField(fetchEngine, "retryBackoffMillis", 200L);
+        fetchEngine.init();
+
+        MarketClock clock = new MarketClock();
+        clock.set(LocalDateTime.of(2026, 1, 7, 10, 0).atZone(MarketClock.KST).toInstant().toEpochMilli());
+        InstrumentUniverse universe = new InstrumentUniverse(clock, httpClient);
+        try (InputStream master = httpClient.send(HttpRequest.newBuilder()
+                .uri(URI.create(simulator.getBaseUrl() + KisRestSimulator.MASTER_PATH)).build(),
+                HttpResponse.BodyHandlers.ofInputStream()).body()) {
+            universe.load(master);
+        }
+        store = new MarketStateStore();
+        service = new KisApiService(config, Mockito.mock(FuturesDataRepository.class),
+                Mockito.mock(OptionDataRepository.class), objectMapper, tokenManager,
+                new MarketStatusService(new TradingCalendarService(), clock), store, fetchEngine, universe,
+                event -> {
+                });
+        ReflectionTestUtils.setField(service, "optionBoardEnabled", optionBoard);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n[REFRESH] %d refreshes, avg %.0f ms, %.1f calls/s, %d error responses, rate %s/s%n",
+                refreshes, totalNanos / 1e6 / Math.max(1, refreshes), totalCalls * 1e9 / Math.max(1, totalNanos),
+                totalErrors, governor.snapshot().get("rate"));
+        fetchEngine.shutdown();
+        governor.shutdown();
+        simulator.shutdown();
+    }
+
+    private static KisApiGovernor governor(SimpleMeterRegistry registry, double ratePerSecond) {
+        KisApiGovernor governor = new KisApiGovernor(registry);
+        ReflectionTestUtils.setField(governor, "maxRate", ratePerSecond);
+        ReflectionTestUtils.setField(governor, "burst", 5);
+        ReflectionTestUtils.setField(governor, "minRate", 2.0);
+        ReflectionTestUtils.setField(governor, "decreaseFactor", 0.5);
+        ReflectionTestUtils.setField(governor, "increasePerSecond", 1.0);
+        ReflectionTestUtils.setField(governor, "decreaseCooldownMillis", 1000L);
+        ReflectionTestUtils.setField(governor, "maxQueued", 500);
+        ReflectionTestUtils.setField(governor, "maxWaitMillis", 10_000L);
+        governor.init();
+        return governor;
+    }
+
+    @Setup(Level.Iteration)
+    public void clear() {
+        store.clear();
+    }
+
+    @Benchmark
+    public int fullRefresh(Counters counters) {
+        long calls = simulator.requests();
+        long errors = simulator.errors();
+        long start = System.nanoTime();
+
+        service.loadKospi200Futures();
+        service.loadKospi200Options();
+
+        long elapsed = System.nanoTime() - start;
+        counters.calls = simulator.requests() - calls;
+        counters.errors = simulator.errors() - errors;
+        counters.loaded = store.futures().size() + store.options().size();
+        refreshes++;
+        totalCalls += counters.calls;
+        totalErrors += counters.errors;
+        totalNanos += elapsed;
+        return (int) counters.loaded;
+    }
+}
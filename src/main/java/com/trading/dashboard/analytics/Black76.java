@@ -0,0 +1,163 @@
+package com.trading.dashboard.analytics;
+
+/**
+ * Black-76 (선물 기초) 옵션 가격, 내재변동성, Greeks - primitive double 연산만 사용
+ * - 변동성/시간은 연 단위 (σ = 0.18, T = 잔존 거래일 / 252)
+ * - 정규분포 CDF는 Abramowitz-Stegun 26.2.17 근사 (오차 7.5e-8, 분기 없이 다항식 + exp 1회)
+ */
+public final class Black76 {
+
+    // Greeks 출력 배열 위치
+    public static final int DELTA = 0;
+    public static final int GAMMA = 1;
+    public static final int THETA = 2;
+    public static final int VEGA = 3;
+    public static final int GREEKS = 4;
+
+    public static final double MIN_VOLATILITY = 1e-4;
+    public static final double MAX_VOLATILITY = 5.0;
+
+    // 배치 커널(GreeksKernel 구현)도 같은 상수를 써서 스칼라/벡터 결과를 일치시킴
+    static final double INV_SQRT_2PI = 0.3989422804014327;
+    private static final double SQRT_2PI = 2.5066282746310002;
+
+    static final double P = 0.2316419;
+    static final double B1 = 0.319381530;
+    static final double B2 = -0.356563782;
+    static final double B3 = 1.781477937;
+    static final double B4 = -1.821255978;
+    static final double B5 = 1.330274429;
+
+    private static final int MAX_ITERATIONS = 40;
+    private static final double PRICE_TOLERANCE = 1e-10;
+
+    private Black76() {
+    }
+
+    /**
+     * 표준정규 밀도
+     */
+    public static double pdf(double x) {
+        return INV_SQRT_2PI * Math.exp(-0.5 * x * x);
+    }
+
+    /**
+     * 표준정규 누적분포 (A-S 26.2.17)
+     */
+    public static double cdf(double x) {
+        double z = Math.abs(x);
+        double t = 1.0 / (1.0 + P * z);
+        double poly = t * (B1 + t * (B2 + t * (B3 + t * (B4 + t * B5))));
+        double tail = pdf(z) * poly;
+        return x >= 0 ? 1.0 - tail : tail;
+    }
+
+    /**
+     * 옵션 가격 (할인 포함)
+     */
+    public static double price(boolean call, double forward, double strike, double years, double rate,
+            double volatility) {
+        return Math.exp(-rate * years) * undiscounted(call, forward, strike, years, volatility);
+    }
+
+    /**
+     * 내재변동성 - 안전장치가 있는 Newton 반복
+     * - 내가격 옵션은 선물 패리티로 같은 행사가의 외가격 옵션으로 바꿔서 풂 (시간가치만 남겨 조건수 개선)
+     * - Newton 단계가 [하한, 상한] 구간을 벗어나면 이분법으로 대체, 매 반복마다 구간 축소
+     *
+     * @param guess 시작값 (직전 IV로 warm start, 없으면 NaN)
+     * @return 연 변동성 (가격이 내재가치 이하이거나 상한 이상이면 NaN)
+     */
+    public static double impliedVolatility(boolean call, double price, double forward, double strike,
+            double years, double rate, double guess) {
+        if (!(price > 0) || !(forward > 0) || !(strike > 0) || !(years > 0)) {
+            return Double.NaN;
+        }
+        double target = price * Math.exp(rate * years);
+        double intrinsic = call ? forward - strike : strike - forward;
+        if (intrinsic > 0) {
+            target -= intrinsic;
+            call = !call;
+        }
+        double upper = call ? forward : strike;
+        if (!(target > 0) || target >= upper) {
+            return Double.NaN;
+        }
+
+        double sqrtT = Math.sqrt(years);
+        double lo = MIN_VOLATILITY;
+        double hi = MAX_VOLATILITY;
+        double sigma = guess > lo && guess < hi ? guess : initialGuess(target, forward, strike, years);
+
+        for (int i = 0; i < MAX_ITERATIONS; i++) {
+            double d1 = (Math.log(forward / strike) + 0.5 * sigma * sigma * years) / (sigma * sqrtT);
+            double d2 = d1 - sigma * sqrtT;
+            double model = call
+                    ? forward * cdf(d1) - strike * cdf(d2)
+                    : strike * cdf(-d2) - forward * cdf(-d1);
+            double diff = model - target;
+            if (Math.abs(diff) <= PRICE_TOLERANCE * Math.max(1.0, target)) {
+                return sigma;
+            }
+            if (diff > 0) {
+                hi = sigma;
+            } else {
+                lo = sigma;
+            }
+            double vega = forward * pdf(d1) * sqrtT;
+            double next = vega > 0 ? sigma - diff / vega : Double.NaN;
+            if (!(next > lo && next < hi)) {
+                next = 0.5 * (lo + hi);
+            }
+            if (hi - lo < 1e-12) {
+                return next;
+            }
+            sigma = next;
+        }
+        return sigma;
+    }
+
+    /**
+     * Greeks (할인 포함)
+     * - delta: 선물가격 1pt당, gamma: 선물가격 1pt당 delta 변화
+     * - theta: 연 단위 (시간 경과 시 가격 변화), vega: 변동성 1.0(=100%)당
+     *
+     * @param out 길이 {@value #GREEKS} 이상, {@link #DELTA}~{@link #VEGA} 위치에 기록
+     */
+    public static void greeks(boolean call, double forward, double strike, double years, double rate,
+            double volatility, double[] out) {
+        double sqrtT = Math.sqrt(years);
+        double discount = Math.exp(-rate * years);
+        double d1 = (Math.log(forward / strike) + 0.5 * volatility * volatility * years) / (volatility * sqrtT);
+        double d2 = d1 - volatility * sqrtT;
+        double density = pdf(d1);
+        double nd1 = cdf(d1);
+        double price = call
+                ? forward * nd1 - strike * cdf(d2)
+                : strike * cdf(-d2) - forward * (1.0 - nd1);
+
+        out[DELTA] = discount * (call ? nd1 : nd1 - 1.0);
+        out[GAMMA] = discount * density / (forward * volatility * sqrtT);
+        out[THETA] = discount * (rate * price - forward * density * volatility / (2.0 * sqrtT));
+        out[VEGA] = discount * forward * density * sqrtT;
+    }
+
+    private static double undiscounted(boolean call, double forward, double strike, double years,
+            double volatility) {
+        double sqrtT = Math.sqrt(years);
+        double d1 = (Math.log(forward / strike) + 0.5 * volatility * volatility * years) / (volatility * sqrtT);
+        double d2 = d1 - volatility * sqrtT;
+        return call
+                ? forward * cdf(d1) - strike * cdf(d2)
+                : strike * cdf(-d2) - forward * cdf(-d1);
+    }
+
+    /**
+     * 외가격 옵션 시작값: Brenner-Subrahmanyam 근사에 행사가 거리 보정 (Corrado-Miller 축약형)
+     */
+    private static double initialGuess(double price, double forward, double strike, double years) {
+        double moneyness = Math.abs(Math.log(forward / strike));
+        double guess = SQRT_2PI * price / (forward * Math.sqrt(years)) + moneyness / Math.sqrt(years);
+        return Math.min(Math.max(guess, 0.05), 2.0);
+    }
+}
@@ -0,0 +1,16 @@
+package com.trading.dashboard.analytics;
+
+/**
+ * 체인 전체 Greeks 일괄 계산 (Black-76, 기초자산 가격 하나를 공유)
+ * - 구현: {@link ScalarGreeksKernel}, Vector API 구현 (-Pvector 빌드에서만 포함)
+ * - 선택은 {@link GreeksKernels#best()}
+ */
+public interface GreeksKernel {
+
+    /**
+     * chain의 [0, size) 구간 Greeks를 출력 배열에 기록 (변동성이 NaN인 종목은 결과도 NaN)
+     */
+    void compute(OptionChainArrays chain, double forward, double rate);
+
+    String name();
+}
@@ -0,0 +1,56 @@
+package com.trading.dashboard.analytics;
+
+/**
+ * 배치 Greeks 커널 선택
+ * - Vector API 커널은 -Pvector 빌드에만 포함되고, 실행 시 --add-modules jdk.incubator.vector가 필요
+ * - 둘 중 하나라도 없으면 스칼라 커널로 대체 (클래스 로딩 실패를 여기서 흡수)
+ */
+public final class GreeksKernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL = "com.trading.dashboard.analytics.VectorGreeksKernel";
+
+    private static final GreeksKernel VECTOR = loadVector();
+
+    private GreeksKernels() {
+    }
+
+    /**
+     * 사용 가능한 가장 빠른 커널
+     */
+    public static GreeksKernel best() {
+        return VECTOR != null ? VECTOR : ScalarGreeksKernel.INSTANCE;
+    }
+
+    public static GreeksKernel scalar() {
+        return ScalarGreeksKernel.INSTANCE;
+    }
+
+    /**
+     * Vector API 커널
+     *
+     * @throws IllegalStateException 빌드에 포함되지 않았거나 모듈이 로드되지 않은 경우
+     */
+    public static GreeksKernel vector() {
+        if (VECTOR == null) {
+            throw new IllegalStateException("Vector API kernel unavailable: build with -Pvector and run with "
+                    + "--add-modules " + VECTOR_MODULE);
+        }
+        return VECTOR;
+    }
+
+    public static boolean isVectorAvailable() {
+        return VECTOR != null;
+    }
+
+    private static GreeksKernel loadVector() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (GreeksKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
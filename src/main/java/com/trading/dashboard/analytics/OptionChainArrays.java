@@ -0,0 +1,122 @@
+package com.trading.dashboard.analytics;
+
+import java.util.Arrays;
+
+/**
+ * 옵션 체인 struct-of-arrays 표현 - 배치 Greeks 커널 입력/출력
+ * - 종목 i의 값은 각 배열의 i번째 원소 (객체 없이 연속 메모리, SIMD 로드 가능)
+ * - 입력: 행사가, 시장가, 변동성(연), 잔존기간(연), 풋 여부(콜 0 / 풋 1)
+ * - 출력: delta, gamma, theta(연), vega(변동성 1.0당) - {@link Black76#greeks}와 같은 단위
+ * - 배열 접근자는 내부 배열을 그대로 반환 (길이는 {@link #size()} 이상, 그 이후 원소는 의미 없음)
+ * - 재사용 전제: {@link #clear()} 후 다시 채우며 용량은 필요할 때만 늘림
+ */
+public final class OptionChainArrays {
+
+    private double[] strikes;
+    private double[] prices;
+    private double[] volatilities;
+    private double[] years;
+    private double[] puts;
+
+    private double[] deltas;
+    private double[] gammas;
+    private double[] thetas;
+    private double[] vegas;
+
+    private int size;
+
+    public OptionChainArrays(int capacity) {
+        allocate(Math.max(capacity, 1));
+    }
+
+    /**
+     * 종목 추가
+     *
+     * @param volatility 변동성 (IV 계산 전이면 warm start 값 또는 NaN)
+     * @return 추가된 위치
+     */
+    public int add(boolean call, double strike, double price, double volatility, double years) {
+        if (size == strikes.length) {
+            grow(size * 2);
+        }
+        int index = size++;
+        strikes[index] = strike;
+        prices[index] = price;
+        volatilities[index] = volatility;
+        this.years[index] = years;
+        puts[index] = call ? 0.0 : 1.0;
+        return index;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isCall(int index) {
+        return puts[index] == 0.0;
+    }
+
+    public double[] strikes() {
+        return strikes;
+    }
+
+    public double[] prices() {
+        return prices;
+    }
+
+    public double[] volatilities() {
+        return volatilities;
+    }
+
+    public double[] years() {
+        return years;
+    }
+
+    public double[] puts() {
+        return puts;
+    }
+
+    public double[] deltas() {
+        return deltas;
+    }
+
+    public double[] gammas() {
+        return gammas;
+    }
+
+    public double[] thetas() {
+        return thetas;
+    }
+
+    public double[] vegas() {
+        return vegas;
+    }
+
+    private void allocate(int capacity) {
+        strikes = new double[capacity];
+        prices = new double[capacity];
+        volatilities = new double[capacity];
+        years = new double[capacity];
+        puts = new double[capacity];
+        deltas = new double[capacity];
+        gammas = new double[capacity];
+        thetas = new double[capacity];
+        vegas = new double[capacity];
+    }
+
+    private void grow(int capacity) {
+        strikes = Arrays.copyOf(strikes, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        volatilities = Arrays.copyOf(volatilities, capacity);
+        years = Arrays.copyOf(years, capacity);
+        puts = Arrays.copyOf(puts, capacity);
+        deltas = Arrays.copyOf(deltas, capacity);
+        gammas = Arrays.copyOf(gammas, capacity);
+        thetas = Arrays.copyOf(thetas, capacity);
+        vegas = Arrays.copyOf(vegas, capacity);
+    }
+}
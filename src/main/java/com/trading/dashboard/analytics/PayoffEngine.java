@@ -0,0 +1,156 @@
+package com.trading.dashboard.analytics;
+
+import java.util.Arrays;
+
+/**
+ * 만기 정산가별 옵션 매도자 손실(pain) 계산 - 한 만기의 체인 1개 (불변)
+ * - pain(S) = Σ 콜OI × max(S - K, 0) + Σ 풋OI × max(K - S, 0)  (단위: 지수 pt × 계약, 승수 미적용)
+ * - 행사가 오름차순 배열 위의 누적합(OI, OI × 행사가)으로 임의 정산가의 pain을 O(log n), 행사가 전체 곡선을 O(n)에 계산
+ * - pain은 행사가에서만 꺾이는 볼록 함수이므로 최소값(Max Pain)은 항상 상장 행사가 중 하나
+ */
+public final class PayoffEngine {
+
+    private final double[] strikes;
+
+    // prefix[i] = 0..i-1 구간 합 (길이 n + 1)
+    private final double[] callOi;
+    private final double[] callOiStrike;
+    private final double[] putOi;
+    private final double[] putOiStrike;
+
+    private final double[] curve;
+    private final int maxPainIndex;
+
+    private PayoffEngine(double[] strikes, long[] callOpenInterest, long[] putOpenInterest) {
+        int n = strikes.length;
+        this.strikes = strikes;
+        this.callOi = new double[n + 1];
+        this.callOiStrike = new double[n + 1];
+        this.putOi = new double[n + 1];
+        this.putOiStrike = new double[n + 1];
+        for (int i = 0; i < n; i++) {
+            if (i > 0 && strikes[i] < strikes[i - 1]) {
+                throw new IllegalArgumentException("Strikes must be sorted ascending");
+            }
+            double k = strikes[i];
+            callOi[i + 1] = callOi[i] + callOpenInterest[i];
+            callOiStrike[i + 1] = callOiStrike[i] + callOpenInterest[i] * k;
+            putOi[i + 1] = putOi[i] + putOpenInterest[i];
+            putOiStrike[i + 1] = putOiStrike[i] + putOpenInterest[i] * k;
+        }
+
+        // 행사가 K_j에서의 pain: K_j 이하 행사가 j+1개가 콜 내재가치, 나머지가 풋 내재가치
+        this.curve = new double[n];
+        int best = -1;
+        for (int j = 0; j < n; j++) {
+            curve[j] = painAt(strikes[j], j + 1);
+            // 같은 값이면 높은 행사가 (기존 계산과 동일)
+            if (best < 0 || curve[j] <= curve[best]) {
+                best = j;
+            }
+        }
+        this.maxPainIndex = best;
+    }
+
+    /**
+     * 체인 생성
+     *
+     * @param strikes          행사가 (오름차순, 중복 허용)
+     * @param callOpenInterest 행사가별 콜 미결제약정
+     * @param putOpenInterest  행사가별 풋 미결제약정
+     */
+    public static PayoffEngine of(double[] strikes, long[] callOpenInterest, long[] putOpenInterest) {
+        if (callOpenInterest.length != strikes.length || putOpenInterest.length != strikes.length) {
+            throw new IllegalArgumentException("Strike and open interest arrays differ in length");
+        }
+        return new PayoffEngine(strikes, callOpenInterest, putOpenInterest);
+    }
+
+    public int size() {
+        return strikes.length;
+    }
+
+    /**
+     * 임의 정산가에서의 매도자 손실 (상장 행사가가 아니어도 됨)
+     */
+    public double painAt(double settlement) {
+        return painAt(settlement, upperBound(settlement));
+    }
+
+    /**
+     * 정산가의 콜 매도자 손실
+     */
+    public double callPayoffAt(double settlement) {
+        int below = upperBound(settlement);
+        return settlement * callOi[below] - callOiStrike[below];
+    }
+
+    /**
+     * 정산가의 풋 매도자 손실
+     */
+    public double putPayoffAt(double settlement) {
+        int below = upperBound(settlement);
+        int n = strikes.length;
+        return (putOiStrike[n] - putOiStrike[below]) - settlement * (putOi[n] - putOi[below]);
+    }
+
+    /**
+     * 행사가별 pain 곡선 (복사본, strikes()와 같은 순서)
+     */
+    public double[] curve() {
+        return curve.clone();
+    }
+
+    /**
+     * 행사가 (복사본, 오름차순)
+     */
+    public double[] strikes() {
+        return strikes.clone();
+    }
+
+    /**
+     * Max Pain 행사가 위치 (체인이 비어 있으면 -1)
+     */
+    public int maxPainIndex() {
+        return maxPainIndex;
+    }
+
+    /**
+     * Max Pain 가격 - 매도자 손실이 최소인 정산가 (체인이 비어 있으면 NaN)
+     */
+    public double maxPainStrike() {
+        return maxPainIndex >= 0 ? strikes[maxPainIndex] : Double.NaN;
+    }
+
+    /**
+     * Max Pain 가격에서의 매도자 손실 (체인이 비어 있으면 NaN)
+     */
+    public double maxPainLoss() {
+        return maxPainIndex >= 0 ? curve[maxPainIndex] : Double.NaN;
+    }
+
+    /**
+     * @param below 정산가 이하 행사가 수
+     */
+    private double painAt(double settlement, int below) {
+        int n = strikes.length;
+        double calls = settlement * callOi[below] - callOiStrike[below];
+        double puts = (putOiStrike[n] - putOiStrike[below]) - settlement * (putOi[n] - putOi[below]);
+        return calls + puts;
+    }
+
+    /**
+     * settlement 이하 행사가 수
+     */
+    private int upperBound(double settlement) {
+        int index = Arrays.binarySearch(strikes, settlement);
+        if (index < 0) {
+            return -index - 1;
+        }
+        // 중복 행사가는 모두 포함
+        while (index + 1 < strikes.length && strikes[index + 1] == settlement) {
+            index++;
+        }
+        return index + 1;
+    }
+}
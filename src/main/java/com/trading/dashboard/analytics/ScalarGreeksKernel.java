@@ -0,0 +1,60 @@
+package com.trading.dashboard.analytics;
+
+/**
+ * 스칼라 배치 커널 - 종목별 반복, Vector API가 없을 때 기본값이자 벡터 커널의 나머지 구간 처리
+ * - 연산 순서를 벡터 커널과 맞춰 두 구현의 결과가 반올림 수준에서 일치하도록 유지
+ */
+public final class ScalarGreeksKernel implements GreeksKernel {
+
+    static final ScalarGreeksKernel INSTANCE = new ScalarGreeksKernel();
+
+    private ScalarGreeksKernel() {
+    }
+
+    @Override
+    public void compute(OptionChainArrays chain, double forward, double rate) {
+        compute(chain, forward, rate, 0, chain.size());
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    /**
+     * [from, to) 구간 계산
+     */
+    static void compute(OptionChainArrays chain, double forward, double rate, int from, int to) {
+        double[] strikes = chain.strikes();
+        double[] volatilities = chain.volatilities();
+        double[] years = chain.years();
+        double[] puts = chain.puts();
+        double[] deltas = chain.deltas();
+        double[] gammas = chain.gammas();
+        double[] thetas = chain.thetas();
+        double[] vegas = chain.vegas();
+
+        for (int i = from; i < to; i++) {
+            double strike = strikes[i];
+            double sigma = volatilities[i];
+            double t = years[i];
+            double put = puts[i];
+
+            double sqrtT = Math.sqrt(t);
+            double sigmaSqrtT = sigma * sqrtT;
+            double d1 = (Math.log(forward / strike) + sigma * 0.5 * sigma * t) / sigmaSqrtT;
+            double d2 = d1 - sigmaSqrtT;
+            double discount = Math.exp(t * -rate);
+            double density = Black76.pdf(d1);
+            double nd1 = Black76.cdf(d1);
+            double nd2 = Black76.cdf(d2);
+            // 풋은 선물 패리티: 콜 - (F - K)
+            double price = forward * nd1 - strike * nd2 - put * (forward - strike);
+
+            deltas[i] = discount * (nd1 - put);
+            gammas[i] = discount * density / (forward * sigmaSqrtT);
+            thetas[i] = discount * (price * rate - forward * density * sigma / (sqrtT * 2.0));
+            vegas[i] = discount * forward * density * sqrtT;
+        }
+    }
+}
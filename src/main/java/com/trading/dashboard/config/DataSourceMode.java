@@ -0,0 +1,29 @@
+package com.trading.dashboard.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시세 데이터 소스 (trading.data-source: KIS / MOCK / REPLAY)
+ * - 리플레이 모드에서는 KIS 조회/연결과 저널 기록을 하지 않음 (상태는 녹화 프레임으로만 갱신)
+ * - 라이브 전용 빈은 각자 프로퍼티를 읽지 않고 이 빈으로 판단
+ */
+@Component
+public class DataSourceMode {
+
+    public static final String REPLAY = "REPLAY";
+
+    private final String dataSource;
+
+    public DataSourceMode(@Value("${trading.data-source:KIS}") String dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return dataSource;
+    }
+
+    public boolean isReplay() {
+        return REPLAY.equals(dataSource);
+    }
+}
@@ -3,7 +3,9 @@ package com.trading.dashboard.controller;
 import com.trading.dashboard.dto.MarketOverviewDTO;
 import com.trading.dashboard.dto.OptionChainAnalysisDTO;
 import com.trading.dashboard.dto.PutCallRatioDTO;
+import com.trading.dashboard.fetch.KisApiGovernor;
 import com.trading.dashboard.service.MarketDataService;
+import com.trading.dashboard.service.ShadowPoller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +22,8 @@ import java.util.Map;
 public class MarketDataController {
 
     private final MarketDataService marketDataService;
+    private final KisApiGovernor kisApiGovernor;
+    private final ShadowPoller shadowPoller;
 
     @Value("${trading.data-source}")
     private String dataSource;
@@ -78,4 +82,20 @@ public class MarketDataController {
 
         return ResponseEntity.ok(state);
     }
+
+    /**
+     * KIS API 호출 한도 현황 (속도, 사용률, 우선순위별 대기/승인/거절, TR_ID별 지연시간)
+     */
+    @GetMapping("/api-budget")
+    public ResponseEntity<Map<String, Object>> getApiBudget() {
+        return ResponseEntity.ok(kisApiGovernor.snapshot());
+    }
+
+    /**
+     * 비구독 종목 REST 순환 조회 현황 (종목별 가중치, 기대/실제 갱신 주기)
+     */
+    @GetMapping("/shadow-feed")
+    public ResponseEntity<Map<String, Object>> getShadowFeed() {
+        return ResponseEntity.ok(shadowPoller.snapshot());
+    }
 }
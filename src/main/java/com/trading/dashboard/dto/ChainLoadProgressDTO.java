@@ -0,0 +1,23 @@
+package com.trading.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 옵션 체인 적재 진행률 (/topic/option-chain/progress)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChainLoadProgressDTO {
+
+    private Integer done;        // 반영된 종목 수
+    private Integer total;       // 조회 대상 종목 수
+    private Long elapsedMs;      // 적재 시작 후 경과 시간
+    private Long etaMs;          // 남은 예상 시간 (-1: 계산 불가)
+    private Boolean complete;    // 적재 종료 여부
+    private String lastSymbol;   // 방금 반영된 종목코드
+}
@@ -35,4 +35,7 @@ public class OptionChainAnalysisDTO {
     // ATM (At The Money) 정보
     private BigDecimal atmStrike;
     private BigDecimal underlyingPrice;
+
+    // 스냅샷 버전 (같은 버전이면 같은 내용)
+    private Long version;
 }
@@ -0,0 +1,261 @@
+package com.trading.dashboard.feed;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 단일 생산자 링버퍼 (Disruptor 방식, 외부 의존성 없음)
+ * - 생산자: WebSocket 수신 스레드 1개 - 원본 프레임을 사전 할당된 슬롯에 복사만 수행
+ * - 소비자: 등록 순서대로 연결된 스테이지 (앞 스테이지가 처리한 시퀀스까지만 진행)
+ * - 가득 차면 생산자가 마지막 스테이지를 기다림 (유실 없음, 대기 횟수는 stall로 집계)
+ */
+@Slf4j
+public final class FrameRingBuffer {
+
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+
+    /**
+     * 스테이지 처리 핸들러 (스테이지 전용 스레드에서 호출)
+     */
+    @FunctionalInterface
+    public interface Handler {
+        void onFrame(FrameSlot slot, long sequence, boolean endOfBatch) throws Exception;
+    }
+
+    private final FrameSlot[] slots;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    private final Sequence cursor = new Sequence();
+    private final List<Stage> stages = new ArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+
+    private final LongAdder producerStalls = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    // 생산자 스레드 전용
+    private long nextSequence = Sequence.INITIAL;
+    private long cachedGating = Sequence.INITIAL;
+
+    private volatile Sequence gating = cursor;
+    private volatile boolean running;
+
+    public FrameRingBuffer(int requestedSize, WaitStrategy waitStrategy) {
+        int size = Integer.highestOneBit(Math.max(2, requestedSize - 1) << 1);
+        this.slots = new FrameSlot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new FrameSlot();
+        }
+        this.mask = size - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * 스테이지 추가 (start 이전에만 가능) - 직전 스테이지 다음 순서로 실행
+     */
+    public synchronized Stage addStage(String name, Handler handler) {
+        if (running) {
+            throw new IllegalStateException("Ring buffer already started");
+        }
+        Sequence upstream = stages.isEmpty() ? cursor : stages.get(stages.size() - 1).sequence;
+        Stage stage = new Stage(name, handler, upstream);
+        stages.add(stage);
+        gating = stage.sequence;
+        return stage;
+    }
+
+    /**
+     * 스테이지별 전용 데몬 스레드 시작
+     */
+    public synchronized void start(String threadPrefix) {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (Stage stage : stages) {
+            Thread thread = new Thread(stage, threadPrefix + "-" + stage.name);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+    }
+
+    /**
+     * 수신 프레임 게시 (단일 생산자 전용)
+     *
+     * @return 게시된 시퀀스 (중지 상태라 버린 경우 -1)
+     */
+    public long publish(String message) {
+        return publish(message, System.currentTimeMillis());
+    }
+
+    /**
+     * 수신 시각을 지정해 게시 (리플레이: 녹화 당시 수신 시각 유지)
+     *
+     * @return 게시된 시퀀스 (중지 상태라 버린 경우 -1)
+     */
+    public long publish(CharSequence message, long receivedMillis) {
+        long next = nextSequence + 1;
+        long wrapPoint = next - slots.length;
+        if (wrapPoint > cachedGating) {
+            long minimum;
+            boolean stalled = false;
+            while (wrapPoint > (minimum = gating.get())) {
+                if (!running) {
+                    dropped.increment();
+                    return -1;
+                }
+                if (!stalled) {
+                    producerStalls.increment();
+                    stalled = true;
+                }
+                LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+            }
+            cachedGating = minimum;
+        }
+
+        slots[(int) (next & mask)].copyFrom(message, System.nanoTime(), receivedMillis);
+        nextSequence = next;
+        cursor.set(next);
+        waitStrategy.signalAll();
+        return next;
+    }
+
+    /**
+     * 게시된 프레임이 모든 스테이지를 통과할 때까지 대기
+     *
+     * @return 제한 시간 내 모두 처리되었으면 true
+     */
+    public boolean drain(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (gating.get() < cursor.get()) {
+            if (!running || System.nanoTime() > deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+
+    /**
+     * 남은 프레임 처리 후 스테이지 스레드 종료
+     */
+    public synchronized void stop(long timeout, TimeUnit unit) {
+        if (!running) {
+            return;
+        }
+        if (!drain(timeout, unit)) {
+            log.warn("[INGEST] Stopping with {} unprocessed frames", depth());
+        }
+        running = false;
+        waitStrategy.signalAll();
+        for (Thread thread : threads) {
+            try {
+                thread.join(unit.toMillis(timeout));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        threads.clear();
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 게시되었지만 마지막 스테이지까지 처리되지 않은 프레임 수
+     */
+    public long depth() {
+        return cursor.get() - gating.get();
+    }
+
+    /**
+     * 지금까지 게시된 프레임 수
+     */
+    public long published() {
+        return cursor.get() + 1;
+    }
+
+    public long producerStalls() {
+        return producerStalls.sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public List<Stage> stages() {
+        return Collections.unmodifiableList(stages);
+    }
+
+    /**
+     * 순차 소비 스테이지
+     */
+    public final class Stage implements Runnable {
+
+        private final String name;
+        private final Handler handler;
+        private final Sequence sequence = new Sequence();
+        private final Sequence upstream;
+        private final LongAdder errors = new LongAdder();
+
+        private Stage(String name, Handler handler, Sequence upstream) {
+            this.name = name;
+            this.handler = handler;
+            this.upstream = upstream;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /**
+         * 생산자 대비 처리 지연 (프레임 수)
+         */
+        public long lag() {
+            return cursor.get() - sequence.get();
+        }
+
+        public long processed() {
+            return sequence.get() + 1;
+        }
+
+        public long errors() {
+            return errors.sum();
+        }
+
+        @Override
+        public void run() {
+            long next = sequence.get() + 1;
+            while (running) {
+                long available = waitStrategy.waitFor(next, upstream, FrameRingBuffer.this::isRunning);
+                if (available < next) {
+                    continue;
+                }
+                for (long seq = next; seq <= available; seq++) {
+                    try {
+                        handler.onFrame(slots[(int) (seq & mask)], seq, seq == available);
+                    } catch (Exception e) {
+                        // 한 프레임의 실패가 스테이지 전체를 멈추지 않도록 기록만 하고 진행
+                        errors.increment();
+                        log.warn("[INGEST] Stage {} failed at {}: {}", name, seq, e.getMessage());
+                    }
+                }
+                sequence.set(available);
+                waitStrategy.signalAll();
+                next = available + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.trading.dashboard.feed;
+
+import java.util.Arrays;
+
+/**
+ * 링버퍼 슬롯 (사전 할당, 재사용)
+ * - 수신 스레드가 원본 프레임 문자를 복사해 두고, 이후 스테이지가 같은 슬롯을 순서대로 처리
+ * - 슬롯 자체가 CharSequence라서 디코더/상태 저장소 조회에 복사 없이 전달 가능
+ * - 파싱 스테이지가 디코딩 결과(ticks)를 채워 두면 다음 스테이지가 재사용
+ */
+public final class FrameSlot implements CharSequence {
+
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int INITIAL_TICKS = 4;
+
+    private char[] chars = new char[INITIAL_CAPACITY];
+    private int length;
+    private long receivedNanos;
+    private long receivedMillis;
+
+    private KisTrSchema schema;
+    private KisTick[] ticks = newTicks(INITIAL_TICKS);
+    private int tickCount;
+    private boolean control;
+
+    FrameSlot() {
+    }
+
+    /**
+     * 수신 프레임 복사 (수신 스레드 전용)
+     */
+    void copyFrom(CharSequence message, long receivedNanos, long receivedMillis) {
+        int len = message.length();
+        if (len > chars.length) {
+            chars = new char[Math.max(len, chars.length * 2)];
+        }
+        if (message instanceof String string) {
+            string.getChars(0, len, chars, 0);
+        } else {
+            for (int i = 0; i < len; i++) {
+                chars[i] = message.charAt(i);
+            }
+        }
+        this.length = len;
+        this.receivedNanos = receivedNanos;
+        this.receivedMillis = receivedMillis;
+        this.schema = null;
+        this.tickCount = 0;
+        this.control = false;
+    }
+
+    /**
+     * 다음 디코딩 결과를 담을 틱 (필요 시 배열 확장)
+     */
+    KisTick nextTick() {
+        if (tickCount == ticks.length) {
+            KisTick[] grown = Arrays.copyOf(ticks, ticks.length * 2);
+            for (int i = ticks.length; i < grown.length; i++) {
+                grown[i] = new KisTick();
+            }
+            ticks = grown;
+        }
+        return ticks[tickCount];
+    }
+
+    void commitTick() {
+        tickCount++;
+    }
+
+    void markDecoded(KisTrSchema schema) {
+        this.schema = schema;
+    }
+
+    void markControl() {
+        this.control = true;
+    }
+
+    public long receivedNanos() {
+        return receivedNanos;
+    }
+
+    public long receivedMillis() {
+        return receivedMillis;
+    }
+
+    /**
+     * 실시간 체결 프레임이면 TR 스키마, 아니면 null
+     */
+    public KisTrSchema schema() {
+        return schema;
+    }
+
+    public int tickCount() {
+        return tickCount;
+    }
+
+    public KisTick tick(int index) {
+        return ticks[index];
+    }
+
+    /**
+     * JSON 제어 메시지(구독 응답, PINGPONG 등) 여부
+     */
+    public boolean isControl() {
+        return control;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new String(chars, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+    private static KisTick[] newTicks(int size) {
+        KisTick[] result = new KisTick[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = new KisTick();
+        }
+        return result;
+    }
+}
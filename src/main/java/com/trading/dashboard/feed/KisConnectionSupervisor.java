@@ -0,0 +1,254 @@
+package com.trading.dashboard.feed;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * KIS WebSocket 연결 감시
+ * - 비정상 종료/오류 감지 시 지수 백오프(지터 포함)로 재연결 예약
+ * - 무응답 감지: 수신 프레임(PINGPONG 포함) 수가 제한 시간 동안 늘지 않으면 연결을 끊고 재연결
+ *   (수신 스레드에는 추가 작업 없음 - 링버퍼 게시 수만 확인)
+ * - 장애 시간, 재연결 지연, 장애 중 누락 추정 프레임 수 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KisConnectionSupervisor {
+
+    private static final long WATCHDOG_INTERVAL_MILLIS = 5000;
+
+    private final KisIngestPipeline ingestPipeline;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${trading.ws.reconnect.initial-delay-ms:500}")
+    private long initialDelayMillis;
+
+    @Value("${trading.ws.reconnect.max-delay-ms:30000}")
+    private long maxDelayMillis;
+
+    @Value("${trading.ws.heartbeat-timeout-ms:60000}")
+    private long heartbeatTimeoutMillis;
+
+    private ScheduledExecutorService scheduler;
+    private ReconnectBackoff backoff;
+
+    private Runnable reconnectAction = () -> {
+    };
+    private BooleanSupplier reconnectAllowed = () -> false;
+    private Runnable silenceAction = () -> {
+    };
+
+    // 연결/장애 상태 (감시 스레드와 WebSocket 콜백 스레드에서 접근)
+    private volatile boolean connected;
+    private volatile long connectedAtNanos;
+    private volatile long publishedAtConnect;
+    private volatile long outageStartNanos = -1;
+    private volatile double framesPerSecond;
+    private volatile long attemptStartNanos = -1;
+    private ScheduledFuture<?> pendingReconnect;
+
+    // 무응답 감지용 (감시 스레드 전용)
+    private long lastSeenPublished = -1;
+    private long lastProgressNanos = System.nanoTime();
+
+    private Timer outageTimer;
+    private Timer reconnectLatencyTimer;
+    private DistributionSummary missedFrames;
+    private Counter reconnectAttempts;
+    private Counter silenceCounter;
+
+    @PostConstruct
+    public void init() {
+        backoff = new ReconnectBackoff(initialDelayMillis, maxDelayMillis);
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "kis-ws-supervisor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkSilence, WATCHDOG_INTERVAL_MILLIS, WATCHDOG_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+
+        outageTimer = Timer.builder("kis.ws.outage.duration")
+                .description("Time from unexpected disconnect until the feed is connected again")
+                .register(meterRegistry);
+        reconnectLatencyTimer = Timer.builder("kis.ws.reconnect.latency")
+                .description("Time from reconnect attempt until the socket is open")
+                .register(meterRegistry);
+        missedFrames = DistributionSummary.builder("kis.ws.ticks.missed")
+                .description("Estimated realtime frames missed during an outage")
+                .register(meterRegistry);
+        reconnectAttempts = Counter.builder("kis.ws.reconnect.attempts").register(meterRegistry);
+        silenceCounter = Counter.builder("kis.ws.heartbeat.silence").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 재연결 동작 등록
+     *
+     * @param reconnectAction  재연결 실행 (마지막 구독 목록으로 연결)
+     * @param reconnectAllowed 재연결 허용 여부 (의도적 종료, 장 마감 시 false)
+     * @param silenceAction    무응답 감지 시 연결 강제 종료
+     */
+    public void attach(Runnable reconnectAction, BooleanSupplier reconnectAllowed, Runnable silenceAction) {
+        this.reconnectAction = reconnectAction;
+        this.reconnectAllowed = reconnectAllowed;
+        this.silenceAction = silenceAction;
+    }
+
+    /**
+     * 소켓 연결 완료
+     */
+    public void onConnected() {
+        long now = System.nanoTime();
+        connected = true;
+        connectedAtNanos = now;
+        publishedAtConnect = ingestPipeline.published();
+        scheduler.execute(() -> lastProgressNanos = System.nanoTime());
+
+        if (attemptStartNanos >= 0) {
+            reconnectLatencyTimer.record(now - attemptStartNanos, TimeUnit.NANOSECONDS);
+            attemptStartNanos = -1;
+        }
+        if (outageStartNanos >= 0) {
+            long outageNanos = now - outageStartNanos;
+            double missed = framesPerSecond * outageNanos / 1e9;
+            outageTimer.record(outageNanos, TimeUnit.NANOSECONDS);
+            missedFrames.record(missed);
+            log.info("[WS] Reconnected after {}ms outage (~{} frames missed)",
+                    TimeUnit.NANOSECONDS.toMillis(outageNanos), Math.round(missed));
+            outageStartNanos = -1;
+        }
+    }
+
+    /**
+     * 구독 완료 - 안정적으로 연결된 것으로 보고 백오프 초기화
+     */
+    public void onSubscribed() {
+        backoff.reset();
+    }
+
+    /**
+     * 소켓 종료 (정상/비정상 공통)
+     */
+    public void onDisconnected() {
+        long now = System.nanoTime();
+        if (connected) {
+            connected = false;
+            double seconds = (now - connectedAtNanos) / 1e9;
+            if (seconds > 0) {
+                framesPerSecond = (ingestPipeline.published() - publishedAtConnect) / seconds;
+            }
+        }
+        if (!reconnectAllowed.getAsBoolean()) {
+            log.info("[WS] Reconnect not scheduled (intentional close or market closed)");
+            return;
+        }
+        if (outageStartNanos < 0) {
+            outageStartNanos = now;
+        }
+        scheduleReconnect();
+    }
+
+    /**
+     * 재연결 시도 자체가 실패한 경우 (approval key 발급 실패 등)
+     */
+    public void onConnectFailed() {
+        if (reconnectAllowed.getAsBoolean()) {
+            scheduleReconnect();
+        }
+    }
+
+    /**
+     * 진행 중인 재연결 예약 취소 (의도적 종료 시)
+     */
+    public synchronized void cancelReconnect() {
+        if (pendingReconnect != null) {
+            pendingReconnect.cancel(false);
+            pendingReconnect = null;
+        }
+        outageStartNanos = -1;
+        attemptStartNanos = -1;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("reconnectAttempts", backoff.attempts());
+        status.put("inOutage", outageStartNanos >= 0);
+        status.put("outageMillis", outageStartNanos >= 0
+                ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - outageStartNanos)
+                : 0);
+        return status;
+    }
+
+    private synchronized void scheduleReconnect() {
+        if (pendingReconnect != null && !pendingReconnect.isDone()) {
+            return;
+        }
+        long delay = backoff.nextDelayMillis();
+        log.warn("[WS] Reconnecting in {}ms (attempt {})", delay, backoff.attempts());
+        pendingReconnect = scheduler.schedule(this::reconnect, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void reconnect() {
+        if (!reconnectAllowed.getAsBoolean()) {
+            log.info("[WS] Reconnect skipped (intentional close or market closed)");
+            return;
+        }
+        reconnectAttempts.increment();
+        attemptStartNanos = System.nanoTime();
+        try {
+            reconnectAction.run();
+        } catch (Exception e) {
+            log.error("[WS] Reconnect failed: {}", e.getMessage());
+            onConnectFailed();
+        }
+    }
+
+    /**
+     * 무응답 감지 (감시 스레드)
+     */
+    private void checkSilence() {
+        long published = ingestPipeline.published();
+        long now = System.nanoTime();
+        if (published != lastSeenPublished) {
+            lastSeenPublished = published;
+            lastProgressNanos = now;
+            return;
+        }
+        if (connected && now - lastProgressNanos > TimeUnit.MILLISECONDS.toNanos(heartbeatTimeoutMillis)) {
+            silenceCounter.increment();
+            log.warn("[WS] No frames (including PINGPONG) for {}ms - forcing reconnect",
+                    TimeUnit.NANOSECONDS.toMillis(now - lastProgressNanos));
+            lastProgressNanos = now;
+            try {
+                silenceAction.run();
+            } catch (Exception e) {
+                log.warn("[WS] Failed to close silent connection: {}", e.getMessage());
+            }
+        }
+    }
+}
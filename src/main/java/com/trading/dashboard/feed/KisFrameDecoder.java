@@ -0,0 +1,180 @@
+package com.trading.dashboard.feed;
+
+import com.trading.dashboard.state.FixedPoint;
+
+/**
+ * KIS 실시간 파이프 프레임 디코더 (커서 기반, 할당 없음)
+ * 형식: 0|TR_ID|NNN|f0^f1^...^fK
+ * - NNN: 레코드 수. 레코드 N개가 '^'로 연속 연결되어 있으며 모두 순회
+ * - 숫자 필드는 부분 문자열 생성 없이 고정소수점/long 으로 직접 파싱
+ * - 스레드 안전하지 않음 (소비 스레드당 1개 인스턴스)
+ *
+ * 사용 예:
+ * <pre>
+ * if (decoder.wrap(message)) {
+ *     while (decoder.next(tick)) { ... }
+ * }
+ * </pre>
+ */
+public final class KisFrameDecoder {
+
+    private CharSequence frame;
+    private KisTrSchema schema;
+    private int end;
+    private int cursor;
+    private int recordCount;
+    private int recordWidth;
+    private int recordsRead;
+
+    /**
+     * 프레임 헤더 해석
+     *
+     * @return 지원하는 TR_ID의 평문 파이프 프레임이면 true
+     */
+    public boolean wrap(CharSequence message) {
+        frame = message;
+        schema = null;
+        recordsRead = 0;
+        recordCount = 0;
+        end = message.length();
+
+        // '0': 평문, '1': 암호화 (체결통보 - 미지원)
+        if (end < 4 || message.charAt(0) != '0' || message.charAt(1) != '|') {
+            return false;
+        }
+
+        int trEnd = indexOf(message, '|', 2, end);
+        if (trEnd < 0) {
+            return false;
+        }
+        schema = KisTrSchema.match(message, 2, trEnd);
+        if (schema == null) {
+            return false;
+        }
+
+        int countEnd = indexOf(message, '|', trEnd + 1, end);
+        if (countEnd < 0) {
+            return false;
+        }
+        int count = 0;
+        for (int i = trEnd + 1; i < countEnd; i++) {
+            char c = message.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            count = count * 10 + (c - '0');
+        }
+
+        cursor = countEnd + 1;
+
+        int totalFields = 1;
+        for (int i = cursor; i < end; i++) {
+            if (message.charAt(i) == '^') {
+                totalFields++;
+            }
+        }
+
+        // 레코드 폭 = 전체 필드 수 / 레코드 수 (나누어떨어지지 않으면 단일 레코드로 처리)
+        if (count > 1 && totalFields % count == 0) {
+            recordCount = count;
+            recordWidth = totalFields / count;
+        } else {
+            recordCount = 1;
+            recordWidth = totalFields;
+        }
+        return recordWidth >= schema.requiredFields();
+    }
+
+    public KisTrSchema schema() {
+        return schema;
+    }
+
+    public int recordCount() {
+        return recordCount;
+    }
+
+    /**
+     * 다음 레코드를 tick에 디코딩
+     *
+     * @return 더 이상 레코드가 없으면 false
+     */
+    public boolean next(KisTick tick) {
+        if (recordsRead >= recordCount) {
+            return false;
+        }
+        tick.reset(frame);
+
+        int fieldStart = cursor;
+        for (int field = 0; field < recordWidth; field++) {
+            int fieldEnd = indexOf(frame, '^', fieldStart, end);
+            if (fieldEnd < 0) {
+                fieldEnd = end;
+            }
+
+            int slot = schema.slotOf(field);
+            if (slot >= 0) {
+                decodeField(tick, slot, fieldStart, fieldEnd);
+            }
+            fieldStart = fieldEnd + 1;
+        }
+
+        cursor = fieldStart;
+        recordsRead++;
+        return true;
+    }
+
+    private void decodeField(KisTick tick, int slot, int start, int end) {
+        switch (slot) {
+            case KisTick.SYMBOL -> {
+                tick.symbolStart = start;
+                tick.symbolEnd = end;
+            }
+            case KisTick.PRICE -> tick.price = FixedPoint.parse(frame, start, end);
+            case KisTick.CHANGE -> tick.change = FixedPoint.parse(frame, start, end);
+            case KisTick.CHANGE_RATE -> tick.changeRate = FixedPoint.parse(frame, start, end);
+            case KisTick.OPEN -> tick.open = FixedPoint.parse(frame, start, end);
+            case KisTick.HIGH -> tick.high = FixedPoint.parse(frame, start, end);
+            case KisTick.LOW -> tick.low = FixedPoint.parse(frame, start, end);
+            case KisTick.VOLUME -> tick.volume = parseCount(frame, start, end);
+            case KisTick.TRADING_VALUE -> tick.tradingValue = FixedPoint.parse(frame, start, end);
+            case KisTick.OPEN_INTEREST -> tick.openInterest = parseCount(frame, start, end);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 정수 수량 파싱 (소수부는 버림, 빈 값은 NULL)
+     */
+    static long parseCount(CharSequence src, int start, int end) {
+        long value = 0;
+        boolean anyDigit = false;
+        boolean negative = false;
+        for (int i = start; i < end; i++) {
+            char c = src.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                anyDigit = true;
+            } else if (c == '-' && i == start) {
+                negative = true;
+            } else if (c == '.') {
+                break;
+            } else if (c != ',') {
+                throw new NumberFormatException("Invalid count: " + src.subSequence(start, end));
+            }
+        }
+        if (!anyDigit) {
+            return FixedPoint.NULL;
+        }
+        return negative ? -value : value;
+    }
+
+    private static int indexOf(CharSequence src, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (src.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
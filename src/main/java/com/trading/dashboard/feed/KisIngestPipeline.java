@@ -0,0 +1,249 @@
+package com.trading.dashboard.feed;
+
+import com.trading.dashboard.journal.TickJournal;
+import com.trading.dashboard.state.InstrumentState;
+import com.trading.dashboard.state.MarketStateStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * KIS 실시간 수신 파이프라인
+ * - WebSocket 수신 스레드: {@link #publish(String)}로 원본 프레임을 링버퍼에 복사만 수행
+ * - decode 스테이지: 파이프 프레임 디코딩 (JSON 제어 메시지는 제어 리스너로 전달)
+ * - state 스테이지: 디코딩된 체결을 상태 저장소 슬롯에 반영
+ * - persist 스테이지: 반영된 종목을 write-behind 대기열에 등록 ({@link TickWriteBehind})
+ * - journal 스테이지: 원본 프레임을 메모리 매핑 저널에 기록 ({@link TickJournal})
+ * - 대기 전략/버퍼 크기: trading.ingest.wait-strategy, trading.ingest.ring-size
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KisIngestPipeline {
+
+    private static final long STOP_TIMEOUT_MILLIS = 2000;
+
+    private final MarketStateStore marketStateStore;
+    private final TickWriteBehind tickWriteBehind;
+    private final TickJournal tickJournal;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${trading.ingest.ring-size:4096}")
+    private int ringSize;
+
+    @Value("${trading.ingest.wait-strategy:SLEEPING}")
+    private WaitStrategy.Type waitStrategyType;
+
+    private FrameRingBuffer ringBuffer;
+
+    // decode 스테이지 스레드 전용
+    private final KisFrameDecoder frameDecoder = new KisFrameDecoder();
+
+    private volatile Consumer<String> controlListener = message -> {
+    };
+
+    // 게시 → 상태 반영까지 지연 측정 (리플레이 리포트용, 기본 비활성)
+    private volatile StateProbe latencyProbe;
+
+    /**
+     * 체결 프레임 상태 반영 통지 (state 스테이지 스레드에서 호출)
+     */
+    @FunctionalInterface
+    public interface StateProbe {
+
+        /**
+         * @param receivedNanos 게시 시각 (System.nanoTime)
+         * @param appliedNanos  상태 저장소 반영 완료 시각 (System.nanoTime)
+         */
+        void onApplied(long receivedNanos, long appliedNanos);
+    }
+
+    @PostConstruct
+    public void start() {
+        ringBuffer = new FrameRingBuffer(ringSize, waitStrategyType.create());
+        ringBuffer.addStage("decode", this::decode);
+        ringBuffer.addStage("state", this::applyToState);
+        if (tickWriteBehind.isEnabled()) {
+            ringBuffer.addStage("persist", tickWriteBehind::onFrame);
+        }
+        if (tickJournal.isEnabled()) {
+            ringBuffer.addStage("journal", tickJournal::onFrame);
+        }
+        registerMetrics();
+        ringBuffer.start("kis-ingest");
+        log.info("[INGEST] Ring buffer started (size: {}, wait: {}, stages: {})",
+                ringBuffer.capacity(), waitStrategyType, ringBuffer.stages().size());
+    }
+
+    /**
+     * 수신 프레임 게시 (WebSocket 수신 스레드에서 호출)
+     */
+    public void publish(String message) {
+        ringBuffer.publish(message);
+    }
+
+    /**
+     * 녹화된 프레임 게시 (리플레이 스레드에서 호출, WebSocket 수신과 동시에 사용 금지)
+     *
+     * @param receivedMillis 녹화 당시 수신 시각 - 상태 저장소 타임스탬프로 사용
+     */
+    public void publish(CharSequence message, long receivedMillis) {
+        ringBuffer.publish(message, receivedMillis);
+    }
+
+    /**
+     * 지금까지 게시된 프레임 수 (연결 감시용)
+     */
+    public long published() {
+        return ringBuffer != null ? ringBuffer.published() : 0;
+    }
+
+    /**
+     * JSON 제어 메시지(구독 응답 등) 수신 리스너 등록
+     */
+    public void setControlListener(Consumer<String> controlListener) {
+        this.controlListener = controlListener;
+    }
+
+    /**
+     * 체결 프레임의 상태 반영 통지 수신자 등록 (state 스테이지 스레드에서 호출, null이면 해제)
+     */
+    public void setLatencyProbe(StateProbe latencyProbe) {
+        this.latencyProbe = latencyProbe;
+    }
+
+    /**
+     * 게시된 프레임이 모든 스테이지를 통과할 때까지 대기
+     */
+    public boolean drain(long timeout, TimeUnit unit) {
+        return ringBuffer != null && ringBuffer.drain(timeout, unit);
+    }
+
+    /**
+     * 수신된 틱을 모두 처리한 뒤 write-behind 대기열을 동기 flush
+     */
+    public void drainAndFlush() {
+        if (!drain(STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            log.warn("[INGEST] Drain timed out, flushing processed ticks only");
+        }
+        if (tickWriteBehind.isEnabled()) {
+            int rows = tickWriteBehind.flush();
+            log.info("[PERSIST] Final flush: {} rows", rows);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ringBuffer != null) {
+            ringBuffer.stop(STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            log.info("[INGEST] Ring buffer stopped (published: {}, stalls: {})",
+                    ringBuffer.published(), ringBuffer.producerStalls());
+        }
+    }
+
+    /**
+     * 링버퍼 상태 (연결 상태 조회용)
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("capacity", ringBuffer.capacity());
+        status.put("waitStrategy", waitStrategyType.name());
+        status.put("published", ringBuffer.published());
+        status.put("depth", ringBuffer.depth());
+        status.put("producerStalls", ringBuffer.producerStalls());
+        Map<String, Long> lag = new LinkedHashMap<>();
+        for (FrameRingBuffer.Stage stage : ringBuffer.stages()) {
+            lag.put(stage.name(), stage.lag());
+        }
+        status.put("stageLag", lag);
+        return status;
+    }
+
+    /**
+     * decode 스테이지: 파이프 프레임 → 슬롯 내 틱 배열
+     */
+    private void decode(FrameSlot slot, long sequence, boolean endOfBatch) {
+        if (frameDecoder.wrap(slot)) {
+            slot.markDecoded(frameDecoder.schema());
+            KisTick tick = slot.nextTick();
+            while (frameDecoder.next(tick)) {
+                slot.commitTick();
+                tick = slot.nextTick();
+            }
+            return;
+        }
+        if (slot.length() > 2 && slot.charAt(1) == '|' && (slot.charAt(0) == '0' || slot.charAt(0) == '1')) {
+            if (log.isDebugEnabled()) {
+                log.debug("[WS] Unsupported realtime frame: {}", slot);
+            }
+            return;
+        }
+        slot.markControl();
+        controlListener.accept(slot.toString());
+    }
+
+    /**
+     * state 스테이지: 체결 레코드를 상태 저장소 슬롯에 반영 (DB 접근 없음)
+     * - TR 스키마의 상품 유형과 슬롯 유형이 일치할 때만 반영
+     */
+    private void applyToState(FrameSlot slot, long sequence, boolean endOfBatch) {
+        KisTrSchema schema = slot.schema();
+        if (schema == null) {
+            return;
+        }
+        long epochMillis = slot.receivedMillis();
+        for (int i = 0; i < slot.tickCount(); i++) {
+            KisTick tick = slot.tick(i);
+            InstrumentState state = marketStateStore.find(slot, tick.symbolStart(), tick.symbolEnd());
+            if (state == null || state.getInstrumentType() != schema.instrumentType()) {
+                continue;
+            }
+            state.applyExecution(tick.price(), tick.change(), tick.changeRate(), tick.open(), tick.high(),
+                    tick.low(), tick.volume(), tick.tradingValue(), tick.openInterest(), epochMillis);
+
+            if (log.isDebugEnabled()) {
+                log.debug("[{} WS] {} - Price: {}, Volume: {}",
+                        schema, tick.symbol(), tick.price(), tick.volume());
+            }
+        }
+
+        StateProbe probe = latencyProbe;
+        if (probe != null) {
+            probe.onApplied(slot.receivedNanos(), System.nanoTime());
+        }
+    }
+
+    private void registerMetrics() {
+        FrameRingBuffer ring = ringBuffer;
+        Gauge.builder("kis.ingest.queue.depth", ring, FrameRingBuffer::depth)
+                .description("Frames published but not yet processed by the last stage")
+                .register(meterRegistry);
+        Gauge.builder("kis.ingest.queue.capacity", ring, FrameRingBuffer::capacity)
+                .register(meterRegistry);
+        FunctionCounter.builder("kis.ingest.frames", ring, FrameRingBuffer::published)
+                .description("Frames handed off by the WebSocket reader thread")
+                .register(meterRegistry);
+        FunctionCounter.builder("kis.ingest.producer.stalls", ring, FrameRingBuffer::producerStalls)
+                .description("Times the reader thread waited for a full ring buffer")
+                .register(meterRegistry);
+        for (FrameRingBuffer.Stage stage : ring.stages()) {
+            Gauge.builder("kis.ingest.consumer.lag", stage, FrameRingBuffer.Stage::lag)
+                    .tag("stage", stage.name())
+                    .register(meterRegistry);
+            FunctionCounter.builder("kis.ingest.consumer.errors", stage, FrameRingBuffer.Stage::errors)
+                    .tag("stage", stage.name())
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.trading.dashboard.feed;
+
+import com.google.gson.Gson;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * KIS WebSocket 구독 파이프라인
+ * - 구독 요청을 응답 대기 없이 전송 속도 한도(trading.ws.subscribe.rate-per-second) 내에서 연속 전송
+ * - 응답(SUBSCRIBE SUCCESS / ALREADY IN SUBSCRIBE / INVALID ...)은 대기 테이블에서 비동기 처리
+ * - 응답 제한 시간 초과 시 재전송, 재시도 한도 초과 시 실패 처리
+ * - 모든 요청이 확정되면 전체 구독 완료 시간을 기록
+ * - 상태 변경은 전용 스레드 1개에서만 수행 (잠금 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KisSubscriptionEngine {
+
+    /**
+     * 구독 요청 (tr_type: 1 = 등록, 2 = 해제)
+     */
+    public record Subscription(String trId, String trKey, String trType) {
+        public static Subscription subscribe(String trId, String trKey) {
+            return new Subscription(trId, trKey, "1");
+        }
+    }
+
+    /**
+     * 구독 결과 요약
+     */
+    public record Report(int requested, int subscribed, int failed, int retries, Duration elapsed,
+            boolean complete) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Gson gson = new Gson();
+
+    @Value("${trading.ws.subscribe.rate-per-second:20}")
+    private int ratePerSecond;
+
+    @Value("${trading.ws.subscribe.max-in-flight:10}")
+    private int maxInFlight;
+
+    @Value("${trading.ws.subscribe.ack-timeout-ms:3000}")
+    private long ackTimeoutMillis;
+
+    @Value("${trading.ws.subscribe.max-retries:2}")
+    private int maxRetries;
+
+    private ScheduledExecutorService executor;
+    private Session session;
+    private volatile Report lastReport = new Report(0, 0, 0, 0, Duration.ZERO, false);
+
+    private Timer fullySubscribedTimer;
+    private Counter retryCounter;
+    private Counter failureCounter;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "kis-subscribe");
+            thread.setDaemon(true);
+            return thread;
+        });
+        fullySubscribedTimer = Timer.builder("kis.ws.subscribe.duration")
+                .description("Time from first subscribe frame until every request is acknowledged")
+                .register(meterRegistry);
+        retryCounter = Counter.builder("kis.ws.subscribe.retries").register(meterRegistry);
+        failureCounter = Counter.builder("kis.ws.subscribe.failures").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 구독 세션 시작 (진행 중인 세션은 취소)
+     *
+     * @param sender 프레임 전송 함수 (WebSocketClient::send)
+     * @param isOpen 연결 상태 확인 함수
+     * @return 모든 요청이 확정되면 완료되는 결과
+     */
+    public CompletableFuture<Report> begin(List<Subscription> subscriptions, String approvalKey,
+            Consumer<String> sender, BooleanSupplier isOpen) {
+        CompletableFuture<Report> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            cancelCurrent();
+            Session next = new Session(subscriptions, approvalKey, sender, isOpen, result);
+            session = next;
+            long periodNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+            next.task = executor.scheduleAtFixedRate(next::tick, 0, periodNanos, TimeUnit.NANOSECONDS);
+            log.info("[WS] Subscribing {} symbols (rate: {}/s, in-flight: {})",
+                    subscriptions.size(), ratePerSecond, maxInFlight);
+        });
+        return result;
+    }
+
+    /**
+     * 구독 응답 수신 (제어 메시지 처리 스레드에서 호출)
+     */
+    public void onAck(String trKey, String message) {
+        executor.execute(() -> {
+            if (session != null) {
+                session.ack(trKey, message);
+            }
+        });
+    }
+
+    /**
+     * 연결 종료 시 진행 중인 세션 취소
+     */
+    public void cancel() {
+        executor.execute(this::cancelCurrent);
+    }
+
+    public Report getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * 구독 요청 프레임 생성
+     */
+    public String frame(Subscription subscription, String approvalKey) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("header", Map.of(
+                "approval_key", approvalKey,
+                "custtype", "P",
+                "tr_type", subscription.trType(),
+                "content-type", "utf-8"));
+        request.put("body", Map.of(
+                "input", Map.of(
+                        "tr_id", subscription.trId(),
+                        "tr_key", subscription.trKey())));
+        return gson.toJson(request);
+    }
+
+    /**
+     * 종목코드와 시각으로 실시간 체결 TR_ID 선택 (KST 기준)
+     * - A로 시작: 선물, B/C로 시작: 콜/풋 옵션
+     * - 야간장: 월~금 18:00 ~ 익일 05:00 (금요일 야간은 토요일 새벽까지)
+     */
+    public static String resolveTrId(String code, LocalDateTime now) {
+        boolean isFutures = code.startsWith("A");
+        int currentHour = now.getHour();
+        int dayOfWeek = now.getDayOfWeek().getValue(); // 1(월)~7(일)
+
+        boolean isNightSession = false;
+        if (dayOfWeek >= 1 && dayOfWeek <= 5 && currentHour >= 18) {
+            isNightSession = true;
+        } else if (dayOfWeek >= 2 && dayOfWeek <= 6 && currentHour < 5) {
+            isNightSession = true;
+        }
+
+        if (isNightSession) {
+            // 야간장: H0MFCNT0 (선물), H0EUCNT0 (옵션)
+            return isFutures ? "H0MFCNT0" : "H0EUCNT0";
+        }
+        // 주간장: H0STCNT0 (선물/옵션 통합)
+        return "H0STCNT0";
+    }
+
+    private void cancelCurrent() {
+        if (session != null) {
+            session.finish(false);
+            session = null;
+        }
+    }
+
+    /**
+     * 응답 분류: SUCCESS/ALREADY는 성공, 그 외 오류 메시지는 실패
+     */
+    static Boolean classify(String message) {
+        if (message == null) {
+            return null;
+        }
+        if (message.contains("SUCCESS") || message.contains("ALREADY")) {
+            return Boolean.TRUE;
+        }
+        if (message.contains("INVALID") || message.contains("ERROR") || message.contains("OVER")) {
+            return Boolean.FALSE;
+        }
+        return null;
+    }
+
+    /**
+     * 구독 세션 상태 (엔진 스레드 전용)
+     */
+    private final class Session {
+
+        private final Deque<Subscription> queue;
+        private final Map<String, Pending> pending = new HashMap<>();
+        private final String approvalKey;
+        private final Consumer<String> sender;
+        private final BooleanSupplier isOpen;
+        private final CompletableFuture<Report> result;
+        private final int requested;
+        private final long startNanos = System.nanoTime();
+
+        private ScheduledFuture<?> task;
+        private int subscribed;
+        private int failed;
+        private int retries;
+        private boolean finished;
+
+        private Session(List<Subscription> subscriptions, String approvalKey, Consumer<String> sender,
+                BooleanSupplier isOpen, CompletableFuture<Report> result) {
+            this.queue = new ArrayDeque<>(subscriptions);
+            this.approvalKey = approvalKey;
+            this.sender = sender;
+            this.isOpen = isOpen;
+            this.result = result;
+            this.requested = subscriptions.size();
+        }
+
+        /**
+         * 전송 주기마다 1건 전송 + 응답 제한 시간 확인
+         */
+        private void tick() {
+            if (finished) {
+                return;
+            }
+            if (!isOpen.getAsBoolean()) {
+                log.warn("[WS] Connection closed during subscription");
+                finish(false);
+                return;
+            }
+            expireTimedOut();
+
+            if (!queue.isEmpty() && pending.size() < maxInFlight) {
+                Subscription next = queue.poll();
+                Pending entry = pending.get(next.trKey());
+                int attempts = entry != null ? entry.attempts + 1 : 1;
+                pending.put(next.trKey(), new Pending(next, System.nanoTime(), attempts));
+                try {
+                    sender.accept(frame(next, approvalKey));
+                    log.debug("[Subscribe] {} - {} (attempt {})", next.trId(), next.trKey(), attempts);
+                } catch (Exception e) {
+                    log.warn("[WS] Subscribe send failed for {}: {}", next.trKey(), e.getMessage());
+                }
+            }
+
+            if (queue.isEmpty() && pending.isEmpty()) {
+                finish(true);
+            }
+        }
+
+        private void expireTimedOut() {
+            long now = System.nanoTime();
+            long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(ackTimeoutMillis);
+            Iterator<Pending> it = pending.values().iterator();
+            while (it.hasNext()) {
+                Pending entry = it.next();
+                if (now - entry.sentAtNanos < timeoutNanos) {
+                    continue;
+                }
+                if (entry.attempts <= maxRetries) {
+                    // 재시도 순서를 유지하기 위해 대기열 앞에 넣고 시도 횟수는 대기 테이블에 유지
+                    queue.addFirst(entry.subscription);
+                    entry.sentAtNanos = Long.MAX_VALUE;
+                    retries++;
+                    retryCounter.increment();
+                    log.warn("[WS] Subscription timeout for {} - retry {}/{}",
+                            entry.subscription.trKey(), entry.attempts, maxRetries);
+                } else {
+                    it.remove();
+                    failed++;
+                    failureCounter.increment();
+                    log.error("[WS] Subscription timeout for {} - giving up", entry.subscription.trKey());
+                }
+            }
+        }
+
+        private void ack(String trKey, String message) {
+            Pending entry = pending.get(trKey);
+            if (entry == null) {
+                return;
+            }
+            Boolean success = classify(message);
+            if (success == null) {
+                return;
+            }
+            pending.remove(trKey);
+            // 재시도 대기 중에 늦은 응답이 오면 재전송 취소
+            queue.remove(entry.subscription);
+            if (success) {
+                subscribed++;
+                log.debug("[WS] {} - {}", message, trKey);
+            } else {
+                failed++;
+                failureCounter.increment();
+                log.error("[Response] {} - {}", message, trKey);
+            }
+        }
+
+        private void finish(boolean complete) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            if (task != null) {
+                task.cancel(false);
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+            Report report = new Report(requested, subscribed, failed, retries, elapsed, complete);
+            lastReport = report;
+            if (complete) {
+                fullySubscribedTimer.record(elapsed);
+                log.info("[WS] Subscription completed in {}ms! Success: {}, Failed: {}, Retries: {}, Total: {}",
+                        elapsed.toMillis(), subscribed, failed, retries, requested);
+            } else {
+                log.warn("[WS] Subscription aborted after {}ms (Success: {}, Failed: {}, Remaining: {})",
+                        elapsed.toMillis(), subscribed, failed, queue.size() + pending.size());
+            }
+            result.complete(report);
+        }
+    }
+
+    private static final class Pending {
+        private final Subscription subscription;
+        private final int attempts;
+        private long sentAtNanos;
+
+        private Pending(Subscription subscription, long sentAtNanos, int attempts) {
+            this.subscription = subscription;
+            this.sentAtNanos = sentAtNanos;
+            this.attempts = attempts;
+        }
+    }
+}
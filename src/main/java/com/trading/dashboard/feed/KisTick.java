@@ -0,0 +1,106 @@
+package com.trading.dashboard.feed;
+
+import com.trading.dashboard.state.FixedPoint;
+
+/**
+ * 디코딩된 체결 레코드 (재사용 가능한 가변 객체)
+ * - 종목코드는 원본 프레임의 구간(start/end)으로만 보관 (부분 문자열 생성 없음)
+ * - 가격/금액은 {@link FixedPoint}, 수량은 long, 값이 없으면 {@link FixedPoint#NULL}
+ */
+public final class KisTick {
+
+    static final int SYMBOL = 0;
+    static final int PRICE = 1;
+    static final int CHANGE = 2;
+    static final int CHANGE_RATE = 3;
+    static final int OPEN = 4;
+    static final int HIGH = 5;
+    static final int LOW = 6;
+    static final int VOLUME = 7;
+    static final int TRADING_VALUE = 8;
+    static final int OPEN_INTEREST = 9;
+
+    CharSequence source;
+    int symbolStart;
+    int symbolEnd;
+
+    long price;
+    long change;
+    long changeRate;
+    long open;
+    long high;
+    long low;
+    long volume;
+    long tradingValue;
+    long openInterest;
+
+    void reset(CharSequence source) {
+        this.source = source;
+        symbolStart = 0;
+        symbolEnd = 0;
+        price = FixedPoint.NULL;
+        change = FixedPoint.NULL;
+        changeRate = FixedPoint.NULL;
+        open = FixedPoint.NULL;
+        high = FixedPoint.NULL;
+        low = FixedPoint.NULL;
+        volume = FixedPoint.NULL;
+        tradingValue = FixedPoint.NULL;
+        openInterest = FixedPoint.NULL;
+    }
+
+    public CharSequence source() {
+        return source;
+    }
+
+    public int symbolStart() {
+        return symbolStart;
+    }
+
+    public int symbolEnd() {
+        return symbolEnd;
+    }
+
+    /**
+     * 종목코드 (디버깅/로그용 - 문자열 생성)
+     */
+    public String symbol() {
+        return source.subSequence(symbolStart, symbolEnd).toString();
+    }
+
+    public long price() {
+        return price;
+    }
+
+    public long change() {
+        return change;
+    }
+
+    public long changeRate() {
+        return changeRate;
+    }
+
+    public long open() {
+        return open;
+    }
+
+    public long high() {
+        return high;
+    }
+
+    public long low() {
+        return low;
+    }
+
+    public long volume() {
+        return volume;
+    }
+
+    public long tradingValue() {
+        return tradingValue;
+    }
+
+    public long openInterest() {
+        return openInterest;
+    }
+}
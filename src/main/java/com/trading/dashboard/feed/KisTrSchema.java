@@ -0,0 +1,94 @@
+package com.trading.dashboard.feed;
+
+import com.trading.dashboard.model.InstrumentType;
+
+import java.util.Arrays;
+
+/**
+ * KIS 실시간 체결 TR_ID별 필드 인덱스 스키마
+ * - 하나의 레코드는 '^'로 구분된 필드 목록이며, 프레임에는 레코드가 N개 연속으로 붙어 있음
+ * - 인덱스가 -1이면 해당 TR에서 사용하지 않는 필드
+ *
+ * 선물 체결 (H0MFCNT0):
+ * 0 종목코드, 1 체결시간, 2 전일대비, 3 부호, 4 등락률, 5 현재가, 6 시가, 7 고가, 8 저가,
+ * 9 체결량, 10 누적거래량, 11 누적거래대금, ... 18 미결제약정
+ *
+ * 옵션 체결 (H0EUCNT0):
+ * 0 종목코드, 1 체결시간, 2 현재가, 3 부호, 4 전일대비, 5 등락률, 6 시가, 7 고가, 8 저가,
+ * 9 체결량, 10 누적거래량, 11 누적거래대금, 12 미결제약정
+ */
+public enum KisTrSchema {
+
+    // 주간장 구독 TR - 기존 처리와 동일하게 선물 레이아웃으로 해석
+    H0STCNT0(InstrumentType.FUTURES, 0, 5, 2, 4, 6, 7, 8, 10, 11, 18),
+    H0MFCNT0(InstrumentType.FUTURES, 0, 5, 2, 4, 6, 7, 8, 10, 11, 18),
+    H0EUCNT0(InstrumentType.OPTIONS, 0, 2, 4, 5, 6, 7, 8, 10, 11, 12),
+    H0STCNI0(InstrumentType.OPTIONS, 0, 2, 4, 5, 6, 7, 8, 10, 11, 12);
+
+    private static final KisTrSchema[] VALUES = values();
+
+    private final InstrumentType instrumentType;
+    private final byte[] fieldSlots;
+    private final int requiredFields;
+
+    KisTrSchema(InstrumentType instrumentType, int symbol, int price, int change, int changeRate,
+            int open, int high, int low, int volume, int tradingValue, int openInterest) {
+        this.instrumentType = instrumentType;
+
+        int[] indices = { symbol, price, change, changeRate, open, high, low, volume, tradingValue, openInterest };
+        int max = 0;
+        for (int index : indices) {
+            max = Math.max(max, index);
+        }
+
+        this.fieldSlots = new byte[max + 1];
+        Arrays.fill(fieldSlots, (byte) -1);
+        for (int slot = 0; slot < indices.length; slot++) {
+            if (indices[slot] >= 0) {
+                fieldSlots[indices[slot]] = (byte) slot;
+            }
+        }
+
+        // 가격/누적거래량까지는 반드시 있어야 유효한 레코드 (기존 검증: 12개 이상)
+        this.requiredFields = Math.max(price, volume) + 2;
+    }
+
+    public InstrumentType instrumentType() {
+        return instrumentType;
+    }
+
+    /**
+     * 필드 인덱스 → {@link KisTick} 슬롯 번호 (-1: 무시)
+     */
+    int slotOf(int fieldIndex) {
+        return fieldIndex < fieldSlots.length ? fieldSlots[fieldIndex] : -1;
+    }
+
+    int requiredFields() {
+        return requiredFields;
+    }
+
+    /**
+     * 문자열 구간에 해당하는 스키마 조회 (부분 문자열 생성 없음)
+     */
+    public static KisTrSchema match(CharSequence src, int start, int end) {
+        int length = end - start;
+        for (KisTrSchema schema : VALUES) {
+            String name = schema.name();
+            if (name.length() != length) {
+                continue;
+            }
+            boolean equal = true;
+            for (int i = 0; i < length; i++) {
+                if (name.charAt(i) != src.charAt(start + i)) {
+                    equal = false;
+                    break;
+                }
+            }
+            if (equal) {
+                return schema;
+            }
+        }
+        return null;
+    }
+}
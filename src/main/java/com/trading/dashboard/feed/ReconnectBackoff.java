@@ -0,0 +1,48 @@
+package com.trading.dashboard.feed;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지수 백오프 + 지터 (재연결 간격 계산)
+ * - n번째 시도 상한: min(max, initial * 2^n)
+ * - 실제 대기: 상한의 절반 + [0, 절반) 난수 (여러 인스턴스의 동시 재연결 분산)
+ */
+public final class ReconnectBackoff {
+
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private int attempt;
+
+    public ReconnectBackoff(long initialDelayMillis, long maxDelayMillis) {
+        this.initialDelayMillis = Math.max(1, initialDelayMillis);
+        this.maxDelayMillis = Math.max(this.initialDelayMillis, maxDelayMillis);
+    }
+
+    /**
+     * 다음 재연결까지 대기 시간 (호출할 때마다 시도 횟수 증가)
+     */
+    public synchronized long nextDelayMillis() {
+        long ceiling = ceiling(attempt);
+        if (attempt < 62) {
+            attempt++;
+        }
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(Math.max(1, ceiling - half));
+    }
+
+    public synchronized int attempts() {
+        return attempt;
+    }
+
+    /**
+     * 연결 성공 시 초기화
+     */
+    public synchronized void reset() {
+        attempt = 0;
+    }
+
+    long ceiling(int n) {
+        long shifted = n >= 62 ? Long.MAX_VALUE : initialDelayMillis << n;
+        return shifted <= 0 || shifted > maxDelayMillis ? maxDelayMillis : shifted;
+    }
+}
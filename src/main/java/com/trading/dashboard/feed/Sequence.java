@@ -0,0 +1,39 @@
+package com.trading.dashboard.feed;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 링버퍼 시퀀스 카운터 (false sharing 방지를 위한 패딩 포함)
+ */
+public final class Sequence {
+
+    static final long INITIAL = -1L;
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(Sequence.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private long p1, p2, p3, p4, p5, p6, p7;
+    private volatile long value = INITIAL;
+    @SuppressWarnings("unused")
+    private long p9, p10, p11, p12, p13, p14, p15;
+
+    public long get() {
+        return value;
+    }
+
+    /**
+     * 이전 쓰기가 모두 보이도록 release 저장
+     */
+    public void set(long newValue) {
+        VALUE.setRelease(this, newValue);
+    }
+}
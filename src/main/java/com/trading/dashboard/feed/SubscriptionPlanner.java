@@ -0,0 +1,145 @@
+package com.trading.dashboard.feed;
+
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.state.FixedPoint;
+
+import java.util.*;
+
+/**
+ * 구독 슬롯(최대 40개) 배분 계산
+ * - 선물 1개 + ATM 주변 행사가(콜/풋) + 나머지는 거래가 활발한 종목
+ * - 근월물 옵션만 대상 (만기일이 가장 빠른 그룹)
+ * - 이력 현상(hysteresis):
+ *   1) ATM 중심은 선물가격이 기존 중심에서 hysteresis 이상 벗어날 때만 이동
+ *   2) 기존 구독 종목은 활동도에 가산점을 받아, 확실히 더 활발한 종목만 자리를 대체
+ */
+public final class SubscriptionPlanner {
+
+    /**
+     * 옵션 후보 (activity: 최근 거래량 증가 속도 등 활동도)
+     */
+    public record Candidate(String symbol, long strike, OptionType optionType, String expiryDate,
+            double activity) {
+    }
+
+    /**
+     * 계산 결과 (center: 적용된 ATM 중심 행사가, 고정소수점)
+     */
+    public record Plan(List<String> symbols, long center) {
+    }
+
+    private final int budget;
+    private final int atmStrikes;
+    private final long hysteresis;
+    private final double incumbentBonus;
+
+    /**
+     * @param budget         전체 구독 한도 (선물 포함)
+     * @param atmStrikes     항상 구독할 ATM 주변 행사가 수 (행사가당 콜/풋 2종목)
+     * @param hysteresis     ATM 중심 이동 임계값 (고정소수점)
+     * @param incumbentBonus 기존 구독 종목 활동도 가산 비율 (0.5 = 50%)
+     */
+    public SubscriptionPlanner(int budget, int atmStrikes, long hysteresis, double incumbentBonus) {
+        this.budget = budget;
+        this.atmStrikes = atmStrikes;
+        this.hysteresis = hysteresis;
+        this.incumbentBonus = incumbentBonus;
+    }
+
+    /**
+     * 목표 구독 목록 계산
+     *
+     * @param previousCenter 직전 ATM 중심 (없으면 {@link FixedPoint#NULL})
+     * @return 계산 불가(선물가격/후보 없음)면 null
+     */
+    public Plan plan(String futuresSymbol, long futuresPrice, List<Candidate> options,
+            Set<String> current, long previousCenter) {
+        if (futuresSymbol == null || futuresPrice == FixedPoint.NULL || options.isEmpty()) {
+            return null;
+        }
+        List<Candidate> front = frontMonth(options);
+        long[] strikes = front.stream()
+                .mapToLong(Candidate::strike)
+                .filter(strike -> strike != FixedPoint.NULL)
+                .distinct()
+                .sorted()
+                .toArray();
+        if (strikes.length == 0) {
+            return null;
+        }
+
+        long center = previousCenter;
+        if (center == FixedPoint.NULL || Math.abs(futuresPrice - center) >= hysteresis) {
+            center = nearest(strikes, futuresPrice);
+        }
+
+        // 1) ATM 주변 행사가
+        Set<Long> atm = nearestStrikes(strikes, center, atmStrikes);
+        LinkedHashSet<String> selected = new LinkedHashSet<>();
+        selected.add(futuresSymbol);
+        front.stream()
+                .filter(c -> atm.contains(c.strike()))
+                .sorted(Comparator.comparingLong(Candidate::strike).thenComparing(Candidate::optionType))
+                .forEach(c -> {
+                    if (selected.size() < budget) {
+                        selected.add(c.symbol());
+                    }
+                });
+
+        // 2) 남은 슬롯: 활동도 순 (기존 구독 종목 가산, 동률이면 기존 종목 → ATM 중심에 가까운 순)
+        long atmCenter = center;
+        front.stream()
+                .filter(c -> !selected.contains(c.symbol()))
+                .sorted(Comparator.comparingDouble((Candidate c) -> -effectiveActivity(c, current))
+                        .thenComparing(c -> !current.contains(c.symbol()))
+                        .thenComparingLong(c -> Math.abs(c.strike() - atmCenter)))
+                .forEach(c -> {
+                    if (selected.size() < budget) {
+                        selected.add(c.symbol());
+                    }
+                });
+
+        return new Plan(List.copyOf(selected), center);
+    }
+
+    private double effectiveActivity(Candidate candidate, Set<String> current) {
+        return current.contains(candidate.symbol())
+                ? candidate.activity() * (1 + incumbentBonus)
+                : candidate.activity();
+    }
+
+    private static List<Candidate> frontMonth(List<Candidate> options) {
+        String front = options.stream()
+                .map(Candidate::expiryDate)
+                .filter(Objects::nonNull)
+                .min(String::compareTo)
+                .orElse(null);
+        if (front == null) {
+            return options;
+        }
+        return options.stream()
+                .filter(c -> front.equals(c.expiryDate()))
+                .toList();
+    }
+
+    private static long nearest(long[] sortedStrikes, long price) {
+        long best = sortedStrikes[0];
+        for (long strike : sortedStrikes) {
+            if (Math.abs(strike - price) < Math.abs(best - price)) {
+                best = strike;
+            }
+        }
+        return best;
+    }
+
+    private static Set<Long> nearestStrikes(long[] sortedStrikes, long center, int count) {
+        Long[] boxed = Arrays.stream(sortedStrikes).boxed().toArray(Long[]::new);
+        Arrays.sort(boxed, Comparator.comparingLong((Long strike) -> Math.abs(strike - center))
+                .thenComparingLong(strike -> strike));
+        Set<Long> result = new HashSet<>();
+        for (int i = 0; i < Math.min(count, boxed.length); i++) {
+            result.add(boxed[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,212 @@
+package com.trading.dashboard.feed;
+
+import com.trading.dashboard.model.FuturesData;
+import com.trading.dashboard.model.OptionData;
+import com.trading.dashboard.state.InstrumentState;
+import com.trading.dashboard.state.MarketStateStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실시간 틱 write-behind 영속화 (종목별 병합)
+ * - persist 스테이지: 틱이 반영된 슬롯을 대기열에 등록 (flush 구간 내 종목당 1회)
+ * - flush: 구간마다 종목별 최신 상태만 JDBC 배치 UPDATE 1회로 반영 (틱마다 save 하지 않음)
+ * - 종료 시 남은 대기열을 동기 flush
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TickWriteBehind {
+
+    static final String UPDATE_OPTION_SQL = "UPDATE option_data SET current_price = ?, volume = ?, "
+            + "trading_value = ?, open_interest = ?, timestamp = ? WHERE symbol = ?";
+
+    static final String UPDATE_FUTURES_SQL = "UPDATE futures_data SET current_price = ?, change_amount = ?, "
+            + "change_percent = ?, open_price = ?, high_price = ?, low_price = ?, volume = ?, "
+            + "trading_value = ?, open_interest = ?, timestamp = ? WHERE symbol = ?";
+
+    private final MarketStateStore marketStateStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${trading.ingest.persist.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.ingest.persist.flush-interval-ms:250}")
+    private long flushIntervalMillis;
+
+    private final ConcurrentLinkedQueue<InstrumentState> pending = new ConcurrentLinkedQueue<>();
+    private ScheduledExecutorService flusher;
+
+    private Counter ticksCounter;
+    private Counter coalescedCounter;
+    private DistributionSummary flushSize;
+    private Timer flushLatency;
+
+    @PostConstruct
+    public void init() {
+        ticksCounter = Counter.builder("kis.persist.ticks")
+                .description("Realtime ticks offered to write-behind persistence")
+                .register(meterRegistry);
+        coalescedCounter = Counter.builder("kis.persist.ticks.coalesced")
+                .description("Ticks merged into an already pending row")
+                .register(meterRegistry);
+        flushSize = DistributionSummary.builder("kis.persist.flush.size")
+                .description("Rows written per flush")
+                .register(meterRegistry);
+        flushLatency = Timer.builder("kis.persist.flush.latency")
+                .register(meterRegistry);
+
+        if (!enabled) {
+            log.info("[PERSIST] Write-behind disabled");
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "kis-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        log.info("[PERSIST] Write-behind started (flush interval: {}ms)", flushIntervalMillis);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * persist 스테이지: state 스테이지가 반영한 종목을 대기열에 등록
+     */
+    void onFrame(FrameSlot slot, long sequence, boolean endOfBatch) {
+        KisTrSchema schema = slot.schema();
+        if (schema == null) {
+            return;
+        }
+        for (int i = 0; i < slot.tickCount(); i++) {
+            KisTick tick = slot.tick(i);
+            InstrumentState state = marketStateStore.find(slot, tick.symbolStart(), tick.symbolEnd());
+            if (state == null || state.getInstrumentType() != schema.instrumentType()) {
+                continue;
+            }
+            enqueue(state);
+        }
+    }
+
+    /**
+     * 종목 상태를 다음 flush 대상으로 등록 (이미 대기 중이면 병합)
+     */
+    public void enqueue(InstrumentState state) {
+        ticksCounter.increment();
+        if (state.markPersistPending()) {
+            pending.add(state);
+        } else {
+            coalescedCounter.increment();
+        }
+    }
+
+    /**
+     * 대기열의 종목별 최신 상태를 배치 UPDATE로 반영
+     *
+     * @return 반영한 종목 수
+     */
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        List<Object[]> optionRows = new ArrayList<>();
+        List<Object[]> futuresRows = new ArrayList<>();
+
+        InstrumentState state;
+        while ((state = pending.poll()) != null) {
+            // 스냅샷 이전에 해제해야 이후 틱이 다시 대기열에 등록됨
+            state.clearPersistPending();
+            if (state.isFutures()) {
+                FuturesData futures = state.toFuturesData();
+                if (futures.getCurrentPrice() != null) {
+                    futuresRows.add(futuresRow(futures));
+                }
+            } else {
+                OptionData option = state.toOptionData();
+                if (option.getCurrentPrice() != null) {
+                    optionRows.add(optionRow(option));
+                }
+            }
+        }
+
+        if (!optionRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_OPTION_SQL, optionRows);
+        }
+        if (!futuresRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_FUTURES_SQL, futuresRows);
+        }
+
+        int rows = optionRows.size() + futuresRows.size();
+        flushSize.record(rows);
+        flushLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        log.debug("[PERSIST] Flushed {} rows (options: {}, futures: {})",
+                rows, optionRows.size(), futuresRows.size());
+        return rows;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("[PERSIST] Flush failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        flushQuietly();
+    }
+
+    private static Object[] optionRow(OptionData option) {
+        return new Object[] {
+                option.getCurrentPrice(),
+                option.getVolume(),
+                option.getTradingValue(),
+                option.getOpenInterest(),
+                Timestamp.valueOf(option.getTimestamp()),
+                option.getSymbol()
+        };
+    }
+
+    private static Object[] futuresRow(FuturesData futures) {
+        return new Object[] {
+                futures.getCurrentPrice(),
+                futures.getChangeAmount(),
+                futures.getChangePercent(),
+                futures.getOpenPrice(),
+                futures.getHighPrice(),
+                futures.getLowPrice(),
+                futures.getVolume(),
+                futures.getTradingValue(),
+                futures.getOpenInterest(),
+                Timestamp.valueOf(futures.getTimestamp()),
+                futures.getSymbol()
+        };
+    }
+}
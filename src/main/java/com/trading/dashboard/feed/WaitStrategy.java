@@ -0,0 +1,146 @@
+package com.trading.dashboard.feed;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 링버퍼 소비 스테이지 대기 전략
+ * - BUSY_SPIN: 최저 지연, 코어 1개 점유
+ * - YIELDING: 스핀 후 yield
+ * - SLEEPING: 스핀 → yield → park (기본값, CPU 사용 최소)
+ * - BLOCKING: Lock/Condition 대기 (가장 느리지만 유휴 시 CPU 0)
+ */
+public interface WaitStrategy {
+
+    /**
+     * sequence 이상이 사용 가능해질 때까지 대기
+     *
+     * @return 사용 가능한 최대 시퀀스 (중지 요청 시 sequence 미만 값)
+     */
+    long waitFor(long sequence, Sequence dependent, BooleanSupplier running);
+
+    /**
+     * 시퀀스 진행 알림 (BLOCKING 전략에서만 의미 있음)
+     */
+    default void signalAll() {
+    }
+
+    enum Type {
+        BUSY_SPIN, YIELDING, SLEEPING, BLOCKING;
+
+        public WaitStrategy create() {
+            return switch (this) {
+                case BUSY_SPIN -> new BusySpin();
+                case YIELDING -> new Yielding();
+                case SLEEPING -> new Sleeping();
+                case BLOCKING -> new Blocking();
+            };
+        }
+    }
+
+    final class BusySpin implements WaitStrategy {
+        @Override
+        public long waitFor(long sequence, Sequence dependent, BooleanSupplier running) {
+            long available;
+            while ((available = dependent.get()) < sequence) {
+                if (!running.getAsBoolean()) {
+                    return available;
+                }
+                Thread.onSpinWait();
+            }
+            return available;
+        }
+    }
+
+    final class Yielding implements WaitStrategy {
+        private static final int SPIN_TRIES = 100;
+
+        @Override
+        public long waitFor(long sequence, Sequence dependent, BooleanSupplier running) {
+            long available;
+            int counter = SPIN_TRIES;
+            while ((available = dependent.get()) < sequence) {
+                if (!running.getAsBoolean()) {
+                    return available;
+                }
+                if (counter > 0) {
+                    counter--;
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+            return available;
+        }
+    }
+
+    final class Sleeping implements WaitStrategy {
+        private static final int SPIN_TRIES = 100;
+        private static final int YIELD_TRIES = 100;
+        private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+        @Override
+        public long waitFor(long sequence, Sequence dependent, BooleanSupplier running) {
+            long available;
+            int counter = SPIN_TRIES + YIELD_TRIES;
+            while ((available = dependent.get()) < sequence) {
+                if (!running.getAsBoolean()) {
+                    return available;
+                }
+                if (counter > YIELD_TRIES) {
+                    counter--;
+                    Thread.onSpinWait();
+                } else if (counter > 0) {
+                    counter--;
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(PARK_NANOS);
+                }
+            }
+            return available;
+        }
+    }
+
+    final class Blocking implements WaitStrategy {
+        private static final long MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition progressed = lock.newCondition();
+
+        @Override
+        public long waitFor(long sequence, Sequence dependent, BooleanSupplier running) {
+            long available;
+            while ((available = dependent.get()) < sequence) {
+                if (!running.getAsBoolean()) {
+                    return available;
+                }
+                lock.lock();
+                try {
+                    if (dependent.get() < sequence) {
+                        // 신호 유실에 대비해 최대 대기 시간 제한
+                        progressed.awaitNanos(MAX_WAIT_NANOS);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return dependent.get();
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return available;
+        }
+
+        @Override
+        public void signalAll() {
+            lock.lock();
+            try {
+                progressed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
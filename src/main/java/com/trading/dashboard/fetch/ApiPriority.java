@@ -0,0 +1,17 @@
+package com.trading.dashboard.fetch;
+
+/**
+ * KIS API 호출 우선순위 (선언 순서가 높은 우선순위)
+ */
+public enum ApiPriority {
+    /** 접근토큰 / approval_key 발급 */
+    AUTH,
+    /** 선물 시세 */
+    FUTURES,
+    /** ATM 인근 옵션 시세 */
+    NEAR_ATM_OPTIONS,
+    /** 옵션 호가 */
+    ASKING_PRICE,
+    /** 원거리 옵션 등 보충 조회 (여유 한도에서만 진행) */
+    BACKFILL
+}
@@ -0,0 +1,374 @@
+package com.trading.dashboard.fetch;
+
+import com.trading.dashboard.exception.DataFetchException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * KIS API 호출 한도 관리자 (appkey 단위 초당 거래건수 공유)
+ * - 모든 KIS REST 호출은 {@link #acquire(ApiPriority)}로 허가를 받은 뒤 전송
+ * - 토큰 버킷이 비면 우선순위 큐에 대기, 배분 스레드가 보충되는 토큰을 높은 우선순위부터 배분
+ *   (AUTH > FUTURES > NEAR_ATM_OPTIONS > ASKING_PRICE > BACKFILL, 같은 우선순위는 도착 순)
+ * - AIMD: 초당 한도 초과 응답(EGW00201, HTTP 429) 시 속도를 곱셈 감소, 정상 응답마다 초당 최대 속도까지 덧셈 증가
+ * - 대기열 초과 / 최대 대기시간 초과 시 거절 ({@link DataFetchException})
+ * - 지표: 현재 속도, 사용률(직전 1초 승인 건수 / 속도), 우선순위별 대기/승인/거절, TR_ID별 지연시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KisApiGovernor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${trading.kis.rest.rate-per-second:18}")
+    private double maxRate;
+
+    @Value("${trading.kis.rest.burst:5}")
+    private int burst;
+
+    @Value("${trading.kis.governor.min-rate:2}")
+    private double minRate;
+
+    @Value("${trading.kis.governor.decrease-factor:0.5}")
+    private double decreaseFactor;
+
+    @Value("${trading.kis.governor.increase-per-second:1}")
+    private double increasePerSecond;
+
+    @Value("${trading.kis.governor.decrease-cooldown-ms:1000}")
+    private long decreaseCooldownMillis;
+
+    @Value("${trading.kis.governor.max-queued:500}")
+    private int maxQueued;
+
+    @Value("${trading.kis.governor.max-wait-ms:10000}")
+    private long maxWaitMillis;
+
+    private static final ApiPriority[] PRIORITIES = ApiPriority.values();
+
+    /**
+     * 대기 중인 호출
+     */
+    private static final class Waiter {
+        final ApiPriority priority;
+        final CountDownLatch granted = new CountDownLatch(1);
+
+        Waiter(ApiPriority priority) {
+            this.priority = priority;
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Map<ApiPriority, ArrayDeque<Waiter>> queues = new LinkedHashMap<>();
+    private int queued;
+
+    // 사용률 집계 (lock 보호): 현재 초 승인 건수 / 직전 초 승인 건수
+    private long windowSecond;
+    private int windowGrants;
+    private int previousGrants;
+
+    private TokenBucket limiter;
+    private Thread dispatcher;
+    private volatile boolean running;
+    private volatile long lastDecreaseNanos;
+
+    private final Map<ApiPriority, LongAdder> granted = new LinkedHashMap<>();
+    private final Map<ApiPriority, LongAdder> rejected = new LinkedHashMap<>();
+    private final LongAdder throttled = new LongAdder();
+    private final Map<String, Timer> latencies = new ConcurrentHashMap<>();
+    private Counter throttleCounter;
+
+    @PostConstruct
+    public void init() {
+        limiter = new TokenBucket(maxRate, burst);
+        for (ApiPriority priority : PRIORITIES) {
+            queues.put(priority, new ArrayDeque<>());
+            granted.put(priority, new LongAdder());
+            rejected.put(priority, new LongAdder());
+            registerMetrics(priority);
+        }
+        Gauge.builder("kis.governor.rate", this, KisApiGovernor::currentRate)
+                .description("Current request rate allowed by the AIMD controller")
+                .register(meterRegistry);
+        Gauge.builder("kis.governor.utilization", this, KisApiGovernor::utilization)
+                .description("Grants in the last second divided by the current rate")
+                .register(meterRegistry);
+        throttleCounter = Counter.builder("kis.governor.throttled").register(meterRegistry);
+
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "kis-governor");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+        log.info("[GOVERNOR] Budget {}/s (burst {}, min {}/s), queue {}, max wait {}ms",
+                maxRate, burst, minRate, maxQueued, maxWaitMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+    }
+
+    /**
+     * 호출 허가 획득 (필요 시 우선순위 큐에서 대기)
+     *
+     * @throws DataFetchException 대기열이 가득 찼거나 최대 대기시간 초과
+     */
+    public void acquire(ApiPriority priority) throws InterruptedException {
+        Waiter waiter;
+        lock.lock();
+        try {
+            // 먼저 기다리는 호출이 없을 때만 즉시 승인 (우선순위 역전 방지)
+            if (queued == 0 && limiter.tryAcquire()) {
+                grant(priority);
+                return;
+            }
+            ArrayDeque<Waiter> queue = queues.get(priority);
+            if (queue.size() >= maxQueued) {
+                rejected.get(priority).increment();
+                throw new DataFetchException("API budget queue full", "KisAPI", priority.name());
+            }
+            waiter = new Waiter(priority);
+            queue.addLast(waiter);
+            queued++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        boolean done;
+        try {
+            done = waiter.granted.await(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            if (withdraw(waiter)) {
+                throw e;
+            }
+            // 이미 승인됨: 허가는 사용하고 인터럽트 상태만 유지
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!done && withdraw(waiter)) {
+            rejected.get(priority).increment();
+            throw new DataFetchException("API budget wait exceeded " + maxWaitMillis + "ms", "KisAPI",
+                    priority.name());
+        }
+    }
+
+    /**
+     * 응답 반영: TR_ID별 지연시간 기록 + AIMD 속도 조정
+     */
+    public void onResponse(String trId, int status, String body, long elapsedNanos) {
+        latency(trId).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (status == 429 || (body != null && body.contains("EGW00201"))) {
+            throttled.increment();
+            throttleCounter.increment();
+            decrease();
+        } else if (body != null && body.contains("EGW00133")) {
+            // 토큰 발급 주기(1분 1회) 제한: 초당 거래건수와 무관하므로 속도는 유지
+            throttled.increment();
+            throttleCounter.increment();
+        } else if (status == 200) {
+            increase();
+        }
+    }
+
+    /**
+     * 전송 실패(I/O 오류) 시 지연시간만 기록
+     */
+    public void onFailure(String trId, long elapsedNanos) {
+        latency(trId).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public double currentRate() {
+        return limiter.getRate();
+    }
+
+    /**
+     * 직전 1초 승인 건수 / 현재 속도
+     */
+    public double utilization() {
+        lock.lock();
+        try {
+            long second = System.currentTimeMillis() / 1000;
+            int grants = second == windowSecond ? previousGrants : second == windowSecond + 1 ? windowGrants : 0;
+            return grants / limiter.getRate();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int queued(ApiPriority priority) {
+        lock.lock();
+        try {
+            return queues.get(priority).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 한도 상태 (대시보드 조회용)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("rate", Math.round(currentRate() * 100) / 100.0);
+        snapshot.put("maxRate", maxRate);
+        snapshot.put("utilization", Math.round(utilization() * 1000) / 1000.0);
+        snapshot.put("throttled", throttled.sum());
+        Map<String, Object> priorities = new LinkedHashMap<>();
+        for (ApiPriority priority : PRIORITIES) {
+            priorities.put(priority.name(), Map.of(
+                    "queued", queued(priority),
+                    "granted", granted.get(priority).sum(),
+                    "rejected", rejected.get(priority).sum()));
+        }
+        snapshot.put("priorities", priorities);
+        Map<String, Object> trLatency = new LinkedHashMap<>();
+        latencies.forEach((trId, timer) -> trLatency.put(trId, Map.of(
+                "count", timer.count(),
+                "meanMs", Math.round(timer.mean(TimeUnit.MILLISECONDS) * 10) / 10.0,
+                "maxMs", Math.round(timer.max(TimeUnit.MILLISECONDS) * 10) / 10.0)));
+        snapshot.put("latency", trLatency);
+        return snapshot;
+    }
+
+    /**
+     * 배분 루프: 토큰 1개를 확보한 뒤 그 시점에 가장 높은 우선순위의 대기 호출에 배분
+     * (토큰 대기 중 도착한 높은 우선순위 호출이 먼저 배분받음)
+     */
+    private void dispatchLoop() {
+        boolean holding = false;
+        try {
+            while (running) {
+                lock.lock();
+                try {
+                    while (queued == 0) {
+                        notEmpty.await();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (!holding) {
+                    limiter.acquire();
+                    holding = true;
+                }
+                lock.lock();
+                try {
+                    Waiter next = poll();
+                    if (next != null) {
+                        grant(next.priority);
+                        next.granted.countDown();
+                        holding = false;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Waiter poll() {
+        for (ApiPriority priority : PRIORITIES) {
+            Waiter waiter = queues.get(priority).pollFirst();
+            if (waiter != null) {
+                queued--;
+                return waiter;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 대기열에서 제거 (이미 승인되어 제거할 수 없으면 false)
+     */
+    private boolean withdraw(Waiter waiter) {
+        lock.lock();
+        try {
+            if (queues.get(waiter.priority).remove(waiter)) {
+                queued--;
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 승인 집계 (lock 보유 상태에서 호출)
+     */
+    private void grant(ApiPriority priority) {
+        granted.get(priority).increment();
+        long second = System.currentTimeMillis() / 1000;
+        if (second != windowSecond) {
+            previousGrants = second == windowSecond + 1 ? windowGrants : 0;
+            windowSecond = second;
+            windowGrants = 0;
+        }
+        windowGrants++;
+    }
+
+    private void decrease() {
+        long now = System.nanoTime();
+        // 같은 순간 전송된 요청들의 한도 초과 응답이 연달아 와도 한 번만 감소
+        if (now - lastDecreaseNanos < TimeUnit.MILLISECONDS.toNanos(decreaseCooldownMillis)) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        double rate = Math.max(minRate, limiter.getRate() * decreaseFactor);
+        limiter.setRate(rate);
+        log.warn("[GOVERNOR] Throttled by KIS, rate reduced to {}/s", String.format("%.1f", rate));
+    }
+
+    private void increase() {
+        double rate = limiter.getRate();
+        if (rate < maxRate) {
+            // 정상 응답 1건당 increase/rate → 초당 약 increasePerSecond 증가
+            limiter.setRate(Math.min(maxRate, rate + increasePerSecond / rate));
+        }
+    }
+
+    private Timer latency(String trId) {
+        return latencies.computeIfAbsent(trId, key -> Timer.builder("kis.rest.latency")
+                .description("KIS REST round trip per TR_ID")
+                .tag("tr_id", key)
+                .register(meterRegistry));
+    }
+
+    private void registerMetrics(ApiPriority priority) {
+        String tag = priority.name();
+        Gauge.builder("kis.governor.queued", this, governor -> governor.queued(priority))
+                .tag("priority", tag)
+                .register(meterRegistry);
+        FunctionCounter.builder("kis.governor.granted", granted.get(priority), LongAdder::sum)
+                .tag("priority", tag)
+                .register(meterRegistry);
+        FunctionCounter.builder("kis.governor.rejected", rejected.get(priority), LongAdder::sum)
+                .tag("priority", tag)
+                .register(meterRegistry);
+    }
+}
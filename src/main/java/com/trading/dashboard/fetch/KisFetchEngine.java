@@ -0,0 +1,246 @@
+package com.trading.dashboard.fetch;
+
+import com.trading.dashboard.exception.DataFetchException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * KIS REST 동시 조회 엔진
+ * - 종목별 조회를 가상 스레드로 동시에 실행하고 공유 HttpClient(HTTP/2 다중화)로 전송
+ * - 모든 요청(재시도 포함)은 {@link KisApiGovernor}의 우선순위별 허가를 받은 뒤 전송 → appkey 초당 한도 공유
+ * - 동시 요청 수 상한(max-in-flight), 일시적 오류(I/O 오류, 5xx, EGW00201)는 지수 백오프 재시도
+ * - 결과는 입력 순서 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KisFetchEngine {
+
+    private final HttpClient httpClient;
+    private final KisApiGovernor governor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${trading.kis.rest.max-in-flight:8}")
+    private int maxInFlight;
+
+    @Value("${trading.kis.rest.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${trading.kis.rest.retry-backoff-ms:200}")
+    private long retryBackoffMillis;
+
+    private Semaphore permits;
+    private ExecutorService executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private Timer requestTimer;
+    private Counter retryCounter;
+    private Counter failureCounter;
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(Math.max(1, maxInFlight));
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kis-fetch-", 0).factory());
+        requestTimer = Timer.builder("kis.rest.request")
+                .description("KIS REST round trip including retries")
+                .register(meterRegistry);
+        retryCounter = Counter.builder("kis.rest.retries").register(meterRegistry);
+        failureCounter = Counter.builder("kis.rest.failures").register(meterRegistry);
+        Gauge.builder("kis.rest.in-flight", inFlight, AtomicInteger::get).register(meterRegistry);
+        log.info("[KIS API] Fetch engine: in-flight {}, retries {}", maxInFlight, maxRetries);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 항목별 조회를 동시에 실행하고 입력 순서대로 결과 반환
+     * (조회 실패/예외 항목은 null, 호출 스레드 인터럽트 시 남은 작업 취소)
+     */
+    public <T, R> List<R> map(List<T> items, Function<T, R> task) {
+        return map(items, task, result -> {
+        });
+    }
+
+    /**
+     * map + 결과 스트리밍: 항목이 끝나는 즉시 (조회 스레드에서) onResult 호출 (null 결과 제외)
+     * - 입력 순서대로 제출 (먼저 받아야 할 항목을 앞에 배치)
+     * - onResult는 여러 스레드에서 동시에 호출될 수 있음
+     */
+    public <T, R> List<R> map(List<T> items, Function<T, R> task, Consumer<R> onResult) {
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(executor.submit(() -> {
+                R result = task.apply(item);
+                if (result != null) {
+                    onResult.accept(result);
+                }
+                return result;
+            }));
+        }
+        List<R> results = new ArrayList<>(items.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new DataFetchException("Interrupted while fetching", "KisAPI", String.valueOf(items.get(i)));
+            } catch (ExecutionException e) {
+                log.warn("Failed to fetch {}: {}", items.get(i), e.getCause().getMessage());
+                results.add(null);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 응답 본문: 정상(200)이면 바이트 스트림, 그 외에는 문자열 (한도 관리자/재시도 판단, 로그용)
+     * 스트림은 호출자가 닫아야 함 (try-with-resources)
+     */
+    public record Body(InputStream stream, String text) implements AutoCloseable {
+
+        @Override
+        public void close() throws IOException {
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+
+    private static final HttpResponse.BodyHandler<Body> STREAM_ON_SUCCESS = info -> info.statusCode() == 200
+            ? HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(),
+                    stream -> new Body(stream, null))
+            : HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8),
+                    text -> new Body(null, text));
+
+    /**
+     * 한도 허가 + 재시도를 거쳐 요청 전송
+     * 재시도를 모두 소진하면 마지막 응답을 그대로 반환 (응답 해석은 호출자 몫)
+     *
+     * @throws DataFetchException 한도 관리자가 거절 (대기열 초과 / 대기시간 초과)
+     */
+    public HttpResponse<String> send(HttpRequest request, ApiPriority priority)
+            throws IOException, InterruptedException {
+        return send(request, priority, HttpResponse.BodyHandlers.ofString(), Function.identity());
+    }
+
+    /**
+     * {@link #send(HttpRequest, ApiPriority)}와 같지만 정상 응답 본문을 String으로 만들지 않고 스트림으로 반환
+     * (스트리밍 파서로 바로 읽는 시세 조회용)
+     */
+    public HttpResponse<Body> stream(HttpRequest request, ApiPriority priority)
+            throws IOException, InterruptedException {
+        return send(request, priority, STREAM_ON_SUCCESS, Body::text);
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, ApiPriority priority, HttpResponse.BodyHandler<T> handler,
+            Function<T, String> text) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        try {
+            for (int attempt = 0; ; attempt++) {
+                HttpResponse<T> response;
+                try {
+                    response = sendOnce(request, priority, handler, text);
+                } catch (IOException e) {
+                    if (attempt >= maxRetries) {
+                        failureCounter.increment();
+                        throw e;
+                    }
+                    log.debug("[KIS API] Retrying {} after I/O error: {}", request.uri().getPath(), e.getMessage());
+                    backoff(attempt);
+                    continue;
+                }
+                if (!isTransient(response.statusCode(), text.apply(response.body()))) {
+                    return response;
+                }
+                if (attempt >= maxRetries) {
+                    failureCounter.increment();
+                    return response;
+                }
+                log.debug("[KIS API] Retrying {} after HTTP {}", request.uri().getPath(), response.statusCode());
+                backoff(attempt);
+            }
+        } finally {
+            requestTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T> HttpResponse<T> sendOnce(HttpRequest request, ApiPriority priority,
+            HttpResponse.BodyHandler<T> handler, Function<T, String> text) throws IOException, InterruptedException {
+        String trId = trId(request);
+        governor.acquire(priority);
+        permits.acquire();
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<T> response = httpClient.send(request, handler);
+            governor.onResponse(trId, response.statusCode(), text.apply(response.body()), System.nanoTime() - start);
+            return response;
+        } catch (IOException e) {
+            governor.onFailure(trId, System.nanoTime() - start);
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    /**
+     * 지표용 TR 식별자: tr_id 헤더, 없으면 경로 마지막 구간 (tokenP, Approval)
+     */
+    static String trId(HttpRequest request) {
+        return request.headers().firstValue("tr_id").orElseGet(() -> {
+            String path = request.uri().getPath();
+            return path.substring(path.lastIndexOf('/') + 1);
+        });
+    }
+
+    /**
+     * 재시도 대상: 429, 5xx (토큰 오류 EGW00121/EGW00123은 재시도해도 같은 결과이므로 제외)
+     */
+    static boolean isTransient(int status, String body) {
+        if (status == 429) {
+            return true;
+        }
+        if (status < 500) {
+            return false;
+        }
+        return body == null || !(body.contains("EGW00121") || body.contains("EGW00123"));
+    }
+
+    private void backoff(int attempt) throws InterruptedException {
+        retryCounter.increment();
+        long delay = retryBackoffMillis << attempt;
+        TimeUnit.MILLISECONDS.sleep(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+    }
+}
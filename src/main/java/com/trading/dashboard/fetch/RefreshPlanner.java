@@ -0,0 +1,77 @@
+package com.trading.dashboard.fetch;
+
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.state.FixedPoint;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * REST 재조회 대상 선정 (필드 그룹별 최신성 기준)
+ * - 가격 그룹(현재가/거래량): 실시간 체결 또는 REST로 갱신 → price SLA 초과 시 대상 (미구독/수신 끊김)
+ * - 분석 그룹(IV, Greeks, 미결제약정): REST로만 갱신 → analytics SLA 초과 시 대상 (옵션만)
+ * - 순서: 선물 → ATM에 가까운 옵션 → 거래량 많은 옵션, 상한(limit)까지만
+ */
+public final class RefreshPlanner {
+
+    /**
+     * 재조회 후보 (시각은 epoch millis, 0 = 갱신된 적 없음)
+     *
+     * @param strike          행사가 (고정소수점, 선물은 {@link FixedPoint#NULL})
+     * @param priceUpdatedAt  가격 그룹 최종 갱신 시각 (실시간 또는 REST)
+     * @param restUpdatedAt   REST 최종 반영 시각
+     */
+    public record Candidate(String symbol, OptionType optionType, long strike, long volume,
+            long priceUpdatedAt, long restUpdatedAt) {
+
+        public boolean isFutures() {
+            return optionType == null;
+        }
+    }
+
+    /**
+     * 계산 결과 (due: SLA를 넘긴 전체 종목 수, targets: 이번에 조회할 종목)
+     */
+    public record Plan(List<Candidate> targets, int due) {
+    }
+
+    private final long priceSlaMillis;
+    private final long analyticsSlaMillis;
+
+    public RefreshPlanner(long priceSlaMillis, long analyticsSlaMillis) {
+        this.priceSlaMillis = priceSlaMillis;
+        this.analyticsSlaMillis = analyticsSlaMillis;
+    }
+
+    /**
+     * @param center 기준 가격 (근월물 선물, 고정소수점 - 없으면 {@link FixedPoint#NULL}: 거래량 순만 적용)
+     * @param limit  이번 주기 조회 상한
+     */
+    public Plan plan(List<Candidate> candidates, long center, long nowMillis, int limit) {
+        List<Candidate> due = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (isStale(candidate, nowMillis)) {
+                due.add(candidate);
+            }
+        }
+        due.sort(Comparator.comparing(Candidate::isFutures).reversed()
+                .thenComparingLong(candidate -> distance(candidate, center))
+                .thenComparing(Comparator.comparingLong(Candidate::volume).reversed()));
+        return new Plan(List.copyOf(due.subList(0, Math.min(Math.max(0, limit), due.size()))), due.size());
+    }
+
+    boolean isStale(Candidate candidate, long nowMillis) {
+        if (nowMillis - candidate.priceUpdatedAt() > priceSlaMillis) {
+            return true;
+        }
+        return !candidate.isFutures() && nowMillis - candidate.restUpdatedAt() > analyticsSlaMillis;
+    }
+
+    private static long distance(Candidate candidate, long center) {
+        if (candidate.isFutures() || center == FixedPoint.NULL || candidate.strike() == FixedPoint.NULL) {
+            return 0;
+        }
+        return Math.abs(candidate.strike() - center);
+    }
+}
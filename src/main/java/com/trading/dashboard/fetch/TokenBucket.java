@@ -0,0 +1,91 @@
+package com.trading.dashboard.fetch;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 토큰 버킷 속도 제한기 (초당 rate개 보충, 최대 burst개 적립)
+ * - 토큰이 없으면 다음 보충 시각을 예약하고 그만큼 대기 (대기 순서대로 배분)
+ * - 가상 스레드에서 대기해도 캐리어 스레드를 점유하지 않음 (parkNanos)
+ */
+public final class TokenBucket {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final int burst;
+    private double ratePerSecond;
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucket(double ratePerSecond, int burst) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate must be > 0 and burst >= 1");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.tokens = burst;
+        this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 획득 (필요 시 대기)
+     */
+    public void acquire() throws InterruptedException {
+        long deadline = System.nanoTime() + reserve(System.nanoTime());
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    /**
+     * 대기 없이 토큰 1개 획득 시도
+     */
+    public synchronized boolean tryAcquire() {
+        refill(System.nanoTime());
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 토큰 1개 예약 후 대기해야 할 시간(ns) 반환 - 토큰이 음수가 되면 뒤에 온 요청일수록 오래 대기
+     */
+    synchronized long reserve(long now) {
+        refill(now);
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) (-tokens * SECOND / ratePerSecond);
+    }
+
+    public synchronized double getRate() {
+        return ratePerSecond;
+    }
+
+    /**
+     * 보충 속도 변경 (이미 예약된 대기는 유지)
+     */
+    public synchronized void setRate(double ratePerSecond) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("rate must be > 0");
+        }
+        refill(System.nanoTime());
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - refilledAt;
+        if (elapsed > 0) {
+            tokens = Math.min(burst, tokens + elapsed * ratePerSecond / SECOND);
+            refilledAt = now;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.trading.dashboard.fetch;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 가중치 라운드로빈 (stride scheduling)
+ * - 항목마다 pass 값을 두고 가장 작은 항목을 선택한 뒤 pass += 1/weight
+ * - 장기적으로 선택 빈도가 가중치에 비례하고, 가중치가 작아도 굶지 않음
+ * - 항목 교체 시 기존 항목의 pass는 유지, 새 항목은 현재 최소 pass에서 시작 (몰아서 선택되지 않도록)
+ * - 단일 스레드 전용
+ */
+public final class WeightedRoundRobin {
+
+    private static final class Entry {
+        double weight;
+        double pass;
+    }
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * 대상 목록/가중치 교체 (weight ≤ 0 항목은 제외)
+     */
+    public void update(Map<String, Double> weights) {
+        double base = minPass();
+        entries.keySet().retainAll(weights.keySet());
+        weights.forEach((key, weight) -> {
+            if (weight == null || weight <= 0) {
+                entries.remove(key);
+                return;
+            }
+            Entry entry = entries.computeIfAbsent(key, k -> {
+                Entry created = new Entry();
+                created.pass = base;
+                return created;
+            });
+            entry.weight = weight;
+        });
+    }
+
+    /**
+     * 다음 항목 (대상이 없으면 null)
+     */
+    public String next() {
+        String best = null;
+        Entry bestEntry = null;
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            Entry entry = e.getValue();
+            if (bestEntry == null || entry.pass < bestEntry.pass
+                    || (entry.pass == bestEntry.pass && e.getKey().compareTo(best) < 0)) {
+                best = e.getKey();
+                bestEntry = entry;
+            }
+        }
+        if (bestEntry != null) {
+            bestEntry.pass += 1.0 / bestEntry.weight;
+        }
+        return best;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private double minPass() {
+        double min = Double.MAX_VALUE;
+        for (Entry entry : entries.values()) {
+            min = Math.min(min, entry.pass);
+        }
+        return entries.isEmpty() ? 0 : min;
+    }
+}
@@ -0,0 +1,87 @@
+package com.trading.dashboard.journal;
+
+import java.nio.MappedByteBuffer;
+
+/**
+ * 저널 엔트리 (읽기용 재사용 객체)
+ * - 프레임 본문은 내부 char 배열에 디코딩되어 CharSequence로 제공 (다음 poll 전까지만 유효)
+ */
+public final class JournalEntry implements CharSequence {
+
+    private long sequence;
+    private long receivedNanos;
+    private long epochMillis;
+    private char[] chars = new char[512];
+    private int length;
+
+    public long sequence() {
+        return sequence;
+    }
+
+    /**
+     * 수신 시각 (System.nanoTime, 같은 프로세스 실행 내에서만 비교 의미 있음)
+     */
+    public long receivedNanos() {
+        return receivedNanos;
+    }
+
+    public long epochMillis() {
+        return epochMillis;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new String(chars, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+    void read(MappedByteBuffer buffer, int position, int byteLength) {
+        sequence = buffer.getLong(position + JournalFormat.OFFSET_SEQUENCE);
+        receivedNanos = buffer.getLong(position + JournalFormat.OFFSET_RECEIVED_NANOS);
+        epochMillis = buffer.getLong(position + JournalFormat.OFFSET_EPOCH_MILLIS);
+        decode(buffer, position + JournalFormat.ENTRY_HEADER, byteLength);
+    }
+
+    /**
+     * UTF-8 디코딩 (JournalWriter.encode의 역)
+     */
+    private void decode(MappedByteBuffer buffer, int offset, int byteLength) {
+        if (chars.length < byteLength) {
+            chars = new char[Math.max(byteLength, chars.length * 2)];
+        }
+        int n = 0;
+        int p = offset;
+        int end = offset + byteLength;
+        while (p < end) {
+            int b = buffer.get(p++) & 0xFF;
+            if (b < 0x80) {
+                chars[n++] = (char) b;
+            } else if (b < 0xE0) {
+                chars[n++] = (char) (((b & 0x1F) << 6) | (buffer.get(p++) & 0x3F));
+            } else if (b < 0xF0) {
+                chars[n++] = (char) (((b & 0x0F) << 12) | ((buffer.get(p++) & 0x3F) << 6)
+                        | (buffer.get(p++) & 0x3F));
+            } else {
+                int cp = ((b & 0x07) << 18) | ((buffer.get(p++) & 0x3F) << 12)
+                        | ((buffer.get(p++) & 0x3F) << 6) | (buffer.get(p++) & 0x3F);
+                chars[n++] = Character.highSurrogate(cp);
+                chars[n++] = Character.lowSurrogate(cp);
+            }
+        }
+        length = n;
+    }
+}
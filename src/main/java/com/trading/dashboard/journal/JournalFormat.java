@@ -0,0 +1,131 @@
+package com.trading.dashboard.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 원본 프레임 저널 파일 형식
+ *
+ * <pre>
+ * 세그먼트 파일: {yyyyMMdd}-{DAY|NIGHT}-{0000}.journal (고정 크기로 미리 할당)
+ *   헤더 (16B): magic(int) | version(int) | segmentIndex(int) | reserved(int)
+ *   엔트리 (8B 정렬):
+ *     length(int, 마지막에 release 기록) | reserved(int) | sequence(long)
+ *     | receivedNanos(long) | epochMillis(long) | payload(UTF-8, length 바이트)
+ *   length == 0  : 아직 기록되지 않음 (tail 대기)
+ *   length == -1 : 세그먼트 끝 (다음 세그먼트로 이동)
+ * </pre>
+ *
+ * 세션 구분 (KST): 05:00~17:59는 당일 DAY, 18:00~익일 04:59는 당일 NIGHT
+ */
+public final class JournalFormat {
+
+    public static final int MAGIC = 0x4B4A4E4C; // "KJNL"
+    public static final int VERSION = 1;
+    public static final int FILE_HEADER = 16;
+    public static final int ENTRY_HEADER = 32;
+    public static final int END_OF_SEGMENT = -1;
+    public static final String SUFFIX = ".journal";
+    // 초기화 중인 세그먼트 (segments() 목록에서 제외됨)
+    static final String TEMP_SUFFIX = ".tmp";
+
+    static final int OFFSET_LENGTH = 0;
+    static final int OFFSET_SEQUENCE = 8;
+    static final int OFFSET_RECEIVED_NANOS = 16;
+    static final int OFFSET_EPOCH_MILLIS = 24;
+
+    static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /**
+     * 매핑 버퍼의 length 필드 접근 (release 쓰기 / acquire 읽기)
+     */
+    static final VarHandle INT_VIEW = MethodHandles.byteBufferViewVarHandle(int[].class, ORDER);
+
+    static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private static final int DAY_START_HOUR = 5;
+    private static final int NIGHT_START_HOUR = 18;
+
+    private JournalFormat() {
+    }
+
+    static int align(int size) {
+        return (size + 7) & ~7;
+    }
+
+    /**
+     * 수신 시각이 속한 세션 키 (예: 20260105-DAY)
+     */
+    public static String sessionKey(long epochMillis) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), KST);
+        int hour = time.getHour();
+        LocalDate date = time.toLocalDate();
+        if (hour < DAY_START_HOUR) {
+            return format(date.minusDays(1)) + "-NIGHT";
+        }
+        return format(date) + (hour < NIGHT_START_HOUR ? "-DAY" : "-NIGHT");
+    }
+
+    /**
+     * 세션 키가 바뀌는 다음 시각 (epoch millis)
+     */
+    static long nextSessionBoundary(long epochMillis) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), KST);
+        LocalDate date = time.toLocalDate();
+        LocalDateTime next;
+        if (time.getHour() < DAY_START_HOUR) {
+            next = date.atTime(DAY_START_HOUR, 0);
+        } else if (time.getHour() < NIGHT_START_HOUR) {
+            next = date.atTime(NIGHT_START_HOUR, 0);
+        } else {
+            next = date.plusDays(1).atTime(DAY_START_HOUR, 0);
+        }
+        return next.atZone(KST).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 저널 디렉터리의 세그먼트 파일 (이름순 = 기록순)
+     */
+    public static List<Path> segments(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String segmentName(String sessionKey, int index) {
+        return String.format("%s-%04d%s", sessionKey, index, SUFFIX);
+    }
+
+    static String sessionOf(String fileName) {
+        int dash = fileName.lastIndexOf('-');
+        return dash > 0 ? fileName.substring(0, dash) : fileName;
+    }
+
+    static int indexOf(String fileName) {
+        int dash = fileName.lastIndexOf('-');
+        int dot = fileName.lastIndexOf('.');
+        return Integer.parseInt(fileName.substring(dash + 1, dot));
+    }
+
+    private static String format(LocalDate date) {
+        return String.format("%04d%02d%02d", date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+}
@@ -0,0 +1,206 @@
+package com.trading.dashboard.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.trading.dashboard.journal.JournalFormat.*;
+
+/**
+ * 저널 읽기 / tail (다른 스레드 또는 다른 프로세스에서 사용 가능)
+ * - length를 acquire로 읽어 기록이 끝난 엔트리만 전달
+ * - 세그먼트 끝 표시를 만나면 다음 세그먼트로 이동
+ * - 기록이 멈춘 세그먼트(비정상 종료) 뒤에 새 세그먼트가 생기면 다음 세그먼트로 이동
+ * - 가장 최근 세그먼트의 헤더가 아직 없으면 준비 중으로 보고 다음 조회 때 다시 시도
+ */
+public final class JournalReader implements Closeable {
+
+    @FunctionalInterface
+    public interface Handler {
+        void onEntry(JournalEntry entry);
+    }
+
+    private static final long SEGMENT_CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final Path directory;
+    private final JournalEntry entry = new JournalEntry();
+
+    private Path segment;
+    private MappedByteBuffer buffer;
+    private int position;
+    private long lastSequence;
+    private long lastSegmentCheckNanos;
+
+    private JournalReader(Path directory, Path segment) {
+        this.directory = directory;
+        this.segment = segment;
+    }
+
+    /**
+     * 저널 디렉터리 전체를 처음부터 읽기 (이후 tail)
+     */
+    public static JournalReader open(Path directory) {
+        return new JournalReader(directory, null);
+    }
+
+    /**
+     * 단일 세그먼트만 읽기
+     */
+    public static JournalReader ofSegment(Path segment) {
+        JournalReader reader = new JournalReader(null, segment);
+        reader.map(segment);
+        return reader;
+    }
+
+    /**
+     * 읽을 수 있는 엔트리를 모두 전달
+     *
+     * @return 전달한 엔트리 수 (0이면 현재 새 데이터 없음)
+     */
+    public int poll(Handler handler) {
+        return poll(handler, Integer.MAX_VALUE);
+    }
+
+    public int poll(Handler handler, int limit) {
+        int count = 0;
+        while (count < limit) {
+            if (buffer == null && !advance()) {
+                break;
+            }
+            int length = lengthAt(position);
+            if (length == END_OF_SEGMENT) {
+                if (!advance()) {
+                    break;
+                }
+                continue;
+            }
+            if (length == 0) {
+                // 비정상 종료로 멈춘 세그먼트: 더 새로운 세그먼트가 있으면 이동
+                if (advance()) {
+                    continue;
+                }
+                break;
+            }
+            entry.read(buffer, position, length);
+            position += align(ENTRY_HEADER + length);
+            lastSequence = entry.sequence();
+            handler.onEntry(entry);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 지정 시퀀스 직전까지 건너뛰기 (이후 poll은 fromSequence부터)
+     */
+    public void skipTo(long fromSequence) {
+        while (true) {
+            if (buffer == null && !advance()) {
+                return;
+            }
+            int length = lengthAt(position);
+            if (length == END_OF_SEGMENT) {
+                if (!advance()) {
+                    return;
+                }
+                continue;
+            }
+            if (length == 0 || buffer.getLong(position + OFFSET_SEQUENCE) >= fromSequence) {
+                return;
+            }
+            lastSequence = buffer.getLong(position + OFFSET_SEQUENCE);
+            position += align(ENTRY_HEADER + length);
+        }
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    public Path currentSegment() {
+        return segment;
+    }
+
+    @Override
+    public void close() {
+        buffer = null;
+    }
+
+    private int lengthAt(int offset) {
+        return offset <= buffer.capacity() - 4
+                ? (int) INT_VIEW.getAcquire(buffer, offset)
+                : END_OF_SEGMENT;
+    }
+
+    /**
+     * 다음 세그먼트로 이동 (디렉터리 조회는 일정 간격으로 제한)
+     */
+    private boolean advance() {
+        if (directory == null) {
+            return false;
+        }
+        long now = System.nanoTime();
+        if (buffer != null && now - lastSegmentCheckNanos < SEGMENT_CHECK_INTERVAL_NANOS) {
+            return false;
+        }
+        lastSegmentCheckNanos = now;
+        Path next = nextSegment();
+        if (next == null) {
+            return false;
+        }
+        // 현재 위치가 그 사이에 기록되었으면 이동하지 않음
+        if (buffer != null && lengthAt(position) > 0) {
+            return false;
+        }
+        return map(next);
+    }
+
+    private Path nextSegment() {
+        List<Path> segments = JournalFormat.segments(directory);
+        for (Path candidate : segments) {
+            if (segment == null || candidate.getFileName().toString()
+                    .compareTo(segment.getFileName().toString()) > 0) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 세그먼트 매핑
+     *
+     * @return 헤더가 없는 가장 최근 세그먼트(기록기가 초기화 중)면 false, 상태는 그대로 유지
+     */
+    private boolean map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ORDER);
+            if (mapped.capacity() < FILE_HEADER || mapped.getInt(0) != MAGIC) {
+                if (isNewest(file)) {
+                    return false;
+                }
+                throw new IOException("Not a journal segment: " + file);
+            }
+            buffer = mapped;
+            segment = file;
+            position = FILE_HEADER;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isNewest(Path file) {
+        if (directory == null) {
+            return false;
+        }
+        List<Path> segments = JournalFormat.segments(directory);
+        return !segments.isEmpty() && segments.get(segments.size() - 1).equals(file);
+    }
+}
@@ -0,0 +1,233 @@
+package com.trading.dashboard.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import static com.trading.dashboard.journal.JournalFormat.*;
+
+/**
+ * 원본 프레임 저널 기록기 (단일 스레드 전용)
+ * - 고정 크기로 미리 할당한 세그먼트를 메모리 매핑해 순차 기록 (시스템 콜 없음)
+ * - 엔트리 본문을 먼저 쓰고 length를 release로 기록 → 다른 스레드/프로세스가 안전하게 tail 가능
+ * - 빈 프레임은 기록하지 않고 건수만 집계 (length 0은 항상 "아직 기록되지 않음")
+ * - 세그먼트가 가득 차거나 세션(DAY/NIGHT)이 바뀌면 끝 표시 후 다음 세그먼트로 교체
+ * - 새 세그먼트는 임시 이름으로 할당/헤더 기록 후 원자적 이름 변경 (tail 중인 reader가 빈 파일을 보지 않음)
+ * - 시작 시 마지막 세그먼트를 스캔해 시퀀스를 이어서 부여 (항상 새 세그먼트에서 기록 시작)
+ */
+@Slf4j
+public final class JournalWriter implements Closeable {
+
+    private final Path directory;
+    private final int segmentSize;
+
+    private volatile MappedByteBuffer buffer;
+    private String sessionKey;
+    private int segmentIndex;
+    private long sessionBoundary = Long.MIN_VALUE;
+    private int position;
+    private long sequence;
+
+    private long entries;
+    private long bytes;
+    private long oversized;
+    private long empty;
+    private long segmentsCreated;
+
+    public JournalWriter(Path directory, int segmentSize) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        this.sequence = recoverLastSequence(directory);
+    }
+
+    /**
+     * 프레임 기록
+     *
+     * @return 부여된 시퀀스 (빈 프레임이거나 세그먼트보다 큰 프레임이면 -1)
+     */
+    public long append(CharSequence frame, long receivedNanos, long epochMillis) throws IOException {
+        if (frame.length() == 0) {
+            // length 0으로 커밋하면 reader/시퀀스 복구가 미기록 엔트리로 보고 멈춤
+            empty++;
+            return -1;
+        }
+        if (buffer == null || epochMillis >= sessionBoundary) {
+            roll(JournalFormat.sessionKey(epochMillis), epochMillis);
+        }
+
+        int length = frame.length();
+        // UTF-8 최악의 경우(3바이트/문자) + 끝 표시 공간 확보
+        int worst = align(ENTRY_HEADER + length * 3);
+        if (worst > segmentSize - FILE_HEADER - 8) {
+            oversized++;
+            return -1;
+        }
+        if (position + worst > segmentSize - 8) {
+            roll(sessionKey, epochMillis);
+        }
+
+        MappedByteBuffer buf = buffer;
+        int start = position;
+        int written = encode(frame, buf, start + ENTRY_HEADER);
+        long seq = ++sequence;
+        buf.putLong(start + OFFSET_SEQUENCE, seq);
+        buf.putLong(start + OFFSET_RECEIVED_NANOS, receivedNanos);
+        buf.putLong(start + OFFSET_EPOCH_MILLIS, epochMillis);
+        INT_VIEW.setRelease(buf, start + OFFSET_LENGTH, written);
+
+        position = start + align(ENTRY_HEADER + written);
+        entries++;
+        bytes += written;
+        return seq;
+    }
+
+    /**
+     * 현재 세그먼트를 디스크에 동기화 (다른 스레드에서 호출 가능)
+     */
+    public void force() {
+        MappedByteBuffer buf = buffer;
+        if (buf != null) {
+            buf.force();
+        }
+    }
+
+    public long lastSequence() {
+        return sequence;
+    }
+
+    public long entries() {
+        return entries;
+    }
+
+    public long bytes() {
+        return bytes;
+    }
+
+    public long oversized() {
+        return oversized;
+    }
+
+    public long empty() {
+        return empty;
+    }
+
+    public long segmentsCreated() {
+        return segmentsCreated;
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    @Override
+    public void close() {
+        MappedByteBuffer buf = buffer;
+        if (buf != null) {
+            INT_VIEW.setRelease(buf, position, END_OF_SEGMENT);
+            buf.force();
+            buffer = null;
+        }
+    }
+
+    private void roll(String nextSession, long epochMillis) throws IOException {
+        close();
+        if (!nextSession.equals(sessionKey)) {
+            sessionKey = nextSession;
+            segmentIndex = nextIndex(nextSession);
+        } else {
+            segmentIndex++;
+        }
+        sessionBoundary = JournalFormat.nextSessionBoundary(epochMillis);
+
+        Path file = directory.resolve(segmentName(sessionKey, segmentIndex));
+        Path pending = directory.resolve(file.getFileName() + TEMP_SUFFIX);
+        // 비정상 종료로 남은 임시 파일은 이전 데이터가 섞이지 않도록 새로 생성
+        Files.deleteIfExists(pending);
+        MappedByteBuffer mapped;
+        try (RandomAccessFile raf = new RandomAccessFile(pending.toFile(), "rw")) {
+            raf.setLength(segmentSize);
+            mapped = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            mapped.order(ORDER);
+            mapped.putInt(0, MAGIC);
+            mapped.putInt(4, VERSION);
+            mapped.putInt(8, segmentIndex);
+        }
+        // 매핑은 이름 변경 후에도 같은 파일을 가리킴
+        Files.move(pending, file, StandardCopyOption.ATOMIC_MOVE);
+        buffer = mapped;
+        position = FILE_HEADER;
+        segmentsCreated++;
+        log.info("[JOURNAL] Segment opened: {}", file.getFileName());
+    }
+
+    private int nextIndex(String session) {
+        int next = 0;
+        for (Path segment : JournalFormat.segments(directory)) {
+            String name = segment.getFileName().toString();
+            if (session.equals(sessionOf(name))) {
+                next = Math.max(next, indexOf(name) + 1);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * 마지막 세그먼트의 마지막 시퀀스 (없으면 0)
+     */
+    private static long recoverLastSequence(Path directory) throws IOException {
+        List<Path> segments = JournalFormat.segments(directory);
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            try (JournalReader reader = JournalReader.ofSegment(segments.get(i))) {
+                long last = -1;
+                while (reader.poll(entry -> {
+                }) > 0) {
+                    last = reader.lastSequence();
+                }
+                if (last > 0) {
+                    return last;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * UTF-8 인코딩 (할당 없이 매핑 버퍼에 직접 기록)
+     *
+     * @return 기록한 바이트 수
+     */
+    static int encode(CharSequence src, MappedByteBuffer dst, int offset) {
+        int p = offset;
+        int length = src.length();
+        for (int i = 0; i < length; i++) {
+            char c = src.charAt(i);
+            if (c < 0x80) {
+                dst.put(p++, (byte) c);
+            } else if (c < 0x800) {
+                dst.put(p++, (byte) (0xC0 | (c >> 6)));
+                dst.put(p++, (byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                    && Character.isLowSurrogate(src.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, src.charAt(++i));
+                dst.put(p++, (byte) (0xF0 | (cp >> 18)));
+                dst.put(p++, (byte) (0x80 | ((cp >> 12) & 0x3F)));
+                dst.put(p++, (byte) (0x80 | ((cp >> 6) & 0x3F)));
+                dst.put(p++, (byte) (0x80 | (cp & 0x3F)));
+            } else {
+                dst.put(p++, (byte) (0xE0 | (c >> 12)));
+                dst.put(p++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+                dst.put(p++, (byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        return p - offset;
+    }
+}
@@ -0,0 +1,152 @@
+package com.trading.dashboard.journal;
+
+import com.trading.dashboard.config.DataSourceMode;
+import com.trading.dashboard.feed.FrameSlot;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KIS 원본 프레임 저널
+ * - journal 스테이지: 링버퍼 슬롯의 원본 프레임을 수신 시각/시퀀스와 함께 기록
+ *   (WebSocket 수신 스레드는 링버퍼 복사만 수행하므로 저널 기록 비용을 부담하지 않음)
+ * - 동기화 정책: NONE(OS에 위임), INTERVAL(주기적 force), BATCH(배치 끝마다 force)
+ * - 기록된 저널은 {@link JournalReader}로 다른 스레드/프로세스에서 tail 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TickJournal {
+
+    public enum FsyncPolicy {
+        NONE, INTERVAL, BATCH
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final DataSourceMode dataSourceMode;
+
+    @Value("${trading.journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.journal.dir:./data/journal}")
+    private String directory;
+
+    @Value("${trading.journal.segment-size:67108864}")
+    private int segmentSize;
+
+    @Value("${trading.journal.fsync:INTERVAL}")
+    private FsyncPolicy fsyncPolicy;
+
+    @Value("${trading.journal.fsync-interval-ms:1000}")
+    private long fsyncIntervalMillis;
+
+    private JournalWriter writer;
+    private ScheduledExecutorService syncer;
+
+    @PostConstruct
+    public void open() {
+        if (dataSourceMode.isReplay()) {
+            // 재생 중인 저널에 같은 프레임을 다시 기록하지 않음
+            enabled = false;
+        }
+        if (!enabled) {
+            log.info("[JOURNAL] Disabled");
+            return;
+        }
+        try {
+            writer = new JournalWriter(Path.of(directory), segmentSize);
+        } catch (IOException e) {
+            log.error("[JOURNAL] Failed to open {}: {}", directory, e.getMessage());
+            enabled = false;
+            return;
+        }
+        registerMetrics();
+
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "kis-journal-sync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            syncer.scheduleWithFixedDelay(this::forceQuietly, fsyncIntervalMillis, fsyncIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+        log.info("[JOURNAL] Opened {} (segment: {} bytes, fsync: {}, last sequence: {})",
+                writer.directory().toAbsolutePath(), segmentSize, fsyncPolicy, writer.lastSequence());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * journal 스테이지: 원본 프레임 기록
+     */
+    public void onFrame(FrameSlot slot, long sequence, boolean endOfBatch) throws IOException {
+        if (writer.append(slot, slot.receivedNanos(), slot.receivedMillis()) < 0 && slot.length() > 0) {
+            log.warn("[JOURNAL] Frame larger than segment skipped ({} chars)", slot.length());
+        }
+        if (endOfBatch && fsyncPolicy == FsyncPolicy.BATCH) {
+            writer.force();
+        }
+    }
+
+    /**
+     * 마지막으로 부여한 저널 시퀀스 (비활성이면 0)
+     */
+    public long lastSequence() {
+        return writer != null ? writer.lastSequence() : 0;
+    }
+
+    /**
+     * 세그먼트 끝 표시 후 동기화 (파이프라인이 이 빈에 의존하므로 링버퍼 종료 후 호출됨)
+     */
+    @PreDestroy
+    public void close() {
+        if (syncer != null) {
+            syncer.shutdownNow();
+        }
+        if (writer != null) {
+            writer.close();
+            log.info("[JOURNAL] Closed (entries: {}, last sequence: {})", writer.entries(), writer.lastSequence());
+        }
+    }
+
+    private void forceQuietly() {
+        try {
+            writer.force();
+        } catch (Exception e) {
+            log.warn("[JOURNAL] Sync failed: {}", e.getMessage());
+        }
+    }
+
+    private void registerMetrics() {
+        JournalWriter w = writer;
+        FunctionCounter.builder("kis.journal.entries", w, JournalWriter::entries)
+                .description("Raw frames appended to the journal")
+                .register(meterRegistry);
+        FunctionCounter.builder("kis.journal.bytes", w, JournalWriter::bytes)
+                .description("Payload bytes appended to the journal")
+                .register(meterRegistry);
+        FunctionCounter.builder("kis.journal.oversized", w, JournalWriter::oversized)
+                .description("Frames skipped because they exceed a segment")
+                .register(meterRegistry);
+        FunctionCounter.builder("kis.journal.empty", w, JournalWriter::empty)
+                .description("Empty frames skipped (never committed with length 0)")
+                .register(meterRegistry);
+        Gauge.builder("kis.journal.sequence", w, JournalWriter::lastSequence)
+                .register(meterRegistry);
+    }
+}
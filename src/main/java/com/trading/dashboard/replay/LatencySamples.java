@@ -0,0 +1,38 @@
+package com.trading.dashboard.replay;
+
+import java.util.Arrays;
+
+/**
+ * 지연 샘플 (나노초) - 기록 스레드 1개 전용, 정렬 후 분위수 조회
+ */
+final class LatencySamples {
+
+    private long[] samples = new long[1 << 16];
+    private int count;
+
+    void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    int count() {
+        return count;
+    }
+
+    void sort() {
+        Arrays.sort(samples, 0, count);
+    }
+
+    /**
+     * 분위수 (nearest-rank, sort 이후 호출, 샘플 없으면 0)
+     */
+    long percentile(double percent) {
+        if (count == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * count);
+        return samples[Math.min(Math.max(rank, 1), count) - 1];
+    }
+}
@@ -0,0 +1,78 @@
+package com.trading.dashboard.replay;
+
+import java.util.Arrays;
+
+/**
+ * 프레임 게시 → 상태 반영 → 스냅샷 게시 → 브로드캐스트 구간별 지연 추적
+ * - state 스테이지: 상태를 바꾼 체결 프레임마다 (게시 시각, 반영 후 상태 변경 카운터)를 대기열에 기록
+ * - 스냅샷 게시/브로드캐스트 시 그 스냅샷의 변경 카운터 이하인 대기 프레임을 처음 반영된 것으로 보고 지연 기록
+ * - 기록 스레드(state 스테이지, 게시 스레드, 전송 스레드)가 다르므로 모든 메서드 동기화 (리플레이 중에만 사용)
+ */
+final class PropagationTracker {
+
+    private final LatencySamples state = new LatencySamples();
+    private final LatencySamples snapshot = new LatencySamples();
+    private final LatencySamples broadcast = new LatencySamples();
+
+    private long[] changeCounts = new long[1 << 16];
+    private long[] receivedNanos = new long[1 << 16];
+    private int pending;
+    private long lastChangeCount = Long.MIN_VALUE;
+
+    private int snapshotCursor;
+    private int broadcastCursor;
+
+    /**
+     * 체결 프레임 상태 반영 (변경 카운터가 그대로면 스냅샷/브로드캐스트 추적 대상에서 제외)
+     */
+    synchronized void onApplied(long receivedAt, long appliedAt, long changeCount) {
+        state.record(appliedAt - receivedAt);
+        if (changeCount == lastChangeCount) {
+            return;
+        }
+        lastChangeCount = changeCount;
+        if (pending == changeCounts.length) {
+            changeCounts = Arrays.copyOf(changeCounts, pending * 2);
+            receivedNanos = Arrays.copyOf(receivedNanos, pending * 2);
+        }
+        changeCounts[pending] = changeCount;
+        receivedNanos[pending] = receivedAt;
+        pending++;
+    }
+
+    synchronized void onSnapshot(long stateChangeCount) {
+        snapshotCursor = reflect(snapshotCursor, stateChangeCount, snapshot);
+    }
+
+    synchronized void onBroadcast(long stateChangeCount) {
+        broadcastCursor = reflect(broadcastCursor, stateChangeCount, broadcast);
+    }
+
+    /**
+     * 상태를 바꾼 프레임이 모두 브로드캐스트되었는지
+     */
+    synchronized boolean broadcastCaughtUp() {
+        return broadcastCursor == pending;
+    }
+
+    synchronized ReplayReport.Latency state() {
+        return ReplayReport.Latency.of(state);
+    }
+
+    synchronized ReplayReport.Latency snapshot() {
+        return ReplayReport.Latency.of(snapshot);
+    }
+
+    synchronized ReplayReport.Latency broadcast() {
+        return ReplayReport.Latency.of(broadcast);
+    }
+
+    private int reflect(int cursor, long stateChangeCount, LatencySamples samples) {
+        long now = System.nanoTime();
+        while (cursor < pending && changeCounts[cursor] <= stateChangeCount) {
+            samples.record(now - receivedNanos[cursor]);
+            cursor++;
+        }
+        return cursor;
+    }
+}
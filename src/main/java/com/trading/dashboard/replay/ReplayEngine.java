@@ -0,0 +1,236 @@
+package com.trading.dashboard.replay;
+
+import com.trading.dashboard.feed.KisFrameDecoder;
+import com.trading.dashboard.feed.KisIngestPipeline;
+import com.trading.dashboard.feed.KisTick;
+import com.trading.dashboard.journal.JournalEntry;
+import com.trading.dashboard.journal.JournalFormat;
+import com.trading.dashboard.journal.JournalReader;
+import com.trading.dashboard.model.InstrumentType;
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.service.MarketClock;
+import com.trading.dashboard.service.OptionChainSnapshotPublisher;
+import com.trading.dashboard.state.MarketStateStore;
+import com.trading.dashboard.websocket.MarketDataWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 녹화된 KIS 원본 프레임 리플레이 (trading.data-source=REPLAY)
+ * - 저널({@link com.trading.dashboard.journal.TickJournal})의 프레임을 실시간 수신과 같은 진입점
+ *   ({@link KisIngestPipeline#publish})으로 게시 → decode/state/persist 스테이지가 그대로 동작
+ * - 재생 속도: trading.replay.speed (1 = 실시간, N = N배속, 0 = 최대 속도)
+ * - {@link MarketClock}을 프레임 수신 시각으로 맞춰 장 시간 판단/브로드캐스트가 녹화 당시처럼 동작
+ * - 종료 시 처리량과 지연 분위수를 리포트: 게시 → 브로드캐스트(종단 간), 게시 → 스냅샷, 게시 → 상태 반영
+ *   (마지막 프레임이 브로드캐스트될 때까지 최대 PROPAGATION_TIMEOUT 동안 대기)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "trading.data-source", havingValue = "REPLAY")
+public class ReplayEngine {
+
+    private static final long SPIN_THRESHOLD_NANOS = 50_000;
+    private static final long DRAIN_TIMEOUT_SECONDS = 30;
+    private static final int POLL_BATCH = 1024;
+    private static final long PROPAGATION_TIMEOUT_MILLIS = 5_000;
+
+    private final KisIngestPipeline ingestPipeline;
+    private final MarketStateStore marketStateStore;
+    private final MarketClock marketClock;
+    private final OptionChainSnapshotPublisher optionChainSnapshotPublisher;
+    private final MarketDataWebSocketHandler marketDataWebSocketHandler;
+
+    @Value("${trading.replay.path:./data/journal}")
+    private String path;
+
+    @Value("${trading.replay.speed:1.0}")
+    private double speed;
+
+    private volatile boolean running;
+    private volatile ReplayReport lastReport;
+    private Thread worker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        worker = new Thread(() -> {
+            try {
+                run();
+            } catch (Exception e) {
+                log.error("[REPLAY] Failed: {}", e.getMessage(), e);
+            }
+        }, "kis-replay");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    public ReplayReport getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * 녹화 전체 재생 (호출 스레드에서 실행, 실시간 WebSocket 수신과 동시에 실행 금지)
+     */
+    public ReplayReport run() {
+        running = true;
+        List<Path> segments = segments(Path.of(path));
+        if (segments.isEmpty()) {
+            log.warn("[REPLAY] No journal segments found: {}", Path.of(path).toAbsolutePath());
+            return null;
+        }
+        int instruments = registerInstruments(segments);
+        log.info("[REPLAY] Replaying {} segments ({} instruments, speed: {})",
+                segments.size(), instruments, speed == 0 ? "max" : speed + "x");
+
+        // 프레임 게시 시각을 상태 변경 카운터로 스냅샷/브로드캐스트까지 추적
+        PropagationTracker tracker = new PropagationTracker();
+        ingestPipeline.setLatencyProbe((receivedNanos, appliedNanos) ->
+                tracker.onApplied(receivedNanos, appliedNanos, marketStateStore.changeCount()));
+        optionChainSnapshotPublisher.setPublishProbe(tracker::onSnapshot);
+        marketDataWebSocketHandler.setBroadcastProbe(tracker::onBroadcast);
+
+        Replayer replayer = new Replayer();
+        Duration elapsed;
+        try {
+            for (Path segment : segments) {
+                try (JournalReader reader = JournalReader.ofSegment(segment)) {
+                    while (running && reader.poll(replayer, POLL_BATCH) > 0) {
+                        // 배치마다 중지 요청 확인
+                    }
+                }
+            }
+            if (!ingestPipeline.drain(DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("[REPLAY] Pipeline did not drain within {}s", DRAIN_TIMEOUT_SECONDS);
+            }
+            elapsed = Duration.ofNanos(System.nanoTime() - replayer.startNanos);
+            awaitBroadcast(tracker);
+        } finally {
+            ingestPipeline.setLatencyProbe(null);
+            optionChainSnapshotPublisher.setPublishProbe(null);
+            marketDataWebSocketHandler.setBroadcastProbe(null);
+        }
+
+        long frames = replayer.frames;
+        double seconds = Math.max(elapsed.toNanos(), 1) / 1e9;
+        ReplayReport report = new ReplayReport(frames, instruments, speed, elapsed, frames / seconds,
+                tracker.state(), tracker.snapshot(), tracker.broadcast());
+        lastReport = report;
+        log.info("[REPLAY] Completed: {}", report.summary());
+        return report;
+    }
+
+    /**
+     * 마지막 상태 변경이 정기 스냅샷 게시/브로드캐스트로 전송될 때까지 대기 (장 시간 밖이면 전송되지 않음)
+     */
+    private void awaitBroadcast(PropagationTracker tracker) {
+        long deadline = System.currentTimeMillis() + PROPAGATION_TIMEOUT_MILLIS;
+        while (running && !tracker.broadcastCaughtUp()) {
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("[REPLAY] Last changes were not broadcast within {}ms", PROPAGATION_TIMEOUT_MILLIS);
+                return;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    /**
+     * 녹화에 등장하는 종목을 상태 저장소에 등록 (REST 초기 로드 없이도 state 스테이지가 반영하도록)
+     */
+    private int registerInstruments(List<Path> segments) {
+        KisFrameDecoder decoder = new KisFrameDecoder();
+        KisTick tick = new KisTick();
+        int before = marketStateStore.size();
+        for (Path segment : segments) {
+            try (JournalReader reader = JournalReader.ofSegment(segment)) {
+                reader.poll(entry -> {
+                    if (!decoder.wrap(entry)) {
+                        return;
+                    }
+                    InstrumentType type = decoder.schema().instrumentType();
+                    while (decoder.next(tick)) {
+                        String symbol = tick.symbol();
+                        if (marketStateStore.get(symbol) == null) {
+                            marketStateStore.register(symbol, type, optionType(type, symbol));
+                        }
+                    }
+                });
+            }
+        }
+        return marketStateStore.size() - before;
+    }
+
+    /**
+     * 종목코드 첫 글자로 콜/풋 구분 (B: 콜, C: 풋)
+     */
+    private static OptionType optionType(InstrumentType type, String symbol) {
+        if (type != InstrumentType.OPTIONS) {
+            return null;
+        }
+        return symbol.charAt(0) == 'B' ? OptionType.CALL : OptionType.PUT;
+    }
+
+    /**
+     * 저널 디렉터리면 전체 세그먼트, 파일이면 해당 세그먼트만
+     */
+    private static List<Path> segments(Path source) {
+        if (Files.isRegularFile(source)) {
+            return List.of(source);
+        }
+        return JournalFormat.segments(source);
+    }
+
+    /**
+     * 녹화 시각 간격을 배속에 맞춰 재현하며 게시
+     */
+    private final class Replayer implements JournalReader.Handler {
+
+        private final long startNanos = System.nanoTime();
+        private long firstMillis = Long.MIN_VALUE;
+        private long frames;
+
+        @Override
+        public void onEntry(JournalEntry entry) {
+            long recorded = entry.epochMillis();
+            if (firstMillis == Long.MIN_VALUE) {
+                firstMillis = recorded;
+            } else if (speed > 0) {
+                awaitUntil(startNanos + (long) ((recorded - firstMillis) * 1_000_000L / speed));
+            }
+            marketClock.set(recorded);
+            ingestPipeline.publish(entry, recorded);
+            frames++;
+        }
+    }
+
+    private static void awaitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
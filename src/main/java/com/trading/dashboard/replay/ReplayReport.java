@@ -0,0 +1,56 @@
+package com.trading.dashboard.replay;
+
+import java.time.Duration;
+
+/**
+ * 리플레이 실행 결과
+ *
+ * @param frames      게시한 전체 프레임 수
+ * @param instruments 녹화에서 찾아 등록한 종목 수
+ * @param speed       재생 배속 (0 = 최대 속도)
+ * @param elapsed     첫 게시부터 모든 스테이지 처리 완료까지 (처리량 기준)
+ * @param state       게시 → 상태 반영 (체결 프레임)
+ * @param snapshot    게시 → 그 프레임을 처음 반영한 체인 스냅샷 게시 (IV/Greeks 재계산 포함)
+ * @param broadcast   게시 → 그 프레임을 처음 반영한 /topic/option-chain 전송 (종단 간)
+ */
+public record ReplayReport(long frames, int instruments, double speed, Duration elapsed, double framesPerSecond,
+        Latency state, Latency snapshot, Latency broadcast) {
+
+    /**
+     * 구간 지연 분위수
+     *
+     * @param samples 측정된 프레임 수
+     */
+    public record Latency(long samples, double p50Micros, double p99Micros, double p999Micros, double maxMicros) {
+
+        static Latency of(LatencySamples latency) {
+            latency.sort();
+            return new Latency(latency.count(),
+                    latency.percentile(50) / 1e3,
+                    latency.percentile(99) / 1e3,
+                    latency.percentile(99.9) / 1e3,
+                    latency.percentile(100) / 1e3);
+        }
+
+        String summary() {
+            return String.format("n=%d p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+                    samples, p50Micros, p99Micros, p999Micros, maxMicros);
+        }
+    }
+
+    /**
+     * 상태 저장소에 반영된 체결 프레임 수
+     */
+    public long tickFrames() {
+        return state.samples();
+    }
+
+    public String summary() {
+        return String.format("frames=%d (ticks %d), instruments=%d, speed=%s, elapsed=%dms, %.0f frames/s%n"
+                        + "  end-to-end (publish -> broadcast): %s%n"
+                        + "  publish -> snapshot: %s%n"
+                        + "  publish -> state: %s",
+                frames, tickFrames(), instruments, speed == 0 ? "max" : speed + "x", elapsed.toMillis(),
+                framesPerSecond, broadcast.summary(), snapshot.summary(), state.summary());
+    }
+}
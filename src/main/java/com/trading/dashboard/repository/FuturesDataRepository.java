@@ -32,4 +32,6 @@ public interface FuturesDataRepository extends JpaRepository<FuturesData, Long>
     FuturesData findBySymbol(String symbol);
 
     java.util.Optional<FuturesData> findOptionalBySymbol(String symbol);
+
+    List<FuturesData> findBySymbolIn(java.util.Collection<String> symbols);
 }
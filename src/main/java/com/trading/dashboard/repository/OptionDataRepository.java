@@ -43,4 +43,6 @@ public interface OptionDataRepository extends JpaRepository<OptionData, Long> {
     java.util.Optional<OptionData> findBySymbol(String symbol);
 
     java.util.Optional<OptionData> findOptionalBySymbol(String symbol);
+
+    List<OptionData> findBySymbolIn(java.util.Collection<String> symbols);
 }
@@ -0,0 +1,158 @@
+package com.trading.dashboard.service;
+
+import com.trading.dashboard.config.DataSourceMode;
+import com.trading.dashboard.fetch.ApiPriority;
+import com.trading.dashboard.fetch.KisApiGovernor;
+import com.trading.dashboard.fetch.RefreshPlanner;
+import com.trading.dashboard.state.FixedPoint;
+import com.trading.dashboard.state.InstrumentState;
+import com.trading.dashboard.state.MarketStateStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 최신성 기반 REST 부분 갱신 (1시간 전체 재조회 대체)
+ * - 주기마다 종목별 필드 그룹 갱신 시각을 확인해 SLA를 넘긴 종목만 재조회 ({@link RefreshPlanner})
+ * - 실시간 체결로 가격이 최신인 옵션은 REST 전용 필드(IV, Greeks, 미결제약정)만 SLA마다 갱신
+ * - API 한도: 현재 허용 속도 × 주기 × budget-share 이내, 상위 우선순위 요청이 대기 중이면 이번 주기 생략
+ */
+@Slf4j
+@Lazy(false)
+@Service
+@RequiredArgsConstructor
+public class IncrementalRefresher {
+
+    private final KisApiService kisApiService;
+    private final MarketStateStore marketStateStore;
+    private final MarketStatusService marketStatusService;
+    private final KisApiGovernor governor;
+    private final MeterRegistry meterRegistry;
+    private final DataSourceMode dataSourceMode;
+
+    @Value("${trading.refresh.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.refresh.interval-ms:2000}")
+    private long intervalMillis;
+
+    @Value("${trading.refresh.price-sla-ms:10000}")
+    private long priceSlaMillis;
+
+    @Value("${trading.refresh.analytics-sla-ms:60000}")
+    private long analyticsSlaMillis;
+
+    @Value("${trading.refresh.budget-share:0.5}")
+    private double budgetShare;
+
+    @Value("${trading.refresh.max-batch:20}")
+    private int maxBatch;
+
+    @Value("${trading.refresh.max-utilization:0.8}")
+    private double maxUtilization;
+
+    private RefreshPlanner planner;
+    private final AtomicInteger due = new AtomicInteger();
+
+    private Counter refreshedCounter;
+    private Counter deferredCounter;
+
+    @PostConstruct
+    public void init() {
+        planner = new RefreshPlanner(priceSlaMillis, analyticsSlaMillis);
+        refreshedCounter = Counter.builder("kis.refresh.symbols")
+                .description("Symbols re-fetched by the incremental refresher")
+                .register(meterRegistry);
+        deferredCounter = Counter.builder("kis.refresh.deferred")
+                .description("Refresh passes skipped for lack of API budget")
+                .register(meterRegistry);
+        Gauge.builder("kis.refresh.due", due, AtomicInteger::get)
+                .description("Symbols past their staleness SLA")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주기적 부분 갱신 (장중만)
+     */
+    @Scheduled(fixedDelayString = "${trading.refresh.interval-ms:2000}",
+            initialDelayString = "${trading.refresh.initial-delay-ms:60000}")
+    public void refresh() {
+        if (!enabled || dataSourceMode.isReplay() || !marketStatusService.getMarketStatus().isOpen()) {
+            return;
+        }
+        try {
+            refreshOnce(System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error("[REFRESH] Incremental refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 1회 갱신
+     *
+     * @return 갱신된 종목 수
+     */
+    int refreshOnce(long nowMillis) {
+        List<RefreshPlanner.Candidate> candidates = new ArrayList<>();
+        InstrumentState front = null;
+        for (InstrumentState state : marketStateStore.slots()) {
+            candidates.add(new RefreshPlanner.Candidate(state.getSymbol(), state.getOptionType(),
+                    state.strikePrice(), state.volume(), state.updatedAtMillis(), state.restUpdatedAtMillis()));
+            if (state.isFutures() && state.currentPrice() != FixedPoint.NULL
+                    && (front == null || state.volume() > front.volume())) {
+                front = state;
+            }
+        }
+        long center = front != null ? front.currentPrice() : FixedPoint.NULL;
+
+        int budget = budget();
+        RefreshPlanner.Plan plan = planner.plan(candidates, center, nowMillis, budget);
+        due.set(plan.due());
+        if (plan.due() == 0) {
+            return 0;
+        }
+        if (plan.targets().isEmpty()) {
+            deferredCounter.increment();
+            log.debug("[REFRESH] {} stale symbols deferred (no API budget)", plan.due());
+            return 0;
+        }
+
+        List<String> futures = new ArrayList<>();
+        List<RefreshPlanner.Candidate> options = new ArrayList<>();
+        for (RefreshPlanner.Candidate target : plan.targets()) {
+            if (target.isFutures()) {
+                futures.add(target.symbol());
+            } else {
+                options.add(target);
+            }
+        }
+        int refreshed = kisApiService.refreshFutures(futures) + kisApiService.refreshOptions(options, center);
+        refreshedCounter.increment(refreshed);
+        log.debug("[REFRESH] {}/{} stale symbols refreshed ({} futures, {} options)",
+                refreshed, plan.due(), futures.size(), options.size());
+        return refreshed;
+    }
+
+    /**
+     * 이번 주기에 쓸 수 있는 조회 건수
+     * - 백필 요청이 이미 대기 중이거나 사용률이 높으면 0 (상위 우선순위 조회에 양보)
+     */
+    int budget() {
+        if (governor.queued(ApiPriority.BACKFILL) > 0 || governor.utilization() > maxUtilization) {
+            return 0;
+        }
+        int perPass = (int) (governor.currentRate() * intervalMillis / 1000.0 * budgetShare);
+        return Math.min(maxBatch, perPass);
+    }
+}
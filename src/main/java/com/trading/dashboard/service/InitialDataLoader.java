@@ -1,13 +1,16 @@
 package com.trading.dashboard.service;
 
+import com.trading.dashboard.config.DataSourceMode;
 import com.trading.dashboard.repository.FuturesDataRepository;
 import com.trading.dashboard.repository.OptionDataRepository;
+import com.trading.dashboard.universe.InstrumentUniverse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 애플리케이션 시작 시 KIS API로 데이터 로드
@@ -21,9 +24,16 @@ public class InitialDataLoader implements CommandLineRunner {
     private final OptionDataRepository optionDataRepository;
     private final KisApiService kisApiService;
     private final MarketDataService marketDataService;
+    private final InstrumentUniverse instrumentUniverse;
+    private final DataSourceMode dataSourceMode;
 
     @Override
     public void run(String... args) throws Exception {
+        if (dataSourceMode.isReplay()) {
+            log.info("[STARTUP] Replay mode - skipping KIS API load and WebSocket connection");
+            return;
+        }
+
         log.info("========================================");
         log.info("[STARTUP] Fast Startup Mode - Loading KIS API Data");
         log.info("========================================");
@@ -49,6 +59,11 @@ public class InitialDataLoader implements CommandLineRunner {
 
         // 재시작할 때마다 최신 데이터로 갱신 (오래된 데이터 방지)
         try {
+            // 조회 코드는 종목 마스터에서 가져오므로 기동 시 적재를 기다림
+            if (!instrumentUniverse.awaitLoaded(60, TimeUnit.SECONDS)) {
+                log.warn("[KIS API] Instrument master not loaded yet - continuing without it");
+            }
+
             if (existingFutures > 0 || existingOptions > 0) {
                 log.info("[KIS API] Clearing old data ({} futures, {} options)...",
                         existingFutures, existingOptions);
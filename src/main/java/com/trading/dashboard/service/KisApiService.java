@@ -3,25 +3,39 @@ package com.trading.dashboard.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.trading.dashboard.config.KisApiConfig;
-import com.trading.dashboard.exception.DataFetchException;
 import com.trading.dashboard.exception.DataParseException;
 import com.trading.dashboard.exception.TokenExpiredException;
+import com.trading.dashboard.fetch.ApiPriority;
+import com.trading.dashboard.fetch.KisFetchEngine;
+import com.trading.dashboard.fetch.RefreshPlanner;
 import com.trading.dashboard.model.*;
 import com.trading.dashboard.repository.FuturesDataRepository;
 import com.trading.dashboard.repository.OptionDataRepository;
+import com.trading.dashboard.state.FixedPoint;
+import com.trading.dashboard.state.MarketStateStore;
+import com.trading.dashboard.universe.Instrument;
+import com.trading.dashboard.universe.InstrumentUniverse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 한국투자증권 API 서비스
@@ -35,14 +49,58 @@ public class KisApiService {
     private final KisApiConfig config;
     private final FuturesDataRepository futuresDataRepository;
     private final OptionDataRepository optionDataRepository;
-    private final HttpClient httpClient;
     private final ObjectMapper objectMapper;
     private final TokenManager tokenManager;
     private final MarketStatusService marketStatusService;
+    private final MarketStateStore marketStateStore;
+    private final KisFetchEngine fetchEngine;
+    private final InstrumentUniverse instrumentUniverse;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // ATM ± 이 범위(pt) 안의 옵션 시세는 NEAR_ATM_OPTIONS, 바깥은 BACKFILL 우선순위로 조회
+    private static final int NEAR_ATM_RANGE = 10;
+
+    // 조회할 선물 월물 수 (최근월물부터)
+    private static final int FUTURES_MONTHS = 4;
+
+    private static final DateTimeFormatter EXPIRY_YYYYMM = DateTimeFormatter.ofPattern("yyyyMM");
 
     // 이전 조회의 평균 IV (변동성 기반 범위 조정용)
     private volatile Double previousAvgIV = null;
 
+    // 전광판 조회용 최근월물 만기년월 캐시 (조회 일자 기준)
+    private volatile String boardExpiry;
+    private volatile LocalDate boardExpiryDate;
+
+    // 기동 후 첫 토큰 발급 시에만 kis_token.cache 확인
+    private volatile boolean tokenFileChecked;
+
+    @Value("${trading.kis.option-board.enabled:true}")
+    private boolean optionBoardEnabled;
+
+    /**
+     * 옵션 체인 1회 적재 진행 상황 - 종목이 파싱되는 즉시 상태 저장소 반영 + {@link OptionChainLoadEvent} 발행
+     * (조회 스레드 여러 개에서 호출되므로 반영과 done 증가는 동기화, 리스너 호출은 모니터 밖에서)
+     */
+    private final class ChainLoad {
+        private final long startedAt = System.currentTimeMillis();
+        private final AtomicInteger done = new AtomicInteger();
+        private volatile int total;
+
+        void publish(OptionData option) {
+            OptionChainLoadEvent event;
+            synchronized (this) {
+                marketStateStore.upsertOption(option);
+                event = new OptionChainLoadEvent(startedAt, done.incrementAndGet(), total, option, false);
+            }
+            eventPublisher.publishEvent(event);
+        }
+
+        void complete() {
+            eventPublisher.publishEvent(new OptionChainLoadEvent(startedAt, done.get(), total, null, true));
+        }
+    }
+
     /**
      * 현재 야간장 시간인지 판단
      */
@@ -64,6 +122,7 @@ public class KisApiService {
             optionDataRepository.deleteAll();
             log.info("[KIS API] Cleared {} futures, {} options", futuresCount, optionsCount);
         }
+        marketStateStore.clear();
     }
 
     /**
@@ -77,36 +136,32 @@ public class KisApiService {
         List<FuturesData> futuresList = new ArrayList<>();
         LocalDateTime timestamp = LocalDateTime.now();
 
-        // 실제 KOSPI200 선물 종목코드
-        String[] futureCodes = {
-                "A01603", // 3월물
-                "A01606", // 6월물
-                "A01609", // 9월물
-                "A01612", // 12월물
-        };
+        // 종목 마스터의 상장 월물 (만기 지난 월물 제외, 최근월물부터)
+        List<String> futureCodes = instrumentUniverse.futures(InstrumentUniverse.KOSPI200).stream()
+                .limit(FUTURES_MONTHS)
+                .map(Instrument::code)
+                .toList();
+        if (futureCodes.isEmpty()) {
+            log.warn("[KIS API] No listed KOSPI200 futures in instrument universe");
+            return;
+        }
 
         // 시장 상태에 따라 시장구분코드 결정 (F:주간선물, CM:야간선물)
         boolean isNight = isNightMarket();
         String marketDivCode = isNight ? "CM" : "F";
         log.debug("[FUTURES] Market session: {} (marketDivCode: {})", isNight ? "Night" : "Day", marketDivCode);
 
-        for (String code : futureCodes) {
-            try {
-                FuturesData futures = fetchFuturesPrice(token, code, timestamp, marketDivCode);
-                if (futures != null) {
-                    futuresList.add(futures);
-                }
-                Thread.sleep(100); // API 요청 간격: 100ms (rate limit 고려)
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new DataFetchException("Interrupted while fetching futures", "KisAPI", code);
-            } catch (DataFetchException e) {
-                log.warn("Failed to fetch futures {}: {}", code, e.getMessage());
+        // 요청 간격은 fetchEngine의 속도 제한기가 조절
+        for (FuturesData futures : fetchEngine.map(futureCodes,
+                code -> fetchFuturesPrice(token, code, timestamp, marketDivCode))) {
+            if (futures != null) {
+                futuresList.add(futures);
             }
         }
 
         if (!futuresList.isEmpty()) {
-            futuresDataRepository.saveAll(futuresList);
+            saveFutures(futuresList);
+            futuresList.forEach(marketStateStore::upsertFutures);
             log.info("[KIS API] Loaded {} KOSPI200 futures", futuresList.size());
         }
     }
@@ -117,6 +172,7 @@ public class KisApiService {
      * @Transactional
      */
     public void loadKospi200Options() {
+        ChainLoad load = null;
         try {
             log.info("[KIS API] Loading KOSPI200 Options data...");
 
@@ -130,7 +186,7 @@ public class KisApiService {
             LocalDateTime timestamp = LocalDateTime.now();
 
             // 1. 선물 가격 조회로 기초자산 가격 추정
-            FuturesData nearestFutures = futuresDataRepository.findAll().stream()
+            FuturesData nearestFutures = marketStateStore.futures().stream()
                     .filter(f -> f.getVolume() > 0)
                     .findFirst()
                     .orElse(null);
@@ -166,51 +222,28 @@ public class KisApiService {
             log.debug("[OPTIONS] ATM Strike: {}, Range: {}~{} (±{}pt, underlying: {})",
                     atmStrike, strikeStart, strikeEnd, range, underlyingPrice);
 
-            // 실제 KOSPI200 옵션 종목코드 (2026년 1월물)
-            // 콜옵션 (Call): B01601{행사가}, 풋옵션 (Put): C01601{행사가}
-            // KOSPI200 옵션은 2.5pt 간격으로만 존재 (575.0, 577.5, 580.0, 582.5, ...)
-            List<String> optionCodes = new ArrayList<>();
-
-            // 2.5pt 간격으로 옵션 코드 생성
-            for (double strike = strikeStart; strike <= strikeEnd; strike += 2.5) {
-                int strikeInt = (int) strike; // 575.0 -> 575, 577.5 -> 577
-                String strikeCode = String.format("%03d", strikeInt);
-                optionCodes.add("B01601" + strikeCode); // 콜옵션
-                optionCodes.add("C01601" + strikeCode); // 풋옵션
-            }
-
-            int expectedStrikes = (int) ((strikeEnd - strikeStart) / 2.5) + 1;
-            log.info(
-                    "[OPTIONS] Querying {} contracts ({}~{}, {} strikes, ATM: {}, Range: ±{}pt)",
-                    optionCodes.size(), strikeStart, strikeEnd, expectedStrikes, atmStrike, range);
-
             // 시장 상태에 따라 시장구분코드 결정 (O:주간옵션, EU:야간옵션)
             boolean isNight = isNightMarket();
             String marketDivCode = isNight ? "EU" : "O";
             log.debug("[OPTIONS] Market session: {} (marketDivCode: {})", isNight ? "Night" : "Day", marketDivCode);
 
-            for (String code : optionCodes) {
-                try {
-                    // 옵션 타입 판별 (B = 콜, C = 푻)
-                    OptionType optionType = code.startsWith("B0160") ? OptionType.CALL : OptionType.PUT;
-
-                    // 행사가는 API 응답(acpr)에서 추출 (정확한 값 사용)
-                    OptionData option = fetchOptionPrice(token, code, optionType, timestamp, marketDivCode);
-                    if (option != null) {
-                        // 호가 정보 조회
-                        fetchOptionAskingPrice(token, option);
-                        optionsList.add(option);
-                    }
-
-                    Thread.sleep(100); // API 요청 간격: 100ms (rate limit 고려)
-
-                } catch (Exception e) {
-                    log.warn("Failed to fetch option {}: {}", code, e.getMessage());
-                }
+            // 4. 주간장: 전광판 1회 조회로 전체 체인, 실패하거나 야간장이면 종목별 조회
+            // 종목은 파싱되는 즉시 ATM 근접 순으로 상태 저장소 반영/발행 (UI는 체인을 점진적으로 표시)
+            load = new ChainLoad();
+            List<OptionData> board = optionBoardEnabled && !isNight
+                    ? fetchOptionBoard(token, timestamp, atmStrike, strikeStart, strikeEnd)
+                    : null;
+            if (board != null) {
+                load.total = board.size();
+                board.forEach(load::publish);
+                optionsList.addAll(board);
+            } else {
+                optionsList.addAll(fetchOptionsPerContract(token, timestamp, marketDivCode, atmStrike, strikeStart,
+                        strikeEnd, load));
             }
 
             if (!optionsList.isEmpty()) {
-                optionDataRepository.saveAll(optionsList);
+                saveOptions(optionsList);
                 log.info("[KIS API] Loaded {} KOSPI200 options", optionsList.size());
 
                 // 평균 IV 계산 및 캐싱 (다음 조회 시 범위 조정용)
@@ -228,7 +261,294 @@ public class KisApiService {
 
         } catch (Exception e) {
             log.error("Error loading KOSPI200 options: {}", e.getMessage(), e);
+        } finally {
+            if (load != null) {
+                load.complete();
+            }
+        }
+    }
+
+    /**
+     * 지정 선물만 재조회 (실시간 수신이 끊긴 종목)
+     *
+     * @return 갱신된 종목 수
+     */
+    public int refreshFutures(List<String> symbols) {
+        String token = symbols.isEmpty() ? null : getAccessToken();
+        if (token == null) {
+            return 0;
+        }
+        LocalDateTime timestamp = LocalDateTime.now();
+        String marketDivCode = isNightMarket() ? "CM" : "F";
+        List<FuturesData> futuresList = new ArrayList<>();
+        for (FuturesData futures : fetchEngine.map(symbols,
+                code -> fetchFuturesPrice(token, code, timestamp, marketDivCode))) {
+            if (futures != null) {
+                marketStateStore.upsertFutures(futures);
+                futuresList.add(futures);
+            }
+        }
+        saveFutures(futuresList);
+        return futuresList.size();
+    }
+
+    /**
+     * 지정 옵션만 재조회 (종목당 시세 1회, 호가 제외) - IV/Greeks/미결제약정 갱신
+     * 가격/거래량은 실시간 체결이 더 최신이면 유지 ({@link MarketStateStore#refreshOption})
+     *
+     * @param center ATM 기준 가격 (고정소수점, 우선순위 판단용 - 없으면 {@link FixedPoint#NULL})
+     * @return 갱신된 종목 수
+     */
+    public int refreshOptions(List<RefreshPlanner.Candidate> targets, long center) {
+        String token = targets.isEmpty() ? null : getAccessToken();
+        if (token == null) {
+            return 0;
+        }
+        LocalDateTime timestamp = LocalDateTime.now();
+        String marketDivCode = isNightMarket() ? "EU" : "O";
+        long nearAtm = FixedPoint.ofLong(NEAR_ATM_RANGE);
+        List<OptionData> fetched = fetchEngine.map(targets, target -> {
+            ApiPriority priority = center != FixedPoint.NULL && target.strike() != FixedPoint.NULL
+                    && Math.abs(target.strike() - center) <= nearAtm
+                    ? ApiPriority.NEAR_ATM_OPTIONS
+                    : ApiPriority.BACKFILL;
+            return fetchOptionPrice(token, target.symbol(), target.optionType(), timestamp, marketDivCode,
+                    priority);
+        });
+        List<OptionData> snapshots = new ArrayList<>();
+        for (OptionData option : fetched) {
+            if (option != null) {
+                snapshots.add(marketStateStore.refreshOption(option).toOptionData());
+            }
         }
+        saveOptions(snapshots);
+        return snapshots.size();
+    }
+
+    /**
+     * 옵션 1종목 시세 조회 (상태/DB 반영은 호출 측에서)
+     *
+     * @return 조회 결과, 실패 시 null
+     */
+    public OptionData pollOption(String symbol, OptionType type, ApiPriority priority) {
+        String token = getAccessToken();
+        if (token == null) {
+            return null;
+        }
+        String marketDivCode = isNightMarket() ? "EU" : "O";
+        return fetchOptionPrice(token, symbol, type, LocalDateTime.now(), marketDivCode, priority);
+    }
+
+    /**
+     * 종목코드 기준 upsert (이미 저장된 종목은 id를 이어받아 UPDATE, uk_futures_symbol 충돌 방지)
+     */
+    private void saveFutures(List<FuturesData> futuresList) {
+        if (futuresList.isEmpty()) {
+            return;
+        }
+        Map<String, Long> ids = new HashMap<>();
+        futuresDataRepository.findBySymbolIn(futuresList.stream().map(FuturesData::getSymbol).toList())
+                .forEach(existing -> ids.put(existing.getSymbol(), existing.getId()));
+        futuresList.forEach(futures -> futures.setId(ids.get(futures.getSymbol())));
+        futuresDataRepository.saveAll(futuresList);
+    }
+
+    /**
+     * 종목코드 기준 upsert (이미 저장된 종목은 id를 이어받아 UPDATE, uk_option_symbol 충돌 방지)
+     */
+    private void saveOptions(List<OptionData> optionsList) {
+        if (optionsList.isEmpty()) {
+            return;
+        }
+        Map<String, Long> ids = new HashMap<>();
+        optionDataRepository.findBySymbolIn(optionsList.stream().map(OptionData::getSymbol).toList())
+                .forEach(existing -> ids.put(existing.getSymbol(), existing.getId()));
+        optionsList.forEach(option -> option.setId(ids.get(option.getSymbol())));
+        optionDataRepository.saveAll(optionsList);
+    }
+
+    /**
+     * 종목별 옵션 조회 (시세 + 호가, 종목당 2회 호출) - 전광판을 쓸 수 없을 때 사용
+     */
+    private List<OptionData> fetchOptionsPerContract(String token, LocalDateTime timestamp, String marketDivCode,
+            int atmStrike, int strikeStart, int strikeEnd, ChainLoad load) {
+        // 종목 마스터의 최근월물 상장 행사가만 조회 (577.5 등 반값 행사가 포함, 미상장 코드 조회 없음)
+        YearMonth expiry = instrumentUniverse.frontOptionExpiry(InstrumentUniverse.KOSPI200);
+        if (expiry == null) {
+            log.warn("[OPTIONS] No listed KOSPI200 options in instrument universe");
+            return List.of();
+        }
+        long atm = FixedPoint.ofLong(atmStrike);
+        List<Instrument> contracts = new ArrayList<>(instrumentUniverse.options(InstrumentUniverse.KOSPI200, expiry,
+                FixedPoint.ofLong(strikeStart), FixedPoint.ofLong(strikeEnd)));
+        // ATM 근접 종목부터 제출 (화면 중앙부터 먼저 채워지도록)
+        contracts.sort(Comparator.comparingLong(contract -> Math.abs(contract.strike() - atm)));
+        load.total = contracts.size();
+
+        log.info("[OPTIONS] Querying {} contracts ({}~{}, expiry {}, ATM: {})",
+                contracts.size(), strikeStart, strikeEnd, expiry, atmStrike);
+
+        // 종목별 시세 → 호가 조회를 동시에 실행 (초당 한도/재시도는 fetchEngine, 완료되는 대로 발행)
+        long nearAtm = FixedPoint.ofLong(NEAR_ATM_RANGE);
+        List<OptionData> fetched = fetchEngine.map(contracts, contract -> {
+            ApiPriority priority = Math.abs(contract.strike() - atm) <= nearAtm
+                    ? ApiPriority.NEAR_ATM_OPTIONS
+                    : ApiPriority.BACKFILL;
+            OptionData option = fetchOptionPrice(token, contract.code(), contract.optionType(), timestamp,
+                    marketDivCode, priority);
+            if (option != null) {
+                // 호가 정보 조회
+                fetchOptionAskingPrice(token, option);
+            }
+            return option;
+        }, load::publish);
+        List<OptionData> optionsList = new ArrayList<>();
+        for (OptionData option : fetched) {
+            if (option != null) {
+                optionsList.add(option);
+            }
+        }
+        return optionsList;
+    }
+
+    /**
+     * 옵션 전광판 조회 (최근월물 콜/풋 전체를 1회 호출로) - 조회 범위 밖 행사가는 제외
+     * 전광판에 없는 기초자산 가격은 ATM 콜 1건의 개별 시세(output3)로 보완
+     *
+     * @return 실패 시 null (호출자가 종목별 조회로 대체)
+     */
+    private List<OptionData> fetchOptionBoard(String token, LocalDateTime timestamp, int atmStrike,
+            int strikeStart, int strikeEnd) {
+        try {
+            String expiry = nearestOptionExpiry(token);
+            if (expiry == null) {
+                return null;
+            }
+            String url = config.getBaseUrl() +
+                    "/uapi/domestic-futureoption/v1/quotations/display-board-callput" +
+                    "?FID_COND_MRKT_DIV_CODE=O" +
+                    "&FID_COND_SCR_DIV_CODE=20503" +
+                    "&FID_MRKT_CLS_CODE=CO" + // output1: 콜
+                    "&FID_MTRT_CNT=" + expiry +
+                    "&FID_COND_MRKT_CLS_CODE=" +
+                    "&FID_MRKT_CLS_CODE1=PO"; // output2: 풋
+
+            HttpResponse<String> response = fetchEngine.send(boardRequest(url, token, "FHPIF05030100"),
+                    ApiPriority.NEAR_ATM_OPTIONS);
+            if (response.statusCode() != 200) {
+                log.warn("[OPTIONS] Board HTTP error {}: {}", response.statusCode(), response.body());
+                return null;
+            }
+            OptionBoardParser.Board board = OptionBoardParser.parse(objectMapper.getFactory(), response.body(),
+                    expiry, timestamp);
+            if (!board.ok()) {
+                log.warn("[OPTIONS] Board API error: {} - {}", board.messageCode(), board.message());
+                return null;
+            }
+
+            List<OptionData> options = new ArrayList<>();
+            OptionData atmCall = null;
+            OptionData atmPut = null;
+            for (OptionData option : board.rows()) {
+                double strike = option.getStrikePrice().doubleValue();
+                if (strike < strikeStart || strike > strikeEnd) {
+                    continue;
+                }
+                options.add(option);
+                if (option.getOptionType() == OptionType.CALL) {
+                    atmCall = nearer(atmCall, option, atmStrike);
+                } else {
+                    atmPut = nearer(atmPut, option, atmStrike);
+                }
+            }
+            if (options.isEmpty()) {
+                log.warn("[OPTIONS] Board has no contracts in {}~{} ({} rows)", strikeStart, strikeEnd,
+                        board.rows().size());
+                return null;
+            }
+
+            // 범위 안에 콜이 없으면 ATM에 가장 가까운 풋으로 기초자산 가격 보완
+            OptionData reference = atmCall != null ? atmCall : atmPut;
+            OptionData quote = fetchOptionPrice(token, reference.getSymbol(), reference.getOptionType(), timestamp,
+                    "O", ApiPriority.NEAR_ATM_OPTIONS);
+            if (quote != null && quote.getUnderlyingPrice() != null) {
+                options.forEach(option -> option.setUnderlyingPrice(quote.getUnderlyingPrice()));
+            }
+            // ATM 근접 종목부터 (같은 거리는 행사가/콜풋 순서 유지)
+            options.sort(Comparator.comparingDouble(
+                    option -> Math.abs(option.getStrikePrice().doubleValue() - atmStrike)));
+            log.info("[OPTIONS] Board {}: {} contracts in {}~{} ({} rows, ATM: {})",
+                    expiry, options.size(), strikeStart, strikeEnd, board.rows().size(), atmStrike);
+            return options;
+        } catch (Exception e) {
+            log.warn("[OPTIONS] Board fetch failed, falling back to per-contract: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * ATM 행사가에 더 가까운 종목 (같은 거리면 기존 종목 유지)
+     */
+    private static OptionData nearer(OptionData current, OptionData candidate, int atmStrike) {
+        if (current == null) {
+            return candidate;
+        }
+        double candidateDistance = Math.abs(candidate.getStrikePrice().doubleValue() - atmStrike);
+        double currentDistance = Math.abs(current.getStrikePrice().doubleValue() - atmStrike);
+        return candidateDistance < currentDistance ? candidate : current;
+    }
+
+    /**
+     * 최근월물 만기년월 (종목 마스터, 없으면 옵션 월물 리스트 하루 1회 조회)
+     */
+    private String nearestOptionExpiry(String token) throws Exception {
+        // 종목 마스터가 있으면 API 호출 없이 최근월물 사용
+        YearMonth listed = instrumentUniverse.frontOptionExpiry(InstrumentUniverse.KOSPI200);
+        if (listed != null) {
+            return listed.format(EXPIRY_YYYYMM);
+        }
+        LocalDate today = LocalDate.now();
+        String cached = boardExpiry;
+        if (cached != null && today.equals(boardExpiryDate)) {
+            return cached;
+        }
+        String url = config.getBaseUrl() +
+                "/uapi/domestic-futureoption/v1/quotations/display-board-option-list" +
+                "?FID_COND_SCR_DIV_CODE=509" +
+                "&FID_COND_MRKT_DIV_CODE=" +
+                "&FID_COND_MRKT_CLS_CODE=";
+
+        HttpResponse<String> response = fetchEngine.send(boardRequest(url, token, "FHPIO056104C0"),
+                ApiPriority.NEAR_ATM_OPTIONS);
+        if (response.statusCode() != 200) {
+            log.warn("[OPTIONS] Month list HTTP error {}: {}", response.statusCode(), response.body());
+            return null;
+        }
+        JsonNode root = objectMapper.readTree(response.body());
+        JsonNode first = root.path("output").path(0);
+        String expiry = first.path("mtrt_yymm").asText("");
+        if (!"0".equals(root.path("rt_cd").asText("")) || expiry.isEmpty()) {
+            log.warn("[OPTIONS] Month list unavailable: {} - {}", root.path("msg_cd").asText(""),
+                    root.path("msg1").asText(""));
+            return null;
+        }
+        boardExpiry = expiry;
+        boardExpiryDate = today;
+        log.info("[OPTIONS] Nearest option expiry: {}", expiry);
+        return expiry;
+    }
+
+    private HttpRequest boardRequest(String url, String token, String trId) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header("Content-Type", "application/json; charset=utf-8")
+                .header("authorization", "Bearer " + token)
+                .header("appkey", config.getAppKey())
+                .header("appsecret", config.getAppSecret())
+                .header("tr_id", trId)
+                .header("custtype", "P")
+                .GET()
+                .build();
     }
 
     /**
@@ -251,7 +571,7 @@ public class KisApiService {
                     .GET()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = fetchEngine.send(request, ApiPriority.FUTURES);
 
             if (response.statusCode() == 200) {
                 JsonNode root = objectMapper.readTree(response.body());
@@ -316,7 +636,7 @@ public class KisApiService {
      * 개별 옵션 시세 조회
      */
     private OptionData fetchOptionPrice(String token, String code, OptionType type, LocalDateTime timestamp,
-            String marketDivCode) {
+            String marketDivCode, ApiPriority priority) {
         try {
             String url = config.getBaseUrl() +
                     "/uapi/domestic-futureoption/v1/quotations/inquire-price" +
@@ -333,121 +653,69 @@ public class KisApiService {
                     .GET()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 200) {
-                JsonNode root = objectMapper.readTree(response.body());
-
-                // API 응답 로깅 (디버깅용)
-                log.debug("Option {} API response: {}", code, response.body());
+            // 본문을 String/트리로 만들지 않고 스트림에서 필요한 필드만 디코딩
+            HttpResponse<KisFetchEngine.Body> response = fetchEngine.stream(request, priority);
+            try (KisFetchEngine.Body body = response.body()) {
+                if (response.statusCode() != 200) {
+                    log.warn("HTTP error {} for option {}: {}", response.statusCode(), code, body.text());
+                    return null;
+                }
+                KisQuoteDecoder.OptionQuote quote = KisQuoteDecoder.decodeOption(objectMapper.getFactory(),
+                        body.stream());
 
                 // rt_cd 체크 (성공: "0", 실패: "1")
-                String rtCd = root.path("rt_cd").asText("");
-                if (!"0".equals(rtCd)) {
-                    log.warn("API error for option {}: {} - {}",
-                            code, root.path("msg_cd").asText(""), root.path("msg1").asText(""));
+                if (!quote.ok()) {
+                    log.warn("API error for option {}: {} - {}", code, quote.messageCode(), quote.message());
+                    return null;
+                }
+                if (!quote.hasQuote()) {
+                    log.warn("No output1 data for option {}", code);
                     return null;
                 }
 
-                JsonNode output1 = root.get("output1");
-                if (output1 != null && !output1.isEmpty()) {
-                    OptionData option = new OptionData();
-                    option.setSymbol(code);
-                    option.setOptionType(type);
-
-                    // 종목명: API 응답의 hts_kor_isnm 필드 사용 (예: "C 202601 567.5")
-                    String korName = output1.path("hts_kor_isnm").asText("");
-                    option.setName(korName);
-
-                    // 행사가: API 응답의 acpr 필드 사용 (정확한 값)
-                    String strikeStr = output1.path("acpr").asText("0");
-                    BigDecimal strikePrice = new BigDecimal(strikeStr.replace(",", ""));
-                    option.setStrikePrice(strikePrice);
-
-                    // 필드 추출
-                    String prprStr = output1.path("futs_prpr").asText("0");
-                    BigDecimal currentPrice = new BigDecimal(prprStr.replace(",", ""));
-                    long volume = output1.path("acml_vol").asLong(0);
-
-                    // 거래대금: API에서 제공하는 acml_tr_pbmn 필드 사용
-                    String tradingValueStr = output1.path("acml_tr_pbmn").asText("0");
-                    BigDecimal tradingValue = new BigDecimal(tradingValueStr.replace(",", ""));
-
-                    option.setCurrentPrice(currentPrice);
-                    option.setVolume(volume);
-                    option.setTradingValue(tradingValue);
-
-                    // 미결제약정: hts_otst_stpl_qty 필드 사용
-                    option.setOpenInterest(output1.path("hts_otst_stpl_qty").asLong(0));
-
-                    // 내재변동성: hts_ints_vltl 필드 사용
-                    String ivStr = output1.path("hts_ints_vltl").asText("0");
-                    BigDecimal rawIV = new BigDecimal(ivStr.replace(",", ""));
-
-                    // 그리스(Greeks) 추출
-                    String deltaStr = output1.path("delta_val").asText("0");
-                    BigDecimal rawDelta = new BigDecimal(deltaStr.replace(",", ""));
-
-                    // KIS API의 IV 스케일 처리:
-                    // OTM: 0.2150 (소수점) → 21.50% (100 곱함)
-                    // ITM: 23.8142 (%) → 23.81% (그대로)
-                    BigDecimal normalizedIV = rawIV.compareTo(BigDecimal.ONE) < 0
-                            ? rawIV.multiply(BigDecimal.valueOf(100))
-                            : rawIV;
-
-                    log.debug("[IV DEBUG] {} - Raw IV: {}, Normalized IV: {}, Delta: {}", code, rawIV, normalizedIV,
-                            rawDelta);
-                    option.setImpliedVolatility(normalizedIV);
-                    option.setDelta(rawDelta);
-
-                    // Greeks 추출 및 로깅 강화
-                    String gammaStr = output1.path("gama").asText("0"); // API 오타: gama (gamma가 아님!)
-                    BigDecimal gamma = new BigDecimal(gammaStr.replace(",", ""));
-                    option.setGamma(gamma);
-
-                    String thetaStr = output1.path("theta").asText("0");
-                    BigDecimal theta = new BigDecimal(thetaStr.replace(",", ""));
-                    option.setTheta(theta);
-
-                    String vegaStr = output1.path("vega").asText("0");
-                    BigDecimal vega = new BigDecimal(vegaStr.replace(",", ""));
-                    option.setVega(vega);
-
-                    // Greeks 로깅 (0인 경우 경고)
-                    log.debug("[Greeks] {} - Delta: {}, Gamma: {}, Theta: {}, Vega: {}",
-                            code, rawDelta, gamma, theta, vega);
-
-                    if (gamma.compareTo(BigDecimal.ZERO) == 0 ||
-                            theta.compareTo(BigDecimal.ZERO) == 0 ||
-                            vega.compareTo(BigDecimal.ZERO) == 0) {
-                        log.warn(
-                                "[Greeks ZERO] {} - Some Greeks are zero! Gamma: {}, Theta: {}, Vega: {} | Raw JSON fields - gama: '{}', theta: '{}', vega: '{}'",
-                                code, gamma, theta, vega, gammaStr, thetaStr, vegaStr);
-                    }
+                OptionData option = new OptionData();
+                option.setSymbol(code);
+                option.setOptionType(type);
+                // 종목명: API 응답의 hts_kor_isnm 필드 사용 (예: "C 202601 567.5")
+                option.setName(quote.name());
+                // 행사가: API 응답의 acpr 필드 사용 (정확한 값)
+                option.setStrikePrice(quote.strike());
+                option.setCurrentPrice(quote.price());
+                option.setVolume(quote.volume());
+                option.setTradingValue(quote.tradingValue());
+                option.setOpenInterest(quote.openInterest());
+
+                // KIS API의 IV 스케일 처리:
+                // OTM: 0.2150 (소수점) → 21.50% (100 곱함)
+                // ITM: 23.8142 (%) → 23.81% (그대로)
+                BigDecimal rawIV = quote.impliedVolatility();
+                BigDecimal normalizedIV = rawIV.compareTo(BigDecimal.ONE) < 0
+                        ? rawIV.multiply(BigDecimal.valueOf(100))
+                        : rawIV;
+                option.setImpliedVolatility(normalizedIV);
+                option.setDelta(quote.delta());
+                option.setGamma(quote.gamma());
+                option.setTheta(quote.theta());
+                option.setVega(quote.vega());
+
+                log.debug("[Greeks] {} - IV: {} (raw {}), Delta: {}, Gamma: {}, Theta: {}, Vega: {}",
+                        code, normalizedIV, rawIV, quote.delta(), quote.gamma(), quote.theta(), quote.vega());
+                if (quote.gamma().signum() == 0 || quote.theta().signum() == 0 || quote.vega().signum() == 0) {
+                    log.warn("[Greeks ZERO] {} - Some Greeks are zero! Gamma: {}, Theta: {}, Vega: {}",
+                            code, quote.gamma(), quote.theta(), quote.vega());
+                }
 
-                    // 기초자산 가격 (KOSPI200 지수): output3에서 추출
-                    JsonNode output3 = root.get("output3");
-                    if (output3 != null && !output3.isEmpty()) {
-                        String underlyingStr = output3.path("bstp_nmix_prpr").asText("0");
-                        option.setUnderlyingPrice(new BigDecimal(underlyingStr.replace(",", "")));
-                    } else {
-                        option.setUnderlyingPrice(null);
-                    }
+                // 기초자산 가격 (KOSPI200 지수): output3에서 추출 (없으면 null)
+                option.setUnderlyingPrice(quote.underlyingPrice());
 
-                    // 호가 정보는 별도 API 필요 (inquire-asking-price)
-                    // 현재는 null로 설정
-                    option.setBidPrice(null);
-                    option.setAskPrice(null);
-                    option.setBidVolume(null);
-                    option.setAskVolume(null);
+                // 호가 정보는 별도 API 필요 (inquire-asking-price)
+                option.setBidPrice(null);
+                option.setAskPrice(null);
+                option.setBidVolume(null);
+                option.setAskVolume(null);
 
-                    option.setTimestamp(timestamp);
-                    return option;
-                } else {
-                    log.warn("No output1 data for option {}", code);
-                }
-            } else {
-                log.warn("HTTP error {} for option {}: {}", response.statusCode(), code, response.body());
+                option.setTimestamp(timestamp);
+                return option;
             }
         } catch (Exception e) {
             log.error("Error fetching option price for {}: {}", code, e.getMessage());
@@ -476,7 +744,7 @@ public class KisApiService {
                     .GET()
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<String> response = fetchEngine.send(request, ApiPriority.ASKING_PRICE);
 
             if (response.statusCode() == 200) {
                 JsonNode root = objectMapper.readTree(response.body());
@@ -511,76 +779,68 @@ public class KisApiService {
     }
 
     /**
-     * 액세스 토큰 발급/갱신
+     * 액세스 토큰 조회 (TokenManager 캐시, 없거나 만료 임박 시 single-flight 발급)
      */
     public String getAccessToken() {
-        try {
-            // 1. 메모리 캐시 확인 (TokenManager)
-            if (tokenManager.isTokenValid()) {
-                log.debug("Using cached token from memory (expires at {})", tokenManager.getExpiry());
-                return tokenManager.getToken();
-            }
+        return tokenManager.accessToken(this::issueAccessToken);
+    }
 
-            // 2. 파일 캐시 확인
-            String cachedToken = loadTokenFromFile();
-            if (cachedToken != null) {
+    /**
+     * 액세스 토큰 발급 (TokenManager가 동시 호출을 1건으로 합쳐 호출)
+     * - 기동 후 첫 발급만 파일 캐시 확인 (재시작 시 1분당 1회 발급 제한 회피)
+     */
+    private TokenManager.TokenInfo issueAccessToken() throws Exception {
+        if (!tokenFileChecked) {
+            tokenFileChecked = true;
+            TokenManager.TokenInfo cached = loadTokenFromFile(false);
+            if (cached != null) {
                 log.info("[AUTH] Using cached token from file");
-                return cachedToken;
+                return cached;
             }
+        }
 
-            // 3. 새 토큰 발급
-            log.info("[AUTH] Requesting new access token...");
+        log.info("[AUTH] Requesting new access token...");
 
-            String url = config.getBaseUrl() + "/oauth2/tokenP";
-            String requestBody = String.format(
-                    "{\"grant_type\":\"client_credentials\",\"appkey\":\"%s\",\"appsecret\":\"%s\"}",
-                    config.getAppKey(), config.getAppSecret());
+        String url = config.getBaseUrl() + "/oauth2/tokenP";
+        String requestBody = String.format(
+                "{\"grant_type\":\"client_credentials\",\"appkey\":\"%s\",\"appsecret\":\"%s\"}",
+                config.getAppKey(), config.getAppSecret());
 
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .header("Content-Type", "application/json; charset=utf-8")
-                    .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                    .build();
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header("Content-Type", "application/json; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
+                .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> response = fetchEngine.send(request, ApiPriority.AUTH);
 
-            if (response.statusCode() == 200) {
-                JsonNode root = objectMapper.readTree(response.body());
-                String newToken = root.get("access_token").asText();
-                int expiresIn = root.get("expires_in").asInt();
-                LocalDateTime expiry = LocalDateTime.now().plusSeconds(expiresIn);
+        if (response.statusCode() == 200) {
+            JsonNode root = objectMapper.readTree(response.body());
+            String newToken = root.get("access_token").asText();
+            int expiresIn = root.get("expires_in").asInt();
+            LocalDateTime expiry = LocalDateTime.now().plusSeconds(expiresIn);
 
-                // TokenManager에 저장 (Thread-safe)
-                tokenManager.setToken(newToken, expiry);
+            // 파일에도 저장 (재시작 시 사용)
+            saveTokenToFile(newToken, expiry);
 
-                // 파일에도 저장 (재시작 시 사용)
-                saveTokenToFile(newToken, expiry);
+            log.info("[AUTH] Access token obtained successfully (expires in {} seconds)", expiresIn);
+            return new TokenManager.TokenInfo(newToken, expiry);
+        }
 
-                log.info("[AUTH] Access token obtained successfully (expires in {} seconds)", expiresIn);
-                return newToken;
-            } else {
-                String responseBody = response.body();
-                log.error("Failed to get access token: {} - {}", response.statusCode(), responseBody);
-
-                // Rate Limit 에러인 경우, 파일에서 토큰 강제 로드 시도
-                if (responseBody.contains("EGW00133")) {
-                    log.warn("Rate limit exceeded. Attempting to use any cached token...");
-                    String forcedToken = loadTokenFromFile(true);
-                    if (forcedToken != null) {
-                        log.info("[AUTH] Using potentially expired token from cache");
-                        return forcedToken;
-                    }
-                }
+        String responseBody = response.body();
+        log.error("Failed to get access token: {} - {}", response.statusCode(), responseBody);
 
-                throw new TokenExpiredException("Failed to get access token: " + response.statusCode());
+        // Rate Limit 에러인 경우, 파일에서 토큰 강제 로드 시도 (1분 뒤 재발급 시도)
+        if (responseBody.contains("EGW00133")) {
+            log.warn("Rate limit exceeded. Attempting to use any cached token...");
+            TokenManager.TokenInfo forced = loadTokenFromFile(true);
+            if (forced != null) {
+                log.info("[AUTH] Using potentially expired token from cache");
+                return new TokenManager.TokenInfo(forced.getToken(), LocalDateTime.now().plusMinutes(1));
             }
-
-        } catch (TokenExpiredException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Error getting access token: {}", e.getMessage(), e);
-            throw new TokenExpiredException("Failed to get access token: " + e.getMessage());
         }
+
+        throw new TokenExpiredException("Failed to get access token: " + response.statusCode());
     }
 
     /**
@@ -599,17 +859,10 @@ public class KisApiService {
         }
     }
 
-    /**
-     * 파일에서 토큰 로드
-     */
-    private String loadTokenFromFile() {
-        return loadTokenFromFile(false);
-    }
-
     /**
      * 파일에서 토큰 로드 (만료 체크 옵션)
      */
-    private String loadTokenFromFile(boolean ignoreExpiry) {
+    private TokenManager.TokenInfo loadTokenFromFile(boolean ignoreExpiry) {
         try {
             java.nio.file.Path path = java.nio.file.Path.of("kis_token.cache");
             if (!java.nio.file.Files.exists(path)) {
@@ -631,9 +884,7 @@ public class KisApiService {
                 return null;
             }
 
-            // TokenManager에 로드
-            tokenManager.setToken(token, expiry);
-            return token;
+            return new TokenManager.TokenInfo(token, expiry);
 
         } catch (Exception e) {
             log.debug("Failed to load token from file: {}", e.getMessage());
@@ -642,57 +893,58 @@ public class KisApiService {
     }
 
     /**
-     * WebSocket approval_key 발급
+     * WebSocket approval_key 조회 (TokenManager 캐시, 유효기간 내 재사용)
      * REST API의 access_token과 다른 WebSocket 전용 키
      */
     public String getWebSocketApprovalKey() {
-        try {
-            log.debug("Requesting WebSocket approval key...");
-
-            String url = config.getBaseUrl() + "/oauth2/Approval";
-            String requestBody = String.format(
-                    "{\"grant_type\":\"client_credentials\",\"appkey\":\"%s\",\"secretkey\":\"%s\"}",
-                    config.getAppKey(), config.getAppSecret());
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .header("Content-Type", "application/json; charset=utf-8")
-                    .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return tokenManager.approvalKey(this::issueApprovalKey);
+    }
 
-            if (response.statusCode() == 200) {
-                JsonNode root = objectMapper.readTree(response.body());
-                String approvalKey = root.get("approval_key").asText();
-                log.info("[WS] WebSocket approval key obtained successfully");
-                return approvalKey;
-            } else {
-                log.error("Failed to get WebSocket approval key: {} - {}",
-                        response.statusCode(), response.body());
-                throw new TokenExpiredException("Failed to get WebSocket approval key: " + response.statusCode());
-            }
+    /**
+     * approval_key 폐기 (다음 연결 시 재발급)
+     */
+    public void invalidateWebSocketApprovalKey() {
+        tokenManager.invalidateApprovalKey();
+    }
 
-        } catch (TokenExpiredException e) {
-            throw e;
-        } catch (Exception e) {
-            log.error("Error getting WebSocket approval key: {}", e.getMessage(), e);
-            throw new TokenExpiredException("Failed to get WebSocket approval key: " + e.getMessage());
+    /**
+     * WebSocket approval_key 발급
+     */
+    private String issueApprovalKey() throws Exception {
+        log.debug("Requesting WebSocket approval key...");
+
+        String url = config.getBaseUrl() + "/oauth2/Approval";
+        String requestBody = String.format(
+                "{\"grant_type\":\"client_credentials\",\"appkey\":\"%s\",\"secretkey\":\"%s\"}",
+                config.getAppKey(), config.getAppSecret());
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .header("Content-Type", "application/json; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
+                .build();
+
+        HttpResponse<String> response = fetchEngine.send(request, ApiPriority.AUTH);
+
+        if (response.statusCode() == 200) {
+            JsonNode root = objectMapper.readTree(response.body());
+            String approvalKey = root.get("approval_key").asText();
+            log.info("[WS] WebSocket approval key obtained successfully");
+            return approvalKey;
         }
+        log.error("Failed to get WebSocket approval key: {} - {}",
+                response.statusCode(), response.body());
+        throw new TokenExpiredException("Failed to get WebSocket approval key: " + response.statusCode());
     }
 
     /**
-     * 월물 코드로 계약 월 이름 반환
+     * 월물 코드로 계약 월 이름 반환 (종목 마스터 기준)
      */
     private String getContractMonthName(String code) {
-        if (code.equals("A01603"))
-            return "KOSPI200 선물 3월물";
-        if (code.equals("A01606"))
-            return "KOSPI200 선물 6월물";
-        if (code.equals("A01609"))
-            return "KOSPI200 선물 9월물";
-        if (code.equals("A0160C"))
-            return "KOSPI200 선물 12월물";
-        return code;
+        Instrument instrument = instrumentUniverse.get(code);
+        if (instrument == null) {
+            return code;
+        }
+        return "KOSPI200 선물 " + instrument.expiry().getMonthValue() + "월물";
     }
 }
@@ -0,0 +1,194 @@
+package com.trading.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+
+/**
+ * 옵션 시세(inquire-price) 응답 스트리밍 디코더
+ * - 응답 바이트 스트림을 JsonParser로 한 번 읽으면서 output1/output3의 필요한 필드만 추출 (트리/본문 String 없음)
+ * - 숫자는 파서 내부 문자 버퍼에서 바로 변환 (천 단위 쉼표 허용, 쉼표가 없으면 중간 문자열 없음)
+ */
+final class KisQuoteDecoder {
+
+    /**
+     * 옵션 시세 1건 (rt_cd가 "0"이 아니면 시세 필드는 기본값)
+     *
+     * @param hasQuote output1에 필드가 하나라도 있었는지
+     */
+    record OptionQuote(String rtCd, String messageCode, String message, boolean hasQuote, String name,
+            BigDecimal strike, BigDecimal price, long volume, BigDecimal tradingValue, long openInterest,
+            BigDecimal impliedVolatility, BigDecimal delta, BigDecimal gamma, BigDecimal theta, BigDecimal vega,
+            BigDecimal underlyingPrice) {
+
+        boolean ok() {
+            return "0".equals(rtCd);
+        }
+    }
+
+    private KisQuoteDecoder() {
+    }
+
+    static OptionQuote decodeOption(JsonFactory factory, InputStream body) throws IOException {
+        try (JsonParser parser = factory.createParser(body)) {
+            return decodeOption(parser);
+        }
+    }
+
+    static OptionQuote decodeOption(JsonFactory factory, byte[] body) throws IOException {
+        try (JsonParser parser = factory.createParser(body)) {
+            return decodeOption(parser);
+        }
+    }
+
+    private static OptionQuote decodeOption(JsonParser parser) throws IOException {
+        String rtCd = null;
+        String messageCode = "";
+        String message = "";
+        boolean hasQuote = false;
+        String name = "";
+        BigDecimal strike = BigDecimal.ZERO;
+        BigDecimal price = BigDecimal.ZERO;
+        long volume = 0;
+        BigDecimal tradingValue = BigDecimal.ZERO;
+        long openInterest = 0;
+        BigDecimal impliedVolatility = BigDecimal.ZERO;
+        BigDecimal delta = BigDecimal.ZERO;
+        BigDecimal gamma = BigDecimal.ZERO;
+        BigDecimal theta = BigDecimal.ZERO;
+        BigDecimal vega = BigDecimal.ZERO;
+        BigDecimal underlyingPrice = null;
+
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Quote response is not a JSON object");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String section = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (section) {
+                case "rt_cd" -> rtCd = parser.getValueAsString();
+                case "msg_cd" -> messageCode = parser.getValueAsString("");
+                case "msg1" -> message = parser.getValueAsString("");
+                case "output1" -> {
+                    if (value != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String field = parser.currentName();
+                        if (!scalar(parser)) {
+                            continue;
+                        }
+                        hasQuote = true;
+                        switch (field) {
+                            case "hts_kor_isnm" -> name = parser.getText();
+                            case "acpr" -> strike = decimal(parser);
+                            case "futs_prpr" -> price = decimal(parser);
+                            case "acml_vol" -> volume = whole(parser);
+                            case "acml_tr_pbmn" -> tradingValue = decimal(parser);
+                            case "hts_otst_stpl_qty" -> openInterest = whole(parser);
+                            case "hts_ints_vltl" -> impliedVolatility = decimal(parser);
+                            case "delta_val" -> delta = decimal(parser);
+                            case "gama" -> gamma = decimal(parser); // API 필드명 그대로 (gamma 아님)
+                            case "theta" -> theta = decimal(parser);
+                            case "vega" -> vega = decimal(parser);
+                            default -> {
+                            }
+                        }
+                    }
+                }
+                case "output3" -> {
+                    if (value != JsonToken.START_OBJECT) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String field = parser.currentName();
+                        if (scalar(parser) && "bstp_nmix_prpr".equals(field)) {
+                            underlyingPrice = decimal(parser);
+                        }
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return new OptionQuote(rtCd, messageCode, message, hasQuote, name, strike, price, volume, tradingValue,
+                openInterest, impliedVolatility, delta, gamma, theta, vega, underlyingPrice);
+    }
+
+    /**
+     * 다음 값으로 이동 - 객체/배열은 건너뛰고 false, null/빈 문자열도 false
+     */
+    static boolean scalar(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return false;
+        }
+        return token != JsonToken.VALUE_NULL && parser.getTextLength() > 0;
+    }
+
+    /**
+     * 현재 값(문자열 또는 숫자) → BigDecimal, 천 단위 쉼표 허용
+     */
+    static BigDecimal decimal(JsonParser parser) throws IOException {
+        if (parser.currentToken().isNumeric()) {
+            return parser.getDecimalValue();
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+        int commas = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (chars[i] == ',') {
+                commas++;
+            }
+        }
+        if (commas == 0) {
+            return new BigDecimal(chars, offset, length);
+        }
+        char[] digits = new char[length - commas];
+        int n = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (chars[i] != ',') {
+                digits[n++] = chars[i];
+            }
+        }
+        return new BigDecimal(digits);
+    }
+
+    /**
+     * 현재 값 → long (천 단위 쉼표 허용, 소수부는 버림)
+     */
+    static long whole(JsonParser parser) throws IOException {
+        if (parser.currentToken().isNumeric()) {
+            return parser.getValueAsLong();
+        }
+        char[] chars = parser.getTextCharacters();
+        int i = parser.getTextOffset();
+        int end = i + parser.getTextLength();
+        boolean negative = chars[i] == '-';
+        if (negative || chars[i] == '+') {
+            i++;
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (c == ',') {
+                continue;
+            }
+            if (c == '.') {
+                break;
+            }
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Not a number: " + parser.getText());
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
+    }
+}
@@ -3,31 +3,29 @@ package com.trading.dashboard.service;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.trading.dashboard.config.KisApiConfig;
-import com.trading.dashboard.model.FuturesData;
-import com.trading.dashboard.model.OptionData;
-import com.trading.dashboard.repository.FuturesDataRepository;
-import com.trading.dashboard.repository.OptionDataRepository;
+import com.trading.dashboard.feed.KisConnectionSupervisor;
+import com.trading.dashboard.feed.KisIngestPipeline;
+import com.trading.dashboard.feed.KisSubscriptionEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.framing.CloseFrame;
 import org.java_websocket.handshake.ServerHandshake;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
-import java.math.BigDecimal;
 import java.net.URI;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.*;
-import java.util.concurrent.*;
 
 /**
  * 한국투자증권 WebSocket 실시간 시세 수신 (단일 연결)
  * - KIS API 제약: 하나의 appkey로 동시에 하나의 WebSocket 연결만 가능
  * - 최대 40개 종목 구독 가능 (선물 1개 + 옵션 39개)
+ * - 비정상 종료/무응답 시 {@link KisConnectionSupervisor}가 마지막 구독 목록으로 재연결
  */
 @Slf4j
 @Service
@@ -36,22 +34,26 @@ public class KisWebSocketService {
 
     private final KisApiConfig config;
     private final KisApiService kisApiService;
-    private final FuturesDataRepository futuresDataRepository;
-    private final OptionDataRepository optionDataRepository;
+    private final KisIngestPipeline ingestPipeline;
+    private final KisSubscriptionEngine subscriptionEngine;
+    private final KisConnectionSupervisor connectionSupervisor;
+    private final MarketStatusService marketStatusService;
     private final Gson gson = new Gson();
 
     // 단일 연결 관리
-    private WebSocketClient client;
+    private volatile WebSocketClient client;
     private static final int MAX_SUBSCRIPTIONS = 40;
     private static final String WS_URL = "ws://ops.koreainvestment.com:21000";
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
-    // 구독 응답 대기용
-    private final Map<String, CountDownLatch> subscriptionLatches = new ConcurrentHashMap<>();
-    private final Map<String, Boolean> subscriptionResults = new ConcurrentHashMap<>();
+    // 재연결 시 그대로 다시 구독할 마지막 종목 목록
+    private volatile List<String> lastSymbols = List.of();
+    private volatile boolean intentionalClose;
 
     @PostConstruct
     public void init() {
+        ingestPipeline.setControlListener(this::handleControlMessage);
+        connectionSupervisor.attach(this::reconnect, this::isReconnectAllowed, this::forceClose);
         log.info("[WS] KIS WebSocket Service ready (Max: {} subscriptions)", MAX_SUBSCRIPTIONS);
     }
 
@@ -81,19 +83,105 @@ public class KisWebSocketService {
         }
 
         log.info("[WS] Starting WebSocket connection for {} symbols", limitedSymbols.size());
-        connectSingle(limitedSymbols);
+        intentionalClose = false;
+        lastSymbols = List.copyOf(limitedSymbols);
+        connectionSupervisor.cancelReconnect();
+        connectSingle(lastSymbols);
+    }
+
+    /**
+     * 감시자의 재연결 요청 - 마지막 구독 목록 그대로 연결
+     */
+    private void reconnect() {
+        log.info("[WS] Reconnecting with last {} symbols", lastSymbols.size());
+        if (!connectSingle(lastSymbols)) {
+            connectionSupervisor.onConnectFailed();
+        }
+    }
+
+    /**
+     * 재연결 허용 여부 (의도적 종료가 아니고 장 운영 중일 때만)
+     */
+    private boolean isReconnectAllowed() {
+        return !intentionalClose && !lastSymbols.isEmpty() && marketStatusService.getMarketStatus().isOpen();
+    }
+
+    /**
+     * 무응답 감지 시 연결 강제 종료 (onClose에서 재연결 예약)
+     */
+    private void forceClose() {
+        WebSocketClient current = client;
+        if (current != null) {
+            current.closeConnection(CloseFrame.GOING_AWAY, "heartbeat timeout");
+        }
+    }
+
+    /**
+     * approval_key 조회 (TokenManager가 유효기간 내 재사용)
+     */
+    private String approvalKey() {
+        return kisApiService.getWebSocketApprovalKey();
+    }
+
+    /**
+     * 연결을 유지한 채 구독 변경 (해제 tr_type=2 먼저, 이후 등록 tr_type=1)
+     *
+     * @return 변경 요청을 시작했으면 true
+     */
+    public boolean applySubscriptionDiff(List<String> unsubscribe, List<String> subscribe) {
+        WebSocketClient current = client;
+        if (current == null || !current.isOpen()) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now(KST);
+        List<KisSubscriptionEngine.Subscription> requests = new ArrayList<>();
+        for (String code : unsubscribe) {
+            requests.add(new KisSubscriptionEngine.Subscription(
+                    KisSubscriptionEngine.resolveTrId(code, now), code, "2"));
+        }
+        for (String code : subscribe) {
+            requests.add(KisSubscriptionEngine.Subscription.subscribe(
+                    KisSubscriptionEngine.resolveTrId(code, now), code));
+        }
+
+        List<String> next = new ArrayList<>(lastSymbols);
+        next.removeAll(unsubscribe);
+        next.addAll(subscribe);
+        lastSymbols = List.copyOf(next);
+
+        subscriptionEngine.begin(requests, approvalKey(), current::send, current::isOpen);
+        return true;
+    }
+
+    /**
+     * 현재(마지막 요청한) 구독 종목 목록
+     */
+    public List<String> getSubscribedSymbols() {
+        return lastSymbols;
+    }
+
+    /**
+     * 연결되어 있고 직전 구독 요청이 모두 확정되었는지
+     */
+    public boolean isSubscribed() {
+        WebSocketClient current = client;
+        return current != null && current.isOpen() && subscriptionEngine.getLastReport().complete();
     }
 
     /**
      * 단일 WebSocket 연결
+     *
+     * @return 연결 시작 여부 (approval key 발급 실패 등은 false)
      */
-    private void connectSingle(List<String> symbols) {
+    private boolean connectSingle(List<String> symbols) {
         try {
-            // 기존 연결이 있다면 먼저 정리
-            if (client != null && client.isOpen()) {
+            // 기존 연결이 있다면 먼저 정리 (교체되는 연결의 onClose는 재연결을 예약하지 않음)
+            WebSocketClient previous = client;
+            client = null;
+            if (previous != null && previous.isOpen()) {
                 log.warn("⚠️ Closing existing WebSocket connection...");
                 try {
-                    client.closeBlocking(); // 블로킹 방식으로 확실하게 종료
+                    previous.closeBlocking(); // 블로킹 방식으로 확실하게 종료
                     log.info("[WS] Previous connection closed successfully");
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
@@ -102,110 +190,49 @@ public class KisWebSocketService {
                 Thread.sleep(3000); // 서버 측 정리 충분히 대기 (2초 → 3초)
             }
 
-            log.info("[WS] Connecting to {}", WS_URL);
-
-            // WebSocket 전용 approval_key 발급
-            final String approvalKey = kisApiService.getWebSocketApprovalKey();
+            String url = config.getWebsocketUrl() != null && !config.getWebsocketUrl().isBlank()
+                    ? config.getWebsocketUrl()
+                    : WS_URL;
+            log.info("[WS] Connecting to {}", url);
 
-            client = new WebSocketClient(new URI(WS_URL)) {
-                private boolean subscriptionComplete = false;
+            // WebSocket 전용 approval_key (캐시 재사용)
+            final String approvalKey = approvalKey();
 
+            WebSocketClient created = new WebSocketClient(new URI(url)) {
                 @Override
                 public void onOpen(ServerHandshake handshake) {
                     log.info("[WS] WebSocket connected!");
-
-                    // 별도 스레드에서 구독 처리
-                    new Thread(() -> {
-                        try {
-                            // 연결 안정화 대기
-                            Thread.sleep(1000); // 500ms → 1000ms로 증가
-
-                            if (!this.isOpen()) {
-                                log.error("Connection closed before subscription");
-                                return;
-                            }
-
-                            log.info("[WS] Starting subscription for {} symbols...", symbols.size());
-
-                            // 배치 처리: 10개씩 나눠서 구독
-                            int batchSize = 10;
-                            int totalBatches = (symbols.size() + batchSize - 1) / batchSize;
-                            int successCount = 0;
-                            int failCount = 0;
-
-                            for (int batch = 0; batch < totalBatches; batch++) {
-                                int start = batch * batchSize;
-                                int end = Math.min(start + batchSize, symbols.size());
-                                List<String> batchSymbols = symbols.subList(start, end);
-
-                                log.info("[WS] Subscribing batch {}/{} ({} symbols)",
-                                        batch + 1, totalBatches, batchSymbols.size());
-
-                                for (String symbol : batchSymbols) {
-                                    if (!this.isOpen()) {
-                                        log.error("Connection closed during subscription");
-                                        break;
-                                    }
-
-                                    // 구독 요청 전 Latch 생성
-                                    String key = symbol;
-                                    CountDownLatch latch = new CountDownLatch(1);
-                                    subscriptionLatches.put(key, latch);
-
-                                    subscribeSymbol(this, symbol, approvalKey);
-
-                                    // 구독 응답 대기 (최대 3초)
-                                    try {
-                                        boolean received = latch.await(3, TimeUnit.SECONDS);
-                                        if (!received) {
-                                            log.warn("[WS] Subscription timeout for {}", symbol);
-                                            failCount++;
-                                        } else {
-                                            Boolean success = subscriptionResults.get(key);
-                                            if (Boolean.TRUE.equals(success)) {
-                                                log.debug("[WS] Subscribed: {}", symbol);
-                                                successCount++;
-                                            } else {
-                                                log.error("[WS] Failed: {}", symbol);
-                                                failCount++;
-                                            }
-                                        }
-                                    } catch (InterruptedException e) {
-                                        Thread.currentThread().interrupt();
-                                        log.error("[WS] Subscription interrupted");
-                                        break;
-                                    } finally {
-                                        subscriptionLatches.remove(key);
-                                        subscriptionResults.remove(key);
-                                    }
-
-                                    Thread.sleep(150); // 100ms → 150ms로 증가
-                                }
-
-                                // 배치 사이 대기 (서버 부하 방지)
-                                if (batch < totalBatches - 1) {
-                                    Thread.sleep(500);
+                    connectionSupervisor.onConnected();
+
+                    // 응답을 기다리지 않고 전송 속도 한도 내에서 연속 구독 (응답은 비동기 처리)
+                    LocalDateTime now = LocalDateTime.now(KST);
+                    List<KisSubscriptionEngine.Subscription> subscriptions = symbols.stream()
+                            .map(code -> KisSubscriptionEngine.Subscription.subscribe(
+                                    KisSubscriptionEngine.resolveTrId(code, now), code))
+                            .toList();
+                    subscriptionEngine.begin(subscriptions, approvalKey, this::send, this::isOpen)
+                            .thenAccept(report -> {
+                                if (report.complete() && report.subscribed() > 0) {
+                                    connectionSupervisor.onSubscribed();
                                 }
-                            }
-
-                            subscriptionComplete = true;
-                            log.info("[WS] Subscription completed! Success: {}, Failed: {}, Total: {}",
-                                    successCount, failCount, symbols.size());
-
-                        } catch (Exception e) {
-                            log.error("Failed to subscribe: {}", e.getMessage(), e);
-                        }
-                    }).start();
+                            });
                 }
 
                 @Override
                 public void onMessage(String message) {
-                    log.debug("Received: {}", message);
-                    handleRealtimeData(message);
+                    // 수신 스레드는 링버퍼에 복사만 수행 (파싱/반영은 소비 스테이지에서)
+                    ingestPipeline.publish(message);
                 }
 
                 @Override
                 public void onClose(int code, String reason, boolean remote) {
+                    if (this != client) {
+                        // 교체/종료된 이전 연결
+                        log.debug("[WS] Previous connection closed: {} - {}", code, reason);
+                        return;
+                    }
+                    boolean subscriptionComplete = subscriptionEngine.getLastReport().complete();
+                    subscriptionEngine.cancel();
                     String status = subscriptionComplete ? "after subscription" : "during subscription";
                     log.warn("WebSocket closed: {} - {} ({})", code, reason, status);
 
@@ -217,6 +244,8 @@ public class KisWebSocketService {
                         log.warn("[WS] 3. KIS server rejecting the connection");
                         log.warn("[WS] Please check if another instance is running with the same API key.");
                     }
+
+                    connectionSupervisor.onDisconnected();
                 }
 
                 @Override
@@ -225,123 +254,52 @@ public class KisWebSocketService {
                 }
             };
 
-            client.connect();
+            client = created;
+            created.connect();
+            return true;
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while connecting");
+            return false;
         } catch (Exception e) {
             log.error("Failed to connect: {}", e.getMessage(), e);
+            return false;
         }
     }
 
     /**
-     * 종목 구독 (선물/옵션 자동 판별)
-     */
-    private void subscribeSymbol(WebSocketClient client, String code, String approvalKey) {
-        // 코드로 선물/옵션 판별
-        // A로 시작: 선물 (A01603, A01606...)
-        // B로 시작: 콜옵션 (B01601560...)
-        // C로 시작: 풋옵션 (C01601560...)
-
-        // 시장 시간에 따라 TR_ID 선택 (KST 기준)
-        boolean isFutures = code.startsWith("A");
-        LocalDateTime now = LocalDateTime.now(KST);
-        int currentHour = now.getHour();
-        int dayOfWeek = now.getDayOfWeek().getValue(); // 1(월)~7(일)
-
-        // 야간장 판단: 월~금 18:00 ~ 익일 05:00 (금요일 야간은 토요일 새벽까지)
-        // - 월~금 18:00~23:59: 야간장
-        // - 화~토 00:00~04:59: 야간장 (전날 밤 연장)
-        // - 일요일 전체 휴장
-        // - 월요일 00:00~04:59 휴장 (일요일 밤)
-        boolean isNightSession = false;
-        if (dayOfWeek >= 1 && dayOfWeek <= 5 && currentHour >= 18) {
-            // 월~금 18시 이후
-            isNightSession = true;
-        } else if (dayOfWeek >= 2 && dayOfWeek <= 6 && currentHour < 5) {
-            // 화~토 새벽 (전날 야간장)
-            isNightSession = true;
-        }
-
-        String trId;
-        if (isNightSession) {
-            // 야간장: H0MFCNT0 (선물), H0EUCNT0 (옵션)
-            trId = isFutures ? "H0MFCNT0" : "H0EUCNT0";
-        } else {
-            // 주간장: H0STCNT0 (선물/옵션 통합)
-            trId = "H0STCNT0";
-        }
-
-        Map<String, Object> request = new HashMap<>();
-        request.put("header", Map.of(
-                "approval_key", approvalKey,
-                "custtype", "P",
-                "tr_type", "1",
-                "content-type", "utf-8"));
-        request.put("body", Map.of(
-                "input", Map.of(
-                        "tr_id", trId,
-                        "tr_key", code)));
-
-        String requestJson = gson.toJson(request);
-        log.debug("[Subscribe] {} - {}", trId, code);
-        client.send(requestJson);
-    }
-
-    /**
-     * 실시간 데이터 처리
+     * JSON 제어 메시지 처리 (구독 응답 등) - 수신 파이프라인 decode 스테이지에서 호출
      */
-    private void handleRealtimeData(String message) {
+    private void handleControlMessage(String message) {
         try {
-            // 파이프 구분자 실시간 데이터 처리: 0|H0MFCNT0|001|A01603^...
-            if (message.startsWith("0|")) {
-                String[] parts = message.split("\\|", 4);
-                if (parts.length >= 4) {
-                    String trId = parts[1]; // H0MFCNT0 or H0EUCNT0
-                    String data = parts[3]; // A01603^210919^...
-
-                    if ("H0STCNT0".equals(trId) || "H0MFCNT0".equals(trId)) {
-                        // 선물 체결 데이터
-                        handleFuturesPipeData(data);
-                    } else if ("H0STCNI0".equals(trId) || "H0EUCNT0".equals(trId)) {
-                        // 옵션 체결 데이터
-                        handleOptionPipeData(data);
-                    }
+            // JSON 형식 (구독 응답 등)
+            JsonObject json = gson.fromJson(message, JsonObject.class);
+
+            // PINGPONG: 서버 heartbeat - 그대로 돌려보냄
+            if (json.has("header") && json.getAsJsonObject("header").has("tr_id")
+                    && "PINGPONG".equals(json.getAsJsonObject("header").get("tr_id").getAsString())) {
+                WebSocketClient current = client;
+                if (current != null && current.isOpen()) {
+                    current.send(message);
                 }
+                log.debug("[WS] PINGPONG echoed");
                 return;
             }
 
-            // JSON 형식 (구독 응답 등)
-            JsonObject json = gson.fromJson(message, JsonObject.class);
-
             if (json.has("header") && json.has("body")) {
                 JsonObject body = json.getAsJsonObject("body");
 
-                // 구독 응답 처리
+                // 구독 응답 처리 (SUBSCRIBE SUCCESS / ALREADY IN SUBSCRIBE / INVALID ...)
                 if (body.has("msg1")) {
                     String msg1 = body.get("msg1").getAsString();
-                    if ("SUBSCRIBE SUCCESS".equals(msg1)) {
-                        String trKey = json.getAsJsonObject("header").get("tr_key").getAsString();
-                        log.debug("[WS] SUBSCRIBE SUCCESS - {}", trKey);
-
-                        // Latch 해제 (구독 성공)
-                        CountDownLatch latch = subscriptionLatches.get(trKey);
-                        if (latch != null) {
-                            subscriptionResults.put(trKey, true);
-                            latch.countDown();
-                        }
-                        return;
-                    } else if (msg1.contains("INVALID") || msg1.contains("ALREADY")) {
-                        String trKey = json.getAsJsonObject("header").has("tr_key")
-                                ? json.getAsJsonObject("header").get("tr_key").getAsString()
-                                : "UNKNOWN";
-                        log.error("[Response] {} - {}", msg1, trKey);
-
-                        // Latch 해제 (구독 실패)
-                        CountDownLatch latch = subscriptionLatches.get(trKey);
-                        if (latch != null) {
-                            subscriptionResults.put(trKey, false);
-                            latch.countDown();
-                        }
-                        return;
+                    JsonObject header = json.getAsJsonObject("header");
+                    String trKey = header.has("tr_key") ? header.get("tr_key").getAsString() : "UNKNOWN";
+                    subscriptionEngine.onAck(trKey, msg1);
+
+                    // approval_key 오류면 다음 연결 시 재발급
+                    if (msg1.toUpperCase().contains("APPROVAL")) {
+                        kisApiService.invalidateWebSocketApprovalKey();
                     }
                 }
             }
@@ -351,158 +309,6 @@ public class KisWebSocketService {
         }
     }
 
-    /**
-     * 선물 실시간 데이터 처리 (파이프 구분자 형식)
-     * 형식:
-     * A01603^210919^0.75^2^0.13^590.70^590.30^590.80^589.90^1^1288^190102062^...
-     */
-    @Transactional
-    private void handleFuturesPipeData(String data) {
-        try {
-            String[] fields = data.split("\\^");
-            if (fields.length < 12) {
-                log.debug("[FUTURES] Invalid data format: {}", data);
-                return;
-            }
-
-            String code = fields[0]; // A01603
-            String price = fields[5]; // 현재가 (index 5)
-            String volume = fields[10]; // 누적거래량 (index 10)
-
-            log.debug("[FUTURES WS] {} - Price: {}, Volume: {}", code, price, volume);
-
-            // DB 업데이트
-            futuresDataRepository.findOptionalBySymbol(code).ifPresent(futures -> {
-                futures.setCurrentPrice(new BigDecimal(price));
-                futures.setVolume(Long.parseLong(volume));
-                futures.setTimestamp(LocalDateTime.now());
-                futuresDataRepository.save(futures);
-
-                log.debug("[FUTURES DB] Updated {} - Price: {}, Volume: {}",
-                        code, futures.getCurrentPrice(), futures.getVolume());
-            });
-
-        } catch (Exception e) {
-            log.error("[FUTURES] Parse error: {}", data, e);
-        }
-    }
-
-    /**
-     * 옵션 실시간 데이터 처리 (파이프 구분자 형식)
-     */
-    @Transactional
-    private void handleOptionPipeData(String data) {
-        try {
-            String[] fields = data.split("\\^");
-            if (fields.length < 12) {
-                log.debug("[OPTION] Invalid data format: {}", data);
-                return;
-            }
-
-            String code = fields[0];
-            String price = fields[2]; // 현재가
-            String volume = fields[10]; // 누적거래량
-
-            log.debug("[OPTION WS] {} - Price: {}, Volume: {}", code, price, volume);
-
-            // DB 업데이트
-            optionDataRepository.findOptionalBySymbol(code).ifPresent(option -> {
-                option.setCurrentPrice(new BigDecimal(price));
-                option.setVolume(Long.parseLong(volume));
-                option.setTimestamp(LocalDateTime.now());
-                optionDataRepository.save(option);
-
-                log.debug("[OPTION DB] Updated {} - Price: {}, Volume: {}",
-                        code, option.getCurrentPrice(), option.getVolume());
-            });
-
-        } catch (Exception e) {
-            log.error("[OPTION] Parse error: {}", data, e);
-        }
-    }
-
-    /**
-     * 선물 실시간 데이터 처리
-     * 가격, 거래량 실시간 업데이트
-     */
-    @Transactional
-    private void handleFuturesData(JsonObject json) {
-        try {
-            JsonObject body = json.getAsJsonObject("body");
-            String code = body.get("MKSC_SHRN_ISCD").getAsString();
-            String price = body.get("STCK_PRPR").getAsString();
-
-            // 누적 거래량 (acml_vol) - KIS API 필드명 (소문자)
-            String volume = body.has("acml_vol") ? body.get("acml_vol").getAsString() : null;
-
-            log.debug("[FUTURES WS] {} - Price: {}, Volume: {}", code, price, volume);
-
-            // DB 업데이트: 가격 및 거래량
-            futuresDataRepository.findOptionalBySymbol(code).ifPresent(futures -> {
-                futures.setCurrentPrice(new BigDecimal(price));
-
-                // 거래량이 있으면 업데이트
-                if (volume != null && !volume.isEmpty()) {
-                    try {
-                        futures.setVolume(Long.parseLong(volume));
-                    } catch (NumberFormatException e) {
-                        log.debug("Invalid volume format: {}", volume);
-                    }
-                }
-
-                futures.setTimestamp(LocalDateTime.now());
-                futuresDataRepository.save(futures);
-
-                log.debug("[FUTURES DB] Updated {} - Price: {}, Volume: {}",
-                        code, futures.getCurrentPrice(), futures.getVolume());
-            });
-
-        } catch (Exception e) {
-            log.debug("Error handling futures data: {}", e.getMessage());
-        }
-    }
-
-    /**
-     * 옵션 실시간 데이터 처리
-     * 가격, 거래량 실시간 업데이트
-     */
-    @Transactional
-    private void handleOptionData(JsonObject json) {
-        try {
-            JsonObject body = json.getAsJsonObject("body");
-            String code = body.get("MKSC_SHRN_ISCD").getAsString();
-            String price = body.get("STCK_PRPR").getAsString();
-
-            // 누적 거래량 (acml_vol) - KIS API 필드명 (소문자)
-            String volume = body.has("acml_vol") ? body.get("acml_vol").getAsString() : null;
-
-            log.debug("[OPTION WS] {} - Price: {}, Volume: {}", code, price, volume);
-
-            // DB 업데이트: 가격 및 거래량
-            optionDataRepository.findBySymbol(code).ifPresent(option -> {
-                option.setCurrentPrice(new BigDecimal(price));
-
-                // 거래량이 있으면 업데이트
-                if (volume != null && !volume.isEmpty()) {
-                    try {
-                        option.setVolume(Long.parseLong(volume));
-                    } catch (NumberFormatException e) {
-                        log.debug("Invalid volume format: {}", volume);
-                    }
-                }
-
-                option.setTimestamp(LocalDateTime.now());
-                optionDataRepository.save(option);
-
-                log.debug("[OPTION DB] Updated {} - Price: {}, Volume: {}",
-                        code, option.getCurrentPrice(), option.getVolume());
-            });
-
-        } catch (Exception e) {
-            log.debug("Error handling option data: {}", e.getMessage());
-        }
-    }
-
     /**
      * WebSocket 연결 해제
      */
@@ -511,10 +317,14 @@ public class KisWebSocketService {
         log.warn("========================================");
         log.warn("Shutting down WebSocket...");
 
-        if (client != null && client.isOpen()) {
+        intentionalClose = true;
+        connectionSupervisor.cancelReconnect();
+
+        WebSocketClient current = client;
+        if (current != null && current.isOpen()) {
             try {
                 log.info("[WS] Closing connection...");
-                client.closeBlocking(); // 블로킹 방식으로 확실하게 종료
+                current.closeBlocking(); // 블로킹 방식으로 확실하게 종료
                 log.info("[WS] WebSocket disconnected successfully");
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
@@ -524,6 +334,13 @@ public class KisWebSocketService {
             }
         }
 
+        // 수신 완료된 틱을 DB에 동기 반영
+        try {
+            ingestPipeline.drainAndFlush();
+        } catch (Exception e) {
+            log.error("Error while flushing ticks: {}", e.getMessage());
+        }
+
         log.warn("KIS WebSocket connection closed");
         log.warn("========================================");
     }
@@ -534,8 +351,14 @@ public class KisWebSocketService {
     public Map<String, Object> getConnectionStatus() {
         boolean isConnected = client != null && client.isOpen();
 
+        KisSubscriptionEngine.Report report = subscriptionEngine.getLastReport();
+
         return Map.of(
                 "connected", isConnected,
-                "maxSubscriptions", MAX_SUBSCRIPTIONS);
+                "maxSubscriptions", MAX_SUBSCRIPTIONS,
+                "subscribed", report.subscribed(),
+                "subscriptionMillis", report.elapsed().toMillis(),
+                "supervisor", connectionSupervisor.getStatus(),
+                "ingest", ingestPipeline.getStatus());
     }
 }
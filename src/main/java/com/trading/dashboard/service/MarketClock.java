@@ -0,0 +1,55 @@
+package com.trading.dashboard.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 시장 시각 (KST)
+ * - 기본: 시스템 시각
+ * - 리플레이: 재생 중인 프레임의 수신 시각으로 고정 → 장 시간 판단이 녹화 당시와 동일하게 동작
+ */
+@Component
+public class MarketClock {
+
+    public static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private static final long SYSTEM = Long.MIN_VALUE;
+
+    private volatile long virtualMillis = SYSTEM;
+
+    /**
+     * 현재 시각 (epoch millis)
+     */
+    public long millis() {
+        long virtual = virtualMillis;
+        return virtual == SYSTEM ? System.currentTimeMillis() : virtual;
+    }
+
+    /**
+     * 현재 시각 (KST)
+     */
+    public LocalDateTime now() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis()), KST);
+    }
+
+    /**
+     * 가상 시각 설정 (리플레이 전용)
+     */
+    public void set(long epochMillis) {
+        virtualMillis = epochMillis;
+    }
+
+    /**
+     * 시스템 시각으로 복귀
+     */
+    public void useSystemTime() {
+        virtualMillis = SYSTEM;
+    }
+
+    public boolean isVirtual() {
+        return virtualMillis != SYSTEM;
+    }
+}
@@ -1,16 +1,16 @@
 package com.trading.dashboard.service;
 
+import com.trading.dashboard.config.DataSourceMode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalTime;
-
 /**
  * 시장 데이터 자동 갱신 스케줄러
  * - 야간장 개장 (18:00): 데이터 갱신
  * - 주간장 개장 (09:00): 데이터 갱신
+ * - 장중 갱신은 {@link IncrementalRefresher}가 최신성 기준으로 필요한 종목만 재조회
  */
 @Slf4j
 @Service
@@ -19,6 +19,7 @@ public class MarketDataScheduler {
 
     private final KisApiService kisApiService;
     private final MarketDataService marketDataService;
+    private final DataSourceMode dataSourceMode;
 
     /**
      * 야간장 개장 시간 (월~금 18:00)
@@ -28,6 +29,9 @@ public class MarketDataScheduler {
      */
     @Scheduled(cron = "0 0 18 * * MON-FRI", zone = "Asia/Seoul")
     public void refreshNightMarketData() {
+        if (dataSourceMode.isReplay()) {
+            return;
+        }
         log.info("========================================");
         log.info("[SCHEDULE] Night Market Opening (18:00) - Auto Refresh");
         log.info("========================================");
@@ -57,6 +61,9 @@ public class MarketDataScheduler {
      */
     @Scheduled(cron = "0 45 8 * * MON-FRI", zone = "Asia/Seoul")
     public void refreshDayMarketData() {
+        if (dataSourceMode.isReplay()) {
+            return;
+        }
         log.info("========================================");
         log.info("[SCHEDULE] Day Market Opening (08:45) - Auto Refresh");
         log.info("========================================");
@@ -79,31 +86,4 @@ public class MarketDataScheduler {
             log.error("[SCHEDULE] Failed to refresh day market data: {}", e.getMessage(), e);
         }
     }
-
-    /**
-     * 매 1시간마다 데이터 갱신 (장중)
-     * 장중 시간대에만 동작하도록 조건 체크
-     * initialDelay: 서버 시작 후 5분 후부터 시작 (초기 로딩과 겹치지 않도록)
-     */
-    @Scheduled(fixedRate = 3600000, initialDelay = 300000) // 1시간마다, 5분 후 시작
-    public void refreshMarketDataHourly() {
-        LocalTime now = LocalTime.now();
-
-        // 야간장: 18:00 ~ 익일 05:00 (다음날 05:00 전까지)
-        boolean isNightSession = now.isAfter(LocalTime.of(18, 0)) || now.isBefore(LocalTime.of(5, 0));
-
-        // 주간장: 08:45 ~ 15:30 (동시호가 제외)
-        boolean isDaySession = now.isAfter(LocalTime.of(8, 45)) && now.isBefore(LocalTime.of(15, 30));
-
-        if (isNightSession || isDaySession) {
-            log.info("[SCHEDULE] Hourly data refresh...");
-            try {
-                kisApiService.loadKospi200Futures();
-                kisApiService.loadKospi200Options();
-                log.info("[SCHEDULE] Hourly refresh completed");
-            } catch (Exception e) {
-                log.error("[SCHEDULE] Failed to refresh data hourly: {}", e.getMessage());
-            }
-        }
-    }
 }
@@ -1,34 +1,45 @@
 package com.trading.dashboard.service;
 
 import com.trading.dashboard.dto.*;
+import com.trading.dashboard.model.FuturesData;
 import com.trading.dashboard.model.InstrumentType;
 import com.trading.dashboard.model.OptionData;
-import com.trading.dashboard.model.OptionType;
-import com.trading.dashboard.repository.FuturesDataRepository;
-import com.trading.dashboard.repository.OptionDataRepository;
+import com.trading.dashboard.state.FixedPoint;
+import com.trading.dashboard.state.InstrumentState;
+import com.trading.dashboard.state.MarketAggregates;
+import com.trading.dashboard.state.MarketStateStore;
+import com.trading.dashboard.universe.Instrument;
+import com.trading.dashboard.universe.InstrumentUniverse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.*;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
+/**
+ * 시장 데이터 조회 서비스
+ * - 모든 조회는 인메모리 상태 저장소({@link MarketStateStore}) 기준 (DB 조회 없음)
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional(readOnly = true)
 public class MarketDataService {
 
-        private final OptionDataRepository optionDataRepository;
-        private final FuturesDataRepository futuresDataRepository;
+        // 기본 구독 목록의 중심 행사가 (선물 가격도 마스터 ATM 표시도 없을 때만 사용)
+        private static final long FALLBACK_CENTER = FixedPoint.ofLong(590);
+
+        private final MarketStateStore marketStateStore;
         private final KisWebSocketService kisWebSocketService;
         private final MarketStatusService marketStatusService;
+        private final SubscriptionRebalancer subscriptionRebalancer;
+        private final InstrumentUniverse instrumentUniverse;
+        private final OptionChainSnapshotPublisher optionChainSnapshotPublisher;
 
         @Value("${trading.data-source}")
         private String dataSource;
@@ -44,24 +55,11 @@ public class MarketDataService {
                 if (status.isOpen()) {
                         log.info("[MARKET] {} - Starting WebSocket subscriptions", status.getDescription());
 
-                        // 모든 구독 종목 리스트 생성
-                        List<String> symbols = new ArrayList<>();
-
-                        // 1. 선물 1개 추가
-                        symbols.add("A01603"); // 3월물 선물
-
-                        // 2. ⚠️ KIS API 제약: appkey당 1개 연결, 최대 40개 구독
-                        // 선물 1개 + 옵션 39개로 제한
-                        // 기준가 근처 ±10개 행사가만 구독
-                        int centerStrike = 590; // 중심 행사가 (현재가 기준)
-                        for (int i = centerStrike - 10; i <= centerStrike + 10; i++) {
-                                if (symbols.size() >= 40)
-                                        break;
-                                String strikeCode = String.format("%03d", i);
-                                symbols.add("B01601" + strikeCode); // 콜옵션
-                                if (symbols.size() < 40) {
-                                        symbols.add("C01601" + strikeCode); // 풋옵션
-                                }
+                        // ⚠️ KIS API 제약: appkey당 1개 연결, 최대 40개 구독
+                        // 상태 저장소 기준 선물 + ATM 주변/거래 활발 옵션 (계산 불가 시 기본 목록)
+                        List<String> symbols = subscriptionRebalancer.initialSymbols();
+                        if (symbols.isEmpty()) {
+                                symbols = defaultSymbols();
                         }
 
                         log.info("[MARKET] Total symbols to subscribe: {} (1 future + {} options)",
@@ -77,6 +75,51 @@ public class MarketDataService {
                 }
         }
 
+        /**
+         * 기본 구독 목록 (상태 저장소가 비어 있을 때)
+         * 종목 마스터의 최근월물 선물 1개 + 중심 행사가 근처 상장 행사가 콜/풋 (총 40개로 제한)
+         */
+        private List<String> defaultSymbols() {
+                List<String> symbols = new ArrayList<>();
+
+                // 1. 최근월물 선물 1개 추가
+                Instrument futures = instrumentUniverse.frontFutures(InstrumentUniverse.KOSPI200);
+                if (futures != null) {
+                        symbols.add(futures.code());
+                }
+
+                // 2. 기준가에서 가까운 행사가 순으로 콜/풋 추가
+                YearMonth expiry = instrumentUniverse.frontOptionExpiry(InstrumentUniverse.KOSPI200);
+                long center = defaultCenter(futures, expiry);
+                instrumentUniverse.options(InstrumentUniverse.KOSPI200, expiry,
+                                center - FixedPoint.ofLong(25), center + FixedPoint.ofLong(25)).stream()
+                                .sorted(Comparator.comparingLong(option -> Math.abs(option.strike() - center)))
+                                .limit(40 - symbols.size())
+                                .forEach(option -> symbols.add(option.code()));
+                return symbols;
+        }
+
+        /**
+         * 기본 목록의 중심 행사가: 최근월물 선물 가격에 가장 가까운 상장 행사가 → 마스터의 ATM 행사가 → 590
+         */
+        private long defaultCenter(Instrument futures, YearMonth expiry) {
+                InstrumentState state = futures != null ? marketStateStore.get(futures.code()) : null;
+                long price = state != null ? state.currentPrice() : FixedPoint.NULL;
+                if (price != FixedPoint.NULL && price > 0) {
+                        long strike = instrumentUniverse.nearestStrike(InstrumentUniverse.KOSPI200, expiry, price);
+                        if (strike != FixedPoint.NULL) {
+                                return strike;
+                        }
+                }
+                long atm = instrumentUniverse.atmStrike(InstrumentUniverse.KOSPI200, expiry);
+                if (atm != FixedPoint.NULL) {
+                        return atm;
+                }
+                log.warn("[MARKET] No futures price or ATM strike - default window centred on {}",
+                                FixedPoint.toBigDecimal(FALLBACK_CENTER));
+                return FALLBACK_CENTER;
+        }
+
         /**
          * OptionData를 TopTradedInstrumentDTO로 변환 (코드 중복 제거)
          */
@@ -97,27 +140,28 @@ public class MarketDataService {
 
         /**
          * 전체 시장 현황 조회
+         * - 합계는 상태 저장소가 틱/REST 반영 시 유지하는 카운터 사용 (종목 재집계 없음)
          */
         public MarketOverviewDTO getMarketOverview() {
+                MarketAggregates.Totals totals = marketStateStore.totals();
+
                 // 선물 통계
-                Long totalFuturesVolume = futuresDataRepository.sumAllVolume();
-                BigDecimal totalFuturesTradingValue = futuresDataRepository.sumAllTradingValue();
-                Long totalFuturesOpenInterest = futuresDataRepository.sumAllOpenInterest();
+                Long totalFuturesVolume = totals.futuresVolume();
+                BigDecimal totalFuturesTradingValue = toAmount(totals.futuresTradingValue());
+                Long totalFuturesOpenInterest = totals.futuresOpenInterest();
 
                 // 옵션 통계 (콜 + 풋)
-                Long callVolume = optionDataRepository.sumVolumeByOptionType(OptionType.CALL);
-                Long putVolume = optionDataRepository.sumVolumeByOptionType(OptionType.PUT);
-                Long totalOptionsVolume = (callVolume != null ? callVolume : 0L) + (putVolume != null ? putVolume : 0L);
+                Long callVolume = totals.callVolume();
+                Long putVolume = totals.putVolume();
+                Long totalOptionsVolume = callVolume + putVolume;
 
-                BigDecimal callTradingValue = optionDataRepository.sumTradingValueByOptionType(OptionType.CALL);
-                BigDecimal putTradingValue = optionDataRepository.sumTradingValueByOptionType(OptionType.PUT);
-                BigDecimal totalOptionsTradingValue = (callTradingValue != null ? callTradingValue : BigDecimal.ZERO)
-                                .add(putTradingValue != null ? putTradingValue : BigDecimal.ZERO);
+                BigDecimal callTradingValue = toAmount(totals.callTradingValue());
+                BigDecimal putTradingValue = toAmount(totals.putTradingValue());
+                BigDecimal totalOptionsTradingValue = callTradingValue.add(putTradingValue);
 
-                Long callOpenInterest = optionDataRepository.sumOpenInterestByOptionType(OptionType.CALL);
-                Long putOpenInterest = optionDataRepository.sumOpenInterestByOptionType(OptionType.PUT);
-                Long totalOptionsOpenInterest = (callOpenInterest != null ? callOpenInterest : 0L) +
-                                (putOpenInterest != null ? putOpenInterest : 0L);
+                Long callOpenInterest = totals.callOpenInterest();
+                Long putOpenInterest = totals.putOpenInterest();
+                Long totalOptionsOpenInterest = callOpenInterest + putOpenInterest;
 
                 // Put/Call Ratio 계산 (중복 쿼리 방지: 위에서 조회한 값 재사용)
                 PutCallRatioDTO putCallRatio = calculatePutCallRatioFromValues(
@@ -126,10 +170,10 @@ public class MarketDataService {
                                 callTradingValue, putTradingValue);
 
                 // 거래량 상위 종목 TOP 5
-                List<TopTradedInstrumentDTO> topByVolume = getTopByVolume(5);
+                List<TopTradedInstrumentDTO> topByVolume = topBy(InstrumentState::volume, 5);
 
                 // 미결제약정 상위 종목 TOP 5
-                List<TopTradedInstrumentDTO> topByOpenInterest = getTopByOpenInterest(5);
+                List<TopTradedInstrumentDTO> topByOpenInterest = topBy(InstrumentState::openInterest, 5);
 
                 // 시장 상태 조회
                 MarketStatusService.MarketStatus status = marketStatusService.getMarketStatus();
@@ -141,11 +185,9 @@ public class MarketDataService {
                                 .build();
 
                 return MarketOverviewDTO.builder()
-                                .totalFuturesVolume(totalFuturesVolume != null ? totalFuturesVolume : 0L)
-                                .totalFuturesTradingValue(totalFuturesTradingValue != null ? totalFuturesTradingValue
-                                                : BigDecimal.ZERO)
-                                .totalFuturesOpenInterest(
-                                                totalFuturesOpenInterest != null ? totalFuturesOpenInterest : 0L)
+                                .totalFuturesVolume(totalFuturesVolume)
+                                .totalFuturesTradingValue(totalFuturesTradingValue)
+                                .totalFuturesOpenInterest(totalFuturesOpenInterest)
                                 .totalOptionsVolume(totalOptionsVolume)
                                 .totalOptionsTradingValue(totalOptionsTradingValue)
                                 .totalOptionsOpenInterest(totalOptionsOpenInterest)
@@ -158,22 +200,15 @@ public class MarketDataService {
         }
 
         /**
-         * Put/Call Ratio 계산 (공개 API - 외부 호출용, 쿼리 실행)
+         * Put/Call Ratio 계산 (공개 API - 외부 호출용)
          */
         public PutCallRatioDTO calculatePutCallRatio() {
-                Long callVolume = optionDataRepository.sumVolumeByOptionType(OptionType.CALL);
-                Long putVolume = optionDataRepository.sumVolumeByOptionType(OptionType.PUT);
-
-                Long callOpenInterest = optionDataRepository.sumOpenInterestByOptionType(OptionType.CALL);
-                Long putOpenInterest = optionDataRepository.sumOpenInterestByOptionType(OptionType.PUT);
-
-                BigDecimal callTradingValue = optionDataRepository.sumTradingValueByOptionType(OptionType.CALL);
-                BigDecimal putTradingValue = optionDataRepository.sumTradingValueByOptionType(OptionType.PUT);
+                MarketAggregates.Totals totals = marketStateStore.totals();
 
                 return calculatePutCallRatioFromValues(
-                                callVolume, putVolume,
-                                callOpenInterest, putOpenInterest,
-                                callTradingValue, putTradingValue);
+                                totals.callVolume(), totals.putVolume(),
+                                totals.callOpenInterest(), totals.putOpenInterest(),
+                                toAmount(totals.callTradingValue()), toAmount(totals.putTradingValue()));
         }
 
         /**
@@ -217,12 +252,57 @@ public class MarketDataService {
                                 .build();
         }
 
+        /**
+         * 고정소수점 거래대금 합계 → BigDecimal
+         */
+        private BigDecimal toAmount(long fixedPoint) {
+                return FixedPoint.toBigDecimal(fixedPoint);
+        }
+
+        /**
+         * 특정 필드 기준 상위 옵션 종목
+         * - 슬롯 값을 종목당 한 번만 읽어 상위 limit개만 유지 (정렬 중 틱이 들어와도 순서가 깨지지 않음)
+         * - 상위 종목만 스냅샷 생성
+         */
+        private List<TopTradedInstrumentDTO> topBy(ToLongFunction<InstrumentState> field, int limit) {
+                if (limit <= 0) {
+                        return List.of();
+                }
+                InstrumentState[] top = new InstrumentState[limit];
+                long[] keys = new long[limit];
+                int size = 0;
+                for (InstrumentState state : marketStateStore.slots()) {
+                        if (state.isFutures()) {
+                                continue;
+                        }
+                        long key = field.applyAsLong(state);
+                        if (size == limit && key <= keys[size - 1]) {
+                                continue;
+                        }
+                        int i = size < limit ? size++ : size - 1;
+                        while (i > 0 && keys[i - 1] < key) {
+                                keys[i] = keys[i - 1];
+                                top[i] = top[i - 1];
+                                i--;
+                        }
+                        keys[i] = key;
+                        top[i] = state;
+                }
+
+                List<TopTradedInstrumentDTO> result = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                        result.add(convertToTopTradedDTO(top[i].toOptionData()));
+                }
+                return result;
+        }
+
         /**
          * 거래대금 상위 종목 (옵션만)
          */
         public List<TopTradedInstrumentDTO> getTopByTradingValue(int limit) {
-                return optionDataRepository.findTopByTradingValueDesc(limit)
-                                .stream()
+                return marketStateStore.options().stream()
+                                .sorted(Comparator.comparing(OptionData::getTradingValue).reversed())
+                                .limit(limit)
                                 .map(this::convertToTopTradedDTO)
                                 .collect(Collectors.toList());
         }
@@ -231,222 +311,45 @@ public class MarketDataService {
          * 거래량 상위 종목 (옵션만)
          */
         public List<TopTradedInstrumentDTO> getTopByVolume(int limit) {
-                return optionDataRepository.findTopByVolumeDesc(limit)
-                                .stream()
-                                .map(this::convertToTopTradedDTO)
-                                .collect(Collectors.toList());
+                return topBy(InstrumentState::volume, limit);
         }
 
         /**
          * 미결제약정 상위 종목 (옵션만)
          */
         public List<TopTradedInstrumentDTO> getTopByOpenInterest(int limit) {
-                return optionDataRepository.findTopByOpenInterestDesc(limit)
-                                .stream()
-                                .map(this::convertToTopTradedDTO)
-                                .collect(Collectors.toList());
+                return topBy(InstrumentState::openInterest, limit);
         }
 
         /**
          * 최신 옵션 데이터 타임스탬프
          */
         public String getLatestOptionTimestamp() {
-                var data = optionDataRepository.findAll();
-                if (data.isEmpty()) {
-                        return "No data";
-                }
-                var latest = data.stream()
-                                .max((a, b) -> Long.compare(a.getId(), b.getId()))
-                                .get();
-                return "ID: " + latest.getId() + ", Volume: " + latest.getVolume() +
-                                ", OpenInterest: " + latest.getOpenInterest();
+                return marketStateStore.options().stream()
+                                .max(Comparator.comparing(OptionData::getTimestamp))
+                                .map(latest -> "Symbol: " + latest.getSymbol() + ", Updated: " + latest.getTimestamp()
+                                                + ", Volume: " + latest.getVolume()
+                                                + ", OpenInterest: " + latest.getOpenInterest())
+                                .orElse("No data");
         }
 
         /**
          * 최신 선물 데이터 타임스탬프
          */
         public String getLatestFuturesTimestamp() {
-                var data = futuresDataRepository.findAll();
-                if (data.isEmpty()) {
-                        return "No data";
-                }
-                var latest = data.stream()
-                                .max((a, b) -> Long.compare(a.getId(), b.getId()))
-                                .get();
-                return "ID: " + latest.getId() + ", Volume: " + latest.getVolume() +
-                                ", OpenInterest: " + latest.getOpenInterest();
+                return marketStateStore.futures().stream()
+                                .max(Comparator.comparing(FuturesData::getTimestamp))
+                                .map(latest -> "Symbol: " + latest.getSymbol() + ", Updated: " + latest.getTimestamp()
+                                                + ", Volume: " + latest.getVolume()
+                                                + ", OpenInterest: " + latest.getOpenInterest())
+                                .orElse("No data");
         }
 
         /**
          * 옵션 체인 분석 (행사가별 콜/풋 데이터)
+         * - {@link OptionChainSnapshotPublisher}가 게시한 최신 스냅샷 (요청마다 재생성하지 않음)
          */
         public OptionChainAnalysisDTO getOptionChainAnalysis() {
-                List<OptionData> allOptions = optionDataRepository.findAllOrderByStrikePrice();
-
-                // 기초자산 가격 추정 (필터링 전에 먼저 계산)
-                BigDecimal underlyingPrice = estimateUnderlyingPrice(allOptions);
-
-                // 필터링하지 않고 모든 옵션 데이터 전송 (프론트엔드에서 필터링)
-                // 백엔드: 565~585 전체 (42개) 전송
-                List<OptionData> filteredOptions = allOptions;
-
-                log.debug("Sending {} options (all strikes) to frontend, underlying price: {}",
-                                filteredOptions.size(), underlyingPrice);
-
-                // 행사가별로 그룹핑
-                Map<BigDecimal, Map<OptionType, OptionData>> strikeMap = filteredOptions.stream()
-                                .collect(Collectors.groupingBy(
-                                                OptionData::getStrikePrice,
-                                                Collectors.toMap(
-                                                                OptionData::getOptionType,
-                                                                o -> o,
-                                                                (o1, o2) -> o1.getVolume() > o2.getVolume() ? o1
-                                                                                : o2)));
-
-                // StrikePriceDataDTO 리스트 생성
-                List<StrikePriceDataDTO> strikeChain = strikeMap.entrySet().stream()
-                                .map(entry -> {
-                                        BigDecimal strike = entry.getKey();
-                                        Map<OptionType, OptionData> optionMap = entry.getValue();
-                                        OptionData call = optionMap.get(OptionType.CALL);
-                                        OptionData put = optionMap.get(OptionType.PUT);
-
-                                        Long callVolume = call != null ? call.getVolume() : 0L;
-                                        Long putVolume = put != null ? put.getVolume() : 0L;
-                                        Long callOI = call != null ? call.getOpenInterest() : 0L;
-                                        Long putOI = put != null ? put.getOpenInterest() : 0L;
-
-                                        return StrikePriceDataDTO.builder()
-                                                        .strikePrice(strike)
-                                                        .callPrice(call != null ? call.getCurrentPrice() : null)
-                                                        .callVolume(callVolume)
-                                                        .callOpenInterest(callOI)
-                                                        .callImpliedVolatility(
-                                                                        call != null ? call.getImpliedVolatility()
-                                                                                        : null)
-                                                        .callDelta(call != null ? call.getDelta() : null)
-                                                        .callGamma(call != null ? call.getGamma() : null)
-                                                        .callTheta(call != null ? call.getTheta() : null)
-                                                        .callVega(call != null ? call.getVega() : null)
-                                                        .callBidPrice(call != null ? call.getBidPrice() : null)
-                                                        .callAskPrice(call != null ? call.getAskPrice() : null)
-                                                        .putPrice(put != null ? put.getCurrentPrice() : null)
-                                                        .putVolume(putVolume)
-                                                        .putOpenInterest(putOI)
-                                                        .putImpliedVolatility(
-                                                                        put != null ? put.getImpliedVolatility() : null)
-                                                        .putDelta(put != null ? put.getDelta() : null)
-                                                        .putGamma(put != null ? put.getGamma() : null)
-                                                        .putTheta(put != null ? put.getTheta() : null)
-                                                        .putVega(put != null ? put.getVega() : null)
-                                                        .putBidPrice(put != null ? put.getBidPrice() : null)
-                                                        .putAskPrice(put != null ? put.getAskPrice() : null)
-                                                        .totalVolume(callVolume + putVolume)
-                                                        .totalOpenInterest(callOI + putOI)
-                                                        .build();
-                                })
-                                .sorted(Comparator.comparing(StrikePriceDataDTO::getStrikePrice).reversed())
-                                .collect(Collectors.toList());
-
-                // 거래량 최대 행사가
-                StrikePriceDataDTO maxVolumeStrike = strikeChain.stream()
-                                .max(Comparator.comparing(StrikePriceDataDTO::getTotalVolume))
-                                .orElse(null);
-
-                // 미결제약정 최대 행사가
-                StrikePriceDataDTO maxOIStrike = strikeChain.stream()
-                                .max(Comparator.comparing(StrikePriceDataDTO::getTotalOpenInterest))
-                                .orElse(null);
-
-                // Max Pain 계산 (간단한 버전)
-                BigDecimal maxPainPrice = calculateMaxPain(strikeChain);
-
-                // ATM 행사가 찾기 (이미 계산된 underlyingPrice 사용)
-                BigDecimal atmStrike = findNearestStrike(strikeChain, underlyingPrice);
-
-                return OptionChainAnalysisDTO.builder()
-                                .strikeChain(strikeChain)
-                                .maxPainPrice(maxPainPrice)
-                                .highestVolumeStrike(maxVolumeStrike != null ? maxVolumeStrike.getStrikePrice() : null)
-                                .highestVolumeAmount(maxVolumeStrike != null ? maxVolumeStrike.getTotalVolume() : null)
-                                .highestOIStrike(maxOIStrike != null ? maxOIStrike.getStrikePrice() : null)
-                                .highestOIAmount(maxOIStrike != null ? maxOIStrike.getTotalOpenInterest() : null)
-                                .atmStrike(atmStrike)
-                                .underlyingPrice(underlyingPrice)
-                                .build();
-        }
-
-        /**
-         * Max Pain 계산 - 옵션 매도자가 최소 손실을 보는 가격
-         */
-        private BigDecimal calculateMaxPain(List<StrikePriceDataDTO> strikeChain) {
-                if (strikeChain.isEmpty())
-                        return BigDecimal.ZERO;
-
-                BigDecimal minPain = null;
-                BigDecimal maxPainPrice = null;
-
-                for (StrikePriceDataDTO currentPrice : strikeChain) {
-                        BigDecimal totalPain = BigDecimal.ZERO;
-
-                        for (StrikePriceDataDTO strike : strikeChain) {
-                                // 콜 옵션의 intrinsic value
-                                BigDecimal callValue = currentPrice.getStrikePrice()
-                                                .subtract(strike.getStrikePrice())
-                                                .max(BigDecimal.ZERO);
-                                totalPain = totalPain.add(callValue.multiply(
-                                                BigDecimal.valueOf(strike.getCallOpenInterest() != null
-                                                                ? strike.getCallOpenInterest()
-                                                                : 0L)));
-
-                                // 풋 옵션의 intrinsic value
-                                BigDecimal putValue = strike.getStrikePrice()
-                                                .subtract(currentPrice.getStrikePrice())
-                                                .max(BigDecimal.ZERO);
-                                totalPain = totalPain.add(putValue.multiply(
-                                                BigDecimal.valueOf(strike.getPutOpenInterest() != null
-                                                                ? strike.getPutOpenInterest()
-                                                                : 0L)));
-                        }
-
-                        if (minPain == null || totalPain.compareTo(minPain) < 0) {
-                                minPain = totalPain;
-                                maxPainPrice = currentPrice.getStrikePrice();
-                        }
-                }
-
-                return maxPainPrice;
-        }
-
-        /**
-         * 기초자산 가격 추정
-         */
-        private BigDecimal estimateUnderlyingPrice(List<OptionData> options) {
-                // 옵션 데이터에서 저장된 KOSPI200 지수 사용
-                return options.stream()
-                                .filter(o -> o.getUnderlyingPrice() != null)
-                                .map(OptionData::getUnderlyingPrice)
-                                .findFirst()
-                                .orElseGet(() -> {
-                                        // 폴백: ATM 옵션을 찾아 기초자산 가격 추정
-                                        // 콜 델타가 0.5에 가장 가까운 옵션의 행사가를 사용
-                                        return options.stream()
-                                                        .filter(o -> o.getOptionType() == OptionType.CALL
-                                                                        && o.getDelta() != null)
-                                                        .min(Comparator.comparing(o -> o.getDelta()
-                                                                        .subtract(new BigDecimal("0.5")).abs()))
-                                                        .map(OptionData::getStrikePrice)
-                                                        .orElse(BigDecimal.valueOf(300)); // 최종 기본값
-                                });
-        }
-
-        /**
-         * 가장 가까운 행사가 찾기
-         */
-        private BigDecimal findNearestStrike(List<StrikePriceDataDTO> strikeChain, BigDecimal price) {
-                return strikeChain.stream()
-                                .min(Comparator.comparing(s -> s.getStrikePrice().subtract(price).abs()))
-                                .map(StrikePriceDataDTO::getStrikePrice)
-                                .orElse(price);
+                return optionChainSnapshotPublisher.current().analysis();
         }
 }
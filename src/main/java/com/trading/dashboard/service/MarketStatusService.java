@@ -8,7 +8,6 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.ZoneId;
 
 /**
  * 시장 상태 판단 서비스
@@ -21,13 +20,13 @@ import java.time.ZoneId;
 public class MarketStatusService {
 
     private final TradingCalendarService tradingCalendarService;
-    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private final MarketClock marketClock;
 
     /**
      * 시장 상태 조회
      */
     public MarketStatus getMarketStatus() {
-        LocalDateTime now = LocalDateTime.now(KST);
+        LocalDateTime now = marketClock.now();
         DayOfWeek dayOfWeek = now.getDayOfWeek();
         LocalTime time = now.toLocalTime();
         LocalDate today = now.toLocalDate();
@@ -0,0 +1,133 @@
+package com.trading.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.trading.dashboard.model.OptionData;
+import com.trading.dashboard.model.OptionType;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.trading.dashboard.service.KisQuoteDecoder.*;
+
+/**
+ * 옵션 전광판(display-board-callput) 응답 파서
+ * - 트리(JsonNode)를 만들지 않고 스트리밍으로 한 번 읽으면서 행마다 OptionData 생성 (숫자 변환은 {@link KisQuoteDecoder})
+ * - output1: 콜, output2: 풋
+ * - 전광판에 없는 필드(기초자산 가격)는 호출자가 별도 조회로 보완
+ */
+final class OptionBoardParser {
+
+    /**
+     * 파싱 결과 (rt_cd가 "0"이 아니면 ok=false, rows는 비어 있음)
+     */
+    record Board(boolean ok, String messageCode, String message, List<OptionData> rows) {
+    }
+
+    private OptionBoardParser() {
+    }
+
+    static Board parse(JsonFactory factory, String body, String expiry, LocalDateTime timestamp)
+            throws IOException {
+        String rtCd = null;
+        String messageCode = "";
+        String message = "";
+        List<OptionData> rows = new ArrayList<>();
+
+        try (JsonParser parser = factory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Board response is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "rt_cd" -> rtCd = parser.getValueAsString();
+                    case "msg_cd" -> messageCode = parser.getValueAsString("");
+                    case "msg1" -> message = parser.getValueAsString("");
+                    case "output1", "output2" -> {
+                        OptionType type = "output1".equals(field) ? OptionType.CALL : OptionType.PUT;
+                        if (value == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                OptionData row = row(parser, type, expiry, timestamp);
+                                if (row != null) {
+                                    rows.add(row);
+                                }
+                            }
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        if (!"0".equals(rtCd)) {
+            return new Board(false, messageCode, message, List.of());
+        }
+        return new Board(true, messageCode, message, rows);
+    }
+
+    /**
+     * 행 1개 (START_OBJECT 다음부터 END_OBJECT까지) → OptionData, 종목코드가 없으면 null
+     */
+    private static OptionData row(JsonParser parser, OptionType type, String expiry, LocalDateTime timestamp)
+            throws IOException {
+        OptionData option = new OptionData();
+        option.setOptionType(type);
+        option.setCurrentPrice(BigDecimal.ZERO);
+        option.setStrikePrice(BigDecimal.ZERO);
+        option.setTradingValue(BigDecimal.ZERO);
+        option.setVolume(0L);
+        option.setOpenInterest(0L);
+        option.setExpiryDate(expiry);
+        option.setTimestamp(timestamp);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (!scalar(parser)) {
+                continue;
+            }
+            switch (field) {
+                case "optn_shrn_iscd" -> option.setSymbol(parser.getText());
+                case "acpr" -> option.setStrikePrice(decimal(parser));
+                case "optn_prpr" -> option.setCurrentPrice(decimal(parser));
+                case "acml_vol" -> option.setVolume(whole(parser));
+                case "acml_tr_pbmn" -> option.setTradingValue(decimal(parser));
+                case "hts_otst_stpl_qty" -> option.setOpenInterest(whole(parser));
+                case "hts_ints_vltl" -> {
+                    // 개별 시세와 같은 스케일 처리: 1 미만이면 소수 표기 → % 변환
+                    BigDecimal iv = decimal(parser);
+                    option.setImpliedVolatility(iv.compareTo(BigDecimal.ONE) < 0
+                            ? iv.multiply(BigDecimal.valueOf(100))
+                            : iv);
+                }
+                case "delta_val" -> option.setDelta(decimal(parser));
+                case "gama" -> option.setGamma(decimal(parser));
+                case "theta" -> option.setTheta(decimal(parser));
+                case "vega" -> option.setVega(decimal(parser));
+                case "optn_bidp" -> option.setBidPrice(positive(decimal(parser)));
+                case "optn_askp" -> option.setAskPrice(positive(decimal(parser)));
+                case "shnu_rsqn" -> option.setBidVolume((int) whole(parser));
+                case "seln_rsqn" -> option.setAskVolume((int) whole(parser));
+                default -> {
+                }
+            }
+        }
+        if (option.getSymbol() == null) {
+            return null;
+        }
+        // 종목명: 개별 시세의 hts_kor_isnm 형식 ("C 202601 567.5")
+        option.setName((type == OptionType.CALL ? "C " : "P ") + expiry + " "
+                + option.getStrikePrice().stripTrailingZeros().toPlainString());
+        return option;
+    }
+
+    private static BigDecimal positive(BigDecimal value) {
+        return value.signum() > 0 ? value : null;
+    }
+}
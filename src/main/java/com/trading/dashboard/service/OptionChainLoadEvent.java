@@ -0,0 +1,31 @@
+package com.trading.dashboard.service;
+
+import com.trading.dashboard.model.OptionData;
+
+/**
+ * 옵션 체인 적재 진행 이벤트 (KisApiService → STOMP 발행)
+ * - 종목 1건이 상태 저장소에 반영될 때마다 발행 (ATM 근접 종목부터)
+ * - 적재가 끝나면 option 없이 complete=true 로 1회 발행
+ *
+ * @param startedAtMillis 적재 시작 시각
+ * @param done            반영된 종목 수
+ * @param total           조회 대상 종목 수
+ * @param option          방금 반영된 종목 (완료 이벤트는 null)
+ * @param complete        적재 종료 여부
+ */
+public record OptionChainLoadEvent(long startedAtMillis, int done, int total, OptionData option,
+        boolean complete) {
+
+    /**
+     * 남은 종목의 예상 소요시간 (지금까지의 평균 속도 기준, 계산 불가 시 -1)
+     */
+    public long etaMillis(long nowMillis) {
+        if (complete) {
+            return 0;
+        }
+        if (done <= 0 || total <= done) {
+            return -1;
+        }
+        return (nowMillis - startedAtMillis) * (total - done) / done;
+    }
+}
@@ -0,0 +1,20 @@
+package com.trading.dashboard.service;
+
+import com.trading.dashboard.dto.OptionChainAnalysisDTO;
+import com.trading.dashboard.model.OptionData;
+
+import java.util.List;
+
+/**
+ * 옵션 체인 스냅샷 (게시 후 변경 금지)
+ * - REST, STOMP, 분석 로직이 모두 같은 인스턴스를 읽음
+ *
+ * @param version          게시 순번 (1부터 단조 증가)
+ * @param stateChangeCount 생성 시점의 상태 저장소 변경 카운터
+ * @param builtAtMillis    생성 시각
+ * @param options          행사가 오름차순 옵션 스냅샷 (수정 불가 목록)
+ * @param analysis         행사가별 체인 분석 (strikeChain은 수정 불가 목록)
+ */
+public record OptionChainSnapshot(long version, long stateChangeCount, long builtAtMillis,
+        List<OptionData> options, OptionChainAnalysisDTO analysis) {
+}
@@ -0,0 +1,287 @@
+package com.trading.dashboard.service;
+
+import com.trading.dashboard.analytics.PayoffEngine;
+import com.trading.dashboard.dto.OptionChainAnalysisDTO;
+import com.trading.dashboard.dto.StrikePriceDataDTO;
+import com.trading.dashboard.model.OptionData;
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.state.MarketStateStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * 옵션 체인 스냅샷 게시
+ * - 상태 저장소가 바뀐 경우에만 주기마다 불변 스냅샷 1개를 생성해 AtomicReference로 게시 (버전 단조 증가)
+ * - 생성 직전에 {@link PricingEngine}으로 IV/Greeks를 최신 선물가격 기준으로 재계산
+ * - 주기 사이의 틱은 한 번의 재생성으로 묶임, 변경이 없으면 기존 스냅샷 유지
+ * - REST(/api/market/option-chain), STOMP(/topic/option-chain), 분석 로직이 같은 인스턴스를 읽음
+ * - 재생성 소요시간/횟수, 생략 횟수, 현재 버전/경과 시간은 메트릭으로 노출
+ */
+@Slf4j
+@Lazy(false)
+@Service
+@RequiredArgsConstructor
+public class OptionChainSnapshotPublisher {
+
+    private final MarketStateStore marketStateStore;
+    private final PricingEngine pricingEngine;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<OptionChainSnapshot> current = new AtomicReference<>();
+
+    private Timer buildTimer;
+    private Counter skippedCounter;
+
+    // 게시된 스냅샷의 상태 변경 카운터 통지 (리플레이 리포트용, 기본 비활성)
+    private volatile LongConsumer publishProbe;
+
+    @PostConstruct
+    public void init() {
+        buildTimer = Timer.builder("chain.snapshot.build")
+                .description("Option chain snapshot rebuilds")
+                .register(meterRegistry);
+        skippedCounter = Counter.builder("chain.snapshot.skipped")
+                .description("Publish passes with no state change since the last snapshot")
+                .register(meterRegistry);
+        Gauge.builder("chain.snapshot.version", current, ref -> ref.get() != null ? ref.get().version() : 0)
+                .description("Version of the published option chain snapshot")
+                .register(meterRegistry);
+        Gauge.builder("chain.snapshot.age", current,
+                        ref -> ref.get() != null ? System.currentTimeMillis() - ref.get().builtAtMillis() : 0)
+                .description("Milliseconds since the published snapshot was built")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주기적 게시 (변경이 있을 때만 재생성)
+     */
+    @Scheduled(fixedDelayString = "${trading.snapshot.interval-ms:250}")
+    public void publish() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("[SNAPSHOT] Option chain snapshot build failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 최신 스냅샷 (아직 게시된 적이 없으면 즉시 생성)
+     */
+    public OptionChainSnapshot current() {
+        OptionChainSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : refresh();
+    }
+
+    /**
+     * 마지막 스냅샷 이후 상태가 바뀌었으면 재생성 후 게시, 아니면 기존 스냅샷 반환
+     * - 변경 카운터를 상태 복사 전에 읽으므로 생성 중 들어온 틱은 다음 게시에서 반영됨
+     */
+    public synchronized OptionChainSnapshot refresh() {
+        long changeCount = marketStateStore.changeCount();
+        OptionChainSnapshot previous = current.get();
+        if (previous != null && previous.stateChangeCount() == changeCount) {
+            skippedCounter.increment();
+            return previous;
+        }
+
+        long start = System.nanoTime();
+        long version = previous != null ? previous.version() + 1 : 1;
+        // 틱 묶음마다 IV/Greeks 일괄 재계산 후 복사 (재계산은 변경 카운터를 올리지 않음)
+        try {
+            pricingEngine.reprice();
+        } catch (Exception e) {
+            log.error("[SNAPSHOT] Repricing failed, publishing last known Greeks: {}", e.getMessage(), e);
+        }
+        List<OptionData> options = marketStateStore.options();
+        // 행사가를 모르는 종목(리플레이에서 프레임으로만 등록된 종목 등)은 체인에 배치할 수 없으므로 제외
+        options.removeIf(option -> option.getStrikePrice() == null);
+        options.sort(Comparator.comparing(OptionData::getStrikePrice));
+        OptionChainAnalysisDTO analysis = analyze(options, version);
+        OptionChainSnapshot snapshot = new OptionChainSnapshot(version, changeCount, System.currentTimeMillis(),
+                List.copyOf(options), analysis);
+        current.set(snapshot);
+        buildTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        LongConsumer probe = publishProbe;
+        if (probe != null) {
+            probe.accept(changeCount);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 스냅샷 게시 통지 수신자 등록 (게시 스레드에서 상태 변경 카운터로 호출, null이면 해제)
+     */
+    public void setPublishProbe(LongConsumer publishProbe) {
+        this.publishProbe = publishProbe;
+    }
+
+    /**
+     * 옵션 스냅샷 목록으로 체인 분석 생성 (행사가 오름차순 정렬된 목록)
+     */
+    private OptionChainAnalysisDTO analyze(List<OptionData> allOptions, long version) {
+        // 기초자산 가격 추정 (필터링 전에 먼저 계산)
+        BigDecimal underlyingPrice = estimateUnderlyingPrice(allOptions);
+
+        // 필터링하지 않고 모든 옵션 데이터 전송 (프론트엔드에서 필터링)
+        // 백엔드: 565~585 전체 (42개) 전송
+        List<OptionData> filteredOptions = allOptions;
+
+        log.debug("Building chain snapshot v{} with {} options (all strikes), underlying price: {}",
+                version, filteredOptions.size(), underlyingPrice);
+
+        // 행사가별로 그룹핑
+        Map<BigDecimal, Map<OptionType, OptionData>> strikeMap = filteredOptions.stream()
+                .collect(Collectors.groupingBy(
+                        OptionData::getStrikePrice,
+                        Collectors.toMap(
+                                OptionData::getOptionType,
+                                o -> o,
+                                (o1, o2) -> o1.getVolume() > o2.getVolume() ? o1
+                                        : o2)));
+
+        // StrikePriceDataDTO 리스트 생성
+        List<StrikePriceDataDTO> strikeChain = strikeMap.entrySet().stream()
+                .map(entry -> {
+                    BigDecimal strike = entry.getKey();
+                    Map<OptionType, OptionData> optionMap = entry.getValue();
+                    OptionData call = optionMap.get(OptionType.CALL);
+                    OptionData put = optionMap.get(OptionType.PUT);
+
+                    Long callVolume = call != null ? call.getVolume() : 0L;
+                    Long putVolume = put != null ? put.getVolume() : 0L;
+                    Long callOI = call != null ? call.getOpenInterest() : 0L;
+                    Long putOI = put != null ? put.getOpenInterest() : 0L;
+
+                    return StrikePriceDataDTO.builder()
+                            .strikePrice(strike)
+                            .callPrice(call != null ? call.getCurrentPrice() : null)
+                            .callVolume(callVolume)
+                            .callOpenInterest(callOI)
+                            .callImpliedVolatility(
+                                    call != null ? call.getImpliedVolatility()
+                                            : null)
+                            .callDelta(call != null ? call.getDelta() : null)
+                            .callGamma(call != null ? call.getGamma() : null)
+                            .callTheta(call != null ? call.getTheta() : null)
+                            .callVega(call != null ? call.getVega() : null)
+                            .callBidPrice(call != null ? call.getBidPrice() : null)
+                            .callAskPrice(call != null ? call.getAskPrice() : null)
+                            .putPrice(put != null ? put.getCurrentPrice() : null)
+                            .putVolume(putVolume)
+                            .putOpenInterest(putOI)
+                            .putImpliedVolatility(
+                                    put != null ? put.getImpliedVolatility() : null)
+                            .putDelta(put != null ? put.getDelta() : null)
+                            .putGamma(put != null ? put.getGamma() : null)
+                            .putTheta(put != null ? put.getTheta() : null)
+                            .putVega(put != null ? put.getVega() : null)
+                            .putBidPrice(put != null ? put.getBidPrice() : null)
+                            .putAskPrice(put != null ? put.getAskPrice() : null)
+                            .totalVolume(callVolume + putVolume)
+                            .totalOpenInterest(callOI + putOI)
+                            .build();
+                })
+                .sorted(Comparator.comparing(StrikePriceDataDTO::getStrikePrice).reversed())
+                .toList();
+
+        // 거래량 최대 행사가
+        StrikePriceDataDTO maxVolumeStrike = strikeChain.stream()
+                .max(Comparator.comparing(StrikePriceDataDTO::getTotalVolume))
+                .orElse(null);
+
+        // 미결제약정 최대 행사가
+        StrikePriceDataDTO maxOIStrike = strikeChain.stream()
+                .max(Comparator.comparing(StrikePriceDataDTO::getTotalOpenInterest))
+                .orElse(null);
+
+        // Max Pain 계산 (누적합 기반 O(n) 손실 곡선)
+        PayoffEngine payoff = payoffEngine(strikeChain);
+        BigDecimal maxPainPrice = payoff.size() > 0
+                ? strikeChain.get(strikeChain.size() - 1 - payoff.maxPainIndex()).getStrikePrice()
+                : BigDecimal.ZERO;
+        BigDecimal maxPainLoss = payoff.size() > 0 ? BigDecimal.valueOf(payoff.maxPainLoss()) : null;
+
+        // ATM 행사가 찾기 (이미 계산된 underlyingPrice 사용)
+        BigDecimal atmStrike = findNearestStrike(strikeChain, underlyingPrice);
+
+        return OptionChainAnalysisDTO.builder()
+                .strikeChain(strikeChain)
+                .maxPainPrice(maxPainPrice)
+                .maxPainLoss(maxPainLoss)
+                .highestVolumeStrike(maxVolumeStrike != null ? maxVolumeStrike.getStrikePrice() : null)
+                .highestVolumeAmount(maxVolumeStrike != null ? maxVolumeStrike.getTotalVolume() : null)
+                .highestOIStrike(maxOIStrike != null ? maxOIStrike.getStrikePrice() : null)
+                .highestOIAmount(maxOIStrike != null ? maxOIStrike.getTotalOpenInterest() : null)
+                .atmStrike(atmStrike)
+                .underlyingPrice(underlyingPrice)
+                .version(version)
+                .build();
+    }
+
+    /**
+     * 행사가 내림차순 체인 → 오름차순 primitive 배열 기반 만기 손익 계산
+     */
+    private PayoffEngine payoffEngine(List<StrikePriceDataDTO> strikeChain) {
+        int n = strikeChain.size();
+        double[] strikes = new double[n];
+        long[] callOpenInterest = new long[n];
+        long[] putOpenInterest = new long[n];
+        for (int i = 0; i < n; i++) {
+            StrikePriceDataDTO row = strikeChain.get(n - 1 - i);
+            strikes[i] = row.getStrikePrice().doubleValue();
+            callOpenInterest[i] = row.getCallOpenInterest() != null ? row.getCallOpenInterest() : 0L;
+            putOpenInterest[i] = row.getPutOpenInterest() != null ? row.getPutOpenInterest() : 0L;
+        }
+        return PayoffEngine.of(strikes, callOpenInterest, putOpenInterest);
+    }
+
+    /**
+     * 기초자산 가격 추정
+     */
+    private BigDecimal estimateUnderlyingPrice(List<OptionData> options) {
+        // 옵션 데이터에서 저장된 KOSPI200 지수 사용
+        return options.stream()
+                .filter(o -> o.getUnderlyingPrice() != null)
+                .map(OptionData::getUnderlyingPrice)
+                .findFirst()
+                .orElseGet(() -> {
+                    // 폴백: ATM 옵션을 찾아 기초자산 가격 추정
+                    // 콜 델타가 0.5에 가장 가까운 옵션의 행사가를 사용
+                    return options.stream()
+                            .filter(o -> o.getOptionType() == OptionType.CALL
+                                    && o.getDelta() != null)
+                            .min(Comparator.comparing(o -> o.getDelta()
+                                    .subtract(new BigDecimal("0.5")).abs()))
+                            .map(OptionData::getStrikePrice)
+                            .orElse(BigDecimal.valueOf(300)); // 최종 기본값
+                });
+    }
+
+    /**
+     * 가장 가까운 행사가 찾기
+     */
+    private BigDecimal findNearestStrike(List<StrikePriceDataDTO> strikeChain, BigDecimal price) {
+        return strikeChain.stream()
+                .min(Comparator.comparing(s -> s.getStrikePrice().subtract(price).abs()))
+                .map(StrikePriceDataDTO::getStrikePrice)
+                .orElse(price);
+    }
+}
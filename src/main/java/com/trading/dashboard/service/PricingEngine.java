@@ -0,0 +1,201 @@
+package com.trading.dashboard.service;
+
+import com.trading.dashboard.analytics.Black76;
+import com.trading.dashboard.analytics.GreeksKernel;
+import com.trading.dashboard.analytics.GreeksKernels;
+import com.trading.dashboard.analytics.OptionChainArrays;
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.state.FixedPoint;
+import com.trading.dashboard.state.InstrumentState;
+import com.trading.dashboard.state.MarketStateStore;
+import com.trading.dashboard.universe.Instrument;
+import com.trading.dashboard.universe.InstrumentUniverse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실시간 IV/Greeks 재계산 (Black-76, 기초자산 = 상태 저장소의 최근월 선물 현재가)
+ * - 스냅샷 1회마다 체인 전체를 일괄 재계산 ({@link OptionChainSnapshotPublisher}가 틱 묶음마다 호출)
+ * - 잔존기간: {@link TradingCalendarService#yearsToExpiry} (거래일 기준), 만기별로 1회만 계산
+ * - IV는 슬롯의 직전 값으로 warm start, 풀 수 없는 가격(내재가치 이하 등)은 기존 REST 값 유지
+ * - Greeks는 struct-of-arrays 체인에 모아 {@link GreeksKernel}로 일괄 계산 (-Pvector 빌드면 SIMD 커널)
+ * - 단위는 KIS REST와 동일: IV %, theta 거래일 1일당, vega 변동성 1%p당
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PricingEngine {
+
+    private static final DateTimeFormatter EXPIRY_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final MarketStateStore marketStateStore;
+    private final TradingCalendarService tradingCalendarService;
+    private final InstrumentUniverse instrumentUniverse;
+    private final MarketClock marketClock;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${trading.pricing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.pricing.risk-free-rate:0.03}")
+    private double riskFreeRate;
+
+    // 종목코드 → 최종거래일 (종목 마스터 또는 슬롯의 만기월)
+    private final Map<String, LocalDate> expiries = new ConcurrentHashMap<>();
+
+    // 재계산마다 재사용하는 배치 버퍼 (reprice()는 synchronized)
+    private final GreeksKernel greeksKernel = GreeksKernels.best();
+    private final OptionChainArrays chain = new OptionChainArrays(256);
+    private InstrumentState[] chainStates = new InstrumentState[256];
+
+    private Timer repriceTimer;
+    private Counter unsolvedCounter;
+
+    @PostConstruct
+    public void init() {
+        repriceTimer = Timer.builder("pricing.reprice")
+                .description("Full-chain IV and Greeks recomputation")
+                .register(meterRegistry);
+        unsolvedCounter = Counter.builder("pricing.unsolved")
+                .description("Contracts whose price admits no implied volatility")
+                .register(meterRegistry);
+        log.info("[PRICING] Greeks kernel: {}", greeksKernel.name());
+    }
+
+    /**
+     * 체인 전체 재계산
+     *
+     * @return 재계산된 종목 수 (선물 가격이 없으면 0)
+     */
+    public synchronized int reprice() {
+        if (!enabled) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        InstrumentState[] slots = marketStateStore.slots();
+        InstrumentState front = frontFutures(slots);
+        if (front == null) {
+            return 0;
+        }
+        double forward = FixedPoint.toDouble(front.currentPrice());
+        LocalDateTime now = marketClock.now();
+
+        // 1) IV - 종목별 Newton 반복 (분기가 많아 스칼라로 풀고 결과를 체인 배열에 모음)
+        chain.clear();
+        LocalDate cachedExpiry = null;
+        double years = 0.0;
+        for (InstrumentState state : slots) {
+            OptionType optionType = state.getOptionType();
+            if (state.isFutures() || optionType == null) {
+                continue;
+            }
+            long price = state.currentPrice();
+            long strike = state.strikePrice();
+            if (price == FixedPoint.NULL || price <= 0 || strike == FixedPoint.NULL || strike <= 0) {
+                continue;
+            }
+            LocalDate expiry = expiryOf(state);
+            if (expiry == null) {
+                continue;
+            }
+            if (!expiry.equals(cachedExpiry)) {
+                cachedExpiry = expiry;
+                years = tradingCalendarService.yearsToExpiry(now, expiry);
+            }
+            if (years <= 0) {
+                continue;
+            }
+
+            boolean call = optionType == OptionType.CALL;
+            double strikePrice = FixedPoint.toDouble(strike);
+            double marketPrice = FixedPoint.toDouble(price);
+            double volatility = Black76.impliedVolatility(call, marketPrice, forward, strikePrice,
+                    years, riskFreeRate, state.impliedVolatility() / 100.0);
+            if (Double.isNaN(volatility)) {
+                unsolvedCounter.increment();
+                continue;
+            }
+            int index = chain.add(call, strikePrice, marketPrice, volatility, years);
+            if (index == chainStates.length) {
+                chainStates = Arrays.copyOf(chainStates, index * 2);
+            }
+            chainStates[index] = state;
+        }
+
+        // 2) Greeks - 체인 전체 일괄 계산
+        int priced = chain.size();
+        greeksKernel.compute(chain, forward, riskFreeRate);
+
+        // 3) 슬롯 반영
+        double[] volatilities = chain.volatilities();
+        double[] deltas = chain.deltas();
+        double[] gammas = chain.gammas();
+        double[] thetas = chain.thetas();
+        double[] vegas = chain.vegas();
+        for (int i = 0; i < priced; i++) {
+            chainStates[i].applyModelGreeks(volatilities[i] * 100.0, deltas[i], gammas[i],
+                    thetas[i] / TradingCalendarService.TRADING_DAYS_PER_YEAR, vegas[i] / 100.0);
+            chainStates[i] = null;
+        }
+        repriceTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return priced;
+    }
+
+    /**
+     * 거래량 최대 선물 (가격이 있는 것만)
+     */
+    private static InstrumentState frontFutures(InstrumentState[] slots) {
+        InstrumentState front = null;
+        for (InstrumentState state : slots) {
+            if (state.isFutures() && state.currentPrice() != FixedPoint.NULL && state.currentPrice() > 0
+                    && (front == null || state.volume() > front.volume())) {
+                front = state;
+            }
+        }
+        return front;
+    }
+
+    /**
+     * 최종거래일 - 종목 마스터 우선, 없으면 슬롯의 만기월(yyyyMM)
+     */
+    private LocalDate expiryOf(InstrumentState state) {
+        LocalDate cached = expiries.get(state.getSymbol());
+        if (cached != null) {
+            return cached;
+        }
+        LocalDate expiry = null;
+        Instrument instrument = instrumentUniverse.get(state.getSymbol());
+        if (instrument != null) {
+            expiry = instrument.lastTradingDay();
+        } else {
+            String month = state.expiryDate();
+            if (month != null && month.length() == 6) {
+                try {
+                    expiry = Instrument.lastTradingDay(YearMonth.parse(month, EXPIRY_MONTH));
+                } catch (DateTimeParseException e) {
+                    log.debug("[PRICING] Unparseable expiry {} for {}", month, state.getSymbol());
+                }
+            }
+        }
+        if (expiry != null) {
+            expiries.put(state.getSymbol(), expiry);
+        }
+        return expiry;
+    }
+}
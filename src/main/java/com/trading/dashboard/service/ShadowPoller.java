@@ -0,0 +1,280 @@
+package com.trading.dashboard.service;
+
+import com.trading.dashboard.config.DataSourceMode;
+import com.trading.dashboard.feed.TickWriteBehind;
+import com.trading.dashboard.fetch.ApiPriority;
+import com.trading.dashboard.fetch.KisApiGovernor;
+import com.trading.dashboard.fetch.TokenBucket;
+import com.trading.dashboard.fetch.WeightedRoundRobin;
+import com.trading.dashboard.model.OptionData;
+import com.trading.dashboard.state.FixedPoint;
+import com.trading.dashboard.state.InstrumentState;
+import com.trading.dashboard.state.MarketStateStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비구독 종목 REST 순환 조회 (shadow feed)
+ * - WebSocket 구독 한도(40종목) 밖의 옵션을 가중치 라운드로빈으로 계속 재조회
+ * - 가중치: ATM 근접도 × (1 + 거래량 비중), 멀리 떨어진 종목도 min-weight 이상으로 순환
+ * - 조회 속도: 현재 허용 속도 × budget-share (BACKFILL 우선순위로 상위 조회에 양보)
+ * - 결과는 실시간 틱과 같은 경로로 반영 (MarketStateStore → TickWriteBehind)
+ * - 종목별 실제 갱신 주기(EWMA)와 기대 주기를 /api/market/shadow-feed 로 제공
+ */
+@Slf4j
+@Lazy(false)
+@Service
+@RequiredArgsConstructor
+public class ShadowPoller {
+
+    private static final long STRIKE_STEP = FixedPoint.parse("2.5");
+    private static final double EWMA_ALPHA = 0.3;
+
+    private final KisApiService kisApiService;
+    private final KisWebSocketService kisWebSocketService;
+    private final MarketStateStore marketStateStore;
+    private final MarketStatusService marketStatusService;
+    private final KisApiGovernor governor;
+    private final TickWriteBehind tickWriteBehind;
+    private final MeterRegistry meterRegistry;
+    private final DataSourceMode dataSourceMode;
+
+    @Value("${trading.shadow.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.shadow.budget-share:0.25}")
+    private double budgetShare;
+
+    @Value("${trading.shadow.min-weight:0.05}")
+    private double minWeight;
+
+    @Value("${trading.shadow.universe-refresh-ms:1000}")
+    private long universeRefreshMillis;
+
+    private final WeightedRoundRobin schedule = new WeightedRoundRobin();
+    private final Map<String, PollStat> stats = new ConcurrentHashMap<>();
+    private volatile Map<String, Double> weights = Map.of();
+    private volatile double rate;
+    private long universeBuiltAt;
+
+    private TokenBucket pacer;
+    private volatile boolean running;
+    private Thread worker;
+
+    private Counter polledCounter;
+    private Counter failedCounter;
+
+    /**
+     * 종목별 조회 통계 (조회 스레드만 갱신)
+     */
+    private static final class PollStat {
+        volatile long lastPolledAt;
+        volatile double intervalMillis;
+    }
+
+    @PostConstruct
+    public void init() {
+        polledCounter = Counter.builder("kis.shadow.polls")
+                .description("Unsubscribed contracts refreshed by the shadow feed")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("kis.shadow.failures")
+                .register(meterRegistry);
+        Gauge.builder("kis.shadow.symbols", this, poller -> poller.weights.size())
+                .description("Contracts covered by the shadow feed")
+                .register(meterRegistry);
+        Gauge.builder("kis.shadow.rate", this, poller -> poller.rate)
+                .description("Shadow feed polling rate per second")
+                .register(meterRegistry);
+
+        if (!enabled || dataSourceMode.isReplay()) {
+            log.info("[SHADOW] Shadow feed disabled");
+            return;
+        }
+        pacer = new TokenBucket(targetRate(), 1);
+        running = true;
+        worker = new Thread(this::pollLoop, "kis-shadow");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("[SHADOW] Shadow feed started (budget share: {})", budgetShare);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                if (!marketStatusService.getMarketStatus().isOpen()) {
+                    Thread.sleep(universeRefreshMillis);
+                    continue;
+                }
+                long now = System.currentTimeMillis();
+                if (now - universeBuiltAt >= universeRefreshMillis) {
+                    rebuildUniverse();
+                    universeBuiltAt = now;
+                }
+                String symbol = schedule.next();
+                if (symbol == null) {
+                    Thread.sleep(universeRefreshMillis);
+                    continue;
+                }
+                rate = targetRate();
+                pacer.setRate(rate);
+                pacer.acquire();
+                poll(symbol);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.debug("[SHADOW] Poll failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private double targetRate() {
+        return Math.max(0.1, governor.currentRate() * budgetShare);
+    }
+
+    /**
+     * 순환 대상/가중치 재계산 (구독이 확정된 종목은 제외, 미연결 시 전체 옵션)
+     */
+    private void rebuildUniverse() {
+        Set<String> subscribed = kisWebSocketService.isSubscribed()
+                ? new HashSet<>(kisWebSocketService.getSubscribedSymbols())
+                : Set.of();
+
+        InstrumentState front = null;
+        List<InstrumentState> candidates = new ArrayList<>();
+        long maxVolume = 1;
+        for (InstrumentState state : marketStateStore.slots()) {
+            if (state.isFutures()) {
+                if (state.currentPrice() != FixedPoint.NULL && (front == null || state.volume() > front.volume())) {
+                    front = state;
+                }
+            } else if (!subscribed.contains(state.getSymbol())) {
+                candidates.add(state);
+                maxVolume = Math.max(maxVolume, state.volume());
+            }
+        }
+        long center = front != null ? front.currentPrice() : FixedPoint.NULL;
+
+        Map<String, Double> next = new HashMap<>();
+        for (InstrumentState state : candidates) {
+            next.put(state.getSymbol(), weight(state.strikePrice(), center, state.volume(), maxVolume));
+        }
+        schedule.update(next);
+        stats.keySet().retainAll(next.keySet());
+        weights = next;
+    }
+
+    /**
+     * 가중치: ATM에서 행사가 간격 k칸 떨어지면 1/(1+k), 거래량 비중만큼 가산
+     */
+    private double weight(long strike, long center, long volume, long maxVolume) {
+        double proximity = 1.0;
+        if (strike != FixedPoint.NULL && center != FixedPoint.NULL) {
+            proximity = 1.0 / (1.0 + (double) Math.abs(strike - center) / STRIKE_STEP);
+        }
+        double activity = 1.0 + (double) Math.max(0, volume) / maxVolume;
+        return Math.max(minWeight, proximity * activity);
+    }
+
+    private void poll(String symbol) {
+        InstrumentState state = marketStateStore.get(symbol);
+        if (state == null) {
+            return;
+        }
+        OptionData option = kisApiService.pollOption(symbol, state.getOptionType(), ApiPriority.BACKFILL);
+        if (option == null) {
+            failedCounter.increment();
+            return;
+        }
+        marketStateStore.refreshOption(option);
+        if (tickWriteBehind.isEnabled()) {
+            tickWriteBehind.enqueue(state);
+        }
+        polledCounter.increment();
+        record(symbol, System.currentTimeMillis());
+    }
+
+    private void record(String symbol, long now) {
+        PollStat stat = stats.computeIfAbsent(symbol, k -> new PollStat());
+        if (stat.lastPolledAt > 0) {
+            double interval = now - stat.lastPolledAt;
+            stat.intervalMillis = stat.intervalMillis == 0
+                    ? interval
+                    : stat.intervalMillis + EWMA_ALPHA * (interval - stat.intervalMillis);
+        }
+        stat.lastPolledAt = now;
+    }
+
+    /**
+     * 현황 (종목별 가중치, 기대 주기, 측정 주기, 마지막 조회 경과)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Double> current = weights;
+        double currentRate = rate;
+        double totalWeight = current.values().stream().mapToDouble(Double::doubleValue).sum();
+        long now = System.currentTimeMillis();
+
+        List<Map<String, Object>> contracts = new ArrayList<>();
+        current.entrySet().stream()
+                .sorted(Comparator.comparing(e -> strikeOf(e.getKey())))
+                .forEach(e -> {
+                    InstrumentState state = marketStateStore.get(e.getKey());
+                    PollStat stat = stats.get(e.getKey());
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("symbol", e.getKey());
+                    row.put("optionType", state != null ? state.getOptionType() : null);
+                    row.put("strike", state != null ? FixedPoint.toBigDecimal(state.strikePrice()) : null);
+                    row.put("weight", Math.round(e.getValue() * 1000) / 1000.0);
+                    row.put("expectedIntervalMs", currentRate > 0
+                            ? Math.round(totalWeight / (currentRate * e.getValue()) * 1000)
+                            : null);
+                    row.put("intervalMs", stat != null && stat.intervalMillis > 0
+                            ? Math.round(stat.intervalMillis)
+                            : null);
+                    row.put("lastPolledAgoMs", stat != null ? now - stat.lastPolledAt : null);
+                    contracts.add(row);
+                });
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("enabled", running);
+        snapshot.put("ratePerSecond", Math.round(currentRate * 100) / 100.0);
+        snapshot.put("budgetShare", budgetShare);
+        snapshot.put("symbols", contracts.size());
+        snapshot.put("polled", (long) polledCounter.count());
+        snapshot.put("failed", (long) failedCounter.count());
+        snapshot.put("contracts", contracts);
+        return snapshot;
+    }
+
+    private long strikeOf(String symbol) {
+        InstrumentState state = marketStateStore.get(symbol);
+        return state != null ? state.strikePrice() : Long.MAX_VALUE;
+    }
+}
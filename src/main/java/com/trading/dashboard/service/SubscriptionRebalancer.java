@@ -0,0 +1,168 @@
+package com.trading.dashboard.service;
+
+import com.trading.dashboard.feed.SubscriptionPlanner;
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.state.FixedPoint;
+import com.trading.dashboard.state.InstrumentState;
+import com.trading.dashboard.state.MarketStateStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * 실시간 구독 재배분 (ATM 추종)
+ * - 주기적으로 선물가격과 종목별 활동도(거래량 증가 속도, 실시간 체결로 갱신)를 확인
+ * - 목표 구독 목록을 다시 계산해 차이만 해제(tr_type=2)/등록(tr_type=1) - 연결은 유지
+ * - 이력 현상 적용으로 잦은 교체 방지 ({@link SubscriptionPlanner})
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubscriptionRebalancer {
+
+    private static final int MAX_SUBSCRIPTIONS = 40;
+
+    // 활동도 EWMA 가중치 (최근 구간 비중)
+    private static final double EWMA_ALPHA = 0.3;
+
+    private final MarketStateStore marketStateStore;
+    private final KisWebSocketService kisWebSocketService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${trading.ws.rebalance.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trading.ws.rebalance.atm-strikes:14}")
+    private int atmStrikes;
+
+    @Value("${trading.ws.rebalance.hysteresis:2.5}")
+    private BigDecimal hysteresis;
+
+    @Value("${trading.ws.rebalance.incumbent-bonus:0.5}")
+    private double incumbentBonus;
+
+    private SubscriptionPlanner planner;
+    private long center = FixedPoint.NULL;
+
+    // 종목별 직전 누적 거래량 / 활동도 (스케줄러 스레드 전용)
+    private final Map<String, Long> lastVolumes = new HashMap<>();
+    private final Map<String, Double> activity = new HashMap<>();
+
+    private Counter rebalanceCounter;
+    private Counter changedCounter;
+
+    @PostConstruct
+    public void init() {
+        planner = new SubscriptionPlanner(MAX_SUBSCRIPTIONS, atmStrikes, FixedPoint.of(hysteresis), incumbentBonus);
+        rebalanceCounter = Counter.builder("kis.ws.rebalance").register(meterRegistry);
+        changedCounter = Counter.builder("kis.ws.rebalance.symbols").register(meterRegistry);
+    }
+
+    /**
+     * 최초 구독 목록 (상태 저장소 기준) - 계산할 수 없으면 빈 목록
+     */
+    public synchronized List<String> initialSymbols() {
+        center = FixedPoint.NULL;
+        SubscriptionPlanner.Plan plan = plan(Set.of());
+        if (plan == null) {
+            return List.of();
+        }
+        center = plan.center();
+        log.info("[REBALANCE] Initial set: {} symbols around ATM {}",
+                plan.symbols().size(), FixedPoint.toBigDecimal(plan.center()));
+        return plan.symbols();
+    }
+
+    /**
+     * 주기적 재배분
+     */
+    @Scheduled(fixedDelayString = "${trading.ws.rebalance.interval-ms:30000}",
+            initialDelayString = "${trading.ws.rebalance.interval-ms:30000}")
+    public synchronized void rebalance() {
+        if (!enabled) {
+            return;
+        }
+        updateActivity();
+        if (!kisWebSocketService.isSubscribed()) {
+            return;
+        }
+
+        Set<String> current = new LinkedHashSet<>(kisWebSocketService.getSubscribedSymbols());
+        SubscriptionPlanner.Plan plan = plan(current);
+        if (plan == null) {
+            return;
+        }
+
+        List<String> unsubscribe = current.stream().filter(s -> !plan.symbols().contains(s)).toList();
+        List<String> subscribe = plan.symbols().stream().filter(s -> !current.contains(s)).toList();
+        if (unsubscribe.isEmpty() && subscribe.isEmpty()) {
+            center = plan.center();
+            return;
+        }
+
+        if (kisWebSocketService.applySubscriptionDiff(unsubscribe, subscribe)) {
+            rebalanceCounter.increment();
+            changedCounter.increment(unsubscribe.size() + subscribe.size());
+            log.info("[REBALANCE] ATM {} -> {}: -{} +{} symbols",
+                    FixedPoint.toBigDecimal(center), FixedPoint.toBigDecimal(plan.center()),
+                    unsubscribe.size(), subscribe.size());
+            center = plan.center();
+        }
+    }
+
+    private SubscriptionPlanner.Plan plan(Set<String> current) {
+        InstrumentState futures = frontFutures();
+        if (futures == null) {
+            return null;
+        }
+        List<SubscriptionPlanner.Candidate> candidates = new ArrayList<>();
+        for (InstrumentState state : marketStateStore.slots()) {
+            if (state.isFutures() || state.getOptionType() == null) {
+                continue;
+            }
+            candidates.add(new SubscriptionPlanner.Candidate(state.getSymbol(), state.strikePrice(),
+                    state.getOptionType(), state.expiryDate(),
+                    activity.getOrDefault(state.getSymbol(), 0.0)));
+        }
+        return planner.plan(futures.getSymbol(), futures.currentPrice(), candidates, current, center);
+    }
+
+    /**
+     * 근월물 선물 = 거래량이 가장 많은 선물
+     */
+    private InstrumentState frontFutures() {
+        InstrumentState best = null;
+        for (InstrumentState state : marketStateStore.slots()) {
+            if (state.isFutures() && state.currentPrice() != FixedPoint.NULL
+                    && (best == null || state.volume() > best.volume())) {
+                best = state;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 종목별 거래량 증가분의 EWMA
+     * - 구독 종목은 실시간 체결, 나머지는 REST 갱신으로 누적 거래량이 변함
+     */
+    private void updateActivity() {
+        for (InstrumentState state : marketStateStore.slots()) {
+            if (state.getOptionType() == OptionType.CALL || state.getOptionType() == OptionType.PUT) {
+                String symbol = state.getSymbol();
+                long volume = state.volume();
+                Long previous = lastVolumes.put(symbol, volume);
+                long delta = previous == null ? 0 : Math.max(0, volume - previous);
+                activity.merge(symbol, (double) delta,
+                        (old, sample) -> old * (1 - EWMA_ALPHA) + sample * EWMA_ALPHA);
+            }
+        }
+    }
+}
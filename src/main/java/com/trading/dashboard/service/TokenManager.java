@@ -1,22 +1,48 @@
 package com.trading.dashboard.service;
 
 import com.trading.dashboard.exception.TokenExpiredException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Thread-safe 토큰 관리자
+ * Thread-safe 인증 정보 관리자 (access token, WebSocket approval key)
+ * - 읽기: 유효한 값이 있으면 잠금/대기 없이 반환
+ * - 발급: 인증 정보별 single-flight (동시에 요청한 호출은 진행 중인 발급 1건의 결과를 함께 기다림)
+ * - 만료 refresh-ahead 전부터는 기존 값을 반환하면서 백그라운드에서 미리 재발급
+ * - approval key는 발급 시각 기준 별도 TTL로 캐시
  */
 @Slf4j
 @Component
 public class TokenManager {
 
-    private final AtomicReference<TokenInfo> tokenRef = new AtomicReference<>();
+    // 백그라운드 재발급 실패 시 재시도 간격 (KIS 토큰 발급 1분당 1회 제한)
+    private static final long REFRESH_RETRY_MILLIS = 60_000;
+
+    private final Credential accessToken;
+    private final Credential approvalKey;
+
+    // 만료 이 시간 전부터 백그라운드 재발급
+    @Value("${trading.kis.token.refresh-ahead-ms:1800000}")
+    private long refreshAheadMillis;
+
+    // approval key 유효기간 (KIS 24시간, 여유를 두고 재발급)
+    @Value("${trading.kis.approval-key.ttl-ms:72000000}")
+    private long approvalKeyTtlMillis;
 
     @Data
     @AllArgsConstructor
@@ -33,12 +59,22 @@ public class TokenManager {
         }
     }
 
+    public TokenManager() {
+        this(new SimpleMeterRegistry());
+    }
+
+    @Autowired
+    public TokenManager(MeterRegistry meterRegistry) {
+        accessToken = new Credential("access_token", meterRegistry);
+        approvalKey = new Credential("approval_key", meterRegistry);
+    }
+
     /**
      * 토큰 설정
      */
     public void setToken(String token, LocalDateTime expiry) {
         TokenInfo newToken = new TokenInfo(token, expiry);
-        tokenRef.set(newToken);
+        accessToken.ref.set(newToken);
         log.debug("Token set. Expires at: {}", expiry);
     }
 
@@ -46,7 +82,7 @@ public class TokenManager {
      * 토큰 가져오기
      */
     public String getToken() {
-        TokenInfo current = tokenRef.get();
+        TokenInfo current = accessToken.ref.get();
 
         if (current == null || !current.isValid()) {
             throw new TokenExpiredException("Token is null or expired");
@@ -59,7 +95,7 @@ public class TokenManager {
      * 토큰 유효성 확인
      */
     public boolean isTokenValid() {
-        TokenInfo current = tokenRef.get();
+        TokenInfo current = accessToken.ref.get();
         return current != null && current.isValid();
     }
 
@@ -67,7 +103,7 @@ public class TokenManager {
      * 토큰 만료 시간 가져오기
      */
     public LocalDateTime getExpiry() {
-        TokenInfo current = tokenRef.get();
+        TokenInfo current = accessToken.ref.get();
         return current != null ? current.getExpiry() : null;
     }
 
@@ -75,7 +111,130 @@ public class TokenManager {
      * 토큰 초기화
      */
     public void clear() {
-        tokenRef.set(null);
+        accessToken.ref.set(null);
         log.debug("Token cleared");
     }
+
+    /**
+     * access token 조회 (없거나 만료 시 issuer로 발급, 만료 임박 시 백그라운드 재발급)
+     *
+     * @throws TokenExpiredException 발급 실패
+     */
+    public String accessToken(Callable<TokenInfo> issuer) {
+        return accessToken.get(issuer);
+    }
+
+    /**
+     * WebSocket approval key 조회 (approval-key.ttl 동안 재사용)
+     *
+     * @throws TokenExpiredException 발급 실패
+     */
+    public String approvalKey(Callable<String> issuer) {
+        return approvalKey.get(() -> new TokenInfo(issuer.call(),
+                LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(approvalKeyTtlMillis))));
+    }
+
+    /**
+     * approval key 폐기 (거절 응답 시 다음 연결에서 재발급)
+     */
+    public void invalidateApprovalKey() {
+        approvalKey.ref.set(null);
+        log.debug("Approval key cleared");
+    }
+
+    /**
+     * 인증 정보 1종 (현재 값 + 진행 중인 발급)
+     */
+    private final class Credential {
+
+        private final String name;
+        private final AtomicReference<TokenInfo> ref = new AtomicReference<>();
+        private final AtomicReference<CompletableFuture<TokenInfo>> inflight = new AtomicReference<>();
+        private volatile long lastRefreshAt;
+
+        private final Timer issueLatency;
+        private final Counter issued;
+        private final Counter failed;
+        private final Counter coalesced;
+
+        Credential(String name, MeterRegistry meterRegistry) {
+            this.name = name;
+            issueLatency = Timer.builder("kis.auth.issue.latency")
+                    .tag("credential", name)
+                    .register(meterRegistry);
+            issued = Counter.builder("kis.auth.issued")
+                    .description("Credentials issued by KIS")
+                    .tag("credential", name)
+                    .register(meterRegistry);
+            failed = Counter.builder("kis.auth.failures")
+                    .tag("credential", name)
+                    .register(meterRegistry);
+            coalesced = Counter.builder("kis.auth.coalesced")
+                    .description("Callers that joined an issuance already in flight")
+                    .tag("credential", name)
+                    .register(meterRegistry);
+        }
+
+        String get(Callable<TokenInfo> issuer) {
+            TokenInfo current = ref.get();
+            if (current != null && current.isValid()) {
+                long now = System.currentTimeMillis();
+                if (isDue(current) && inflight.get() == null && now - lastRefreshAt >= REFRESH_RETRY_MILLIS) {
+                    lastRefreshAt = now;
+                    Thread.ofVirtual().name("kis-auth-refresh").start(() -> issue(issuer));
+                }
+                return current.getToken();
+            }
+            try {
+                return issue(issuer).join().getToken();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof TokenExpiredException expired) {
+                    throw expired;
+                }
+                throw new TokenExpiredException("Failed to issue " + name + ": " + e.getCause().getMessage());
+            }
+        }
+
+        /**
+         * single-flight 발급: 먼저 들어온 호출만 issuer를 실행하고 나머지는 같은 결과를 기다림
+         */
+        private CompletableFuture<TokenInfo> issue(Callable<TokenInfo> issuer) {
+            CompletableFuture<TokenInfo> mine = new CompletableFuture<>();
+            CompletableFuture<TokenInfo> existing = inflight.compareAndExchange(null, mine);
+            if (existing != null) {
+                coalesced.increment();
+                return existing;
+            }
+            try {
+                // 직전 발급이 막 끝났으면 재발급하지 않음
+                TokenInfo current = ref.get();
+                if (current != null && current.isValid() && !isDue(current)) {
+                    mine.complete(current);
+                    return mine;
+                }
+                long start = System.nanoTime();
+                try {
+                    TokenInfo fresh = issuer.call();
+                    ref.set(fresh);
+                    issued.increment();
+                    mine.complete(fresh);
+                    log.debug("[AUTH] {} issued (expires at {})", name, fresh.getExpiry());
+                } catch (Exception e) {
+                    failed.increment();
+                    mine.completeExceptionally(e);
+                    log.warn("[AUTH] Failed to issue {}: {}", name, e.getMessage());
+                } finally {
+                    issueLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+                return mine;
+            } finally {
+                inflight.set(null);
+            }
+        }
+
+        private boolean isDue(TokenInfo current) {
+            return LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(refreshAheadMillis))
+                    .isAfter(current.getExpiry());
+        }
+    }
 }
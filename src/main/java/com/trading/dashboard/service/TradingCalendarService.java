@@ -4,21 +4,33 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 거래일 계산 서비스
- * 전거래일 계산 (주말 및 공휴일 제외)
+ * 전거래일 계산 (주말 및 공휴일 제외), 옵션 잔존기간 계산
  */
 @Slf4j
 @Service
 public class TradingCalendarService {
 
+    public static final double TRADING_DAYS_PER_YEAR = 252.0;
+
+    // 정규장 (만기일은 15:20 거래 종료)
+    private static final LocalTime SESSION_OPEN = LocalTime.of(8, 45);
+    private static final LocalTime SESSION_CLOSE = LocalTime.of(15, 45);
+    private static final LocalTime EXPIRY_CLOSE = LocalTime.of(15, 20);
+    private static final double SESSION_MINUTES = Duration.between(SESSION_OPEN, SESSION_CLOSE).toMinutes();
+
     private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
-    private final Set<LocalDate> holidays = new HashSet<>();
+    private final Set<LocalDate> holidays = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> loadedYears = ConcurrentHashMap.newKeySet();
 
     public TradingCalendarService() {
         // 현재 연도와 다음 연도 공휴일 로드
@@ -50,10 +62,44 @@ public class TradingCalendarService {
         return result;
     }
 
+    /**
+     * 최종거래일까지 잔존기간 (연 단위, 거래일 기준)
+     * - 오늘: 정규장 남은 시간 비율, 이후 거래일: 1일씩 (만기일은 15:20 종료분만큼)
+     * - 최종거래일 거래 종료 후는 0
+     */
+    public double yearsToExpiry(LocalDateTime now, LocalDate lastTradingDay) {
+        LocalDate today = now.toLocalDate();
+        if (today.isAfter(lastTradingDay)) {
+            return 0.0;
+        }
+
+        double days = 0.0;
+        if (!isNonTradingDay(today)) {
+            LocalTime close = today.equals(lastTradingDay) ? EXPIRY_CLOSE : SESSION_CLOSE;
+            LocalTime from = now.toLocalTime().isBefore(SESSION_OPEN) ? SESSION_OPEN : now.toLocalTime();
+            if (from.isBefore(close)) {
+                days += Duration.between(from, close).toMinutes() / SESSION_MINUTES;
+            }
+        }
+        for (LocalDate date = today.plusDays(1); !date.isAfter(lastTradingDay); date = date.plusDays(1)) {
+            if (isNonTradingDay(date)) {
+                continue;
+            }
+            days += date.equals(lastTradingDay)
+                    ? Duration.between(SESSION_OPEN, EXPIRY_CLOSE).toMinutes() / SESSION_MINUTES
+                    : 1.0;
+        }
+        return days / TRADING_DAYS_PER_YEAR;
+    }
+
     /**
      * 거래일이 아닌지 확인 (주말 또는 공휴일)
      */
     private boolean isNonTradingDay(LocalDate date) {
+        // 조회 연도의 공휴일이 아직 없으면 로드 (연도 경계/과거 날짜 조회 대응)
+        if (!loadedYears.contains(date.getYear())) {
+            loadHolidaysForYear(date.getYear());
+        }
         DayOfWeek dayOfWeek = date.getDayOfWeek();
         return dayOfWeek == DayOfWeek.SATURDAY
                 || dayOfWeek == DayOfWeek.SUNDAY
@@ -64,6 +110,9 @@ public class TradingCalendarService {
      * 특정 연도의 대한민국 공휴일 로드
      */
     private void loadHolidaysForYear(int year) {
+        if (!loadedYears.add(year)) {
+            return;
+        }
         log.info("Loading market holidays for year {}...", year);
 
         // 고정 공휴일
@@ -0,0 +1,664 @@
+package com.trading.dashboard.simulator;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.trading.dashboard.service.MarketClock;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로컬 KIS REST API 서버 (전체 조회 소요시간 측정/회귀 테스트용)
+ * - POST /oauth2/tokenP, /oauth2/Approval: 토큰/approval_key 발급 (토큰 재발급 간격 제한 시 EGW00133)
+ * - GET inquire-price (선물 A016xx, 옵션 B01601xxx/C01601xxx), inquire-asking-price (옵션 5단계 호가)
+ * - GET display-board-option-list (월물 리스트), display-board-callput (최근월물 콜/풋 전광판)
+ * - GET /master/fo_idx_code_mts.mst: 종목 마스터 (선물 4개 월물, 옵션 기준가 ±{@value #MASTER_HALF_WIDTH}pt 2.5pt 간격)
+ * - 가격: 선물은 {@link PriceModel} 랜덤워크, 옵션은 선물가격 기준 Black-76 (변동성 스마일 포함)
+ * - 장애 주입: 응답 지연(latency + jitter), 임의 오류 비율, 초당 거래건수 초과(EGW00201), 토큰 만료(EGW00123)
+ *
+ * 단독 실행: java -cp ... com.trading.dashboard.simulator.KisRestSimulator [port] [latencyMs] [ratePerSecond]
+ */
+@Slf4j
+public class KisRestSimulator {
+
+    static final String PRICE_PATH = "/uapi/domestic-futureoption/v1/quotations/inquire-price";
+    static final String ASKING_PRICE_PATH = "/uapi/domestic-futureoption/v1/quotations/inquire-asking-price";
+    static final String BOARD_PATH = "/uapi/domestic-futureoption/v1/quotations/display-board-callput";
+    static final String BOARD_MONTHS_PATH = "/uapi/domestic-futureoption/v1/quotations/display-board-option-list";
+    static final String BOARD_EXPIRY = "202601";
+    static final String MASTER_PATH = "/master/fo_idx_code_mts.mst";
+
+    private static final DateTimeFormatter EXPIRY = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String[] FUTURES_CODES = {"A01603", "A01606", "A01609", "A01612"};
+    private static final double FUTURES_BASIS = 0.8;
+    private static final double DAYS_TO_EXPIRY = 20;
+    private static final double ATM_VOLATILITY = 0.18;
+    private static final double SMILE = 0.0004;
+    private static final double BOARD_HALF_WIDTH = 40;
+    private static final double MASTER_HALF_WIDTH = 100;
+
+    /**
+     * 서버 설정
+     *
+     * @param latencyMillis             응답 지연 (고정분)
+     * @param jitterMillis              응답 지연 (균등분포 추가분 최대치)
+     * @param errorRate                 임의 오류(HTTP 500) 응답 비율 (0 ~ 1)
+     * @param rateLimitPerSecond        초당 시세 조회 한도 (0: 제한 없음, 실제 KIS 실전계좌: 20)
+     * @param tokenIssueIntervalMillis  토큰 재발급 최소 간격 (0: 제한 없음, 실제 KIS: 1분)
+     * @param tokenLifetimeSeconds      토큰 유효 시간 (expires_in)
+     */
+    @Builder(toBuilder = true)
+    public record Profile(long latencyMillis, long jitterMillis, double errorRate, int rateLimitPerSecond,
+            long tokenIssueIntervalMillis, long tokenLifetimeSeconds, long seed) {
+
+        public static Profile defaults() {
+            return Profile.builder()
+                    .latencyMillis(30)
+                    .jitterMillis(20)
+                    .errorRate(0)
+                    .rateLimitPerSecond(20)
+                    .tokenIssueIntervalMillis(60_000)
+                    .tokenLifetimeSeconds(86_400)
+                    .seed(42)
+                    .build();
+        }
+    }
+
+    private final Profile profile;
+    private final PriceModel model;
+    private final PriceModel.Quote futures;
+    private final Map<String, long[]> activity = new ConcurrentHashMap<>();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    // 토큰 세대: expireTokens() 호출 시 증가, 이전 세대 토큰은 만료 응답
+    private final AtomicInteger tokenGeneration = new AtomicInteger();
+    private final AtomicLong lastTokenIssuedAt = new AtomicLong(Long.MIN_VALUE);
+
+    // 초당 거래건수 (고정 1초 창)
+    private final AtomicLong windowSecond = new AtomicLong();
+    private final AtomicInteger windowCount = new AtomicInteger();
+
+    private volatile boolean paused;
+
+    private final LongAdder tokens = new LongAdder();
+    private final LongAdder tokenRejected = new LongAdder();
+    private final LongAdder approvals = new LongAdder();
+    private final LongAdder quotes = new LongAdder();
+    private final LongAdder askingPrices = new LongAdder();
+    private final LongAdder boards = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder unauthorized = new LongAdder();
+    private final LongAdder unknownSymbols = new LongAdder();
+
+    public KisRestSimulator(int port, Profile profile) throws IOException {
+        this.profile = profile;
+        this.model = new PriceModel(1, 590, profile.seed());
+        this.futures = model.find(PriceModel.FUTURES_SYMBOL);
+        this.server = HttpServer.create(new InetSocketAddress(port), 128);
+        // 지연 주입 중에도 동시 요청을 그대로 받아들이도록 요청마다 가상 스레드
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/oauth2/tokenP", exchange -> handle(exchange, this::issueToken));
+        server.createContext("/oauth2/Approval", exchange -> handle(exchange, this::issueApprovalKey));
+        server.createContext(PRICE_PATH, exchange -> handle(exchange, this::inquirePrice));
+        server.createContext(ASKING_PRICE_PATH, exchange -> handle(exchange, this::inquireAskingPrice));
+        server.createContext(BOARD_PATH, exchange -> handle(exchange, this::optionBoard));
+        server.createContext(BOARD_MONTHS_PATH, exchange -> handle(exchange, this::optionMonths));
+        server.createContext(MASTER_PATH, this::masterFile);
+    }
+
+    public void start() {
+        server.start();
+        log.info("[SIM] KIS REST simulator listening on port {} (latency {}+{}ms, error rate {}, {} req/s)",
+                getPort(), profile.latencyMillis(), profile.jitterMillis(), profile.errorRate(),
+                profile.rateLimitPerSecond());
+    }
+
+    public void shutdown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + getPort();
+    }
+
+    /**
+     * 발급된 토큰 전부 만료 처리 (이후 요청은 EGW00123)
+     */
+    public void expireTokens() {
+        tokenGeneration.incrementAndGet();
+        lastTokenIssuedAt.set(Long.MIN_VALUE);
+    }
+
+    /**
+     * 일시 정지 중에는 모든 요청에 HTTP 503
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("tokens", tokens.sum());
+        stats.put("tokenRejected", tokenRejected.sum());
+        stats.put("approvals", approvals.sum());
+        stats.put("quotes", quotes.sum());
+        stats.put("askingPrices", askingPrices.sum());
+        stats.put("boards", boards.sum());
+        stats.put("rateLimited", rateLimited.sum());
+        stats.put("injectedErrors", injectedErrors.sum());
+        stats.put("unauthorized", unauthorized.sum());
+        stats.put("unknownSymbols", unknownSymbols.sum());
+        return stats;
+    }
+
+    /**
+     * 시세/호가 조회 건수 (오류 응답 포함)
+     */
+    public long requests() {
+        return quotes.sum() + askingPrices.sum() + unknownSymbols.sum() + errors();
+    }
+
+    /**
+     * 오류 응답 건수 (한도 초과 + 임의 오류 + 인증 실패)
+     */
+    public long errors() {
+        return rateLimited.sum() + injectedErrors.sum() + unauthorized.sum();
+    }
+
+    /**
+     * 응답 (HTTP 상태 + JSON 본문)
+     */
+    private record Response(int status, String body) {
+
+        static Response ok(JsonObject body) {
+            return new Response(200, body.toString());
+        }
+
+        static Response error(int status, String messageCode, String message) {
+            JsonObject body = new JsonObject();
+            body.addProperty("rt_cd", "1");
+            body.addProperty("msg_cd", messageCode);
+            body.addProperty("msg1", message);
+            return new Response(status, body.toString());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Endpoint {
+        Response serve(HttpExchange exchange);
+    }
+
+    private void handle(HttpExchange exchange, Endpoint endpoint) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            delay();
+            Response response = paused
+                    ? Response.error(503, "EGW00500", "서비스 점검 중입니다.")
+                    : endpoint.serve(exchange);
+            byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.status(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (Exception e) {
+            log.debug("[SIM] Request failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 종목 마스터 (실제 파일과 같은 CP949, '|' 구분, 인증/한도 없음)
+     * 상품종류|단축코드|표준코드|한글종목명|ATM구분|행사가|월물구분코드|기초자산단축코드|기초자산명
+     */
+    private void masterFile(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            StringBuilder master = new StringBuilder();
+            for (String code : FUTURES_CODES) {
+                master.append("1|").append(code).append("|KR4").append(code).append("000|F 2026")
+                        .append(code.substring(4)).append("|0||1|K2I|코스피200\n");
+            }
+            double center = 590;
+            for (double strike = center - MASTER_HALF_WIDTH; strike <= center + MASTER_HALF_WIDTH; strike += 2.5) {
+                String digits = String.format(Locale.ROOT, "%03d", (int) strike);
+                String value = String.format(Locale.ROOT, "%.2f", strike);
+                int atm = strike == center ? 1 : 0;
+                master.append("2|B01601").append(digits).append("|KR4B01601").append(digits).append("|C ")
+                        .append(BOARD_EXPIRY).append(' ').append(value).append('|').append(atm).append('|')
+                        .append(value).append("|1|K2I|코스피200\n");
+                master.append("3|C01601").append(digits).append("|KR4C01601").append(digits).append("|P ")
+                        .append(BOARD_EXPIRY).append(' ').append(value).append('|').append(atm).append('|')
+                        .append(value).append("|1|K2I|코스피200\n");
+            }
+            byte[] body = master.toString().getBytes(Charset.forName("MS949"));
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=ms949");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private void delay() {
+        long millis = profile.latencyMillis();
+        if (profile.jitterMillis() > 0) {
+            millis += ThreadLocalRandom.current().nextLong(profile.jitterMillis() + 1);
+        }
+        if (millis > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Response issueToken(HttpExchange exchange) {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            return Response.error(405, "EGW00002", "Method Not Allowed");
+        }
+        long now = System.currentTimeMillis();
+        long last = lastTokenIssuedAt.get();
+        if (profile.tokenIssueIntervalMillis() > 0 && last != Long.MIN_VALUE
+                && now - last < profile.tokenIssueIntervalMillis()) {
+            tokenRejected.increment();
+            JsonObject body = new JsonObject();
+            body.addProperty("error_description", "접근토큰 발급 잠시 후 다시 시도하세요(1분당 1회)");
+            body.addProperty("error_code", "EGW00133");
+            return new Response(403, body.toString());
+        }
+        lastTokenIssuedAt.set(now);
+        tokens.increment();
+
+        JsonObject body = new JsonObject();
+        body.addProperty("access_token", "SIM-" + tokenGeneration.get() + "-" + UUID.randomUUID());
+        body.addProperty("access_token_token_expired",
+                LocalDateTime.now(MarketClock.KST).plusSeconds(profile.tokenLifetimeSeconds()).format(EXPIRY));
+        body.addProperty("token_type", "Bearer");
+        body.addProperty("expires_in", profile.tokenLifetimeSeconds());
+        return Response.ok(body);
+    }
+
+    private Response issueApprovalKey(HttpExchange exchange) {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            return Response.error(405, "EGW00002", "Method Not Allowed");
+        }
+        approvals.increment();
+        JsonObject body = new JsonObject();
+        body.addProperty("approval_key", UUID.randomUUID().toString());
+        return Response.ok(body);
+    }
+
+    private Response inquirePrice(HttpExchange exchange) {
+        Response rejected = admit(exchange);
+        if (rejected != null) {
+            return rejected;
+        }
+        String code = query(exchange.getRequestURI(), "FID_INPUT_ISCD");
+        int futuresIndex = futuresIndex(code);
+        if (futuresIndex >= 0) {
+            quotes.increment();
+            return Response.ok(futuresPrice(code, futuresIndex));
+        }
+        double strike = strike(code);
+        if (Double.isNaN(strike)) {
+            unknownSymbols.increment();
+            return Response.error(200, "MCA00124", "조회할 종목이 존재하지 않습니다.");
+        }
+        quotes.increment();
+        return Response.ok(optionPrice(code, strike));
+    }
+
+    private Response inquireAskingPrice(HttpExchange exchange) {
+        Response rejected = admit(exchange);
+        if (rejected != null) {
+            return rejected;
+        }
+        String code = query(exchange.getRequestURI(), "FID_INPUT_ISCD");
+        double strike = strike(code);
+        if (Double.isNaN(strike)) {
+            unknownSymbols.increment();
+            return Response.error(200, "MCA00124", "조회할 종목이 존재하지 않습니다.");
+        }
+        askingPrices.increment();
+        return Response.ok(askingPrice(code, strike));
+    }
+
+    /**
+     * 인증 → 초당 한도 → 임의 오류 순으로 검사 (통과 시 null)
+     */
+    private Response admit(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("authorization");
+        String prefix = "Bearer SIM-";
+        if (authorization == null || !authorization.startsWith(prefix)) {
+            unauthorized.increment();
+            return Response.error(500, "EGW00121", "유효하지 않은 token 입니다.");
+        }
+        int dash = authorization.indexOf('-', prefix.length());
+        if (dash < 0 || !authorization.substring(prefix.length(), dash).equals(
+                Integer.toString(tokenGeneration.get()))) {
+            unauthorized.increment();
+            return Response.error(500, "EGW00123", "기간이 만료된 token 입니다.");
+        }
+        if (profile.rateLimitPerSecond() > 0 && !acquire()) {
+            rateLimited.increment();
+            return Response.error(500, "EGW00201", "초당 거래건수를 초과하였습니다.");
+        }
+        if (profile.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < profile.errorRate()) {
+            injectedErrors.increment();
+            return Response.error(500, "EGW00001", "일시적인 오류가 발생했습니다.");
+        }
+        return null;
+    }
+
+    private boolean acquire() {
+        long second = System.currentTimeMillis() / 1000;
+        long current = windowSecond.get();
+        if (second != current && windowSecond.compareAndSet(current, second)) {
+            windowCount.set(0);
+        }
+        return windowCount.incrementAndGet() <= profile.rateLimitPerSecond();
+    }
+
+    private JsonObject futuresPrice(String code, int index) {
+        double price;
+        long previousClose;
+        synchronized (model) {
+            model.step(futures);
+            price = futures.price() / 100.0 + index * FUTURES_BASIS;
+            previousClose = futures.previousClose;
+        }
+        double change = price - (previousClose / 100.0 + index * FUTURES_BASIS);
+        long[] state = activity(code, index == 0 ? 150_000 : 2_000, index == 0 ? 300_000 : 5_000);
+
+        JsonObject output1 = new JsonObject();
+        output1.addProperty("hts_kor_isnm", "F " + code.substring(3));
+        output1.addProperty("futs_prpr", decimal(price));
+        output1.addProperty("futs_prdy_vrss", decimal(change));
+        output1.addProperty("prdy_vrss_sign", change > 0 ? "2" : change < 0 ? "5" : "3");
+        output1.addProperty("futs_prdy_ctrt", decimal(change / (price - change) * 100));
+        output1.addProperty("futs_prdy_clpr", decimal(price - change));
+        output1.addProperty("acml_vol", Long.toString(state[0]));
+        output1.addProperty("acml_tr_pbmn", Long.toString(Math.round(state[0] * price * 250)));
+        output1.addProperty("hts_otst_stpl_qty", Long.toString(state[1]));
+        output1.addProperty("otst_stpl_qty_icdc", Long.toString(state[1] % 997 - 498));
+
+        JsonObject output3 = new JsonObject();
+        output3.addProperty("bstp_nmix_prpr", decimal(spot()));
+
+        JsonObject body = success();
+        body.add("output1", output1);
+        body.add("output2", new JsonObject());
+        body.add("output3", output3);
+        return body;
+    }
+
+    private JsonObject optionPrice(String code, double strike) {
+        boolean call = code.charAt(0) == 'B';
+        JsonObject output1 = new JsonObject();
+        output1.addProperty("hts_kor_isnm", (call ? "C " : "P ") + BOARD_EXPIRY + " " + decimal(strike));
+        output1.addProperty("futs_prpr", decimal(optionQuote(code, strike, output1)));
+
+        JsonObject output3 = new JsonObject();
+        output3.addProperty("bstp_nmix_prpr", decimal(spot()));
+
+        JsonObject body = success();
+        body.add("output1", output1);
+        body.add("output2", new JsonObject());
+        body.add("output3", output3);
+        return body;
+    }
+
+    /**
+     * 옵션 1종목 시세 필드(행사가, 거래량, 미결제, IV, 그릭스)를 output에 채우고 가격 반환
+     * (개별 시세와 전광판 행이 같은 값을 쓰도록 공유)
+     */
+    private double optionQuote(String code, double strike, JsonObject output) {
+        boolean call = code.charAt(0) == 'B';
+        double forward = forward();
+        double volatility = volatility(forward, strike);
+        double t = DAYS_TO_EXPIRY / 365.0;
+        double sqrtT = Math.sqrt(t);
+        double d1 = (Math.log(forward / strike) + 0.5 * volatility * volatility * t) / (volatility * sqrtT);
+        double d2 = d1 - volatility * sqrtT;
+        double price = call
+                ? forward * cdf(d1) - strike * cdf(d2)
+                : strike * cdf(-d2) - forward * cdf(-d1);
+        price = Math.max(0.01, Math.round(price * 100) / 100.0);
+        double density = Math.exp(-0.5 * d1 * d1) / Math.sqrt(2 * Math.PI);
+        long[] state = activity(code, 20_000, 30_000);
+
+        output.addProperty("acpr", decimal(strike));
+        output.addProperty("acml_vol", Long.toString(state[0]));
+        output.addProperty("acml_tr_pbmn", Long.toString(Math.round(state[0] * price * 250)));
+        output.addProperty("hts_otst_stpl_qty", Long.toString(state[1]));
+        output.addProperty("hts_ints_vltl", decimal(volatility * 100));
+        output.addProperty("delta_val", fraction(call ? cdf(d1) : cdf(d1) - 1));
+        output.addProperty("gama", fraction(density / (forward * volatility * sqrtT)));
+        output.addProperty("theta", fraction(-forward * density * volatility / (2 * sqrtT) / 365));
+        output.addProperty("vega", fraction(forward * density * sqrtT / 100));
+        return price;
+    }
+
+    /**
+     * 옵션 월물 리스트 (최근월물 1개)
+     */
+    private Response optionMonths(HttpExchange exchange) {
+        Response rejected = admit(exchange);
+        if (rejected != null) {
+            return rejected;
+        }
+        boards.increment();
+        JsonObject month = new JsonObject();
+        month.addProperty("mtrt_yymm", BOARD_EXPIRY);
+        JsonArray output = new JsonArray();
+        output.add(month);
+        JsonObject body = success();
+        body.add("output", output);
+        return Response.ok(body);
+    }
+
+    /**
+     * 옵션 전광판: 선물가격 기준 ±{@value #BOARD_HALF_WIDTH}pt, 2.5pt 간격 전체 행사가 (output1 콜, output2 풋)
+     */
+    private Response optionBoard(HttpExchange exchange) {
+        Response rejected = admit(exchange);
+        if (rejected != null) {
+            return rejected;
+        }
+        if (!BOARD_EXPIRY.equals(query(exchange.getRequestURI(), "FID_MTRT_CNT"))) {
+            unknownSymbols.increment();
+            return Response.error(200, "MCA00124", "조회할 종목이 존재하지 않습니다.");
+        }
+        boards.increment();
+        double center = Math.round(forward() / 5.0) * 5.0;
+        JsonArray calls = new JsonArray();
+        JsonArray puts = new JsonArray();
+        for (double strike = center - BOARD_HALF_WIDTH; strike <= center + BOARD_HALF_WIDTH; strike += 2.5) {
+            String digits = String.format(Locale.ROOT, "%03d", (int) strike);
+            calls.add(boardRow("B01601" + digits, strike));
+            puts.add(boardRow("C01601" + digits, strike));
+        }
+        JsonObject body = success();
+        body.add("output1", calls);
+        body.add("output2", puts);
+        return Response.ok(body);
+    }
+
+    private JsonObject boardRow(String code, double strike) {
+        JsonObject row = new JsonObject();
+        row.addProperty("optn_shrn_iscd", code);
+        double price = optionQuote(code, strike, row);
+        double tick = price < 10 ? 0.01 : 0.05;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        row.addProperty("optn_prpr", decimal(price));
+        row.addProperty("optn_askp", decimal(price + tick));
+        row.addProperty("optn_bidp", decimal(Math.max(tick, price - tick)));
+        row.addProperty("seln_rsqn", Integer.toString(1 + random.nextInt(300)));
+        row.addProperty("shnu_rsqn", Integer.toString(1 + random.nextInt(300)));
+        return row;
+    }
+
+    private JsonObject askingPrice(String code, double strike) {
+        JsonObject quote = optionPrice(code, strike).getAsJsonObject("output1");
+        double price = Double.parseDouble(quote.get("futs_prpr").getAsString());
+        // 호가단위: 10pt 미만 0.01, 이상 0.05
+        double tick = price < 10 ? 0.01 : 0.05;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        JsonObject output1 = new JsonObject();
+        for (int level = 1; level <= 5; level++) {
+            output1.addProperty("optn_lstn_askp" + level, decimal(price + tick * level));
+            output1.addProperty("optn_lstn_askp_rsqn" + level, Integer.toString(1 + random.nextInt(300)));
+            output1.addProperty("optn_lstn_bidp" + level, decimal(Math.max(tick, price - tick * level)));
+            output1.addProperty("optn_lstn_bidp_rsqn" + level, Integer.toString(1 + random.nextInt(300)));
+        }
+        JsonObject body = success();
+        body.add("output1", output1);
+        return body;
+    }
+
+    private static JsonObject success() {
+        JsonObject body = new JsonObject();
+        body.addProperty("rt_cd", "0");
+        body.addProperty("msg_cd", "MCA00000");
+        body.addProperty("msg1", "정상처리 되었습니다.");
+        return body;
+    }
+
+    /**
+     * 종목별 누적 거래량/미결제약정 (조회할 때마다 증가)
+     */
+    private long[] activity(String code, int initialVolume, int initialOpenInterest) {
+        long[] state = activity.computeIfAbsent(code, key -> new long[]{
+                1 + ThreadLocalRandom.current().nextInt(initialVolume),
+                1 + ThreadLocalRandom.current().nextInt(initialOpenInterest)});
+        synchronized (state) {
+            state[0] += ThreadLocalRandom.current().nextInt(50);
+            state[1] += ThreadLocalRandom.current().nextInt(3) - 1;
+            return state.clone();
+        }
+    }
+
+    private double forward() {
+        synchronized (model) {
+            return futures.price() / 100.0;
+        }
+    }
+
+    private double spot() {
+        return forward() - 0.3;
+    }
+
+    private static double volatility(double forward, double strike) {
+        double moneyness = strike - forward;
+        return ATM_VOLATILITY + SMILE * moneyness * moneyness / 10 - 0.0008 * moneyness;
+    }
+
+    private static int futuresIndex(String code) {
+        for (int i = 0; i < FUTURES_CODES.length; i++) {
+            if (FUTURES_CODES[i].equals(code)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 옵션 코드 → 행사가 (B01601577 → 577.5, 2.5pt 간격이 아니면 NaN)
+     */
+    static double strike(String code) {
+        if (code == null || code.length() != 9 || !(code.startsWith("B01601") || code.startsWith("C01601"))) {
+            return Double.NaN;
+        }
+        int digits;
+        try {
+            digits = Integer.parseInt(code.substring(6));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+        return switch (digits % 5) {
+            case 0 -> digits;
+            case 2 -> digits + 0.5;
+            default -> Double.NaN;
+        };
+    }
+
+    private static String query(URI uri, String name) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return pair.substring(eq + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 표준정규 누적분포 (Abramowitz-Stegun 26.2.17, 오차 7.5e-8)
+     */
+    private static double cdf(double x) {
+        double t = 1 / (1 + 0.2316419 * Math.abs(x));
+        double poly = t * (0.319381530 + t * (-0.356563782 + t * (1.781477937 + t * (-1.821255978
+                + t * 1.330274429))));
+        double tail = Math.exp(-0.5 * x * x) / Math.sqrt(2 * Math.PI) * poly;
+        return x >= 0 ? 1 - tail : tail;
+    }
+
+    private static String decimal(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
+    private static String fraction(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 21001;
+        Profile profile = Profile.defaults().toBuilder()
+                .latencyMillis(args.length > 1 ? Long.parseLong(args[1]) : 30)
+                .rateLimitPerSecond(args.length > 2 ? Integer.parseInt(args[2]) : 20)
+                .build();
+        KisRestSimulator simulator = new KisRestSimulator(port, profile);
+        simulator.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(simulator::shutdown));
+        while (true) {
+            TimeUnit.SECONDS.sleep(10);
+            log.info("[SIM] {}", simulator.getStats());
+        }
+    }
+}
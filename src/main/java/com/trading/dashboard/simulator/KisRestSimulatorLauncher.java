@@ -0,0 +1,68 @@
+package com.trading.dashboard.simulator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+
+/**
+ * 애플리케이션과 함께 로컬 KIS REST 서버 실행 (trading.simulator.rest.enabled=true)
+ * - trading.kis.base-url=http://localhost:{port} 로 지정하면 실제 appkey 없이 REST 조회 경로 전체를 테스트
+ */
+@Slf4j
+@Lazy(false)
+@Component
+@ConditionalOnProperty(name = "trading.simulator.rest.enabled", havingValue = "true")
+public class KisRestSimulatorLauncher {
+
+    @Value("${trading.simulator.rest.port:21001}")
+    private int port;
+
+    @Value("${trading.simulator.rest.latency-ms:30}")
+    private long latencyMillis;
+
+    @Value("${trading.simulator.rest.jitter-ms:20}")
+    private long jitterMillis;
+
+    @Value("${trading.simulator.rest.error-rate:0}")
+    private double errorRate;
+
+    @Value("${trading.simulator.rest.rate-limit-per-second:20}")
+    private int rateLimitPerSecond;
+
+    @Value("${trading.simulator.rest.token-issue-interval-ms:60000}")
+    private long tokenIssueIntervalMillis;
+
+    private KisRestSimulator simulator;
+
+    @PostConstruct
+    public void start() throws IOException {
+        KisRestSimulator.Profile profile = KisRestSimulator.Profile.defaults().toBuilder()
+                .latencyMillis(latencyMillis)
+                .jitterMillis(jitterMillis)
+                .errorRate(errorRate)
+                .rateLimitPerSecond(rateLimitPerSecond)
+                .tokenIssueIntervalMillis(tokenIssueIntervalMillis)
+                .build();
+        simulator = new KisRestSimulator(port, profile);
+        simulator.start();
+    }
+
+    public KisRestSimulator simulator() {
+        return simulator;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (simulator != null) {
+            simulator.shutdown();
+            log.info("[SIM] Stopped: {}", simulator.getStats());
+        }
+    }
+}
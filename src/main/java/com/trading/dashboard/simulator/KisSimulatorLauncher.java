@@ -0,0 +1,70 @@
+package com.trading.dashboard.simulator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 애플리케이션과 함께 로컬 KIS WebSocket 시뮬레이터 실행 (trading.simulator.ws.enabled=true)
+ * - trading.kis.websocket-url=ws://localhost:{port} 로 지정하면 실제 appkey 없이 수신 경로 전체를 테스트
+ */
+@Slf4j
+@Lazy(false)
+@Component
+@ConditionalOnProperty(name = "trading.simulator.ws.enabled", havingValue = "true")
+public class KisSimulatorLauncher {
+
+    @Value("${trading.simulator.ws.port:21000}")
+    private int port;
+
+    @Value("${trading.simulator.ws.tick-rate:1000}")
+    private int tickRate;
+
+    @Value("${trading.simulator.ws.symbols:200}")
+    private int symbols;
+
+    @Value("${trading.simulator.ws.burstiness:0.1}")
+    private double burstiness;
+
+    @Value("${trading.simulator.ws.burst-multiplier:10}")
+    private int burstMultiplier;
+
+    @Value("${trading.simulator.ws.max-subscriptions:40}")
+    private int maxSubscriptions;
+
+    @Value("${trading.simulator.ws.disconnect-interval-ms:0}")
+    private long disconnectIntervalMillis;
+
+    private KisWebSocketSimulator simulator;
+
+    @PostConstruct
+    public void start() {
+        KisWebSocketSimulator.Profile profile = KisWebSocketSimulator.Profile.defaults().toBuilder()
+                .tickRate(tickRate)
+                .symbolCount(symbols)
+                .burstiness(burstiness)
+                .burstMultiplier(burstMultiplier)
+                .maxSubscriptions(maxSubscriptions)
+                .disconnectIntervalMillis(disconnectIntervalMillis)
+                .build();
+        simulator = new KisWebSocketSimulator(port, profile);
+        simulator.start();
+    }
+
+    public KisWebSocketSimulator simulator() {
+        return simulator;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (simulator != null) {
+            simulator.shutdown();
+            log.info("[SIM] Stopped: {}", simulator.getStats());
+        }
+    }
+}
@@ -0,0 +1,447 @@
+package com.trading.dashboard.simulator;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.java_websocket.WebSocket;
+import org.java_websocket.framing.CloseFrame;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.WebSocketServer;
+
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로컬 KIS 실시간 WebSocket 서버 (부하/장시간/재연결 테스트용)
+ * - 구독 요청(JSON) → SUBSCRIBE SUCCESS / ALREADY IN SUBSCRIBE / INVALID TR_KEY / MAX SUBSCRIBE OVER 응답
+ * - approval_key 검증, 주기적 PINGPONG 전송 및 응답 집계
+ * - 구독 종목에 대해 가격 모델({@link PriceModel}) 기반 0|TR|NNN|... 파이프 프레임 전송
+ *   (H0STCNT0/H0MFCNT0: 선물 레이아웃, H0EUCNT0: 옵션 레이아웃)
+ * - 체결 발생: 평균 tickRate의 포아송 과정, 버스트 구간에서는 burstMultiplier배 + 여러 레코드 묶음 전송
+ * - 연결 끊김 주입: {@link #injectDisconnect()} 또는 disconnectIntervalMillis 주기
+ *
+ * 단독 실행: java -cp ... com.trading.dashboard.simulator.KisWebSocketSimulator [port] [tickRate] [symbols]
+ */
+@Slf4j
+public final class KisWebSocketSimulator extends WebSocketServer {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DATETIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final Set<String> SUPPORTED_TR = Set.of("H0STCNT0", "H0MFCNT0", "H0EUCNT0");
+    private static final long MEAN_BURST_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final long MAX_BACKLOG_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * 시뮬레이터 설정
+     *
+     * @param tickRate                 평상시 초당 체결 수 (전체 구독 종목 합계)
+     * @param symbolCount              종목 수 (선물 1 + 옵션)
+     * @param burstiness               버스트 구간 시간 비율 (0 ~ 1 미만)
+     * @param burstMultiplier          버스트 구간 체결 속도 배수
+     * @param maxBatch                 버스트 구간 프레임당 최대 레코드 수
+     * @param maxSubscriptions         연결당 구독 한도 (실제 KIS: 40)
+     * @param pingIntervalMillis       PINGPONG 전송 주기 (0: 전송 안 함)
+     * @param disconnectIntervalMillis 연결 강제 종료 주기 (0: 주입 안 함)
+     * @param ackDelayMillis           구독 응답 지연
+     * @param approvalKey              허용 approval_key (null: 비어 있지 않으면 허용)
+     */
+    @Builder(toBuilder = true)
+    public record Profile(int tickRate, int symbolCount, double burstiness, int burstMultiplier, int maxBatch,
+            int maxSubscriptions, long pingIntervalMillis, long disconnectIntervalMillis, long ackDelayMillis,
+            String approvalKey, long seed) {
+
+        public static Profile defaults() {
+            return Profile.builder()
+                    .tickRate(1000)
+                    .symbolCount(200)
+                    .burstiness(0.1)
+                    .burstMultiplier(10)
+                    .maxBatch(5)
+                    .maxSubscriptions(40)
+                    .pingIntervalMillis(10_000)
+                    .disconnectIntervalMillis(0)
+                    .ackDelayMillis(0)
+                    .seed(42)
+                    .build();
+        }
+    }
+
+    /**
+     * 구독 종목별 전송 대상
+     */
+    private record Route(WebSocket connection, String trId) {
+    }
+
+    private final Profile profile;
+    private final PriceModel model;
+    private final Map<WebSocket, Map<String, String>> subscriptions = new ConcurrentHashMap<>();
+
+    // 발행 스레드가 읽는 구독 스냅샷 (구독 변경 시 재구성)
+    private volatile PriceModel.Quote[] active = new PriceModel.Quote[0];
+    private volatile Map<String, Route[]> routes = Map.of();
+
+    private final ScheduledExecutorService scheduler;
+    private Thread publisher;
+    private volatile boolean running;
+    private final CountDownLatch started = new CountDownLatch(1);
+    private volatile boolean paused;
+
+    private final LongAdder framesSent = new LongAdder();
+    private final LongAdder recordsSent = new LongAdder();
+    private final LongAdder acks = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder pongs = new LongAdder();
+    private final LongAdder disconnects = new LongAdder();
+
+    private long cachedSecond = -1;
+    private int cachedHhmmss;
+
+    public KisWebSocketSimulator(int port, Profile profile) {
+        super(new InetSocketAddress(port));
+        this.profile = profile;
+        this.model = new PriceModel(profile.symbolCount(), 590, profile.seed());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "kis-sim-control");
+            thread.setDaemon(true);
+            return thread;
+        });
+        setReuseAddr(true);
+        setConnectionLostTimeout(0);
+    }
+
+    @Override
+    public void onStart() {
+        running = true;
+        publisher = new Thread(this::publishLoop, "kis-sim-publisher");
+        publisher.setDaemon(true);
+        publisher.start();
+        if (profile.pingIntervalMillis() > 0) {
+            scheduler.scheduleAtFixedRate(this::sendPingPong, profile.pingIntervalMillis(),
+                    profile.pingIntervalMillis(), TimeUnit.MILLISECONDS);
+        }
+        if (profile.disconnectIntervalMillis() > 0) {
+            scheduler.scheduleAtFixedRate(this::injectDisconnect, profile.disconnectIntervalMillis(),
+                    profile.disconnectIntervalMillis(), TimeUnit.MILLISECONDS);
+        }
+        log.info("[SIM] KIS WebSocket simulator listening on port {} ({} symbols, {} ticks/s, burstiness {})",
+                getPort(), model.quotes().size(), profile.tickRate(), profile.burstiness());
+        started.countDown();
+    }
+
+    /**
+     * 접속 수신 준비(onStart)까지 대기 - start()는 비동기라 포트 할당만으로는 준비 완료를 보장하지 않음
+     */
+    public boolean awaitStarted(long timeout, TimeUnit unit) throws InterruptedException {
+        return started.await(timeout, unit);
+    }
+
+    /**
+     * 서버 종료 (발행 스레드 포함)
+     */
+    public void shutdown() {
+        running = false;
+        scheduler.shutdownNow();
+        try {
+            stop(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (publisher != null) {
+            LockSupport.unpark(publisher);
+        }
+    }
+
+    @Override
+    public void onOpen(WebSocket connection, ClientHandshake handshake) {
+        subscriptions.put(connection, new ConcurrentHashMap<>());
+        log.debug("[SIM] Client connected: {}", connection.getRemoteSocketAddress());
+    }
+
+    @Override
+    public void onClose(WebSocket connection, int code, String reason, boolean remote) {
+        if (subscriptions.remove(connection) != null) {
+            rebuildRoutes();
+        }
+        log.debug("[SIM] Client closed: {} - {}", code, reason);
+    }
+
+    @Override
+    public void onMessage(WebSocket connection, String message) {
+        JsonObject json;
+        try {
+            json = JsonParser.parseString(message).getAsJsonObject();
+        } catch (Exception e) {
+            log.debug("[SIM] Unparseable message: {}", message);
+            return;
+        }
+        JsonObject header = json.has("header") ? json.getAsJsonObject("header") : new JsonObject();
+        if (header.has("tr_id") && "PINGPONG".equals(header.get("tr_id").getAsString())) {
+            pongs.increment();
+            return;
+        }
+        if (!json.has("body") || !json.getAsJsonObject("body").has("input")) {
+            return;
+        }
+        JsonObject input = json.getAsJsonObject("body").getAsJsonObject("input");
+        String trId = input.has("tr_id") ? input.get("tr_id").getAsString() : "";
+        String trKey = input.has("tr_key") ? input.get("tr_key").getAsString() : "";
+        String trType = header.has("tr_type") ? header.get("tr_type").getAsString() : "1";
+        String approval = header.has("approval_key") ? header.get("approval_key").getAsString() : "";
+
+        String response = handleRequest(connection, approval, trType, trId, trKey);
+        if (profile.ackDelayMillis() > 0) {
+            scheduler.schedule(() -> send(connection, response), profile.ackDelayMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            send(connection, response);
+        }
+    }
+
+    @Override
+    public void onError(WebSocket connection, Exception ex) {
+        log.debug("[SIM] Error: {}", ex.getMessage());
+    }
+
+    private String handleRequest(WebSocket connection, String approval, String trType, String trId, String trKey) {
+        if (approval.isBlank() || (profile.approvalKey() != null && !profile.approvalKey().equals(approval))) {
+            return reject(trId, trKey, "OPSP8996", "invalid approval : NOT FOUND");
+        }
+        if (!SUPPORTED_TR.contains(trId)) {
+            return reject(trId, trKey, "OPSP0007", "INVALID TR_ID");
+        }
+        Map<String, String> subscribed = subscriptions.get(connection);
+        if (subscribed == null) {
+            return reject(trId, trKey, "OPSP9999", "ERROR : connection closed");
+        }
+
+        if ("2".equals(trType)) {
+            if (subscribed.remove(trKey) == null) {
+                return reject(trId, trKey, "OPSP0003", "UNSUBSCRIBE ERROR(not found!)");
+            }
+            rebuildRoutes();
+            acks.increment();
+            return SimulatorFrames.ack(trId, trKey, true, "OPSP0001", "UNSUBSCRIBE SUCCESS");
+        }
+
+        if (model.find(trKey) == null) {
+            return reject(trId, trKey, "OPSP0011", "INVALID TR_KEY");
+        }
+        if (subscribed.containsKey(trKey)) {
+            acks.increment();
+            return SimulatorFrames.ack(trId, trKey, false, "OPSP0002", "ALREADY IN SUBSCRIBE");
+        }
+        if (profile.maxSubscriptions() > 0 && subscribed.size() >= profile.maxSubscriptions()) {
+            return reject(trId, trKey, "OPSP0008", "MAX SUBSCRIBE OVER");
+        }
+        subscribed.put(trKey, trId);
+        rebuildRoutes();
+        acks.increment();
+        return SimulatorFrames.ack(trId, trKey, true, "OPSP0000", "SUBSCRIBE SUCCESS");
+    }
+
+    private String reject(String trId, String trKey, String code, String message) {
+        rejected.increment();
+        return SimulatorFrames.ack(trId, trKey, false, code, message);
+    }
+
+    /**
+     * 모든 연결을 종료 핸드셰이크 없이 끊음 (클라이언트에는 1006 비정상 종료로 보임)
+     */
+    public void injectDisconnect() {
+        int count = 0;
+        for (WebSocket connection : new ArrayList<>(subscriptions.keySet())) {
+            connection.closeConnection(CloseFrame.ABNORMAL_CLOSE, "simulated disconnect");
+            count++;
+        }
+        if (count > 0) {
+            disconnects.add(count);
+            log.info("[SIM] Injected disconnect ({} connections)", count);
+        }
+    }
+
+    /**
+     * 전송 일시 중지 (연결은 유지, PINGPONG 포함 무응답 상태 재현)
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("connections", subscriptions.size());
+        stats.put("subscriptions", subscriptions.values().stream().mapToInt(Map::size).sum());
+        stats.put("framesSent", framesSent.sum());
+        stats.put("recordsSent", recordsSent.sum());
+        stats.put("acks", acks.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("pongs", pongs.sum());
+        stats.put("disconnects", disconnects.sum());
+        return stats;
+    }
+
+    public long framesSent() {
+        return framesSent.sum();
+    }
+
+    private synchronized void rebuildRoutes() {
+        Map<String, List<Route>> bySymbol = new HashMap<>();
+        for (Map.Entry<WebSocket, Map<String, String>> connection : subscriptions.entrySet()) {
+            for (Map.Entry<String, String> subscription : connection.getValue().entrySet()) {
+                bySymbol.computeIfAbsent(subscription.getKey(), key -> new ArrayList<>())
+                        .add(new Route(connection.getKey(), subscription.getValue()));
+            }
+        }
+        Map<String, Route[]> next = new HashMap<>();
+        List<PriceModel.Quote> quotes = new ArrayList<>();
+        bySymbol.forEach((symbol, list) -> {
+            next.put(symbol, list.toArray(new Route[0]));
+            quotes.add(model.find(symbol));
+        });
+        routes = next;
+        active = quotes.toArray(new PriceModel.Quote[0]);
+    }
+
+    /**
+     * 체결 발생 루프 (포아송 도착 + 버스트 구간 전환)
+     */
+    private void publishLoop() {
+        SplittableRandom random = model.random();
+        StringBuilder futuresBody = new StringBuilder(512);
+        StringBuilder optionBody = new StringBuilder(512);
+        StringBuilder frame = new StringBuilder(1024);
+
+        boolean burst = false;
+        long now = System.nanoTime();
+        long nextTick = now;
+        long nextSwitch = now + calmDuration(random);
+
+        while (running) {
+            now = System.nanoTime();
+            if (now >= nextSwitch) {
+                burst = !burst;
+                nextSwitch = now + (burst ? exponential(random, MEAN_BURST_NANOS) : calmDuration(random));
+            }
+            PriceModel.Quote[] quotes = active;
+            if (paused || quotes.length == 0) {
+                LockSupport.parkNanos(1_000_000);
+                nextTick = System.nanoTime();
+                continue;
+            }
+            if (nextTick > now) {
+                LockSupport.parkNanos(nextTick - now);
+                continue;
+            }
+
+            PriceModel.Quote quote = quotes[random.nextInt(quotes.length)];
+            int records = burst && profile.maxBatch() > 1 ? 1 + random.nextInt(profile.maxBatch()) : 1;
+            emit(quote, records, futuresBody, optionBody, frame);
+
+            double rate = profile.tickRate() * (burst ? Math.max(1, profile.burstMultiplier()) : 1.0);
+            nextTick += exponential(random, (long) (1e9 / Math.max(1.0, rate)));
+            if (now - nextTick > MAX_BACKLOG_NANOS) {
+                // 전송이 밀리면 따라잡기를 포기 (측정 대상: 처리 한계)
+                nextTick = now;
+            }
+        }
+    }
+
+    private void emit(PriceModel.Quote quote, int records, StringBuilder futuresBody, StringBuilder optionBody,
+            StringBuilder frame) {
+        Route[] targets = routes.get(quote.symbol());
+        if (targets == null) {
+            return;
+        }
+        int hhmmss = hhmmss();
+        futuresBody.setLength(0);
+        optionBody.setLength(0);
+        for (int i = 0; i < records; i++) {
+            model.step(quote);
+            if (i > 0) {
+                futuresBody.append('^');
+                optionBody.append('^');
+            }
+            SimulatorFrames.record(futuresBody, "H0MFCNT0", quote, hhmmss);
+            SimulatorFrames.record(optionBody, "H0EUCNT0", quote, hhmmss);
+        }
+        for (Route route : targets) {
+            frame.setLength(0);
+            SimulatorFrames.header(frame, route.trId(), records);
+            frame.append("H0EUCNT0".equals(route.trId()) ? optionBody : futuresBody);
+            if (send(route.connection(), frame.toString())) {
+                framesSent.increment();
+                recordsSent.add(records);
+            }
+        }
+    }
+
+    private void sendPingPong() {
+        if (paused) {
+            return;
+        }
+        String message = SimulatorFrames.pingPong(LocalDateTime.now(KST).format(DATETIME));
+        for (WebSocket connection : subscriptions.keySet()) {
+            send(connection, message);
+        }
+    }
+
+    private static boolean send(WebSocket connection, String message) {
+        if (!connection.isOpen()) {
+            return false;
+        }
+        try {
+            connection.send(message);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private long calmDuration(SplittableRandom random) {
+        double burstiness = profile.burstiness();
+        if (burstiness <= 0) {
+            return Long.MAX_VALUE / 2;
+        }
+        double ratio = (1 - Math.min(burstiness, 0.99)) / Math.min(burstiness, 0.99);
+        return exponential(random, (long) (MEAN_BURST_NANOS * ratio));
+    }
+
+    private static long exponential(SplittableRandom random, long meanNanos) {
+        return (long) (-Math.log(1 - random.nextDouble()) * meanNanos);
+    }
+
+    private int hhmmss() {
+        long second = System.currentTimeMillis() / 1000;
+        if (second != cachedSecond) {
+            LocalTime time = LocalTime.now(KST);
+            cachedHhmmss = time.getHour() * 10_000 + time.getMinute() * 100 + time.getSecond();
+            cachedSecond = second;
+        }
+        return cachedHhmmss;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 21000;
+        Profile profile = Profile.defaults().toBuilder()
+                .tickRate(args.length > 1 ? Integer.parseInt(args[1]) : 1000)
+                .symbolCount(args.length > 2 ? Integer.parseInt(args[2]) : 200)
+                .build();
+        KisWebSocketSimulator simulator = new KisWebSocketSimulator(port, profile);
+        Runtime.getRuntime().addShutdownHook(new Thread(simulator::shutdown));
+        simulator.start();
+        while (true) {
+            Thread.sleep(10_000);
+            log.info("[SIM] {}", simulator.getStats());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.trading.dashboard.simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 시뮬레이터 가격 모델 (단일 스레드 전용)
+ * - 선물: 로그정규 랜덤워크, 0.05 단위
+ * - 옵션: 선물가격 기준 내재가치 + 평균회귀하는 시간가치, 0.01 단위
+ * - 가격은 0.01 단위 정수(hundredths)로 보관해 문자열 변환 시 BigDecimal을 쓰지 않음
+ */
+public final class PriceModel {
+
+    public static final String FUTURES_SYMBOL = "A01603";
+
+    private static final int FUTURES_TICK = 5;
+    private static final double FUTURES_VOLATILITY = 0.0004;
+    private static final double TIME_VALUE_REVERSION = 0.02;
+
+    /**
+     * 종목 상태 (가격은 0.01 단위 정수)
+     */
+    public static final class Quote {
+        final String symbol;
+        final boolean futures;
+        final boolean call;
+        final long strike;
+        long price;
+        long previousClose;
+        long open;
+        long high;
+        long low;
+        long lastQuantity;
+        long volume;
+        long tradingValue;
+        long openInterest;
+        double timeValue;
+        double fairTimeValue;
+
+        Quote(String symbol, boolean futures, boolean call, long strike) {
+            this.symbol = symbol;
+            this.futures = futures;
+            this.call = call;
+            this.strike = strike;
+        }
+
+        public String symbol() {
+            return symbol;
+        }
+
+        public boolean isFutures() {
+            return futures;
+        }
+
+        public long price() {
+            return price;
+        }
+
+        public long volume() {
+            return volume;
+        }
+    }
+
+    private final SplittableRandom random;
+    private final List<Quote> quotes = new ArrayList<>();
+    private final Quote futures;
+
+    /**
+     * @param symbolCount 전체 종목 수 (선물 1 + 옵션 콜/풋 쌍)
+     * @param center      중심 행사가 (예: 590)
+     */
+    public PriceModel(int symbolCount, int center, long seed) {
+        this.random = new SplittableRandom(seed);
+        futures = new Quote(FUTURES_SYMBOL, true, false, 0);
+        futures.price = center * 100L;
+        initialize(futures);
+        quotes.add(futures);
+
+        int pairs = Math.max(0, (symbolCount - 1) / 2);
+        for (int i = 0; i < pairs; i++) {
+            // 중심에서 바깥쪽으로 번갈아 배치: 0, +1, -1, +2, -2 ...
+            int offset = (i + 1) / 2 * (i % 2 == 0 ? -1 : 1);
+            int strike = center + offset;
+            quotes.add(option("B01601", strike, true));
+            quotes.add(option("C01601", strike, false));
+        }
+    }
+
+    public List<Quote> quotes() {
+        return quotes;
+    }
+
+    public Quote find(String symbol) {
+        for (Quote quote : quotes) {
+            if (quote.symbol.equals(symbol)) {
+                return quote;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 체결 1건 진행 (선물은 자체 랜덤워크, 옵션은 현재 선물가격 기준 재계산)
+     */
+    public void step(Quote quote) {
+        if (quote.futures) {
+            double shock = FUTURES_VOLATILITY * random.nextGaussian();
+            long next = Math.round(quote.price * Math.exp(shock) / FUTURES_TICK) * FUTURES_TICK;
+            quote.price = Math.max(FUTURES_TICK, next);
+        } else {
+            // 시간가치: 적정값으로 평균회귀 + 잡음
+            quote.timeValue += TIME_VALUE_REVERSION * (quote.fairTimeValue - quote.timeValue)
+                    + 0.01 * quote.fairTimeValue * random.nextGaussian();
+            quote.timeValue = Math.max(0.01, quote.timeValue);
+            long intrinsic = Math.max(0, quote.call ? futures.price - quote.strike : quote.strike - futures.price);
+            quote.price = Math.max(1, intrinsic + Math.round(quote.timeValue));
+        }
+        quote.lastQuantity = 1 + random.nextInt(quote.futures ? 5 : 50);
+        quote.volume += quote.lastQuantity;
+        // 거래대금(천원): 가격 × 수량 × 승수 250,000원 (가격이 0.01 단위이므로 × 2.5)
+        quote.tradingValue += quote.price * quote.lastQuantity * 5 / 2;
+        if (random.nextInt(4) == 0) {
+            quote.openInterest += random.nextInt(3) - 1;
+        }
+        quote.high = Math.max(quote.high, quote.price);
+        quote.low = Math.min(quote.low, quote.price);
+    }
+
+    /**
+     * 무작위 종목 선택용 난수 (발행 스레드 공유)
+     */
+    SplittableRandom random() {
+        return random;
+    }
+
+    private Quote option(String prefix, int strike, boolean call) {
+        Quote quote = new Quote(prefix + String.format("%03d", strike), false, call, strike * 100L);
+        // 적정 시간가치: ATM에서 최대, 멀어질수록 감소 (0.01 단위)
+        double distance = Math.abs(futures.price - quote.strike) / 100.0;
+        quote.fairTimeValue = 300 * Math.exp(-distance / 8);
+        quote.timeValue = quote.fairTimeValue;
+        long intrinsic = Math.max(0, call ? futures.price - quote.strike : quote.strike - futures.price);
+        quote.price = Math.max(1, intrinsic + Math.round(quote.timeValue));
+        initialize(quote);
+        quote.openInterest = 1_000 + random.nextInt(20_000);
+        return quote;
+    }
+
+    private static void initialize(Quote quote) {
+        quote.previousClose = quote.price;
+        quote.open = quote.price;
+        quote.high = quote.price;
+        quote.low = quote.price;
+    }
+}
@@ -0,0 +1,128 @@
+package com.trading.dashboard.simulator;
+
+/**
+ * KIS 실시간 프로토콜 메시지 생성
+ * - 파이프 프레임: 0|TR_ID|NNN|레코드^레코드...
+ * - JSON 응답: 구독 응답, PINGPONG
+ */
+final class SimulatorFrames {
+
+    /** 선물 레이아웃 레코드 폭 (H0STCNT0/H0MFCNT0, 18번 미결제약정까지) */
+    static final int FUTURES_FIELDS = 19;
+    /** 옵션 레이아웃 레코드 폭 (H0EUCNT0, 12번 미결제약정까지) */
+    static final int OPTION_FIELDS = 13;
+
+    private SimulatorFrames() {
+    }
+
+    static void header(StringBuilder sb, String trId, int records) {
+        sb.append("0|").append(trId).append('|');
+        if (records < 100) {
+            sb.append('0');
+        }
+        if (records < 10) {
+            sb.append('0');
+        }
+        sb.append(records).append('|');
+    }
+
+    /**
+     * 체결 레코드 1건 (TR에 맞는 필드 배치)
+     */
+    static void record(StringBuilder sb, String trId, PriceModel.Quote quote, int hhmmss) {
+        long change = quote.price - quote.previousClose;
+        if ("H0EUCNT0".equals(trId)) {
+            sb.append(quote.symbol).append('^');
+            time(sb, hhmmss);
+            sb.append('^');
+            price(sb, quote.price);
+            sb.append('^').append(sign(change)).append('^');
+            price(sb, change);
+            sb.append('^');
+            rate(sb, change, quote.previousClose);
+            sb.append('^');
+            appendPrices(sb, quote);
+            sb.append('^').append(quote.openInterest);
+            return;
+        }
+        sb.append(quote.symbol).append('^');
+        time(sb, hhmmss);
+        sb.append('^');
+        price(sb, change);
+        sb.append('^').append(sign(change)).append('^');
+        rate(sb, change, quote.previousClose);
+        sb.append('^');
+        price(sb, quote.price);
+        sb.append('^');
+        appendPrices(sb, quote);
+        for (int i = 12; i < FUTURES_FIELDS - 1; i++) {
+            sb.append("^0");
+        }
+        sb.append('^').append(quote.openInterest);
+    }
+
+    /**
+     * 시가^고가^저가^체결량^누적거래량^누적거래대금
+     */
+    private static void appendPrices(StringBuilder sb, PriceModel.Quote quote) {
+        price(sb, quote.open);
+        sb.append('^');
+        price(sb, quote.high);
+        sb.append('^');
+        price(sb, quote.low);
+        sb.append('^').append(quote.lastQuantity)
+                .append('^').append(quote.volume)
+                .append('^').append(quote.tradingValue);
+    }
+
+    static String ack(String trId, String trKey, boolean success, String messageCode, String message) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("{\"header\":{\"tr_id\":\"").append(trId)
+                .append("\",\"tr_key\":\"").append(trKey)
+                .append("\",\"encrypt\":\"N\"},\"body\":{\"rt_cd\":\"").append(success ? '0' : '1')
+                .append("\",\"msg_cd\":\"").append(messageCode)
+                .append("\",\"msg1\":\"").append(message).append('"');
+        if (success) {
+            sb.append(",\"output\":{\"iv\":\"0123456789abcdef\",\"key\":\"abcdefghijklmnopabcdefghijklmnop\"}");
+        }
+        return sb.append("}}").toString();
+    }
+
+    static String pingPong(String datetime) {
+        return "{\"header\":{\"tr_id\":\"PINGPONG\",\"datetime\":\"" + datetime + "\"}}";
+    }
+
+    private static char sign(long change) {
+        return change > 0 ? '2' : change < 0 ? '5' : '3';
+    }
+
+    private static void time(StringBuilder sb, int hhmmss) {
+        if (hhmmss < 100_000) {
+            sb.append('0');
+        }
+        sb.append(hhmmss);
+    }
+
+    /**
+     * 0.01 단위 정수 → "590.35"
+     */
+    static void price(StringBuilder sb, long hundredths) {
+        if (hundredths < 0) {
+            sb.append('-');
+            hundredths = -hundredths;
+        }
+        sb.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        sb.append(fraction);
+    }
+
+    /**
+     * 등락률 (%, 소수 2자리)
+     */
+    private static void rate(StringBuilder sb, long change, long base) {
+        price(sb, base == 0 ? 0 : change * 10_000 / base);
+    }
+}
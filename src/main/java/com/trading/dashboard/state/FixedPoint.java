@@ -0,0 +1,111 @@
+package com.trading.dashboard.state;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 소수점 4자리 고정소수점 표현
+ * - 실시간 상태 슬롯의 가격/금액 필드는 BigDecimal 대신 long으로 보관
+ * - {@link #NULL}은 "값 없음"을 의미
+ */
+public final class FixedPoint {
+
+    public static final int SCALE = 4;
+    public static final long ONE = 10_000L;
+    public static final long NULL = Long.MIN_VALUE;
+
+    private FixedPoint() {
+    }
+
+    public static long of(BigDecimal value) {
+        if (value == null) {
+            return NULL;
+        }
+        return value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    public static long of(double value) {
+        return Double.isNaN(value) ? NULL : Math.round(value * ONE);
+    }
+
+    public static long ofLong(long value) {
+        return value * ONE;
+    }
+
+    public static BigDecimal toBigDecimal(long value) {
+        if (value == NULL) {
+            return null;
+        }
+        BigDecimal decimal = BigDecimal.valueOf(value, SCALE).stripTrailingZeros();
+        return decimal.scale() < 0 ? decimal.setScale(0) : decimal;
+    }
+
+    public static double toDouble(long value) {
+        return value == NULL ? Double.NaN : (double) value / ONE;
+    }
+
+    /**
+     * 문자열 구간을 고정소수점으로 파싱 (부분 문자열 생성 없음)
+     * - 부호, 천 단위 콤마 허용
+     * - 빈 구간은 {@link #NULL}
+     */
+    public static long parse(CharSequence src, int start, int end) {
+        int i = start;
+        while (i < end && src.charAt(i) == ' ') {
+            i++;
+        }
+        if (i >= end) {
+            return NULL;
+        }
+
+        boolean negative = false;
+        char first = src.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+
+        long integer = 0;
+        long fraction = 0;
+        int fractionDigits = 0;
+        boolean inFraction = false;
+        boolean anyDigit = false;
+
+        for (; i < end; i++) {
+            char c = src.charAt(i);
+            if (c >= '0' && c <= '9') {
+                anyDigit = true;
+                if (inFraction) {
+                    if (fractionDigits < SCALE) {
+                        fraction = fraction * 10 + (c - '0');
+                        fractionDigits++;
+                    }
+                } else {
+                    integer = integer * 10 + (c - '0');
+                }
+            } else if (c == '.' && !inFraction) {
+                inFraction = true;
+            } else if (c == ',') {
+                // 천 단위 구분자 무시
+            } else if (c == ' ') {
+                break;
+            } else {
+                throw new NumberFormatException("Invalid decimal: " + src.subSequence(start, end));
+            }
+        }
+
+        if (!anyDigit) {
+            return NULL;
+        }
+
+        for (int d = fractionDigits; d < SCALE; d++) {
+            fraction *= 10;
+        }
+        long value = integer * ONE + fraction;
+        return negative ? -value : value;
+    }
+
+    public static long parse(CharSequence src) {
+        return src == null ? NULL : parse(src, 0, src.length());
+    }
+}
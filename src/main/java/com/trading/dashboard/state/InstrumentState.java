@@ -0,0 +1,555 @@
+package com.trading.dashboard.state;
+
+import com.trading.dashboard.model.FuturesData;
+import com.trading.dashboard.model.InstrumentType;
+import com.trading.dashboard.model.OptionData;
+import com.trading.dashboard.model.OptionType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 종목별 실시간 상태 슬롯 (가변)
+ * - 쓰기: 실시간 틱(WebSocket) 또는 REST 갱신이 슬롯을 제자리에서 갱신
+ * - 읽기: StampedLock 낙관적 읽기로 잠금 없이 일관된 값을 복사
+ * - 가격/금액은 {@link FixedPoint}, Greeks는 double(NaN = 값 없음)
+ * - 거래량/미결제약정/거래대금이 바뀌면 같은 쓰기 잠금 안에서 {@link MarketAggregates}에 변화량 반영
+ */
+public final class InstrumentState {
+
+    static final int NULL_INT = Integer.MIN_VALUE;
+
+    private final String symbol;
+    private final InstrumentType instrumentType;
+    private final OptionType optionType;
+
+    private final MarketAggregates aggregates;
+    private final int aggregateBucket;
+
+    private final StampedLock lock = new StampedLock();
+
+    // write-behind 대기열 등록 여부 (같은 flush 구간 내 중복 등록 방지)
+    private final AtomicBoolean persistPending = new AtomicBoolean();
+
+    private String name;
+    private String expiryDate;
+
+    private long strikePrice = FixedPoint.NULL;
+    private long currentPrice = FixedPoint.NULL;
+    private long changeAmount = FixedPoint.NULL;
+    private long changePercent = FixedPoint.NULL;
+    private long openPrice = FixedPoint.NULL;
+    private long highPrice = FixedPoint.NULL;
+    private long lowPrice = FixedPoint.NULL;
+    private long bidPrice = FixedPoint.NULL;
+    private long askPrice = FixedPoint.NULL;
+    private long underlyingPrice = FixedPoint.NULL;
+    private long tradingValue = 0L;
+    private long volume;
+    private long openInterest;
+    private int bidVolume = NULL_INT;
+    private int askVolume = NULL_INT;
+
+    private double impliedVolatility = Double.NaN;
+    private double delta = Double.NaN;
+    private double gamma = Double.NaN;
+    private double theta = Double.NaN;
+    private double vega = Double.NaN;
+
+    // 필드 그룹별 갱신 시각: 가격 그룹(실시간 또는 REST), REST 전용 그룹(IV, Greeks, 미결제약정)
+    private long updatedAtMillis;
+    private long restUpdatedAtMillis;
+    private long tickCount;
+
+    InstrumentState(String symbol, InstrumentType instrumentType, OptionType optionType,
+            MarketAggregates aggregates) {
+        this.symbol = symbol;
+        this.instrumentType = instrumentType;
+        this.optionType = optionType;
+        this.aggregates = aggregates;
+        this.aggregateBucket = MarketAggregates.bucketOf(instrumentType, optionType);
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public InstrumentType getInstrumentType() {
+        return instrumentType;
+    }
+
+    public OptionType getOptionType() {
+        return optionType;
+    }
+
+    public boolean isFutures() {
+        return instrumentType == InstrumentType.FUTURES;
+    }
+
+    /**
+     * write-behind 대기 표시
+     *
+     * @return 새로 표시되었으면 true (이미 대기 중이면 false = 병합됨)
+     */
+    public boolean markPersistPending() {
+        return persistPending.compareAndSet(false, true);
+    }
+
+    /**
+     * write-behind 대기 해제 (스냅샷 생성 직전에 호출)
+     */
+    public void clearPersistPending() {
+        persistPending.set(false);
+    }
+
+    /**
+     * 실시간 체결 반영 (가격, 누적거래량)
+     */
+    public void applyTrade(long price, long accumulatedVolume, long epochMillis) {
+        applyExecution(price, FixedPoint.NULL, FixedPoint.NULL, FixedPoint.NULL, FixedPoint.NULL,
+                FixedPoint.NULL, accumulatedVolume, FixedPoint.NULL, FixedPoint.NULL, epochMillis);
+    }
+
+    /**
+     * 실시간 체결 반영 (전체 필드)
+     * - {@link FixedPoint#NULL}인 필드는 기존 값 유지
+     */
+    public void applyExecution(long price, long change, long changeRate, long open, long high, long low,
+            long accumulatedVolume, long accumulatedTradingValue, long openInterest, long epochMillis) {
+        long stamp = lock.writeLock();
+        try {
+            long volumeBefore = volume;
+            long openInterestBefore = this.openInterest;
+            long tradingValueBefore = tradingValue;
+            if (price != FixedPoint.NULL) {
+                currentPrice = price;
+            }
+            if (change != FixedPoint.NULL) {
+                changeAmount = change;
+            }
+            if (changeRate != FixedPoint.NULL) {
+                changePercent = changeRate;
+            }
+            if (open != FixedPoint.NULL) {
+                openPrice = open;
+            }
+            if (high != FixedPoint.NULL) {
+                highPrice = high;
+            }
+            if (low != FixedPoint.NULL) {
+                lowPrice = low;
+            }
+            if (accumulatedVolume != FixedPoint.NULL) {
+                volume = accumulatedVolume;
+            }
+            if (accumulatedTradingValue != FixedPoint.NULL) {
+                tradingValue = accumulatedTradingValue;
+            }
+            if (openInterest != FixedPoint.NULL) {
+                this.openInterest = openInterest;
+            }
+            updatedAtMillis = epochMillis;
+            tickCount++;
+            publishAggregates(volumeBefore, openInterestBefore, tradingValueBefore);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * REST 조회 결과(옵션) 전체 반영
+     */
+    public void applyOption(OptionData option) {
+        long stamp = lock.writeLock();
+        try {
+            long volumeBefore = volume;
+            long openInterestBefore = openInterest;
+            long tradingValueBefore = tradingValue;
+            name = option.getName();
+            expiryDate = option.getExpiryDate();
+            strikePrice = FixedPoint.of(option.getStrikePrice());
+            currentPrice = FixedPoint.of(option.getCurrentPrice());
+            volume = nullSafe(option.getVolume());
+            openInterest = nullSafe(option.getOpenInterest());
+            tradingValue = FixedPoint.of(option.getTradingValue());
+            impliedVolatility = toDouble(option.getImpliedVolatility());
+            delta = toDouble(option.getDelta());
+            gamma = toDouble(option.getGamma());
+            theta = toDouble(option.getTheta());
+            vega = toDouble(option.getVega());
+            bidPrice = FixedPoint.of(option.getBidPrice());
+            askPrice = FixedPoint.of(option.getAskPrice());
+            bidVolume = option.getBidVolume() != null ? option.getBidVolume() : NULL_INT;
+            askVolume = option.getAskVolume() != null ? option.getAskVolume() : NULL_INT;
+            underlyingPrice = FixedPoint.of(option.getUnderlyingPrice());
+            updatedAtMillis = toEpochMillis(option.getTimestamp());
+            restUpdatedAtMillis = updatedAtMillis;
+            publishAggregates(volumeBefore, openInterestBefore, tradingValueBefore);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * REST 재조회 결과(옵션) 부분 반영 - 호가 없이 시세만 조회한 경우
+     * - REST 전용 필드(IV, Greeks, 미결제약정, 기초자산)는 항상 반영
+     * - 가격/거래량은 조회 시각 이후 실시간 체결이 들어왔으면 유지 (실시간이 더 최신)
+     * - 호가는 유지
+     */
+    public void applyOptionAnalytics(OptionData option) {
+        long restMillis = toEpochMillis(option.getTimestamp());
+        long stamp = lock.writeLock();
+        try {
+            long volumeBefore = volume;
+            long openInterestBefore = openInterest;
+            long tradingValueBefore = tradingValue;
+            name = option.getName();
+            if (option.getExpiryDate() != null) {
+                expiryDate = option.getExpiryDate();
+            }
+            strikePrice = FixedPoint.of(option.getStrikePrice());
+            openInterest = nullSafe(option.getOpenInterest());
+            impliedVolatility = toDouble(option.getImpliedVolatility());
+            delta = toDouble(option.getDelta());
+            gamma = toDouble(option.getGamma());
+            theta = toDouble(option.getTheta());
+            vega = toDouble(option.getVega());
+            if (option.getUnderlyingPrice() != null) {
+                underlyingPrice = FixedPoint.of(option.getUnderlyingPrice());
+            }
+            if (restMillis >= updatedAtMillis) {
+                currentPrice = FixedPoint.of(option.getCurrentPrice());
+                volume = nullSafe(option.getVolume());
+                tradingValue = FixedPoint.of(option.getTradingValue());
+                updatedAtMillis = restMillis;
+            }
+            restUpdatedAtMillis = restMillis;
+            publishAggregates(volumeBefore, openInterestBefore, tradingValueBefore);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 가격 모델(실시간 재계산) 결과 반영 - IV, Greeks만 갱신
+     * - 거래량/미결제약정/거래대금을 바꾸지 않으므로 합계와 변경 카운터에 반영하지 않음
+     *
+     * @param impliedVolatility IV (%, REST와 같은 단위)
+     */
+    public void applyModelGreeks(double impliedVolatility, double delta, double gamma, double theta, double vega) {
+        long stamp = lock.writeLock();
+        try {
+            this.impliedVolatility = impliedVolatility;
+            this.delta = delta;
+            this.gamma = gamma;
+            this.theta = theta;
+            this.vega = vega;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * REST 조회 결과(선물) 전체 반영
+     */
+    public void applyFutures(FuturesData futures) {
+        long stamp = lock.writeLock();
+        try {
+            long volumeBefore = volume;
+            long openInterestBefore = openInterest;
+            long tradingValueBefore = tradingValue;
+            name = futures.getName();
+            currentPrice = FixedPoint.of(futures.getCurrentPrice());
+            changeAmount = FixedPoint.of(futures.getChangeAmount());
+            changePercent = FixedPoint.of(futures.getChangePercent());
+            volume = nullSafe(futures.getVolume());
+            openInterest = nullSafe(futures.getOpenInterest());
+            tradingValue = FixedPoint.of(futures.getTradingValue());
+            bidPrice = FixedPoint.of(futures.getBidPrice());
+            askPrice = FixedPoint.of(futures.getAskPrice());
+            bidVolume = futures.getBidVolume() != null ? futures.getBidVolume() : NULL_INT;
+            askVolume = futures.getAskVolume() != null ? futures.getAskVolume() : NULL_INT;
+            openPrice = FixedPoint.of(futures.getOpenPrice());
+            highPrice = FixedPoint.of(futures.getHighPrice());
+            lowPrice = FixedPoint.of(futures.getLowPrice());
+            updatedAtMillis = toEpochMillis(futures.getTimestamp());
+            restUpdatedAtMillis = updatedAtMillis;
+            publishAggregates(volumeBefore, openInterestBefore, tradingValueBefore);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 현재가 (고정소수점) - 단일 필드는 낙관적 읽기로 충분
+     */
+    public long currentPrice() {
+        long stamp = lock.tryOptimisticRead();
+        long value = currentPrice;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = currentPrice;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 행사가 (고정소수점, 선물은 {@link FixedPoint#NULL})
+     */
+    public long strikePrice() {
+        long stamp = lock.tryOptimisticRead();
+        long value = strikePrice;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = strikePrice;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 누적 거래량
+     */
+    public long volume() {
+        long stamp = lock.tryOptimisticRead();
+        long value = volume;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = volume;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 미결제약정
+     */
+    public long openInterest() {
+        long stamp = lock.tryOptimisticRead();
+        long value = openInterest;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = openInterest;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 내재변동성 (%, 값 없음 = NaN)
+     */
+    public double impliedVolatility() {
+        long stamp = lock.tryOptimisticRead();
+        double value = impliedVolatility;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = impliedVolatility;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 만기일 (REST 조회 전이면 null)
+     */
+    public String expiryDate() {
+        long stamp = lock.tryOptimisticRead();
+        String value = expiryDate;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = expiryDate;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 가격 그룹 최종 갱신 시각 (epoch millis, 실시간 체결 또는 REST)
+     */
+    public long updatedAtMillis() {
+        long stamp = lock.tryOptimisticRead();
+        long value = updatedAtMillis;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = updatedAtMillis;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * REST 최종 반영 시각 (epoch millis, 0 = REST로 채워진 적 없음)
+     */
+    public long restUpdatedAtMillis() {
+        long stamp = lock.tryOptimisticRead();
+        long value = restUpdatedAtMillis;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = restUpdatedAtMillis;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 누적 틱 수 (갱신 빈도 측정용)
+     */
+    public long tickCount() {
+        long stamp = lock.tryOptimisticRead();
+        long value = tickCount;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = tickCount;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 옵션 엔티티 형태로 일관된 스냅샷 생성 (영속화되지 않은 객체)
+     */
+    public OptionData toOptionData() {
+        OptionData option = new OptionData();
+        long stamp = lock.tryOptimisticRead();
+        copyTo(option);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                copyTo(option);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return option;
+    }
+
+    /**
+     * 선물 엔티티 형태로 일관된 스냅샷 생성 (영속화되지 않은 객체)
+     */
+    public FuturesData toFuturesData() {
+        FuturesData futures = new FuturesData();
+        long stamp = lock.tryOptimisticRead();
+        copyTo(futures);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                copyTo(futures);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return futures;
+    }
+
+    private void copyTo(OptionData option) {
+        option.setSymbol(symbol);
+        option.setName(name);
+        option.setOptionType(optionType);
+        option.setExpiryDate(expiryDate);
+        option.setStrikePrice(FixedPoint.toBigDecimal(strikePrice));
+        option.setCurrentPrice(FixedPoint.toBigDecimal(currentPrice));
+        option.setVolume(volume);
+        option.setOpenInterest(openInterest);
+        option.setTradingValue(tradingValueOrZero());
+        option.setImpliedVolatility(toBigDecimal(impliedVolatility));
+        option.setDelta(toBigDecimal(delta));
+        option.setGamma(toBigDecimal(gamma));
+        option.setTheta(toBigDecimal(theta));
+        option.setVega(toBigDecimal(vega));
+        option.setBidPrice(FixedPoint.toBigDecimal(bidPrice));
+        option.setAskPrice(FixedPoint.toBigDecimal(askPrice));
+        option.setBidVolume(bidVolume != NULL_INT ? bidVolume : null);
+        option.setAskVolume(askVolume != NULL_INT ? askVolume : null);
+        option.setUnderlyingPrice(FixedPoint.toBigDecimal(underlyingPrice));
+        option.setTimestamp(toLocalDateTime(updatedAtMillis));
+    }
+
+    private void copyTo(FuturesData futures) {
+        futures.setSymbol(symbol);
+        futures.setName(name);
+        futures.setCurrentPrice(FixedPoint.toBigDecimal(currentPrice));
+        futures.setChangeAmount(FixedPoint.toBigDecimal(changeAmount));
+        futures.setChangePercent(FixedPoint.toBigDecimal(changePercent));
+        futures.setVolume(volume);
+        futures.setOpenInterest(openInterest);
+        futures.setTradingValue(tradingValueOrZero());
+        futures.setBidPrice(FixedPoint.toBigDecimal(bidPrice));
+        futures.setAskPrice(FixedPoint.toBigDecimal(askPrice));
+        futures.setBidVolume(bidVolume != NULL_INT ? bidVolume : null);
+        futures.setAskVolume(askVolume != NULL_INT ? askVolume : null);
+        futures.setOpenPrice(FixedPoint.toBigDecimal(openPrice));
+        futures.setHighPrice(FixedPoint.toBigDecimal(highPrice));
+        futures.setLowPrice(FixedPoint.toBigDecimal(lowPrice));
+        futures.setTimestamp(toLocalDateTime(updatedAtMillis));
+    }
+
+    /**
+     * 합계 변화량 반영 (쓰기 잠금 보유 상태에서 호출)
+     */
+    private void publishAggregates(long volumeBefore, long openInterestBefore, long tradingValueBefore) {
+        aggregates.add(aggregateBucket, volume - volumeBefore, openInterest - openInterestBefore,
+                orZero(tradingValue) - orZero(tradingValueBefore));
+    }
+
+    private static long orZero(long fixedPoint) {
+        return fixedPoint == FixedPoint.NULL ? 0L : fixedPoint;
+    }
+
+    private BigDecimal tradingValueOrZero() {
+        return tradingValue == FixedPoint.NULL ? BigDecimal.ZERO : FixedPoint.toBigDecimal(tradingValue);
+    }
+
+    private static long nullSafe(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    private static BigDecimal toBigDecimal(double value) {
+        return Double.isNaN(value) ? null : BigDecimal.valueOf(value);
+    }
+
+    private static long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp != null
+                ? timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,94 @@
+package com.trading.dashboard.state;
+
+import com.trading.dashboard.model.InstrumentType;
+import com.trading.dashboard.model.OptionType;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시장 전체 합계 (콜/풋/선물별 거래량, 미결제약정, 거래대금)
+ * - 종목 슬롯({@link InstrumentState})이 갱신될 때마다 이전 값과의 차이만 누적 (재집계 없음)
+ * - 슬롯 쓰기는 종목별 쓰기 잠금 안에서 일어나므로 같은 종목의 차이는 순서대로 반영됨
+ * - 조회는 카운터 합산만 수행 (종목 수와 무관)
+ * - 슬롯 갱신 횟수도 함께 세어 스냅샷 재생성 여부 판단에 사용
+ */
+public final class MarketAggregates {
+
+    static final int CALL = 0;
+    static final int PUT = 1;
+    static final int FUTURES = 2;
+    static final int NONE = -1;
+
+    private static final int BUCKETS = 3;
+
+    private final LongAdder[] volume = adders();
+    private final LongAdder[] openInterest = adders();
+    private final LongAdder[] tradingValue = adders();
+    private final LongAdder updates = new LongAdder();
+
+    /**
+     * 종목 유형 → 합계 구분 (콜/풋 구분이 없는 옵션은 집계 제외)
+     */
+    static int bucketOf(InstrumentType instrumentType, OptionType optionType) {
+        if (instrumentType == InstrumentType.FUTURES) {
+            return FUTURES;
+        }
+        if (optionType == OptionType.CALL) {
+            return CALL;
+        }
+        return optionType == OptionType.PUT ? PUT : NONE;
+    }
+
+    /**
+     * 종목 1건의 변화량 반영 (거래대금은 고정소수점)
+     */
+    void add(int bucket, long volumeDelta, long openInterestDelta, long tradingValueDelta) {
+        updates.increment();
+        if (bucket == NONE) {
+            return;
+        }
+        if (volumeDelta != 0) {
+            volume[bucket].add(volumeDelta);
+        }
+        if (openInterestDelta != 0) {
+            openInterest[bucket].add(openInterestDelta);
+        }
+        if (tradingValueDelta != 0) {
+            tradingValue[bucket].add(tradingValueDelta);
+        }
+    }
+
+    /**
+     * 현재 합계
+     * - 카운터별로 합산하므로 동시에 들어온 틱 일부만 반영될 수 있음 (다음 조회에서 맞춰짐)
+     */
+    public Totals totals() {
+        return new Totals(
+                volume[CALL].sum(), volume[PUT].sum(), volume[FUTURES].sum(),
+                openInterest[CALL].sum(), openInterest[PUT].sum(), openInterest[FUTURES].sum(),
+                tradingValue[CALL].sum(), tradingValue[PUT].sum(), tradingValue[FUTURES].sum());
+    }
+
+    /**
+     * 반영된 슬롯 갱신 횟수
+     */
+    long updates() {
+        return updates.sum();
+    }
+
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * 합계 스냅샷 (거래대금은 {@link FixedPoint})
+     */
+    public record Totals(long callVolume, long putVolume, long futuresVolume,
+            long callOpenInterest, long putOpenInterest, long futuresOpenInterest,
+            long callTradingValue, long putTradingValue, long futuresTradingValue) {
+    }
+}
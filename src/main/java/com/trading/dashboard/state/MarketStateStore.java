@@ -0,0 +1,221 @@
+package com.trading.dashboard.state;
+
+import com.trading.dashboard.model.FuturesData;
+import com.trading.dashboard.model.InstrumentType;
+import com.trading.dashboard.model.OptionData;
+import com.trading.dashboard.model.OptionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 시장 상태 저장소 (인메모리, 종목코드 인덱스)
+ * - 실시간 가격/거래량/호가/Greeks의 기준 데이터 (DB는 보조 저장소)
+ * - 조회: 불변 해시 테이블을 volatile로 게시하여 잠금 없이 조회 (부분 문자열 생성 없이 조회 가능)
+ * - 종목 등록: 드물게 발생하므로 copy-on-write로 테이블 교체
+ * - 틱 반영: 종목 슬롯({@link InstrumentState})을 제자리에서 갱신, DB 접근 없음
+ * - 시장 합계: 슬롯 갱신 시 변화량으로 유지 ({@link MarketAggregates}, 초기화 시 새로 시작)
+ */
+@Slf4j
+@Component
+public class MarketStateStore {
+
+    private static final InstrumentState[] EMPTY = new InstrumentState[0];
+
+    private volatile Index index = new Index(new InstrumentState[16], EMPTY);
+
+    // 현재 슬롯들이 변화량을 반영하는 합계 (clear 시 교체, 이전 슬롯의 늦은 갱신은 이전 합계로만 반영)
+    private volatile MarketAggregates aggregates = new MarketAggregates();
+
+    // 종목 등록/초기화 횟수 (초기화 시 이전 합계의 갱신 횟수만큼 더해 changeCount가 줄어들지 않게 함)
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 종목코드로 슬롯 조회 (없으면 null)
+     */
+    public InstrumentState get(String symbol) {
+        return symbol == null ? null : find(symbol, 0, symbol.length());
+    }
+
+    /**
+     * 문자열 구간으로 슬롯 조회 - 실시간 프레임 디코딩 시 부분 문자열 생성 없이 사용
+     */
+    public InstrumentState find(CharSequence src, int start, int end) {
+        InstrumentState[] table = index.table();
+        int mask = table.length - 1;
+        int slot = spread(hash(src, start, end)) & mask;
+        int length = end - start;
+
+        while (true) {
+            InstrumentState state = table[slot];
+            if (state == null) {
+                return null;
+            }
+            String symbol = state.getSymbol();
+            if (symbol.length() == length && matches(symbol, src, start)) {
+                return state;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * REST 조회 결과(옵션) 반영 - 슬롯이 없으면 등록
+     */
+    public InstrumentState upsertOption(OptionData option) {
+        InstrumentState state = register(option.getSymbol(), InstrumentType.OPTIONS, option.getOptionType());
+        state.applyOption(option);
+        return state;
+    }
+
+    /**
+     * REST 재조회 결과(옵션, 시세만) 부분 반영 - 슬롯이 없으면 등록
+     */
+    public InstrumentState refreshOption(OptionData option) {
+        InstrumentState state = register(option.getSymbol(), InstrumentType.OPTIONS, option.getOptionType());
+        state.applyOptionAnalytics(option);
+        return state;
+    }
+
+    /**
+     * REST 조회 결과(선물) 반영 - 슬롯이 없으면 등록
+     */
+    public InstrumentState upsertFutures(FuturesData futures) {
+        InstrumentState state = register(futures.getSymbol(), InstrumentType.FUTURES, null);
+        state.applyFutures(futures);
+        return state;
+    }
+
+    /**
+     * 종목 슬롯 등록 (이미 있으면 기존 슬롯 반환)
+     */
+    public synchronized InstrumentState register(String symbol, InstrumentType type, OptionType optionType) {
+        InstrumentState existing = get(symbol);
+        if (existing != null) {
+            return existing;
+        }
+
+        Index current = index;
+        InstrumentState state = new InstrumentState(symbol, type, optionType, aggregates);
+
+        InstrumentState[] slots = Arrays.copyOf(current.slots(), current.slots().length + 1);
+        slots[slots.length - 1] = state;
+
+        int capacity = current.table().length;
+        while (slots.length * 2 > capacity) {
+            capacity <<= 1;
+        }
+        InstrumentState[] table = new InstrumentState[capacity];
+        for (InstrumentState s : slots) {
+            insert(table, s);
+        }
+
+        index = new Index(table, slots);
+        generation.incrementAndGet();
+        return state;
+    }
+
+    /**
+     * 전체 초기화 (세션 전환 시)
+     */
+    public synchronized void clear() {
+        int size = index.slots().length;
+        index = new Index(new InstrumentState[16], EMPTY);
+        generation.addAndGet(aggregates.updates() + 1);
+        aggregates = new MarketAggregates();
+        if (size > 0) {
+            log.info("[STATE] Cleared {} instruments", size);
+        }
+    }
+
+    /**
+     * 콜/풋/선물별 거래량, 미결제약정, 거래대금 합계 (종목 수와 무관하게 O(1))
+     */
+    public MarketAggregates.Totals totals() {
+        return aggregates.totals();
+    }
+
+    /**
+     * 상태 변경 카운터 - 슬롯 갱신/등록/초기화마다 증가 (값이 같으면 그 사이 변경 없음)
+     */
+    public long changeCount() {
+        return generation.get() + aggregates.updates();
+    }
+
+    public int size() {
+        return index.slots().length;
+    }
+
+    /**
+     * 등록된 전체 슬롯 (등록 순서, 복사본 아님 - 수정 금지)
+     */
+    public InstrumentState[] slots() {
+        return index.slots();
+    }
+
+    /**
+     * 옵션 스냅샷 목록
+     */
+    public List<OptionData> options() {
+        InstrumentState[] slots = index.slots();
+        List<OptionData> result = new ArrayList<>(slots.length);
+        for (InstrumentState state : slots) {
+            if (!state.isFutures()) {
+                result.add(state.toOptionData());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 선물 스냅샷 목록
+     */
+    public List<FuturesData> futures() {
+        InstrumentState[] slots = index.slots();
+        List<FuturesData> result = new ArrayList<>();
+        for (InstrumentState state : slots) {
+            if (state.isFutures()) {
+                result.add(state.toFuturesData());
+            }
+        }
+        return result;
+    }
+
+    private static void insert(InstrumentState[] table, InstrumentState state) {
+        int mask = table.length - 1;
+        int slot = spread(state.getSymbol().hashCode()) & mask;
+        while (table[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = state;
+    }
+
+    private static int hash(CharSequence src, int start, int end) {
+        // String.hashCode()와 동일한 결과
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + src.charAt(i);
+        }
+        return h;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean matches(String symbol, CharSequence src, int start) {
+        for (int i = 0; i < symbol.length(); i++) {
+            if (symbol.charAt(i) != src.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Index(InstrumentState[] table, InstrumentState[] slots) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.trading.dashboard.universe;
+
+import com.trading.dashboard.model.InstrumentType;
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.state.FixedPoint;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 상장 종목 1건 (KIS 선물옵션 종목 마스터)
+ *
+ * @param code       단축코드 (조회/구독 키, 예: A01603, B01601577)
+ * @param name       한글 종목명
+ * @param type       선물/옵션
+ * @param optionType 콜/풋 (선물은 null)
+ * @param underlying 기초자산 구분 (단축코드 2~3번째 자리, KOSPI200: 01)
+ * @param expiry     만기 월물
+ * @param strike     행사가 (FixedPoint, 선물은 {@link FixedPoint#NULL})
+ * @param atm        마스터 생성 시점(전일 종가 기준) ATM 행사가 여부
+ */
+public record Instrument(String code, String name, InstrumentType type, OptionType optionType,
+        String underlying, YearMonth expiry, long strike, boolean atm) {
+
+    public boolean isFutures() {
+        return type == InstrumentType.FUTURES;
+    }
+
+    /**
+     * 최종거래일: 만기월 두 번째 목요일 (휴장일로 앞당겨지는 경우는 반영하지 않음)
+     */
+    public LocalDate lastTradingDay() {
+        return lastTradingDay(expiry);
+    }
+
+    /**
+     * 해당 일자에 거래 가능한 월물인지 (최종거래일 당일 포함)
+     */
+    public boolean isLive(LocalDate today) {
+        return !today.isAfter(lastTradingDay());
+    }
+
+    /**
+     * 월물의 최종거래일 (두 번째 목요일)
+     */
+    public static LocalDate lastTradingDay(YearMonth expiry) {
+        return expiry.atDay(1).with(TemporalAdjusters.dayOfWeekInMonth(2, DayOfWeek.THURSDAY));
+    }
+}
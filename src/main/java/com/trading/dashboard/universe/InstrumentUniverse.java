@@ -0,0 +1,350 @@
+package com.trading.dashboard.universe;
+
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.service.MarketClock;
+import com.trading.dashboard.state.FixedPoint;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 상장 종목 인덱스 (KIS 선물옵션 종목 마스터 기반)
+ * - 기동 시(및 평일 장 전) 전용 스레드에서 마스터 파일을 내려받아 로컬 사본으로 저장, 실패하면 로컬 사본으로 구성
+ * - 단축코드 조회 O(1), (기초자산, 월물, 콜/풋) 별 행사가 정렬 인덱스
+ * - 월물 교체: 최종거래일(두 번째 목요일)이 지난 월물은 조회 대상에서 제외 (MarketClock 기준)
+ * - 조회 코드를 문자열로 조합하지 않고 이 인덱스에서 가져옴 (존재하지 않는 코드 조회 방지)
+ * - 조회는 I/O 없이 현재 인덱스만 사용 (비어 있으면 빈 결과), 적재 실패 시 전용 스레드가 retry 간격마다 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InstrumentUniverse {
+
+    public static final String KOSPI200 = "01";
+
+    private static final long RELOAD_RETRY_MILLIS = 5_000;
+
+    private final MarketClock marketClock;
+    private final HttpClient httpClient;
+
+    @Value("${trading.universe.master-url:}")
+    private String masterUrl;
+
+    @Value("${trading.universe.master-path:./data/master/fo_idx_code_mts.mst}")
+    private String masterPath;
+
+    private volatile Index index = Index.EMPTY;
+    private final CountDownLatch loaded = new CountDownLatch(1);
+    private ScheduledExecutorService loader;
+
+    private record Series(String underlying, YearMonth expiry, OptionType optionType) {
+    }
+
+    /**
+     * 불변 인덱스 (재적재 시 통째로 교체)
+     */
+    private record Index(Map<String, Instrument> byCode, Map<String, List<Instrument>> futures,
+            Map<Series, NavigableMap<Long, Instrument>> options) {
+
+        static final Index EMPTY = new Index(Map.of(), Map.of(), Map.of());
+
+        static Index of(List<Instrument> instruments) {
+            if (instruments.isEmpty()) {
+                return EMPTY;
+            }
+            Map<String, Instrument> byCode = new HashMap<>(instruments.size() * 2);
+            Map<String, List<Instrument>> futures = new HashMap<>();
+            Map<Series, NavigableMap<Long, Instrument>> options = new HashMap<>();
+            for (Instrument instrument : instruments) {
+                byCode.put(instrument.code(), instrument);
+                if (instrument.isFutures()) {
+                    futures.computeIfAbsent(instrument.underlying(), k -> new ArrayList<>()).add(instrument);
+                } else {
+                    options.computeIfAbsent(
+                            new Series(instrument.underlying(), instrument.expiry(), instrument.optionType()),
+                            k -> new TreeMap<>()).put(instrument.strike(), instrument);
+                }
+            }
+            futures.values().forEach(list -> list.sort(Comparator.comparing(Instrument::expiry)));
+            return new Index(byCode, futures, options);
+        }
+    }
+
+    /**
+     * 기동 시 백그라운드 적재 시작 (비어 있는 동안 retry 간격마다 재시도)
+     */
+    @PostConstruct
+    public void start() {
+        loader = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "universe-load");
+            thread.setDaemon(true);
+            return thread;
+        });
+        loader.scheduleWithFixedDelay(() -> {
+            if (index == Index.EMPTY) {
+                reload();
+            }
+        }, 0, RELOAD_RETRY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (loader != null) {
+            loader.shutdownNow();
+        }
+    }
+
+    /**
+     * 평일 장 전 재적재 예약 (신규 상장 행사가/월물 교체 반영, 다운로드는 전용 스레드에서)
+     */
+    @Scheduled(cron = "${trading.universe.reload-cron:0 30 7 * * MON-FRI}", zone = "Asia/Seoul")
+    public void scheduleReload() {
+        loader.execute(this::reload);
+    }
+
+    /**
+     * 마스터 재적재 (다운로드 실패 시 로컬 사본, 호출 스레드에서 블로킹)
+     */
+    public synchronized void reload() {
+        Path local = masterPath != null ? Path.of(masterPath) : null;
+        if (masterUrl != null && !masterUrl.isBlank()) {
+            try {
+                byte[] master = download(masterUrl);
+                int loaded = load(new ByteArrayInputStream(master));
+                if (loaded > 0) {
+                    if (local != null) {
+                        saveLocalCopy(local, master);
+                    }
+                    log.info("[UNIVERSE] Loaded {} instruments from {}", loaded, masterUrl);
+                    return;
+                }
+                log.warn("[UNIVERSE] Master from {} has no instruments", masterUrl);
+            } catch (Exception e) {
+                log.warn("[UNIVERSE] Master download failed ({}): {}", masterUrl, e.toString());
+            }
+        }
+        if (local != null && Files.exists(local)) {
+            try (InputStream in = Files.newInputStream(local)) {
+                log.info("[UNIVERSE] Loaded {} instruments from local copy {}", load(in), local);
+                return;
+            } catch (IOException e) {
+                log.warn("[UNIVERSE] Failed to read local master {}: {}", local, e.getMessage());
+            }
+        }
+        log.warn("[UNIVERSE] No instrument master available - per-contract queries are disabled");
+    }
+
+    /**
+     * 마스터 파일 적재 (기존 인덱스 교체)
+     *
+     * @return 적재한 종목 수
+     */
+    public int load(InputStream master) throws IOException {
+        List<Instrument> instruments = KisMasterParser.parse(master, today().getYear());
+        index = Index.of(instruments);
+        if (!instruments.isEmpty()) {
+            loaded.countDown();
+        }
+        return instruments.size();
+    }
+
+    /**
+     * 첫 적재 완료 대기 (기동 직후 조회를 시작하는 백그라운드 작업용)
+     *
+     * @return 제한 시간 안에 적재되었는지 여부
+     */
+    public boolean awaitLoaded(long timeout, TimeUnit unit) throws InterruptedException {
+        return loaded.await(timeout, unit);
+    }
+
+    /**
+     * 단축코드로 조회 (없으면 null)
+     */
+    public Instrument get(String code) {
+        return current().byCode().get(code);
+    }
+
+    public int size() {
+        return current().byCode().size();
+    }
+
+    public boolean isLoaded() {
+        return !current().byCode().isEmpty();
+    }
+
+    /**
+     * 거래 가능한 선물 (최근월물부터)
+     */
+    public List<Instrument> futures(String underlying) {
+        LocalDate today = today();
+        return current().futures().getOrDefault(underlying, List.of()).stream()
+                .filter(futures -> futures.isLive(today))
+                .toList();
+    }
+
+    /**
+     * 최근월물 선물 (없으면 null)
+     */
+    public Instrument frontFutures(String underlying) {
+        List<Instrument> live = futures(underlying);
+        return live.isEmpty() ? null : live.get(0);
+    }
+
+    /**
+     * 거래 가능한 옵션 최근월물 (없으면 null)
+     */
+    public YearMonth frontOptionExpiry(String underlying) {
+        LocalDate today = today();
+        YearMonth front = null;
+        for (Series series : current().options().keySet()) {
+            if (series.underlying().equals(underlying) && !today.isAfter(Instrument.lastTradingDay(series.expiry()))
+                    && (front == null || series.expiry().isBefore(front))) {
+                front = series.expiry();
+            }
+        }
+        return front;
+    }
+
+    /**
+     * 행사가 구간 [from, to] 의 옵션 (행사가 오름차순, 같은 행사가는 콜 → 풋)
+     *
+     * @param from 행사가 하한 (FixedPoint)
+     * @param to   행사가 상한 (FixedPoint)
+     */
+    public List<Instrument> options(String underlying, YearMonth expiry, long from, long to) {
+        NavigableMap<Long, Instrument> calls = strikes(underlying, expiry, OptionType.CALL).subMap(from, true, to, true);
+        NavigableMap<Long, Instrument> puts = strikes(underlying, expiry, OptionType.PUT).subMap(from, true, to, true);
+        TreeSet<Long> strikes = new TreeSet<>(calls.keySet());
+        strikes.addAll(puts.keySet());
+        List<Instrument> result = new ArrayList<>(calls.size() + puts.size());
+        for (Long strike : strikes) {
+            Instrument call = calls.get(strike);
+            Instrument put = puts.get(strike);
+            if (call != null) {
+                result.add(call);
+            }
+            if (put != null) {
+                result.add(put);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 월물/콜풋/행사가로 옵션 조회 (없으면 null)
+     */
+    public Instrument option(String underlying, YearMonth expiry, OptionType optionType, long strike) {
+        return strikes(underlying, expiry, optionType).get(strike);
+    }
+
+    /**
+     * 기준 가격에 가장 가까운 상장 행사가 (없으면 {@link FixedPoint#NULL})
+     */
+    public long nearestStrike(String underlying, YearMonth expiry, long price) {
+        NavigableMap<Long, Instrument> strikes = strikes(underlying, expiry, OptionType.CALL);
+        Long below = strikes.floorKey(price);
+        Long above = strikes.ceilingKey(price);
+        if (below == null && above == null) {
+            return FixedPoint.NULL;
+        }
+        if (below == null) {
+            return above;
+        }
+        if (above == null) {
+            return below;
+        }
+        return price - below <= above - price ? below : above;
+    }
+
+    /**
+     * 마스터의 ATM 구분으로 표시된 행사가 (없으면 {@link FixedPoint#NULL})
+     * - 전일 종가 기준이므로 실시간 가격이 없을 때의 기준값으로만 사용
+     */
+    public long atmStrike(String underlying, YearMonth expiry) {
+        for (Instrument call : strikes(underlying, expiry, OptionType.CALL).values()) {
+            if (call.atm()) {
+                return call.strike();
+            }
+        }
+        return FixedPoint.NULL;
+    }
+
+    private NavigableMap<Long, Instrument> strikes(String underlying, YearMonth expiry, OptionType optionType) {
+        if (expiry == null) {
+            return new TreeMap<>();
+        }
+        return current().options().getOrDefault(new Series(underlying, expiry, optionType), new TreeMap<>());
+    }
+
+    /**
+     * 현재 인덱스 (I/O 없음, 적재 전이면 빈 인덱스)
+     */
+    private Index current() {
+        return index;
+    }
+
+    private LocalDate today() {
+        return marketClock.now().toLocalDate();
+    }
+
+    private byte[] download(String url) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("HTTP " + response.statusCode());
+        }
+        if (!url.endsWith(".zip")) {
+            return response.body();
+        }
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(response.body()))) {
+            if (zip.getNextEntry() == null) {
+                throw new IOException("empty zip");
+            }
+            return zip.readAllBytes();
+        }
+    }
+
+    private static void saveLocalCopy(Path local, byte[] master) {
+        try {
+            if (local.getParent() != null) {
+                Files.createDirectories(local.getParent());
+            }
+            Files.write(local, master);
+        } catch (IOException e) {
+            log.warn("[UNIVERSE] Failed to save local master {}: {}", local, e.getMessage());
+        }
+    }
+}
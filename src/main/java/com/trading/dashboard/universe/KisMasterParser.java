@@ -0,0 +1,118 @@
+package com.trading.dashboard.universe;
+
+import com.trading.dashboard.model.InstrumentType;
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.state.FixedPoint;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * KIS 지수선물옵션 종목 마스터 파서 (fo_idx_code_mts.mst, CP949, '|' 구분)
+ * - 컬럼: 상품종류|단축코드|표준코드|한글종목명|ATM구분|행사가|월물구분코드|기초자산단축코드|기초자산명
+ * - 단축코드: [유형 A선물/B콜/C풋][기초자산 2자리][연도 1자리][월 2자리][행사가 정수부 3자리]
+ * - 행사가는 코드(정수부만)가 아니라 행사가 컬럼에서 읽음 (577.5 → 577.5)
+ * - 스프레드 등 그 밖의 유형, 형식이 맞지 않는 행은 건너뜀
+ */
+final class KisMasterParser {
+
+    static final Charset CP949 = Charset.forName("MS949");
+
+    private KisMasterParser() {
+    }
+
+    /**
+     * 마스터 파일 파싱
+     *
+     * @param referenceYear 연도 1자리 해석 기준 (기준 연도 -1 ~ +8 범위로 해석)
+     */
+    static List<Instrument> parse(InputStream in, int referenceYear) throws IOException {
+        List<Instrument> instruments = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, CP949));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            Instrument instrument = parseLine(line, referenceYear);
+            if (instrument != null) {
+                instruments.add(instrument);
+            }
+        }
+        return instruments;
+    }
+
+    static Instrument parseLine(String line, int referenceYear) {
+        String[] columns = line.split("\\|", -1);
+        if (columns.length < 6) {
+            return null;
+        }
+        String code = columns[1].trim();
+        if (code.length() < 6) {
+            return null;
+        }
+        InstrumentType type;
+        OptionType optionType;
+        switch (code.charAt(0)) {
+            case 'A' -> {
+                type = InstrumentType.FUTURES;
+                optionType = null;
+            }
+            case 'B' -> {
+                type = InstrumentType.OPTIONS;
+                optionType = OptionType.CALL;
+            }
+            case 'C' -> {
+                type = InstrumentType.OPTIONS;
+                optionType = OptionType.PUT;
+            }
+            default -> {
+                return null;
+            }
+        }
+        YearMonth expiry = expiry(code, referenceYear);
+        if (expiry == null) {
+            return null;
+        }
+        long strike = FixedPoint.NULL;
+        if (optionType != null) {
+            strike = FixedPoint.parse(columns[5].trim());
+            if (strike == FixedPoint.NULL || strike <= 0) {
+                return null;
+            }
+        }
+        return new Instrument(code, columns[3].trim(), type, optionType, code.substring(1, 3), expiry, strike,
+                "1".equals(columns[4].trim()));
+    }
+
+    /**
+     * 단축코드의 연도(1자리)/월(2자리, 10~12월은 "10"~"12" 또는 "0A"~"0C")
+     */
+    static YearMonth expiry(String code, int referenceYear) {
+        char yearDigit = code.charAt(3);
+        if (yearDigit < '0' || yearDigit > '9') {
+            return null;
+        }
+        int year = referenceYear - Math.floorMod(referenceYear, 10) + (yearDigit - '0');
+        if (year < referenceYear - 1) {
+            year += 10;
+        } else if (year > referenceYear + 8) {
+            year -= 10;
+        }
+
+        char tens = code.charAt(4);
+        char ones = code.charAt(5);
+        int month;
+        if (tens == '0' && ones >= 'A' && ones <= 'C') {
+            month = 10 + (ones - 'A');
+        } else if (Character.isDigit(tens) && Character.isDigit(ones)) {
+            month = (tens - '0') * 10 + (ones - '0');
+        } else {
+            return null;
+        }
+        return month >= 1 && month <= 12 ? YearMonth.of(year, month) : null;
+    }
+}
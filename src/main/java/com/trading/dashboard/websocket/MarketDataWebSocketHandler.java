@@ -1,11 +1,19 @@
 package com.trading.dashboard.websocket;
 
+import com.trading.dashboard.dto.ChainLoadProgressDTO;
 import com.trading.dashboard.dto.MarketOverviewDTO;
-import com.trading.dashboard.dto.OptionChainAnalysisDTO;
+import com.trading.dashboard.service.MarketClock;
 import com.trading.dashboard.service.MarketDataService;
+import com.trading.dashboard.service.OptionChainLoadEvent;
+import com.trading.dashboard.service.OptionChainSnapshot;
+import com.trading.dashboard.service.OptionChainSnapshotPublisher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -13,16 +21,20 @@ import org.springframework.stereotype.Component;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.ZoneId;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongConsumer;
 
 @Component
+@Lazy(false)
 @RequiredArgsConstructor
 @Slf4j
 public class MarketDataWebSocketHandler {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final MarketDataService marketDataService;
-    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private final MarketClock marketClock;
+    private final OptionChainSnapshotPublisher optionChainSnapshotPublisher;
 
     @Value("${trading.demo-mode:false}")
     private boolean demoMode;
@@ -30,11 +42,37 @@ public class MarketDataWebSocketHandler {
     @Value("${trading.market-hours.enabled:true}")
     private boolean marketHoursEnabled;
 
+    // 체인 적재 중 /topic/option-chain 최소 전송 간격 (진행률은 종목마다 전송)
+    @Value("${trading.stomp.progressive-interval-ms:200}")
+    private long progressiveIntervalMillis;
+
+    private long lastProgressiveBroadcastTime = 0;
+
+    // 전송한 체인 스냅샷의 상태 변경 카운터 통지 (리플레이 리포트용, 기본 비활성)
+    private volatile LongConsumer broadcastProbe;
+
+    // 적재 이벤트 전송 전용 스레드 (조회 스레드에서 재평가/전송하지 않도록 넘겨받음)
+    private ExecutorService chainLoadExecutor;
+
     private MarketOverviewDTO lastOverviewBroadcast;
-    private OptionChainAnalysisDTO lastOptionChainBroadcast;
+    private long lastOptionChainVersion = 0;
     private long lastOverviewBroadcastTime = 0;
     private long lastOptionChainBroadcastTime = 0;
 
+    @PostConstruct
+    public void init() {
+        chainLoadExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "stomp-chain-load");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        chainLoadExecutor.shutdownNow();
+    }
+
     /**
      * 장 시간인지 체크
      */
@@ -43,7 +81,7 @@ public class MarketDataWebSocketHandler {
             return true;
         }
 
-        LocalDateTime now = LocalDateTime.now(KST);
+        LocalDateTime now = marketClock.now();
         DayOfWeek dayOfWeek = now.getDayOfWeek();
         LocalTime time = now.toLocalTime();
 
@@ -96,6 +134,7 @@ public class MarketDataWebSocketHandler {
 
     /**
      * 1초마다 옵션 체인 데이터를 웹소켓으로 전송
+     * 변경 감지: 게시된 스냅샷 버전이 바뀐 경우에만 브로드캐스트 (REST 응답과 같은 인스턴스)
      */
     @Scheduled(fixedRate = 1000)
     public void broadcastOptionChain() {
@@ -105,19 +144,15 @@ public class MarketDataWebSocketHandler {
                 return;
             }
 
-            OptionChainAnalysisDTO optionChain = marketDataService.getOptionChainAnalysis();
+            OptionChainSnapshot snapshot = optionChainSnapshotPublisher.current();
 
-            // 변경 감지: 데이터가 변경된 경우에만 브로드캐스트
-            if (hasOptionChainChanged(optionChain)) {
-                messagingTemplate.convertAndSend("/topic/option-chain", optionChain);
-                lastOptionChainBroadcast = optionChain;
-                lastOptionChainBroadcastTime = System.currentTimeMillis();
-                log.debug("Option chain broadcasted (changed)");
+            if (snapshot.version() != lastOptionChainVersion) {
+                sendOptionChain(snapshot);
+                log.debug("Option chain broadcasted (v{})", snapshot.version());
             } else {
                 // 30초마다 한 번씩은 강제로 브로드캐스트 (연결 유지)
                 if (System.currentTimeMillis() - lastOptionChainBroadcastTime > 30000) {
-                    messagingTemplate.convertAndSend("/topic/option-chain", optionChain);
-                    lastOptionChainBroadcastTime = System.currentTimeMillis();
+                    sendOptionChain(snapshot);
                     log.debug("Option chain broadcasted (keepalive)");
                 }
             }
@@ -126,6 +161,61 @@ public class MarketDataWebSocketHandler {
         }
     }
 
+    private synchronized void sendOptionChain(OptionChainSnapshot snapshot) {
+        messagingTemplate.convertAndSend("/topic/option-chain", snapshot.analysis());
+        lastOptionChainVersion = snapshot.version();
+        lastOptionChainBroadcastTime = System.currentTimeMillis();
+        LongConsumer probe = broadcastProbe;
+        if (probe != null) {
+            probe.accept(snapshot.stateChangeCount());
+        }
+    }
+
+    /**
+     * 옵션 체인 전송 통지 수신자 등록 (전송 스레드에서 스냅샷의 상태 변경 카운터로 호출, null이면 해제)
+     */
+    public void setBroadcastProbe(LongConsumer broadcastProbe) {
+        this.broadcastProbe = broadcastProbe;
+    }
+
+    /**
+     * 옵션 체인 적재 중 점진 전송 (장 시간과 무관, 적재가 일어날 때만)
+     * - 진행률(완료/전체, ETA)은 종목마다 /topic/option-chain/progress 로 전송
+     * - 체인은 첫 종목, 적재 완료 시점, 그 사이에는 최소 간격마다 /topic/option-chain 으로 전송
+     * - 이벤트는 조회 스레드에서 발행되므로 전용 스레드로 넘긴 뒤 처리 (조회는 전송/재평가를 기다리지 않음)
+     */
+    @EventListener
+    public void onOptionChainLoad(OptionChainLoadEvent event) {
+        chainLoadExecutor.execute(() -> broadcastChainLoad(event));
+    }
+
+    private void broadcastChainLoad(OptionChainLoadEvent event) {
+        try {
+            long now = System.currentTimeMillis();
+            messagingTemplate.convertAndSend("/topic/option-chain/progress", ChainLoadProgressDTO.builder()
+                    .done(event.done())
+                    .total(event.total())
+                    .elapsedMs(now - event.startedAtMillis())
+                    .etaMs(event.etaMillis(now))
+                    .complete(event.complete())
+                    .lastSymbol(event.option() != null ? event.option().getSymbol() : null)
+                    .build());
+
+            if (event.done() == 0) {
+                return;
+            }
+            if (event.done() == 1 || event.complete()
+                    || now - lastProgressiveBroadcastTime >= progressiveIntervalMillis) {
+                // 적재 중에는 게시 주기를 기다리지 않고 스냅샷을 바로 갱신
+                sendOptionChain(optionChainSnapshotPublisher.refresh());
+                lastProgressiveBroadcastTime = now;
+                log.debug("Option chain broadcasted (load {}/{})", event.done(), event.total());
+            }
+        } catch (Exception e) {
+            log.error("Error broadcasting option chain load progress", e);
+        }
+    }
+
     /**
      * 시장 개요 데이터 변경 감지
      */
@@ -140,35 +230,4 @@ public class MarketDataWebSocketHandler {
                 || !newData.getTotalFuturesTradingValue().equals(lastOverviewBroadcast.getTotalFuturesTradingValue())
                 || !newData.getTotalOptionsTradingValue().equals(lastOverviewBroadcast.getTotalOptionsTradingValue());
     }
-
-    /**
-     * 옵션 체인 데이터 변경 감지
-     */
-    private boolean hasOptionChainChanged(OptionChainAnalysisDTO newData) {
-        if (lastOptionChainBroadcast == null) {
-            return true;
-        }
-
-        // 기초자산 가격이나 ATM 변경 확인
-        if (!newData.getUnderlyingPrice().equals(lastOptionChainBroadcast.getUnderlyingPrice())) {
-            return true;
-        }
-
-        // 행사가별 가격이 변경되었는지 확인 (첫 번째 몇 개만 샘플링)
-        if (newData.getStrikeChain() != null && lastOptionChainBroadcast.getStrikeChain() != null) {
-            int checkCount = Math.min(3, Math.min(newData.getStrikeChain().size(),
-                    lastOptionChainBroadcast.getStrikeChain().size()));
-            for (int i = 0; i < checkCount; i++) {
-                var newStrike = newData.getStrikeChain().get(i);
-                var oldStrike = lastOptionChainBroadcast.getStrikeChain().get(i);
-
-                if (!newStrike.getCallPrice().equals(oldStrike.getCallPrice()) ||
-                        !newStrike.getPutPrice().equals(oldStrike.getPutPrice())) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
-    }
 }
@@ -0,0 +1,97 @@
+package com.trading.dashboard.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Black76 단위 테스트 - 가격 → IV 왕복, Greeks는 유한차분과 비교
+ */
+class Black76Test {
+
+    private static final double FORWARD = 591.25;
+    private static final double RATE = 0.03;
+
+    @Test
+    void testCdfAccuracyAndSymmetry() {
+        // A-S 26.2.17 오차 한계 7.5e-8 (다항식 근사라 x = 0에서도 정확히 0.5는 아님)
+        double bound = 7.5e-8;
+        assertEquals(0.5, Black76.cdf(0), bound);
+        assertEquals(0.8413447460685429, Black76.cdf(1), bound);
+        assertEquals(0.022750131948179, Black76.cdf(-2), bound);
+        for (double x = -6; x <= 6; x += 0.25) {
+            assertEquals(1.0, Black76.cdf(x) + Black76.cdf(-x), 2 * bound);
+        }
+    }
+
+    @Test
+    void testImpliedVolatilityRoundTrip() {
+        // Given: 외가격/등가격/내가격, 만기 1일 ~ 1년, 변동성 8% ~ 90%
+        double[] strikes = {500, 560, 587.5, 590, 592.5, 620, 680};
+        double[] years = {1.0 / 252, 5.0 / 252, 20.0 / 252, 0.25, 1.0};
+        double[] volatilities = {0.08, 0.18, 0.35, 0.9};
+
+        for (boolean call : new boolean[] {true, false}) {
+            for (double strike : strikes) {
+                for (double t : years) {
+                    for (double sigma : volatilities) {
+                        double price = Black76.price(call, FORWARD, strike, t, RATE, sigma);
+                        // 시간가치가 호가 단위보다 작은 가격은 IV가 정의상 불안정하므로 제외
+                        double intrinsic = Math.max(call ? FORWARD - strike : strike - FORWARD, 0)
+                                * Math.exp(-RATE * t);
+                        if (price - intrinsic < 1e-3) {
+                            continue;
+                        }
+
+                        // When: 시작값 없이 / 엉뚱한 warm start로
+                        double cold = Black76.impliedVolatility(call, price, FORWARD, strike, t, RATE, Double.NaN);
+                        double warm = Black76.impliedVolatility(call, price, FORWARD, strike, t, RATE, 2.5);
+
+                        // Then
+                        assertEquals(sigma, cold, 1e-6, () -> "K=" + strike + " T=" + t + " σ=" + sigma);
+                        assertEquals(sigma, warm, 1e-6, () -> "K=" + strike + " T=" + t + " σ=" + sigma);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testImpliedVolatilityRejectsArbitragePrices() {
+        double t = 20.0 / 252;
+        // 내재가치 미만, 선물가격 이상, 0 이하, 만기 경과
+        assertTrue(Double.isNaN(Black76.impliedVolatility(true, 10, FORWARD, 570, t, 0, Double.NaN)));
+        assertTrue(Double.isNaN(Black76.impliedVolatility(true, FORWARD + 1, FORWARD, 570, t, 0, Double.NaN)));
+        assertTrue(Double.isNaN(Black76.impliedVolatility(false, 0, FORWARD, 570, t, 0, Double.NaN)));
+        assertTrue(Double.isNaN(Black76.impliedVolatility(false, 1.2, FORWARD, 570, 0, 0, Double.NaN)));
+    }
+
+    @Test
+    void testGreeksMatchFiniteDifferences() {
+        double[] greeks = new double[Black76.GREEKS];
+        double t = 20.0 / 252;
+        double sigma = 0.21;
+        double h = 1e-3;
+
+        for (boolean call : new boolean[] {true, false}) {
+            for (double strike : new double[] {560, 590, 622.5}) {
+                Black76.greeks(call, FORWARD, strike, t, RATE, sigma, greeks);
+
+                double up = Black76.price(call, FORWARD + h, strike, t, RATE, sigma);
+                double mid = Black76.price(call, FORWARD, strike, t, RATE, sigma);
+                double down = Black76.price(call, FORWARD - h, strike, t, RATE, sigma);
+                // 해석적 Greeks는 정확한 pdf를 쓰므로 CDF 근사의 도함수 오차(~1e-7 / σ√T)만큼 차이 허용
+                assertEquals((up - down) / (2 * h), greeks[Black76.DELTA], 1e-4);
+                assertEquals((up - 2 * mid + down) / (h * h), greeks[Black76.GAMMA], 1e-3);
+
+                double vegaFd = (Black76.price(call, FORWARD, strike, t, RATE, sigma + h)
+                        - Black76.price(call, FORWARD, strike, t, RATE, sigma - h)) / (2 * h);
+                assertEquals(vegaFd, greeks[Black76.VEGA], 1e-3);
+
+                double thetaFd = -(Black76.price(call, FORWARD, strike, t + h / 252, RATE, sigma)
+                        - Black76.price(call, FORWARD, strike, t - h / 252, RATE, sigma)) / (2 * h / 252);
+                assertEquals(thetaFd, greeks[Black76.THETA], Math.abs(thetaFd) * 1e-4 + 1e-3);
+            }
+        }
+    }
+}
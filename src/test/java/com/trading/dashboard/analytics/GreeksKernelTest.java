@@ -0,0 +1,85 @@
+package com.trading.dashboard.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 배치 Greeks 커널 단위 테스트 - 스칼라 커널은 Black76.greeks와, 벡터 커널은 스칼라 커널과 비교
+ * (벡터 커널은 -Pvector로 실행할 때만 검증)
+ */
+class GreeksKernelTest {
+
+    private static final double FORWARD = 591.25;
+    private static final double RATE = 0.03;
+
+    @Test
+    void testScalarKernelMatchesBlack76() {
+        // Given
+        OptionChainArrays chain = randomChain(203);
+
+        // When
+        GreeksKernels.scalar().compute(chain, FORWARD, RATE);
+
+        // Then
+        double[] greeks = new double[Black76.GREEKS];
+        for (int i = 0; i < chain.size(); i++) {
+            Black76.greeks(chain.isCall(i), FORWARD, chain.strikes()[i], chain.years()[i], RATE,
+                    chain.volatilities()[i], greeks);
+            assertEquals(greeks[Black76.DELTA], chain.deltas()[i], 1e-12);
+            assertEquals(greeks[Black76.GAMMA], chain.gammas()[i], 1e-12);
+            assertEquals(greeks[Black76.THETA], chain.thetas()[i], 1e-9);
+            assertEquals(greeks[Black76.VEGA], chain.vegas()[i], 1e-9);
+        }
+    }
+
+    @Test
+    void testVectorKernelMatchesScalar() {
+        assumeTrue(GreeksKernels.isVectorAvailable(), "run with -Pvector");
+
+        // Given: 레인 수로 나누어떨어지지 않는 크기 (나머지 구간 포함)
+        OptionChainArrays scalar = randomChain(203);
+        OptionChainArrays vector = randomChain(203);
+
+        // When
+        GreeksKernels.scalar().compute(scalar, FORWARD, RATE);
+        GreeksKernels.vector().compute(vector, FORWARD, RATE);
+
+        // Then
+        for (int i = 0; i < scalar.size(); i++) {
+            assertEquals(scalar.deltas()[i], vector.deltas()[i], 1e-12);
+            assertEquals(scalar.gammas()[i], vector.gammas()[i], 1e-12);
+            assertEquals(scalar.thetas()[i], vector.thetas()[i], 1e-9);
+            assertEquals(scalar.vegas()[i], vector.vegas()[i], 1e-9);
+        }
+    }
+
+    @Test
+    void testChainGrowsAndClears() {
+        OptionChainArrays chain = new OptionChainArrays(1);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, chain.add(i % 2 == 0, 580 + i, 1.0, 0.2, 0.1));
+        }
+        assertEquals(10, chain.size());
+        assertEquals(589, chain.strikes()[9]);
+        assertFalse(chain.isCall(9));
+
+        chain.clear();
+        assertEquals(0, chain.size());
+        assertEquals(0, chain.add(true, 600, 1.0, 0.2, 0.1));
+    }
+
+    private static OptionChainArrays randomChain(int size) {
+        Random random = new Random(11);
+        OptionChainArrays chain = new OptionChainArrays(16);
+        for (int i = 0; i < size; i++) {
+            double strike = 500 + (i / 2) * 2.5;
+            chain.add(i % 2 == 0, strike, 1.0, 0.08 + random.nextDouble() * 0.6,
+                    (1 + random.nextInt(120)) / 252.0);
+        }
+        return chain;
+    }
+}
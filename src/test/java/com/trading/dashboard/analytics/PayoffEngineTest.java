@@ -0,0 +1,107 @@
+package com.trading.dashboard.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PayoffEngine 단위 테스트 - 행사가 × 행사가 이중 루프(BigDecimal) 계산과 비교
+ */
+class PayoffEngineTest {
+
+    @Test
+    void testSimpleChain() {
+        // Given: 580 콜 10, 600 풋 30
+        PayoffEngine engine = PayoffEngine.of(new double[] {580, 590, 600}, new long[] {10, 0, 0},
+                new long[] {0, 0, 30});
+
+        // Then: 580 → 풋 30 × 20, 590 → 콜 10 × 10 + 풋 30 × 10, 600 → 콜 10 × 20
+        assertArrayEquals(new double[] {600, 400, 200}, engine.curve());
+        assertEquals(600, engine.maxPainStrike());
+        assertEquals(200, engine.maxPainLoss());
+        assertEquals(2, engine.maxPainIndex());
+    }
+
+    @Test
+    void testPainBetweenAndBeyondStrikes() {
+        // Given
+        PayoffEngine engine = PayoffEngine.of(new double[] {580, 590, 600}, new long[] {10, 5, 0},
+                new long[] {0, 3, 20});
+
+        // Then: 상장 행사가가 아닌 정산가도 정의대로 계산
+        for (double settlement : new double[] {560, 580, 583.3, 592.5, 600, 615}) {
+            assertEquals(bruteForce(new double[] {580, 590, 600}, new long[] {10, 5, 0}, new long[] {0, 3, 20},
+                    settlement), engine.painAt(settlement), 1e-6);
+        }
+        assertEquals(10 * 12.5 + 5 * 2.5, engine.callPayoffAt(592.5), 1e-9);
+        assertEquals(20 * 7.5, engine.putPayoffAt(592.5), 1e-9);
+    }
+
+    @Test
+    void testMatchesQuadraticBigDecimalLoop() {
+        // Given: 2.5pt 간격 200개 행사가 (반값 행사가 포함)
+        Random random = new Random(7);
+        int n = 200;
+        double[] strikes = new double[n];
+        long[] calls = new long[n];
+        long[] puts = new long[n];
+        for (int i = 0; i < n; i++) {
+            strikes[i] = 400 + i * 2.5;
+            calls[i] = random.nextInt(20_000);
+            puts[i] = random.nextInt(20_000);
+        }
+
+        // When
+        PayoffEngine engine = PayoffEngine.of(strikes, calls, puts);
+
+        // Then: 곡선 전체와 최소 위치가 기존 방식과 같음
+        double[] curve = engine.curve();
+        BigDecimal minPain = null;
+        int expected = -1;
+        for (int j = 0; j < n; j++) {
+            BigDecimal pain = quadraticPain(strikes, calls, puts, j);
+            assertEquals(pain.doubleValue(), curve[j], 1e-6);
+            if (minPain == null || pain.compareTo(minPain) <= 0) {
+                minPain = pain;
+                expected = j;
+            }
+        }
+        assertEquals(expected, engine.maxPainIndex());
+        assertEquals(minPain.doubleValue(), engine.maxPainLoss(), 1e-6);
+    }
+
+    @Test
+    void testEmptyAndUnsortedChains() {
+        PayoffEngine empty = PayoffEngine.of(new double[0], new long[0], new long[0]);
+        assertEquals(-1, empty.maxPainIndex());
+        assertTrue(Double.isNaN(empty.maxPainStrike()));
+        assertEquals(0, empty.painAt(590));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> PayoffEngine.of(new double[] {590, 580}, new long[2], new long[2]));
+        assertThrows(IllegalArgumentException.class,
+                () -> PayoffEngine.of(new double[] {580, 590}, new long[1], new long[2]));
+    }
+
+    private static double bruteForce(double[] strikes, long[] calls, long[] puts, double settlement) {
+        double pain = 0;
+        for (int i = 0; i < strikes.length; i++) {
+            pain += calls[i] * Math.max(settlement - strikes[i], 0) + puts[i] * Math.max(strikes[i] - settlement, 0);
+        }
+        return pain;
+    }
+
+    private static BigDecimal quadraticPain(double[] strikes, long[] calls, long[] puts, int settlementIndex) {
+        BigDecimal settlement = BigDecimal.valueOf(strikes[settlementIndex]);
+        BigDecimal pain = BigDecimal.ZERO;
+        for (int i = 0; i < strikes.length; i++) {
+            BigDecimal strike = BigDecimal.valueOf(strikes[i]);
+            pain = pain.add(settlement.subtract(strike).max(BigDecimal.ZERO).multiply(BigDecimal.valueOf(calls[i])));
+            pain = pain.add(strike.subtract(settlement).max(BigDecimal.ZERO).multiply(BigDecimal.valueOf(puts[i])));
+        }
+        return pain;
+    }
+}
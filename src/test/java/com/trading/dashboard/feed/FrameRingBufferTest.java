@@ -0,0 +1,123 @@
+package com.trading.dashboard.feed;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FrameRingBuffer 단위 테스트
+ */
+class FrameRingBufferTest {
+
+    private FrameRingBuffer ringBuffer;
+
+    @AfterEach
+    void tearDown() {
+        if (ringBuffer != null) {
+            ringBuffer.stop(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testStagesProcessFramesInOrder() {
+        // Given: decode 결과를 다음 스테이지가 읽는 2단계 구성
+        ringBuffer = new FrameRingBuffer(8, WaitStrategy.Type.SLEEPING.create());
+        KisFrameDecoder decoder = new KisFrameDecoder();
+        List<Long> volumes = Collections.synchronizedList(new ArrayList<>());
+
+        ringBuffer.addStage("decode", (slot, seq, end) -> {
+            if (decoder.wrap(slot)) {
+                slot.markDecoded(decoder.schema());
+                KisTick tick = slot.nextTick();
+                while (decoder.next(tick)) {
+                    slot.commitTick();
+                    tick = slot.nextTick();
+                }
+            }
+        });
+        ringBuffer.addStage("collect", (slot, seq, end) -> {
+            for (int i = 0; i < slot.tickCount(); i++) {
+                volumes.add(slot.tick(i).volume());
+            }
+        });
+        ringBuffer.start("test");
+
+        // When: 링 크기보다 많은 프레임 게시
+        for (int i = 0; i < 100; i++) {
+            ringBuffer.publish("0|H0EUCNT0|001|B01601590^180001^1.25^2^0.05^4.16^1.20^1.30^1.10^5^"
+                    + i + "^12500^300");
+        }
+
+        // Then
+        assertTrue(ringBuffer.drain(5, TimeUnit.SECONDS));
+        assertEquals(100, volumes.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals((long) i, volumes.get(i));
+        }
+        assertEquals(0, ringBuffer.depth());
+        assertEquals(100, ringBuffer.published());
+    }
+
+    @Test
+    void testProducerWaitsWhenRingIsFull() throws Exception {
+        // Given: 소비자가 멈춘 상태의 작은 링
+        ringBuffer = new FrameRingBuffer(4, WaitStrategy.Type.BLOCKING.create());
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        ringBuffer.addStage("slow", (slot, seq, end) -> {
+            release.await();
+            received.add(slot.toString());
+        });
+        ringBuffer.start("test");
+
+        // When
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 10; i++) {
+                ringBuffer.publish("frame-" + i);
+            }
+        });
+        producer.start();
+        Thread.sleep(100);
+
+        // Then: 링이 가득 차서 생산자가 대기 중
+        assertTrue(producer.isAlive());
+        assertTrue(ringBuffer.producerStalls() > 0);
+
+        release.countDown();
+        producer.join(5000);
+        assertTrue(ringBuffer.drain(5, TimeUnit.SECONDS));
+        assertEquals(10, received.size());
+        assertEquals("frame-9", received.get(9));
+    }
+
+    @Test
+    void testStageErrorDoesNotStopProcessing() {
+        // Given
+        ringBuffer = new FrameRingBuffer(16, WaitStrategy.Type.YIELDING.create());
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        FrameRingBuffer.Stage stage = ringBuffer.addStage("faulty", (slot, seq, end) -> {
+            if (seq == 1) {
+                throw new IllegalStateException("boom");
+            }
+            received.add(slot.toString());
+        });
+        ringBuffer.start("test");
+
+        // When
+        ringBuffer.publish("a");
+        ringBuffer.publish("b");
+        ringBuffer.publish("c");
+
+        // Then
+        assertTrue(ringBuffer.drain(5, TimeUnit.SECONDS));
+        assertEquals(List.of("a", "c"), received);
+        assertEquals(1, stage.errors());
+    }
+}
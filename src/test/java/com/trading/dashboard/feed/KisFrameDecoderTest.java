@@ -0,0 +1,89 @@
+package com.trading.dashboard.feed;
+
+import com.trading.dashboard.state.FixedPoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KisFrameDecoder 단위 테스트
+ */
+class KisFrameDecoderTest {
+
+    private static final String FUTURES_RECORD =
+            "A01603^210919^0.75^2^0.13^590.70^590.30^590.80^589.90^1^1288^190102062^0^0^0^0^0^0^2750";
+
+    private final KisFrameDecoder decoder = new KisFrameDecoder();
+    private final KisTick tick = new KisTick();
+
+    @Test
+    void testDecodeSingleFuturesRecord() {
+        // Given
+        String frame = "0|H0MFCNT0|001|" + FUTURES_RECORD;
+
+        // When
+        assertTrue(decoder.wrap(frame));
+        assertTrue(decoder.next(tick));
+
+        // Then
+        assertEquals(KisTrSchema.H0MFCNT0, decoder.schema());
+        assertEquals("A01603", tick.symbol());
+        assertEquals(FixedPoint.parse("590.70"), tick.price());
+        assertEquals(FixedPoint.parse("590.30"), tick.open());
+        assertEquals(FixedPoint.parse("0.75"), tick.change());
+        assertEquals(1288L, tick.volume());
+        assertEquals(FixedPoint.parse("190102062"), tick.tradingValue());
+        assertEquals(2750L, tick.openInterest());
+        assertFalse(decoder.next(tick));
+    }
+
+    @Test
+    void testDecodeAllBatchedRecords() {
+        // Given: 레코드 3개가 한 프레임에 묶여서 수신
+        String frame = "0|H0EUCNT0|003|"
+                + "B01601590^180001^1.25^2^0.05^4.16^1.20^1.30^1.10^5^100^12500^300^0^x^"
+                + "B01601590^180002^1.30^2^0.10^8.33^1.20^1.30^1.10^5^105^13150^301^1^x^"
+                + "C01601590^180002^2.05^5^-0.10^-4.65^2.10^2.20^2.00^3^210^43050^512^2^x";
+
+        // When
+        assertTrue(decoder.wrap(frame));
+        assertEquals(3, decoder.recordCount());
+
+        // Then
+        assertTrue(decoder.next(tick));
+        assertEquals("B01601590", tick.symbol());
+        assertEquals(100L, tick.volume());
+
+        assertTrue(decoder.next(tick));
+        assertEquals(FixedPoint.parse("1.30"), tick.price());
+        assertEquals(105L, tick.volume());
+        assertEquals(301L, tick.openInterest());
+
+        assertTrue(decoder.next(tick));
+        assertEquals("C01601590", tick.symbol());
+        assertEquals(FixedPoint.parse("-0.10"), tick.change());
+        assertEquals(210L, tick.volume());
+
+        assertFalse(decoder.next(tick));
+    }
+
+    @Test
+    void testRejectsUnsupportedFrames() {
+        assertFalse(decoder.wrap("{\"header\":{\"tr_id\":\"PINGPONG\"}}"));
+        assertFalse(decoder.wrap("0|H0XXXXX0|001|A01603^1^2"));
+        assertFalse(decoder.wrap("1|H0MFCNT0|001|encrypted"));
+        assertFalse(decoder.wrap("0|H0MFCNT0|001|A01603^210919^0.75"));
+    }
+
+    @Test
+    void testMismatchedRecordCountFallsBackToSingleRecord() {
+        // Given: 레코드 수와 필드 수가 맞지 않으면 하나의 레코드로 해석 (기존 동작)
+        String frame = "0|H0MFCNT0|002|" + FUTURES_RECORD;
+
+        // When & Then
+        assertTrue(decoder.wrap(frame));
+        assertEquals(1, decoder.recordCount());
+        assertTrue(decoder.next(tick));
+        assertEquals(1288L, tick.volume());
+    }
+}
@@ -0,0 +1,92 @@
+package com.trading.dashboard.feed;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KisSubscriptionEngine 단위 테스트
+ */
+class KisSubscriptionEngineTest {
+
+    private KisSubscriptionEngine engine;
+    private final List<String> sent = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        engine = new KisSubscriptionEngine(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(engine, "ratePerSecond", 1000);
+        ReflectionTestUtils.setField(engine, "maxInFlight", 10);
+        ReflectionTestUtils.setField(engine, "ackTimeoutMillis", 5_000L);
+        ReflectionTestUtils.setField(engine, "maxRetries", 1);
+        engine.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void testPipelinedSubscriptionCompletesWhenAllAcked() throws Exception {
+        // Given: 응답을 즉시 돌려주는 서버
+        List<KisSubscriptionEngine.Subscription> subscriptions = IntStream.range(0, 40)
+                .mapToObj(i -> KisSubscriptionEngine.Subscription.subscribe("H0STCNT0", "B0160159" + i))
+                .toList();
+
+        // When
+        KisSubscriptionEngine.Report report = engine.begin(subscriptions, "key", frame -> {
+            sent.add(frame);
+            String trKey = frame.replaceAll(".*\"tr_key\":\"([^\"]+)\".*", "$1");
+            engine.onAck(trKey, trKey.endsWith("0") ? "ALREADY IN SUBSCRIBE" : "SUBSCRIBE SUCCESS");
+        }, () -> true).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(report.complete());
+        assertEquals(40, report.subscribed());
+        assertEquals(0, report.failed());
+        assertEquals(40, sent.size());
+    }
+
+    @Test
+    void testRetriesTimedOutAndFailsInvalid() throws Exception {
+        // Given: 첫 요청은 응답 없음, 두 번째 요청은 INVALID (재전송 확인을 위해 짧은 응답 대기)
+        ReflectionTestUtils.setField(engine, "ackTimeoutMillis", 100L);
+        List<KisSubscriptionEngine.Subscription> subscriptions = List.of(
+                KisSubscriptionEngine.Subscription.subscribe("H0STCNT0", "A01603"),
+                KisSubscriptionEngine.Subscription.subscribe("H0STCNT0", "X99999"));
+
+        // When
+        KisSubscriptionEngine.Report report = engine.begin(subscriptions, "key", frame -> {
+            sent.add(frame);
+            if (frame.contains("X99999")) {
+                engine.onAck("X99999", "INVALID TR_KEY");
+            }
+        }, () -> true).get(5, TimeUnit.SECONDS);
+
+        // Then: A01603은 1회 재전송 후 실패
+        assertTrue(report.complete());
+        assertEquals(0, report.subscribed());
+        assertEquals(2, report.failed());
+        assertEquals(1, report.retries());
+        assertEquals(3, sent.size());
+    }
+
+    @Test
+    void testResolveTrIdBySession() {
+        // 월요일 주간 / 월요일 야간 / 토요일 새벽
+        assertEquals("H0STCNT0", KisSubscriptionEngine.resolveTrId("A01603", LocalDateTime.of(2026, 1, 5, 10, 0)));
+        assertEquals("H0MFCNT0", KisSubscriptionEngine.resolveTrId("A01603", LocalDateTime.of(2026, 1, 5, 19, 0)));
+        assertEquals("H0EUCNT0", KisSubscriptionEngine.resolveTrId("B01601590", LocalDateTime.of(2026, 1, 10, 3, 0)));
+    }
+}
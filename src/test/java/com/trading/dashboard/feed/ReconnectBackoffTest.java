@@ -0,0 +1,43 @@
+package com.trading.dashboard.feed;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReconnectBackoff 단위 테스트
+ */
+class ReconnectBackoffTest {
+
+    @Test
+    void testDelayGrowsExponentiallyWithinJitterBounds() {
+        // Given
+        ReconnectBackoff backoff = new ReconnectBackoff(500, 30_000);
+
+        // When & Then: n번째 대기는 [상한/2, 상한) 범위
+        for (int n = 0; n < 10; n++) {
+            long ceiling = backoff.ceiling(n);
+            long delay = backoff.nextDelayMillis();
+            assertTrue(delay >= ceiling / 2 && delay < ceiling, "attempt " + n + ": " + delay);
+        }
+        assertEquals(1000, backoff.ceiling(1));
+        assertEquals(30_000, backoff.ceiling(10));
+        assertEquals(30_000, backoff.ceiling(100));
+    }
+
+    @Test
+    void testResetStartsFromInitialDelay() {
+        // Given
+        ReconnectBackoff backoff = new ReconnectBackoff(500, 30_000);
+        for (int i = 0; i < 5; i++) {
+            backoff.nextDelayMillis();
+        }
+
+        // When
+        backoff.reset();
+
+        // Then
+        assertEquals(0, backoff.attempts());
+        assertTrue(backoff.nextDelayMillis() < 500);
+    }
+}
@@ -0,0 +1,102 @@
+package com.trading.dashboard.feed;
+
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.state.FixedPoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SubscriptionPlanner 단위 테스트
+ */
+class SubscriptionPlannerTest {
+
+    private final SubscriptionPlanner planner = new SubscriptionPlanner(40, 14, FixedPoint.of(2.5), 0.5);
+
+    /**
+     * 행사가 550.0 ~ 650.0 (2.5 간격) 근월물 콜/풋 + 차월물 일부
+     */
+    private static List<SubscriptionPlanner.Candidate> chain(Map<String, Double> activity) {
+        List<SubscriptionPlanner.Candidate> candidates = new ArrayList<>();
+        for (int i = 0; i <= 40; i++) {
+            double strike = 550.0 + i * 2.5;
+            for (OptionType type : OptionType.values()) {
+                String symbol = (type == OptionType.CALL ? "B" : "C") + "0160" + i;
+                candidates.add(new SubscriptionPlanner.Candidate(symbol, FixedPoint.of(strike), type, "20260108",
+                        activity.getOrDefault(symbol, 0.0)));
+            }
+        }
+        candidates.add(new SubscriptionPlanner.Candidate("B01602999", FixedPoint.of(600.0), OptionType.CALL,
+                "20260212", 1_000.0));
+        return candidates;
+    }
+
+    @Test
+    void testPlanCentersOnFuturesAndFillsBudget() {
+        // When
+        SubscriptionPlanner.Plan plan = planner.plan("A01603", FixedPoint.of(601.0), chain(Map.of()),
+                Set.of(), FixedPoint.NULL);
+
+        // Then: 선물 + 40 슬롯, ATM 600.0, 차월물 제외
+        assertNotNull(plan);
+        assertEquals(40, plan.symbols().size());
+        assertEquals("A01603", plan.symbols().get(0));
+        assertEquals(FixedPoint.of(600.0), plan.center());
+        assertTrue(plan.symbols().contains("B016020")); // 600.0 콜
+        assertTrue(plan.symbols().contains("C016020")); // 600.0 풋
+        assertFalse(plan.symbols().contains("B01602999"));
+    }
+
+    @Test
+    void testSmallMoveKeepsCenterAndSet() {
+        // Given
+        SubscriptionPlanner.Plan first = planner.plan("A01603", FixedPoint.of(600.0), chain(Map.of()),
+                Set.of(), FixedPoint.NULL);
+
+        // When: 2.5 미만 이동
+        SubscriptionPlanner.Plan second = planner.plan("A01603", FixedPoint.of(602.0), chain(Map.of()),
+                new HashSet<>(first.symbols()), first.center());
+
+        // Then
+        assertEquals(first.center(), second.center());
+        assertEquals(new HashSet<>(first.symbols()), new HashSet<>(second.symbols()));
+    }
+
+    @Test
+    void testLargeMoveShiftsAtmWindow() {
+        // Given
+        SubscriptionPlanner.Plan first = planner.plan("A01603", FixedPoint.of(600.0), chain(Map.of()),
+                Set.of(), FixedPoint.NULL);
+
+        // When: 10pt 상승
+        SubscriptionPlanner.Plan second = planner.plan("A01603", FixedPoint.of(610.0), chain(Map.of()),
+                new HashSet<>(first.symbols()), first.center());
+
+        // Then
+        assertEquals(FixedPoint.of(610.0), second.center());
+        assertTrue(second.symbols().contains("B016024")); // 610.0
+        assertTrue(second.symbols().contains("B016030")); // 625.0 (ATM 구간 끝)
+    }
+
+    @Test
+    void testIncumbentNeedsClearlyHigherActivityToBeReplaced() {
+        // Given: 기존 구독 종목(활동도 10)과 새 후보(활동도 12)
+        Map<String, Double> activity = Map.of("B01600", 10.0, "B01601", 12.0);
+        Set<String> current = new HashSet<>(planner.plan("A01603", FixedPoint.of(600.0),
+                chain(Map.of("B01600", 10.0)), Set.of(), FixedPoint.NULL).symbols());
+        assertTrue(current.contains("B01600"));
+
+        // When
+        SubscriptionPlanner.Plan plan = planner.plan("A01603", FixedPoint.of(600.0), chain(activity),
+                current, FixedPoint.of(600.0));
+
+        // Then: 가산점(50%) 덕분에 기존 종목 유지
+        assertTrue(plan.symbols().contains("B01600"));
+    }
+}
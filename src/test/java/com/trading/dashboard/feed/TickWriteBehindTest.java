@@ -0,0 +1,87 @@
+package com.trading.dashboard.feed;
+
+import com.trading.dashboard.model.InstrumentType;
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.state.FixedPoint;
+import com.trading.dashboard.state.InstrumentState;
+import com.trading.dashboard.state.MarketStateStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TickWriteBehind 단위 테스트
+ */
+class TickWriteBehindTest {
+
+    private MarketStateStore store;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private TickWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:writebehind;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS option_data");
+        jdbcTemplate.execute("CREATE TABLE option_data (symbol VARCHAR(20), current_price DECIMAL(19,4), "
+                + "volume BIGINT, trading_value DECIMAL(19,4), open_interest BIGINT, timestamp TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO option_data VALUES ('B01601590', 1.00, 0, 0, 0, CURRENT_TIMESTAMP)");
+
+        store = new MarketStateStore();
+        meterRegistry = new SimpleMeterRegistry();
+        writeBehind = new TickWriteBehind(store, jdbcTemplate, meterRegistry);
+        // 주기 flush 없이 수동 flush로 검증
+        ReflectionTestUtils.setField(writeBehind, "enabled", false);
+        writeBehind.init();
+    }
+
+    @Test
+    void testCoalescesTicksPerSymbolWithinWindow() {
+        // Given
+        InstrumentState state = store.register("B01601590", InstrumentType.OPTIONS, OptionType.CALL);
+
+        // When: 같은 구간에 틱 5개
+        for (int i = 1; i <= 5; i++) {
+            state.applyTrade(FixedPoint.of(1.0 + i * 0.05), 100L * i, System.currentTimeMillis());
+            writeBehind.enqueue(state);
+        }
+        int rows = writeBehind.flush();
+
+        // Then: 최신 상태 1행만 반영
+        assertEquals(1, rows);
+        assertEquals(4.0, meterRegistry.get("kis.persist.ticks.coalesced").counter().count());
+        BigDecimal price = jdbcTemplate.queryForObject(
+                "SELECT current_price FROM option_data WHERE symbol = 'B01601590'", BigDecimal.class);
+        assertEquals(0, new BigDecimal("1.25").compareTo(price));
+        assertEquals(500L, jdbcTemplate.queryForObject(
+                "SELECT volume FROM option_data WHERE symbol = 'B01601590'", Long.class));
+    }
+
+    @Test
+    void testTickAfterFlushIsQueuedAgain() {
+        // Given
+        InstrumentState state = store.register("B01601590", InstrumentType.OPTIONS, OptionType.CALL);
+        state.applyTrade(FixedPoint.of(1.10), 10L, System.currentTimeMillis());
+        writeBehind.enqueue(state);
+        assertEquals(1, writeBehind.flush());
+
+        // When
+        state.applyTrade(FixedPoint.of(1.20), 20L, System.currentTimeMillis());
+        writeBehind.enqueue(state);
+
+        // Then
+        assertEquals(1, writeBehind.flush());
+        assertEquals(0, writeBehind.flush());
+        assertEquals(20L, jdbcTemplate.queryForObject(
+                "SELECT volume FROM option_data WHERE symbol = 'B01601590'", Long.class));
+    }
+}
@@ -0,0 +1,143 @@
+package com.trading.dashboard.fetch;
+
+import com.trading.dashboard.exception.DataFetchException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KisApiGovernor 단위 테스트
+ */
+class KisApiGovernorTest {
+
+    private KisApiGovernor governor;
+
+    @AfterEach
+    void tearDown() {
+        governor.shutdown();
+    }
+
+    @Test
+    void testHigherPriorityIsGrantedFirst() throws Exception {
+        // Given: 초당 10건, 적립 1건 → 첫 호출 이후는 대기열
+        governor = governor(new SimpleMeterRegistry(), 10, 1, 10_000);
+        governor.acquire(ApiPriority.FUTURES);
+        List<ApiPriority> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(4);
+
+        // When: 낮은 우선순위부터 대기열에 넣음
+        for (ApiPriority priority : List.of(ApiPriority.BACKFILL, ApiPriority.ASKING_PRICE,
+                ApiPriority.NEAR_ATM_OPTIONS, ApiPriority.AUTH)) {
+            Thread.ofVirtual().start(() -> {
+                try {
+                    governor.acquire(priority);
+                    order.add(priority);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            waitQueued(priority);
+        }
+
+        // Then: 보충된 토큰은 도착 순서가 아니라 우선순위 순서로 배분
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(ApiPriority.AUTH, ApiPriority.NEAR_ATM_OPTIONS, ApiPriority.ASKING_PRICE,
+                ApiPriority.BACKFILL), order);
+    }
+
+    @Test
+    void testMultiplicativeDecreaseAndAdditiveIncrease() {
+        // Given
+        governor = governor(new SimpleMeterRegistry(), 20, 5, 10_000);
+
+        // When: 한도 초과 응답 연속 2건 (cooldown 내 두 번째는 무시)
+        governor.onResponse("FHMIF10000000", 500, "{\"msg_cd\":\"EGW00201\"}", 1_000_000);
+        governor.onResponse("FHMIF10000000", 500, "{\"msg_cd\":\"EGW00201\"}", 1_000_000);
+        double reduced = governor.currentRate();
+        for (int i = 0; i < 50; i++) {
+            governor.onResponse("FHMIF10000000", 200, "{\"rt_cd\":\"0\"}", 1_000_000);
+        }
+
+        // Then
+        assertEquals(10, reduced, 1e-9);
+        assertTrue(governor.currentRate() > reduced && governor.currentRate() <= 20);
+        assertEquals(2L, governor.snapshot().get("throttled"));
+    }
+
+    @Test
+    void testTokenIssueThrottleKeepsRate() {
+        // Given
+        governor = governor(new SimpleMeterRegistry(), 20, 5, 10_000);
+
+        // When
+        governor.onResponse("tokenP", 403, "{\"error_code\":\"EGW00133\"}", 1_000_000);
+
+        // Then
+        assertEquals(20, governor.currentRate(), 1e-9);
+        assertEquals(1L, governor.snapshot().get("throttled"));
+    }
+
+    @Test
+    void testRejectsWhenWaitExceeded() throws Exception {
+        // Given: 초당 2건, 적립 1건, 최대 대기 50ms
+        governor = governor(new SimpleMeterRegistry(), 2, 1, 50);
+        governor.acquire(ApiPriority.AUTH);
+
+        // When & Then
+        assertThrows(DataFetchException.class, () -> governor.acquire(ApiPriority.BACKFILL));
+        @SuppressWarnings("unchecked")
+        var priorities = (Map<String, Map<String, Object>>) governor.snapshot().get("priorities");
+        assertEquals(1L, priorities.get("BACKFILL").get("rejected"));
+        assertEquals(0, priorities.get("BACKFILL").get("queued"));
+    }
+
+    @Test
+    void testRecordsLatencyPerTrId() {
+        // Given
+        governor = governor(new SimpleMeterRegistry(), 20, 5, 10_000);
+
+        // When
+        governor.onResponse("FHMIF10000000", 200, "{}", TimeUnit.MILLISECONDS.toNanos(30));
+        governor.onResponse("FHMIF10100000", 200, "{}", TimeUnit.MILLISECONDS.toNanos(10));
+        governor.onFailure("FHMIF10100000", TimeUnit.MILLISECONDS.toNanos(20));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        var latency = (Map<String, Map<String, Object>>) governor.snapshot().get("latency");
+        assertEquals(1L, latency.get("FHMIF10000000").get("count"));
+        assertEquals(2L, latency.get("FHMIF10100000").get("count"));
+        assertEquals(15.0, latency.get("FHMIF10100000").get("meanMs"));
+    }
+
+    static KisApiGovernor governor(SimpleMeterRegistry registry, double ratePerSecond, int burst, long maxWaitMillis) {
+        KisApiGovernor governor = new KisApiGovernor(registry);
+        ReflectionTestUtils.setField(governor, "maxRate", ratePerSecond);
+        ReflectionTestUtils.setField(governor, "burst", burst);
+        ReflectionTestUtils.setField(governor, "minRate", 1.0);
+        ReflectionTestUtils.setField(governor, "decreaseFactor", 0.5);
+        ReflectionTestUtils.setField(governor, "increasePerSecond", 1.0);
+        ReflectionTestUtils.setField(governor, "decreaseCooldownMillis", 1000L);
+        ReflectionTestUtils.setField(governor, "maxQueued", 100);
+        ReflectionTestUtils.setField(governor, "maxWaitMillis", maxWaitMillis);
+        governor.init();
+        return governor;
+    }
+
+    private void waitQueued(ApiPriority priority) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (governor.queued(priority) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
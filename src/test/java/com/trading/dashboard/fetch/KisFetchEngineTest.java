@@ -0,0 +1,179 @@
+package com.trading.dashboard.fetch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trading.dashboard.simulator.KisRestSimulator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KisFetchEngine 단위 테스트
+ */
+class KisFetchEngineTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private KisRestSimulator simulator;
+    private KisApiGovernor governor;
+    private KisFetchEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        if (simulator != null) {
+            simulator.shutdown();
+        }
+        engine.shutdown();
+        governor.shutdown();
+    }
+
+    @Test
+    void testMapKeepsInputOrderAndRunsConcurrently() {
+        // Given
+        engine = engine(1000, 2);
+        List<Integer> items = IntStream.range(0, 50).boxed().toList();
+
+        // When: 역순으로 끝나도록 지연
+        long start = System.nanoTime();
+        List<Integer> results = engine.map(items, item -> {
+            sleep(100 - item);
+            return item * 2;
+        });
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Then
+        assertEquals(IntStream.range(0, 50).map(i -> i * 2).boxed().toList(), results);
+        assertTrue(elapsedMillis < 1000, "elapsed=" + elapsedMillis);
+    }
+
+    @Test
+    void testMapReturnsNullForFailedItems() {
+        // Given
+        engine = engine(1000, 0);
+
+        // When
+        List<String> results = engine.map(List.of("a", "b", "c"), item -> {
+            if ("b".equals(item)) {
+                throw new IllegalStateException("boom");
+            }
+            return item;
+        });
+
+        // Then
+        assertEquals(java.util.Arrays.asList("a", null, "c"), results);
+    }
+
+    @Test
+    void testRetriesRateLimitedResponses() throws Exception {
+        // Given: 서버 한도(초당 5건)보다 빠르게 전송 → EGW00201 후 재시도로 모두 성공
+        simulator = new KisRestSimulator(0, KisRestSimulator.Profile.defaults().toBuilder()
+                .latencyMillis(0).jitterMillis(0).rateLimitPerSecond(5).build());
+        simulator.start();
+        engine = engine(100, 6);
+        String token = objectMapper.readTree(httpClient.send(HttpRequest.newBuilder()
+                .uri(URI.create(simulator.getBaseUrl() + "/oauth2/tokenP"))
+                .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                .build(), HttpResponse.BodyHandlers.ofString()).body()).get("access_token").asText();
+
+        // When
+        List<Integer> statuses = engine.map(IntStream.range(0, 10).boxed().toList(), i -> {
+            try {
+                return engine.send(HttpRequest.newBuilder()
+                        .uri(URI.create(simulator.getBaseUrl() + "/uapi/domestic-futureoption/v1/quotations/"
+                                + "inquire-price?FID_COND_MRKT_DIV_CODE=F&FID_INPUT_ISCD=A01603"))
+                        .header("authorization", "Bearer " + token)
+                        .GET()
+                        .build(), ApiPriority.FUTURES).statusCode();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // Then
+        assertTrue(statuses.stream().allMatch(status -> status == 200), statuses.toString());
+        assertTrue((long) simulator.getStats().get("rateLimited") > 0);
+        assertEquals(10L, simulator.getStats().get("quotes"));
+    }
+
+    @Test
+    void testTokenErrorsAreNotRetried() throws Exception {
+        // Given
+        simulator = new KisRestSimulator(0, KisRestSimulator.Profile.defaults().toBuilder()
+                .latencyMillis(0).jitterMillis(0).build());
+        simulator.start();
+        engine = engine(1000, 3);
+
+        // When
+        HttpResponse<String> response = engine.send(HttpRequest.newBuilder()
+                .uri(URI.create(simulator.getBaseUrl() + "/uapi/domestic-futureoption/v1/quotations/"
+                        + "inquire-price?FID_COND_MRKT_DIV_CODE=F&FID_INPUT_ISCD=A01603"))
+                .header("authorization", "Bearer invalid")
+                .GET()
+                .build(), ApiPriority.FUTURES);
+
+        // Then
+        assertEquals(500, response.statusCode());
+        assertTrue(response.body().contains("EGW00121"));
+        assertEquals(1L, simulator.getStats().get("unauthorized"));
+    }
+
+    @Test
+    void testStreamReturnsStreamOnSuccessAndTextOnError() throws Exception {
+        // Given
+        simulator = new KisRestSimulator(0, KisRestSimulator.Profile.defaults().toBuilder()
+                .latencyMillis(0).jitterMillis(0).build());
+        simulator.start();
+        engine = engine(1000, 0);
+        String token = objectMapper.readTree(httpClient.send(HttpRequest.newBuilder()
+                .uri(URI.create(simulator.getBaseUrl() + "/oauth2/tokenP"))
+                .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                .build(), HttpResponse.BodyHandlers.ofString()).body()).get("access_token").asText();
+        String url = simulator.getBaseUrl() + "/uapi/domestic-futureoption/v1/quotations/"
+                + "inquire-price?FID_COND_MRKT_DIV_CODE=O&FID_INPUT_ISCD=B01601590";
+
+        // When
+        HttpResponse<KisFetchEngine.Body> ok = engine.stream(HttpRequest.newBuilder()
+                .uri(URI.create(url)).header("authorization", "Bearer " + token).GET().build(),
+                ApiPriority.NEAR_ATM_OPTIONS);
+        HttpResponse<KisFetchEngine.Body> unauthorized = engine.stream(HttpRequest.newBuilder()
+                .uri(URI.create(url)).header("authorization", "Bearer invalid").GET().build(),
+                ApiPriority.NEAR_ATM_OPTIONS);
+
+        // Then
+        try (KisFetchEngine.Body body = ok.body()) {
+            assertNull(body.text());
+            assertEquals("0", objectMapper.readTree(body.stream()).get("rt_cd").asText());
+        }
+        assertEquals(500, unauthorized.statusCode());
+        assertNull(unauthorized.body().stream());
+        assertTrue(unauthorized.body().text().contains("EGW00121"));
+    }
+
+    private KisFetchEngine engine(double ratePerSecond, int maxRetries) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        governor = KisApiGovernorTest.governor(registry, ratePerSecond, 5, 10_000);
+        KisFetchEngine engine = new KisFetchEngine(httpClient, governor, registry);
+        ReflectionTestUtils.setField(engine, "maxInFlight", 8);
+        ReflectionTestUtils.setField(engine, "maxRetries", maxRetries);
+        ReflectionTestUtils.setField(engine, "retryBackoffMillis", 100L);
+        engine.init();
+        return engine;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
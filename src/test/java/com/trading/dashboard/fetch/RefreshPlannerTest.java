@@ -0,0 +1,83 @@
+package com.trading.dashboard.fetch;
+
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.state.FixedPoint;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RefreshPlanner 단위 테스트
+ */
+class RefreshPlannerTest {
+
+    private static final long NOW = 1_000_000L;
+
+    private final RefreshPlanner planner = new RefreshPlanner(10_000, 60_000);
+
+    @Test
+    void testOnlyStaleFieldGroupsAreDue() {
+        // Given
+        List<RefreshPlanner.Candidate> candidates = List.of(
+                // 실시간 가격 최신, Greeks 최신 → 제외
+                option("B01601590", 590, 100, NOW - 1_000, NOW - 30_000),
+                // 실시간 가격 최신, Greeks 61초 경과 → 대상
+                option("C01601590", 590, 100, NOW - 1_000, NOW - 61_000),
+                // 실시간 미수신 (가격 11초 경과) → 대상
+                option("B01601600", 600, 100, NOW - 11_000, NOW - 11_000),
+                // 선물: 가격만 확인 (REST 시각은 무관)
+                futures("A01603", NOW - 1_000, NOW - 600_000));
+
+        // When
+        RefreshPlanner.Plan plan = planner.plan(candidates, FixedPoint.ofLong(590), NOW, 10);
+
+        // Then
+        assertEquals(2, plan.due());
+        assertEquals(List.of("C01601590", "B01601600"), symbols(plan));
+    }
+
+    @Test
+    void testOrderByFuturesThenAtmThenVolumeUnderLimit() {
+        // Given: 모두 SLA 초과
+        List<RefreshPlanner.Candidate> candidates = List.of(
+                option("B01601620", 620, 9_000, 0, 0),
+                option("B01601595", 595, 10, 0, 0),
+                option("C01601585", 585, 500, 0, 0),
+                option("B01601590", 590, 1, 0, 0),
+                futures("A01606", 0, 0));
+
+        // When
+        RefreshPlanner.Plan plan = planner.plan(candidates, FixedPoint.ofLong(590), NOW, 4);
+
+        // Then: 같은 거리(585/595)는 거래량 순, 상한 4
+        assertEquals(5, plan.due());
+        assertEquals(List.of("A01606", "B01601590", "C01601585", "B01601595"), symbols(plan));
+    }
+
+    @Test
+    void testNoBudgetReturnsNoTargets() {
+        // When
+        RefreshPlanner.Plan plan = planner.plan(List.of(option("B01601590", 590, 1, 0, 0)),
+                FixedPoint.NULL, NOW, 0);
+
+        // Then
+        assertEquals(1, plan.due());
+        assertTrue(plan.targets().isEmpty());
+    }
+
+    private static RefreshPlanner.Candidate option(String symbol, int strike, long volume, long priceAt,
+            long restAt) {
+        OptionType type = symbol.startsWith("B") ? OptionType.CALL : OptionType.PUT;
+        return new RefreshPlanner.Candidate(symbol, type, FixedPoint.ofLong(strike), volume, priceAt, restAt);
+    }
+
+    private static RefreshPlanner.Candidate futures(String symbol, long priceAt, long restAt) {
+        return new RefreshPlanner.Candidate(symbol, null, FixedPoint.NULL, 1_000, priceAt, restAt);
+    }
+
+    private static List<String> symbols(RefreshPlanner.Plan plan) {
+        return plan.targets().stream().map(RefreshPlanner.Candidate::symbol).toList();
+    }
+}
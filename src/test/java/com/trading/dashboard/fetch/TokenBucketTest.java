@@ -0,0 +1,65 @@
+package com.trading.dashboard.fetch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TokenBucket 단위 테스트
+ */
+class TokenBucketTest {
+
+    @Test
+    void testBurstThenPacedByRate() {
+        // Given: 초당 10개, 최대 3개 적립
+        TokenBucket bucket = new TokenBucket(10, 3);
+        long now = System.nanoTime();
+
+        // When
+        long first = bucket.reserve(now);
+        bucket.reserve(now);
+        bucket.reserve(now);
+        long fourth = bucket.reserve(now);
+        long fifth = bucket.reserve(now);
+
+        // Then: 적립분은 즉시, 이후는 100ms 간격으로 예약
+        assertEquals(0, first);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), fourth, TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200), fifth, TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Test
+    void testAcquireWaitsForRefill() throws InterruptedException {
+        // Given
+        TokenBucket bucket = new TokenBucket(20, 1);
+
+        // When: 1개 적립 + 4개는 50ms 간격
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            bucket.acquire();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        // Then
+        assertTrue(elapsed >= TimeUnit.MILLISECONDS.toNanos(190), "elapsed=" + elapsed);
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    void testSetRate() {
+        // Given
+        TokenBucket bucket = new TokenBucket(10, 1);
+        long now = System.nanoTime();
+        bucket.reserve(now);
+
+        // When
+        bucket.setRate(100);
+
+        // Then
+        assertEquals(100, bucket.getRate());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(10), bucket.reserve(now), TimeUnit.MILLISECONDS.toNanos(1));
+        assertThrows(IllegalArgumentException.class, () -> bucket.setRate(0));
+    }
+}
@@ -0,0 +1,76 @@
+package com.trading.dashboard.fetch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WeightedRoundRobin 단위 테스트
+ */
+class WeightedRoundRobinTest {
+
+    @Test
+    void testVisitFrequencyFollowsWeights() {
+        // Given
+        WeightedRoundRobin schedule = new WeightedRoundRobin();
+        schedule.update(Map.of("ATM", 1.0, "NEAR", 0.5, "FAR", 0.1));
+
+        // When
+        Map<String, Integer> visits = visit(schedule, 1_600);
+
+        // Then: 1 : 0.5 : 0.1 비율 (총 가중치 1.6)
+        assertEquals(1_000, visits.get("ATM"), 2);
+        assertEquals(500, visits.get("NEAR"), 2);
+        assertEquals(100, visits.get("FAR"), 2);
+    }
+
+    @Test
+    void testLowWeightIsNotStarved() {
+        // Given
+        WeightedRoundRobin schedule = new WeightedRoundRobin();
+        schedule.update(Map.of("ATM", 1.0, "FAR", 0.05));
+
+        // When: 가중치 비율만큼의 구간마다 최소 1회 선택
+        Map<String, Integer> visits = visit(schedule, 21);
+
+        // Then
+        assertEquals(1, visits.get("FAR"));
+    }
+
+    @Test
+    void testUpdateKeepsPassAndNewEntryDoesNotBurst() {
+        // Given
+        WeightedRoundRobin schedule = new WeightedRoundRobin();
+        schedule.update(Map.of("A", 1.0, "B", 1.0));
+        visit(schedule, 100);
+
+        // When: 새 종목 추가, B 제외
+        schedule.update(Map.of("A", 1.0, "C", 1.0));
+        Map<String, Integer> visits = visit(schedule, 10);
+
+        // Then: 새 종목이 연속으로 몰아서 선택되지 않음
+        assertEquals(2, schedule.size());
+        assertEquals(5, visits.get("A"));
+        assertEquals(5, visits.get("C"));
+        assertNull(visits.get("B"));
+    }
+
+    @Test
+    void testEmptyScheduleReturnsNull() {
+        WeightedRoundRobin schedule = new WeightedRoundRobin();
+        schedule.update(Map.of("A", 0.0));
+        assertNull(schedule.next());
+        assertEquals(0, schedule.size());
+    }
+
+    private static Map<String, Integer> visit(WeightedRoundRobin schedule, int count) {
+        Map<String, Integer> visits = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            visits.merge(schedule.next(), 1, Integer::sum);
+        }
+        return visits;
+    }
+}
@@ -0,0 +1,197 @@
+package com.trading.dashboard.journal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JournalWriter / JournalReader 단위 테스트
+ */
+class JournalWriterTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final long DAY_MILLIS = ZonedDateTime.of(2026, 1, 5, 10, 0, 0, 0, KST)
+            .toInstant().toEpochMilli();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testRoundTripKeepsPayloadAndTimestamps() throws Exception {
+        // Given
+        String ascii = "0|H0IFCNT0|001|A01603^093000^355.25";
+        String korean = "{\"msg1\":\"SUBSCRIBE SUCCESS 정상처리\"}";
+
+        // When
+        try (JournalWriter writer = new JournalWriter(dir, 1 << 16)) {
+            assertEquals(1, writer.append(ascii, 111L, DAY_MILLIS));
+            assertEquals(2, writer.append(korean, 222L, DAY_MILLIS + 1));
+        }
+
+        // Then
+        List<String> frames = new ArrayList<>();
+        List<Long> nanos = new ArrayList<>();
+        try (JournalReader reader = JournalReader.open(dir)) {
+            reader.poll(entry -> {
+                frames.add(entry.toString());
+                nanos.add(entry.receivedNanos());
+            });
+            assertEquals(2, reader.lastSequence());
+        }
+        assertEquals(List.of(ascii, korean), frames);
+        assertEquals(List.of(111L, 222L), nanos);
+    }
+
+    @Test
+    void testReaderTailsWriterFromAnotherThread() throws Exception {
+        // Given
+        int count = 10_000;
+        List<Long> sequences = new ArrayList<>();
+        try (JournalWriter writer = new JournalWriter(dir, 1 << 16)) {
+            Thread tailer = new Thread(() -> {
+                try (JournalReader reader = JournalReader.open(dir)) {
+                    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                    while (sequences.size() < count && System.nanoTime() < deadline) {
+                        if (reader.poll(entry -> sequences.add(entry.sequence())) == 0) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                }
+            });
+            tailer.start();
+
+            // When: 작은 세그먼트로 여러 번 교체되면서 기록
+            for (int i = 0; i < count; i++) {
+                writer.append("1|H0IOCNT0|001|B01601590^" + i, System.nanoTime(), DAY_MILLIS);
+            }
+            tailer.join(TimeUnit.SECONDS.toMillis(15));
+
+            // Then
+            assertTrue(writer.segmentsCreated() > 1);
+        }
+        assertEquals(count, sequences.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i + 1L, sequences.get(i));
+        }
+    }
+
+    @Test
+    void testReaderWaitsForSegmentHeader() throws Exception {
+        // Given: 기록된 세그먼트
+        try (JournalWriter writer = new JournalWriter(dir, 1 << 16)) {
+            writer.append("first", 1L, DAY_MILLIS);
+            writer.append("second", 2L, DAY_MILLIS);
+        }
+        Path segment = JournalFormat.segments(dir).get(0);
+        byte[] content = Files.readAllBytes(segment);
+
+        try (JournalReader reader = JournalReader.open(dir)) {
+            // When: 최근 세그먼트가 아직 비어 있거나 헤더가 없는 상태
+            Files.write(segment, new byte[0]);
+            assertEquals(0, reader.poll(entry -> { }));
+            Files.write(segment, new byte[content.length]);
+            assertEquals(0, reader.poll(entry -> { }));
+
+            // Then: 헤더가 기록된 뒤 다시 읽음
+            Files.write(segment, content);
+            assertEquals(2, reader.poll(entry -> { }));
+        }
+    }
+
+    @Test
+    void testRollsOverOnSessionChange() throws Exception {
+        // Given
+        long night = ZonedDateTime.of(2026, 1, 5, 18, 0, 0, 0, KST).toInstant().toEpochMilli();
+
+        // When
+        try (JournalWriter writer = new JournalWriter(dir, 1 << 16)) {
+            writer.append("day", 1L, DAY_MILLIS);
+            writer.append("night", 2L, night);
+        }
+
+        // Then
+        List<Path> segments = JournalFormat.segments(dir);
+        assertEquals(List.of("20260105-DAY-0000.journal", "20260105-NIGHT-0000.journal"),
+                segments.stream().map(path -> path.getFileName().toString()).toList());
+    }
+
+    @Test
+    void testSequenceContinuesAfterReopen() throws Exception {
+        // Given: 비정상 종료 (close 없이 중단)
+        JournalWriter crashed = new JournalWriter(dir, 1 << 16);
+        crashed.append("a", 1L, DAY_MILLIS);
+        crashed.append("b", 2L, DAY_MILLIS);
+        crashed.force();
+
+        // When
+        try (JournalWriter writer = new JournalWriter(dir, 1 << 16)) {
+            assertEquals(2, writer.lastSequence());
+            assertEquals(3, writer.append("c", 3L, DAY_MILLIS));
+        }
+
+        // Then: 멈춘 세그먼트를 지나 새 세그먼트까지 이어서 읽힘
+        List<String> frames = new ArrayList<>();
+        try (JournalReader reader = JournalReader.open(dir)) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (frames.size() < 3 && System.nanoTime() < deadline) {
+                reader.poll(entry -> frames.add(entry.toString()));
+            }
+        }
+        assertEquals(List.of("a", "b", "c"), frames);
+    }
+
+    @Test
+    void testSkipsFrameLargerThanSegment() throws Exception {
+        try (JournalWriter writer = new JournalWriter(dir, 256)) {
+            assertEquals(-1, writer.append("x".repeat(512), 1L, DAY_MILLIS));
+            assertEquals(1, writer.oversized());
+            assertEquals(1, writer.append("small", 2L, DAY_MILLIS));
+        }
+    }
+
+    @Test
+    void testEmptyFrameDoesNotStallReaderOrRecovery() throws Exception {
+        // Given: 빈 프레임 뒤에 이어지는 엔트리
+        try (JournalWriter writer = new JournalWriter(dir, 1 << 16)) {
+            assertEquals(1, writer.append("a", 1L, DAY_MILLIS));
+            assertEquals(-1, writer.append("", 2L, DAY_MILLIS));
+            assertEquals(2, writer.append("b", 3L, DAY_MILLIS));
+            assertEquals(3, writer.append("c", 4L, DAY_MILLIS));
+            assertEquals(1, writer.empty());
+        }
+
+        // When
+        List<String> frames = new ArrayList<>();
+        try (JournalReader reader = JournalReader.open(dir)) {
+            reader.poll(entry -> frames.add(entry.toString()));
+            assertEquals(3, reader.lastSequence());
+        }
+
+        // Then: 빈 프레임 이후 엔트리도 모두 읽히고, 재시작 시 시퀀스가 이어짐
+        assertEquals(List.of("a", "b", "c"), frames);
+        try (JournalWriter reopened = new JournalWriter(dir, 1 << 16)) {
+            assertEquals(3, reopened.lastSequence());
+        }
+    }
+
+    @Test
+    void testSessionKeyBoundaries() {
+        assertEquals("20260104-NIGHT", JournalFormat.sessionKey(millis(2026, 1, 5, 4, 59)));
+        assertEquals("20260105-DAY", JournalFormat.sessionKey(millis(2026, 1, 5, 5, 0)));
+        assertEquals("20260105-DAY", JournalFormat.sessionKey(millis(2026, 1, 5, 17, 59)));
+        assertEquals("20260105-NIGHT", JournalFormat.sessionKey(millis(2026, 1, 5, 18, 0)));
+    }
+
+    private static long millis(int year, int month, int day, int hour, int minute) {
+        return ZonedDateTime.of(year, month, day, hour, minute, 0, 0, KST).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,147 @@
+package com.trading.dashboard.replay;
+
+import com.trading.dashboard.config.DataSourceMode;
+import com.trading.dashboard.feed.KisIngestPipeline;
+import com.trading.dashboard.feed.TickWriteBehind;
+import com.trading.dashboard.feed.WaitStrategy;
+import com.trading.dashboard.journal.JournalWriter;
+import com.trading.dashboard.journal.TickJournal;
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.service.MarketClock;
+import com.trading.dashboard.service.MarketDataService;
+import com.trading.dashboard.service.OptionChainSnapshotPublisher;
+import com.trading.dashboard.service.PricingEngine;
+import com.trading.dashboard.service.TradingCalendarService;
+import com.trading.dashboard.state.FixedPoint;
+import com.trading.dashboard.state.InstrumentState;
+import com.trading.dashboard.state.MarketStateStore;
+import com.trading.dashboard.universe.InstrumentUniverse;
+import com.trading.dashboard.websocket.MarketDataWebSocketHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReplayEngine 단위 테스트
+ */
+class ReplayEngineTest {
+
+    private static final long START_MILLIS = ZonedDateTime.of(2026, 1, 5, 10, 0, 0, 0,
+            ZoneId.of("Asia/Seoul")).toInstant().toEpochMilli();
+
+    @TempDir
+    Path dir;
+
+    private MarketStateStore store;
+    private MarketClock clock;
+    private KisIngestPipeline pipeline;
+    private ReplayEngine engine;
+    private MarketDataWebSocketHandler handler;
+    private ScheduledExecutorService broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        store = new MarketStateStore();
+        clock = new MarketClock();
+
+        TickWriteBehind writeBehind = new TickWriteBehind(store, null, meterRegistry);
+        ReflectionTestUtils.setField(writeBehind, "enabled", false);
+        writeBehind.init();
+        TickJournal journal = new TickJournal(meterRegistry, new DataSourceMode(DataSourceMode.REPLAY));
+
+        pipeline = new KisIngestPipeline(store, writeBehind, journal, meterRegistry);
+        ReflectionTestUtils.setField(pipeline, "ringSize", 64);
+        ReflectionTestUtils.setField(pipeline, "waitStrategyType", WaitStrategy.Type.SLEEPING);
+        pipeline.start();
+
+        PricingEngine pricingEngine = new PricingEngine(store, new TradingCalendarService(),
+                Mockito.mock(InstrumentUniverse.class), clock, meterRegistry);
+        pricingEngine.init();
+        OptionChainSnapshotPublisher publisher = new OptionChainSnapshotPublisher(store, pricingEngine, meterRegistry);
+        publisher.init();
+        handler = new MarketDataWebSocketHandler(Mockito.mock(SimpMessagingTemplate.class),
+                Mockito.mock(MarketDataService.class), clock, publisher);
+        handler.init();
+
+        // 스케줄러 대신 짧은 주기로 스냅샷 게시 + 체인 전송
+        broadcaster = Executors.newSingleThreadScheduledExecutor();
+        broadcaster.scheduleWithFixedDelay(() -> {
+            publisher.publish();
+            handler.broadcastOptionChain();
+        }, 0, 10, TimeUnit.MILLISECONDS);
+
+        engine = new ReplayEngine(pipeline, store, clock, publisher, handler);
+        ReflectionTestUtils.setField(engine, "path", dir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdownNow();
+        handler.shutdown();
+        pipeline.stop();
+    }
+
+    @Test
+    void testReplaysRecordedFramesIntoState() throws Exception {
+        // Given: 옵션 체결 3건 + 제어 메시지 1건 녹화
+        try (JournalWriter writer = new JournalWriter(dir, 1 << 16)) {
+            writer.append("{\"header\":{\"tr_id\":\"PINGPONG\"}}", 0L, START_MILLIS);
+            for (int i = 1; i <= 3; i++) {
+                writer.append("0|H0EUCNT0|001|B01601590^100000^1.2" + i + "^2^0.05^4.16^1.20^1.30^1.10^5^"
+                        + (100 * i) + "^12500^300", 0L, START_MILLIS + i);
+            }
+        }
+        ReflectionTestUtils.setField(engine, "speed", 0.0);
+
+        // When
+        ReplayReport report = engine.run();
+
+        // Then
+        assertEquals(4, report.frames());
+        assertEquals(3, report.tickFrames());
+        // 체결 3건 모두 이후 스냅샷/전송에 반영된 것으로 측정 (종단 간 ≥ 스냅샷 ≥ 상태 반영)
+        assertEquals(3, report.snapshot().samples());
+        assertEquals(3, report.broadcast().samples());
+        assertTrue(report.broadcast().maxMicros() >= report.snapshot().maxMicros());
+        assertTrue(report.snapshot().maxMicros() >= report.state().maxMicros());
+        assertEquals(1, report.instruments());
+        InstrumentState state = store.get("B01601590");
+        assertEquals(OptionType.CALL, state.getOptionType());
+        assertEquals(FixedPoint.parse("1.23"), state.currentPrice());
+        assertEquals(300L, state.volume());
+        assertEquals(START_MILLIS + 3, clock.millis());
+        assertTrue(clock.isVirtual());
+    }
+
+    @Test
+    void testPacesFramesBySpeed() throws Exception {
+        // Given: 녹화상 200ms 간격
+        try (JournalWriter writer = new JournalWriter(dir, 1 << 16)) {
+            writer.append("0|H0EUCNT0|001|B01601590^100000^1.20^2^0^0^0^0^0^5^1^0^0", 0L, START_MILLIS);
+            writer.append("0|H0EUCNT0|001|B01601590^100000^1.25^2^0^0^0^0^0^5^2^0^0", 0L, START_MILLIS + 200);
+        }
+        ReflectionTestUtils.setField(engine, "speed", 2.0);
+
+        // When
+        ReplayReport report = engine.run();
+
+        // Then: 2배속이면 약 100ms
+        assertEquals(2, report.frames());
+        assertTrue(report.elapsed().toMillis() >= 100, "elapsed " + report.elapsed());
+    }
+}
@@ -0,0 +1,70 @@
+package com.trading.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KisQuoteDecoder 단위 테스트
+ */
+class KisQuoteDecoderTest {
+
+    private final JsonFactory factory = new JsonFactory();
+
+    @Test
+    void testDecodeOptionQuote() throws Exception {
+        // Given: 천 단위 쉼표, 숫자형 값, 빈 문자열, 필요 없는 중첩 필드 포함
+        String body = """
+                {"output1":{"hts_kor_isnm":"C 202601 612.5","futs_prpr":"1.27","acml_vol":"1,284,332",
+                            "acml_tr_pbmn":"412,118,250,000","hts_otst_stpl_qty":58201,"hts_ints_vltl":"0.1782",
+                            "delta_val":"0.2318","gama":"0.0189","theta":"-0.2041","vega":"","rho":"0.0291",
+                            "extra":{"a":[1,2,3]},"acpr":"612.50"},
+                 "output2":{"bstp_nmix_prpr":"1.00"},
+                 "output3":{"bstp_nmix_prpr":"591.82"},
+                 "rt_cd":"0","msg_cd":"MCA00000","msg1":"정상처리 되었습니다."}
+                """;
+
+        // When
+        KisQuoteDecoder.OptionQuote quote = KisQuoteDecoder.decodeOption(factory,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertTrue(quote.ok());
+        assertTrue(quote.hasQuote());
+        assertEquals("C 202601 612.5", quote.name());
+        assertEquals(new BigDecimal("612.50"), quote.strike());
+        assertEquals(new BigDecimal("1.27"), quote.price());
+        assertEquals(1_284_332L, quote.volume());
+        assertEquals(new BigDecimal("412118250000"), quote.tradingValue());
+        assertEquals(58_201L, quote.openInterest());
+        assertEquals(new BigDecimal("0.1782"), quote.impliedVolatility());
+        assertEquals(new BigDecimal("-0.2041"), quote.theta());
+        assertEquals(BigDecimal.ZERO, quote.vega());
+        assertEquals(new BigDecimal("591.82"), quote.underlyingPrice());
+    }
+
+    @Test
+    void testDecodeErrorAndEmptyOutputs() throws Exception {
+        // Given
+        String error = "{\"rt_cd\":\"1\",\"msg_cd\":\"MCA00124\",\"msg1\":\"조회할 종목이 존재하지 않습니다.\"}";
+        String empty = "{\"rt_cd\":\"0\",\"output1\":{},\"output3\":null}";
+
+        // When
+        KisQuoteDecoder.OptionQuote failed = KisQuoteDecoder.decodeOption(factory,
+                error.getBytes(StandardCharsets.UTF_8));
+        KisQuoteDecoder.OptionQuote noQuote = KisQuoteDecoder.decodeOption(factory,
+                empty.getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertFalse(failed.ok());
+        assertEquals("MCA00124", failed.messageCode());
+        assertTrue(noQuote.ok());
+        assertFalse(noQuote.hasQuote());
+        assertNull(noQuote.underlyingPrice());
+    }
+}
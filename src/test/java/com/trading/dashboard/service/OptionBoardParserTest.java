@@ -0,0 +1,82 @@
+package com.trading.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.trading.dashboard.model.OptionData;
+import com.trading.dashboard.model.OptionType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OptionBoardParser 단위 테스트
+ */
+class OptionBoardParserTest {
+
+    private final JsonFactory factory = new JsonFactory();
+    private final LocalDateTime timestamp = LocalDateTime.of(2026, 1, 14, 10, 0);
+
+    @Test
+    void testParseCallsAndPuts() throws Exception {
+        // Given
+        String body = """
+                {"ctx_area":{"x":[1,2]},
+                 "output1":[{"optn_shrn_iscd":"B01601577","acpr":"577.50","optn_prpr":"3.45",
+                             "acml_vol":"12,345","acml_tr_pbmn":"1000000","hts_otst_stpl_qty":"4321",
+                             "hts_ints_vltl":"0.1825","delta_val":"0.5123","gama":"0.0301",
+                             "theta":"-0.2100","vega":"0.6500","optn_bidp":"3.40","optn_askp":"3.50",
+                             "shnu_rsqn":"120","seln_rsqn":"80","unknown":{"nested":true}}],
+                 "output2":[{"optn_shrn_iscd":"C01601577","acpr":"577.50","optn_prpr":"2.10",
+                             "hts_ints_vltl":"19.10","optn_bidp":"0","optn_askp":""},
+                            {"acpr":"580.00"}],
+                 "rt_cd":"0","msg_cd":"MCA00000","msg1":"정상처리 되었습니다."}
+                """;
+
+        // When
+        OptionBoardParser.Board board = OptionBoardParser.parse(factory, body, "202601", timestamp);
+
+        // Then: 종목코드 없는 행은 제외
+        assertTrue(board.ok());
+        assertEquals(2, board.rows().size());
+
+        OptionData call = board.rows().get(0);
+        assertEquals("B01601577", call.getSymbol());
+        assertEquals(OptionType.CALL, call.getOptionType());
+        assertEquals("C 202601 577.5", call.getName());
+        assertEquals(0, new BigDecimal("577.5").compareTo(call.getStrikePrice()));
+        assertEquals(0, new BigDecimal("3.45").compareTo(call.getCurrentPrice()));
+        assertEquals(12_345L, call.getVolume());
+        assertEquals(4_321L, call.getOpenInterest());
+        assertEquals(0, new BigDecimal("18.25").compareTo(call.getImpliedVolatility()));
+        assertEquals(0, new BigDecimal("-0.21").compareTo(call.getTheta()));
+        assertEquals(0, new BigDecimal("3.50").compareTo(call.getAskPrice()));
+        assertEquals(120, call.getBidVolume());
+        assertEquals(80, call.getAskVolume());
+        assertEquals("202601", call.getExpiryDate());
+        assertEquals(timestamp, call.getTimestamp());
+
+        OptionData put = board.rows().get(1);
+        assertEquals(OptionType.PUT, put.getOptionType());
+        assertEquals(0, new BigDecimal("19.10").compareTo(put.getImpliedVolatility()));
+        assertNull(put.getBidPrice());
+        assertNull(put.getAskPrice());
+        assertEquals(0L, put.getVolume());
+    }
+
+    @Test
+    void testParseErrorResponse() throws Exception {
+        // Given
+        String body = "{\"rt_cd\":\"1\",\"msg_cd\":\"EGW00201\",\"msg1\":\"초당 거래건수를 초과하였습니다.\","
+                + "\"output1\":[{\"optn_shrn_iscd\":\"B01601577\"}]}";
+
+        // When
+        OptionBoardParser.Board board = OptionBoardParser.parse(factory, body, "202601", timestamp);
+
+        // Then
+        assertFalse(board.ok());
+        assertEquals("EGW00201", board.messageCode());
+        assertTrue(board.rows().isEmpty());
+    }
+}
@@ -0,0 +1,114 @@
+package com.trading.dashboard.service;
+
+import com.trading.dashboard.dto.StrikePriceDataDTO;
+import com.trading.dashboard.model.OptionData;
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.state.FixedPoint;
+import com.trading.dashboard.state.MarketStateStore;
+import com.trading.dashboard.universe.InstrumentUniverse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OptionChainSnapshotPublisher 단위 테스트
+ */
+class OptionChainSnapshotPublisherTest {
+
+    private MarketStateStore store;
+    private SimpleMeterRegistry meterRegistry;
+    private OptionChainSnapshotPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        store = new MarketStateStore();
+        meterRegistry = new SimpleMeterRegistry();
+        PricingEngine pricingEngine = new PricingEngine(store, new TradingCalendarService(),
+                Mockito.mock(InstrumentUniverse.class), new MarketClock(), meterRegistry);
+        pricingEngine.init();
+        publisher = new OptionChainSnapshotPublisher(store, pricingEngine, meterRegistry);
+        publisher.init();
+    }
+
+    @Test
+    void testUnchangedStateReusesSnapshot() {
+        // Given
+        store.upsertOption(option("B01601590", OptionType.CALL, "590", 100L));
+        store.upsertOption(option("C01601590", OptionType.PUT, "590", 80L));
+
+        // When
+        OptionChainSnapshot first = publisher.refresh();
+        OptionChainSnapshot second = publisher.refresh();
+
+        // Then: 변경이 없으면 같은 인스턴스, 재생성 1회 + 생략 1회
+        assertSame(first, second);
+        assertSame(first, publisher.current());
+        assertEquals(1L, first.version());
+        assertEquals(1L, first.analysis().getVersion());
+        assertEquals(1L, meterRegistry.get("chain.snapshot.build").timer().count());
+        assertEquals(1.0, meterRegistry.get("chain.snapshot.skipped").counter().count());
+    }
+
+    @Test
+    void testTickBatchProducesNextVersion() {
+        // Given
+        store.upsertOption(option("B01601590", OptionType.CALL, "590", 100L));
+        OptionChainSnapshot first = publisher.refresh();
+
+        // When: 게시 주기 사이의 틱 여러 건은 한 번의 재생성으로 반영
+        for (int i = 1; i <= 5; i++) {
+            store.get("B01601590").applyTrade(FixedPoint.parse("1.30"), 100L + i, System.currentTimeMillis());
+        }
+        OptionChainSnapshot second = publisher.refresh();
+
+        // Then: 이전 스냅샷은 그대로, 새 스냅샷만 틱 반영
+        assertEquals(2L, second.version());
+        assertEquals(100L, first.analysis().getStrikeChain().get(0).getCallVolume());
+        assertEquals(105L, second.analysis().getStrikeChain().get(0).getCallVolume());
+        assertEquals(2L, meterRegistry.get("chain.snapshot.build").timer().count());
+    }
+
+    @Test
+    void testSnapshotIsUnmodifiable() {
+        // Given
+        store.upsertOption(option("B01601590", OptionType.CALL, "590", 100L));
+        OptionChainSnapshot snapshot = publisher.refresh();
+
+        // Then
+        assertThrows(UnsupportedOperationException.class,
+                () -> snapshot.analysis().getStrikeChain().add(new StrikePriceDataDTO()));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.options().clear());
+    }
+
+    @Test
+    void testClearStillAdvancesVersion() {
+        // Given
+        store.upsertOption(option("B01601590", OptionType.CALL, "590", 100L));
+        OptionChainSnapshot before = publisher.refresh();
+
+        // When
+        store.clear();
+        OptionChainSnapshot after = publisher.refresh();
+
+        // Then
+        assertTrue(after.stateChangeCount() > before.stateChangeCount());
+        assertEquals(before.version() + 1, after.version());
+        assertTrue(after.analysis().getStrikeChain().isEmpty());
+    }
+
+    private static OptionData option(String symbol, OptionType type, String strike, long volume) {
+        return OptionData.builder()
+                .symbol(symbol).name(symbol).optionType(type)
+                .strikePrice(new BigDecimal(strike)).currentPrice(new BigDecimal("1.25"))
+                .volume(volume).openInterest(50L).tradingValue(BigDecimal.TEN)
+                .underlyingPrice(new BigDecimal("590.12"))
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
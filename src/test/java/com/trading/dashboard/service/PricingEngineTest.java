@@ -0,0 +1,146 @@
+package com.trading.dashboard.service;
+
+import com.trading.dashboard.analytics.Black76;
+import com.trading.dashboard.model.FuturesData;
+import com.trading.dashboard.model.OptionData;
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.state.InstrumentState;
+import com.trading.dashboard.state.MarketStateStore;
+import com.trading.dashboard.universe.Instrument;
+import com.trading.dashboard.universe.InstrumentUniverse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PricingEngine 단위 테스트 - 모델 가격으로 만든 체인에서 IV/Greeks 복원
+ */
+class PricingEngineTest {
+
+    private static final double FORWARD = 591.25;
+    private static final double RATE = 0.03;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 11, 2, 10, 0);
+
+    private MarketStateStore store;
+    private SimpleMeterRegistry meterRegistry;
+    private PricingEngine engine;
+    private double years;
+
+    @BeforeEach
+    void setUp() {
+        store = new MarketStateStore();
+        meterRegistry = new SimpleMeterRegistry();
+        MarketClock clock = new MarketClock();
+        clock.set(NOW.atZone(MarketClock.KST).toInstant().toEpochMilli());
+        TradingCalendarService calendar = new TradingCalendarService();
+        years = calendar.yearsToExpiry(NOW, Instrument.lastTradingDay(YearMonth.of(2026, 11)));
+
+        engine = new PricingEngine(store, calendar, Mockito.mock(InstrumentUniverse.class), clock, meterRegistry);
+        ReflectionTestUtils.setField(engine, "enabled", true);
+        ReflectionTestUtils.setField(engine, "riskFreeRate", RATE);
+        engine.init();
+    }
+
+    @Test
+    void testRecoversVolatilityAndGreeks() {
+        // Given: 최근월 선물 + 행사가별 변동성 스마일로 가격을 매긴 11월물
+        store.upsertFutures(futures(FORWARD));
+        for (int strike = 560; strike <= 620; strike += 5) {
+            double sigma = 0.18 + 0.0004 * Math.abs(strike - FORWARD);
+            store.upsertOption(option("B01611" + strike, OptionType.CALL, strike, sigma));
+            store.upsertOption(option("C01611" + strike, OptionType.PUT, strike, sigma));
+        }
+
+        // When
+        int priced = engine.reprice();
+
+        // Then: 가격 반올림(0.0001) 범위 안에서 입력 변동성 복원, Greeks는 KIS 단위
+        assertEquals(26, priced);
+        double[] greeks = new double[Black76.GREEKS];
+        for (int strike = 560; strike <= 620; strike += 5) {
+            double sigma = 0.18 + 0.0004 * Math.abs(strike - FORWARD);
+            OptionData call = store.get("B01611" + strike).toOptionData();
+            assertEquals(sigma * 100, call.getImpliedVolatility().doubleValue(), 1e-2);
+
+            Black76.greeks(true, FORWARD, strike, years, RATE, sigma, greeks);
+            assertEquals(greeks[Black76.DELTA], call.getDelta().doubleValue(), 1e-3);
+            assertEquals(greeks[Black76.THETA] / 252, call.getTheta().doubleValue(), 1e-2);
+            assertEquals(greeks[Black76.VEGA] / 100, call.getVega().doubleValue(), 1e-2);
+
+            OptionData put = store.get("C01611" + strike).toOptionData();
+            assertEquals(call.getDelta().doubleValue() - Math.exp(-RATE * years), put.getDelta().doubleValue(), 1e-3);
+        }
+        assertEquals(1L, meterRegistry.get("pricing.reprice").timer().count());
+    }
+
+    @Test
+    void testModelGreeksDoNotTriggerSnapshot() {
+        // Given
+        store.upsertFutures(futures(FORWARD));
+        store.upsertOption(option("B01611590", OptionType.CALL, 590, 0.2));
+        long before = store.changeCount();
+
+        // When
+        engine.reprice();
+
+        // Then: 재계산 결과 기록은 변경 카운터를 올리지 않음 (스냅샷 재생성 루프 방지)
+        assertEquals(before, store.changeCount());
+    }
+
+    @Test
+    void testUnsolvablePriceKeepsRestValue() {
+        // Given: 내재가치 미만의 콜 가격
+        store.upsertFutures(futures(FORWARD));
+        OptionData option = option("B01611560", OptionType.CALL, 560, 0.2);
+        option.setCurrentPrice(new BigDecimal("10.00"));
+        option.setImpliedVolatility(new BigDecimal("17.5"));
+        store.upsertOption(option);
+
+        // When
+        int priced = engine.reprice();
+
+        // Then
+        assertEquals(0, priced);
+        assertEquals(17.5, store.get("B01611560").impliedVolatility(), 1e-9);
+        assertEquals(1.0, meterRegistry.get("pricing.unsolved").counter().count());
+    }
+
+    @Test
+    void testNoFuturesPriceSkipsRepricing() {
+        store.upsertOption(option("B01611590", OptionType.CALL, 590, 0.2));
+
+        assertEquals(0, engine.reprice());
+        InstrumentState state = store.get("B01611590");
+        assertTrue(Double.isNaN(state.impliedVolatility()));
+    }
+
+    private OptionData option(String symbol, OptionType type, int strike, double sigma) {
+        double price = Black76.price(type == OptionType.CALL, FORWARD, strike, years, RATE, sigma);
+        return OptionData.builder()
+                .symbol(symbol).name(symbol).optionType(type)
+                .strikePrice(BigDecimal.valueOf(strike))
+                .currentPrice(BigDecimal.valueOf(price).setScale(4, RoundingMode.HALF_UP))
+                .volume(100L).openInterest(50L).tradingValue(BigDecimal.TEN)
+                .underlyingPrice(new BigDecimal("590.12"))
+                .expiryDate("202611")
+                .timestamp(NOW)
+                .build();
+    }
+
+    private static FuturesData futures(double price) {
+        return FuturesData.builder()
+                .symbol("A01612").name("KOSPI200 선물 12월물")
+                .currentPrice(BigDecimal.valueOf(price)).volume(10_000L).openInterest(5L)
+                .tradingValue(BigDecimal.TEN).timestamp(NOW)
+                .build();
+    }
+}
@@ -7,6 +7,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -70,4 +82,84 @@ class TokenManagerTest {
         // Then
         assertFalse(tokenManager.isTokenValid());
     }
+
+    @Test
+    void testConcurrentCallersShareOneIssuance() throws Exception {
+        // Given: 발급이 끝나기 전에 16개 호출이 동시에 요청
+        AtomicInteger issued = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        TokenManager.TokenInfo fresh = new TokenManager.TokenInfo("fresh", LocalDateTime.now().plusHours(24));
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 16; i++) {
+                results.add(pool.submit(() -> tokenManager.accessToken(() -> {
+                    issued.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS);
+                    return fresh;
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            for (Future<String> result : results) {
+                assertEquals("fresh", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, issued.get());
+    }
+
+    @Test
+    void testRefreshAheadReturnsCurrentTokenAndIssuesInBackground() throws Exception {
+        // Given: 만료 10분 전, refresh-ahead 30분
+        ReflectionTestUtils.setField(tokenManager, "refreshAheadMillis", 1_800_000L);
+        tokenManager.setToken("old", LocalDateTime.now().plusMinutes(10));
+        CountDownLatch issued = new CountDownLatch(1);
+
+        // When: 읽기는 기다리지 않고 기존 토큰 반환
+        String token = tokenManager.accessToken(() -> {
+            issued.countDown();
+            return new TokenManager.TokenInfo("new", LocalDateTime.now().plusHours(24));
+        });
+
+        // Then
+        assertEquals("old", token);
+        assertTrue(issued.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100 && !"new".equals(tokenManager.getToken()); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals("new", tokenManager.getToken());
+    }
+
+    @Test
+    void testApprovalKeyCachedWithinTtlUntilInvalidated() {
+        // Given
+        ReflectionTestUtils.setField(tokenManager, "approvalKeyTtlMillis", 3_600_000L);
+        AtomicInteger issued = new AtomicInteger();
+
+        // When
+        String first = tokenManager.approvalKey(() -> "key-" + issued.incrementAndGet());
+        String second = tokenManager.approvalKey(() -> "key-" + issued.incrementAndGet());
+        tokenManager.invalidateApprovalKey();
+        String third = tokenManager.approvalKey(() -> "key-" + issued.incrementAndGet());
+
+        // Then
+        assertEquals("key-1", first);
+        assertEquals("key-1", second);
+        assertEquals("key-2", third);
+    }
+
+    @Test
+    void testIssuanceFailureSurfacesAsTokenExpired() {
+        assertThrows(com.trading.dashboard.exception.TokenExpiredException.class,
+                () -> tokenManager.accessToken(() -> {
+                    throw new IllegalStateException("EGW00133");
+                }));
+        assertFalse(tokenManager.isTokenValid());
+    }
 }
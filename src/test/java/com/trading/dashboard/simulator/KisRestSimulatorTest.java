@@ -0,0 +1,384 @@
+package com.trading.dashboard.simulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trading.dashboard.config.KisApiConfig;
+import com.trading.dashboard.fetch.KisApiGovernor;
+import com.trading.dashboard.fetch.KisFetchEngine;
+import com.trading.dashboard.fetch.RefreshPlanner;
+import com.trading.dashboard.repository.FuturesDataRepository;
+import com.trading.dashboard.repository.OptionDataRepository;
+import com.trading.dashboard.service.KisApiService;
+import com.trading.dashboard.service.MarketClock;
+import com.trading.dashboard.service.MarketStatusService;
+import com.trading.dashboard.service.OptionChainLoadEvent;
+import com.trading.dashboard.service.TokenManager;
+import com.trading.dashboard.service.TradingCalendarService;
+import com.trading.dashboard.state.FixedPoint;
+import com.trading.dashboard.state.InstrumentState;
+import com.trading.dashboard.state.MarketStateStore;
+import com.trading.dashboard.universe.InstrumentUniverse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KisRestSimulator 단위 테스트
+ */
+class KisRestSimulatorTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private KisRestSimulator simulator;
+
+    @AfterEach
+    void tearDown() {
+        simulator.shutdown();
+    }
+
+    @Test
+    void testTokenReissueWithinIntervalReturnsEgw00133() throws Exception {
+        // Given
+        start(KisRestSimulator.Profile.defaults().toBuilder().latencyMillis(0).jitterMillis(0).build());
+
+        // When
+        HttpResponse<String> first = post("/oauth2/tokenP");
+        HttpResponse<String> second = post("/oauth2/tokenP");
+        HttpResponse<String> approval = post("/oauth2/Approval");
+
+        // Then
+        assertEquals(200, first.statusCode());
+        JsonNode token = objectMapper.readTree(first.body());
+        assertTrue(token.get("access_token").asText().startsWith("SIM-"));
+        assertEquals(86_400, token.get("expires_in").asInt());
+        assertEquals(403, second.statusCode());
+        assertTrue(second.body().contains("EGW00133"));
+        assertFalse(objectMapper.readTree(approval.body()).get("approval_key").asText().isEmpty());
+    }
+
+    @Test
+    void testQuotePayloads() throws Exception {
+        // Given
+        start(KisRestSimulator.Profile.defaults().toBuilder().latencyMillis(0).jitterMillis(0).build());
+        String token = issueToken();
+
+        // When
+        JsonNode futures = objectMapper.readTree(get(KisRestSimulator.PRICE_PATH, "F", "A01606", token).body());
+        JsonNode option = objectMapper.readTree(get(KisRestSimulator.PRICE_PATH, "O", "C01601577", token).body());
+        JsonNode asking = objectMapper.readTree(
+                get(KisRestSimulator.ASKING_PRICE_PATH, "O", "C01601577", token).body());
+        JsonNode unknown = objectMapper.readTree(get(KisRestSimulator.PRICE_PATH, "O", "B01601578", token).body());
+
+        // Then
+        assertEquals("0", futures.get("rt_cd").asText());
+        assertTrue(futures.path("output1").path("futs_prpr").asDouble() > 500);
+        assertEquals("577.50", option.path("output1").path("acpr").asText());
+        assertTrue(option.path("output1").path("delta_val").asDouble() < 0);
+        assertTrue(option.path("output1").path("gama").asDouble() > 0);
+        assertTrue(option.path("output1").path("theta").asDouble() < 0);
+        assertTrue(option.path("output1").path("vega").asDouble() > 0);
+        assertTrue(option.path("output3").path("bstp_nmix_prpr").asDouble() > 500);
+        assertTrue(asking.path("output1").path("optn_lstn_askp1").asDouble()
+                > asking.path("output1").path("optn_lstn_bidp1").asDouble());
+        assertEquals("1", unknown.get("rt_cd").asText());
+    }
+
+    @Test
+    void testRateLimitAndExpiredToken() throws Exception {
+        // Given
+        start(KisRestSimulator.Profile.defaults().toBuilder()
+                .latencyMillis(0).jitterMillis(0).rateLimitPerSecond(3).build());
+        String token = issueToken();
+
+        // When: 같은 1초 창 안에서 한도 초과
+        int limited = 0;
+        for (int i = 0; i < 10; i++) {
+            HttpResponse<String> response = get(KisRestSimulator.PRICE_PATH, "F", "A01603", token);
+            if (response.statusCode() == 500 && response.body().contains("EGW00201")) {
+                limited++;
+            }
+        }
+        simulator.expireTokens();
+        HttpResponse<String> expired = get(KisRestSimulator.PRICE_PATH, "F", "A01603", token);
+
+        // Then
+        assertTrue(limited >= 4, "limited=" + limited);
+        assertTrue(expired.body().contains("EGW00123"));
+        assertEquals(10L + 1, simulator.requests());
+    }
+
+    @Test
+    void testKisApiServiceLoadsFuturesFromStandIn() throws Exception {
+        // Given
+        start(KisRestSimulator.Profile.defaults().toBuilder().latencyMillis(1).jitterMillis(0).build());
+        MarketStateStore store = new MarketStateStore();
+        KisApiService service = kisApiService(store);
+
+        // When
+        service.loadKospi200Futures();
+
+        // Then
+        assertEquals(4, store.futures().size());
+        assertEquals(4L, simulator.getStats().get("quotes"));
+    }
+
+    @Test
+    void testKisApiServiceSkipsFailedQuotes() throws Exception {
+        // Given: 모든 시세 조회가 오류 응답
+        start(KisRestSimulator.Profile.defaults().toBuilder()
+                .latencyMillis(1).jitterMillis(0).errorRate(1.0).build());
+        MarketStateStore store = new MarketStateStore();
+        KisApiService service = kisApiService(store);
+
+        // When
+        service.loadKospi200Futures();
+
+        // Then: 예외 없이 건너뜀
+        assertTrue(store.futures().isEmpty());
+        assertEquals(4L, simulator.getStats().get("injectedErrors"));
+    }
+
+    @Test
+    void testKisApiServiceLoadsOptionsFromBoard() throws Exception {
+        // Given: 주간장, 기초자산 기본값 590 → 575~605 (13개 행사가 × 콜/풋)
+        start(KisRestSimulator.Profile.defaults().toBuilder().latencyMillis(1).jitterMillis(0).build());
+        MarketStateStore store = new MarketStateStore();
+        KisApiService service = kisApiService(store, true);
+
+        // When
+        service.loadKospi200Options();
+
+        // Then: 전광판 + 기초자산용 시세 1건 (월물은 종목 마스터 기준, 월물 리스트 조회 없음)
+        assertEquals(26, store.options().size());
+        assertEquals(1L, simulator.getStats().get("boards"));
+        assertEquals(1L, simulator.getStats().get("quotes"));
+        assertEquals(0L, simulator.getStats().get("askingPrices"));
+        assertTrue(store.options().stream().allMatch(option -> option.getUnderlyingPrice() != null
+                && option.getAskPrice() != null && option.getDelta() != null));
+    }
+
+    @Test
+    void testKisApiServiceFallsBackToPerContractOptions() throws Exception {
+        // Given: 전광판 비활성화
+        start(KisRestSimulator.Profile.defaults().toBuilder()
+                .latencyMillis(1).jitterMillis(0).rateLimitPerSecond(0).build());
+        MarketStateStore store = new MarketStateStore();
+        KisApiService service = kisApiService(store, false);
+
+        // When
+        service.loadKospi200Options();
+
+        // Then: 종목마다 시세 + 호가
+        assertEquals(26, store.options().size());
+        assertEquals(0L, simulator.getStats().get("boards"));
+        assertEquals(26L, simulator.getStats().get("quotes"));
+        assertEquals(26L, simulator.getStats().get("askingPrices"));
+    }
+
+    @Test
+    void testPerContractQueriesOnlyListedStrikes() throws Exception {
+        // Given: IV 22.7% → 조회 범위 ±17pt (573~607, 2.5pt 간격과 어긋남)
+        start(KisRestSimulator.Profile.defaults().toBuilder()
+                .latencyMillis(1).jitterMillis(0).rateLimitPerSecond(0).build());
+        MarketStateStore store = new MarketStateStore();
+        KisApiService service = kisApiService(store, false);
+        ReflectionTestUtils.setField(service, "previousAvgIV", 22.7);
+
+        // When
+        service.loadKospi200Options();
+
+        // Then: 구간 안의 상장 행사가(575~605, 577.5 포함)만 조회, 미상장 코드 조회 없음
+        assertEquals(26, store.options().size());
+        assertEquals(26L, simulator.getStats().get("quotes"));
+        assertEquals(0L, simulator.getStats().get("unknownSymbols"));
+        assertEquals(new java.math.BigDecimal("577.5"), store.get("B01601577").toOptionData().getStrikePrice());
+    }
+
+    @Test
+    void testBoardPublishesContractsNearestAtmFirst() throws Exception {
+        // Given: 발행 시점에 상태 저장소에 이미 반영되어 있는지 함께 기록
+        start(KisRestSimulator.Profile.defaults().toBuilder().latencyMillis(1).jitterMillis(0).build());
+        MarketStateStore store = new MarketStateStore();
+        List<OptionChainLoadEvent> events = new ArrayList<>();
+        List<Boolean> storedWhenPublished = new ArrayList<>();
+        KisApiService service = kisApiService(store, true, event -> {
+            OptionChainLoadEvent load = (OptionChainLoadEvent) event;
+            events.add(load);
+            storedWhenPublished.add(load.option() == null || store.get(load.option().getSymbol()) != null);
+        });
+
+        // When
+        service.loadKospi200Options();
+
+        // Then: 종목 26건 + 완료 1건, ATM(590) 콜/풋부터 행사가 거리 순
+        assertEquals(27, events.size());
+        assertEquals(new java.math.BigDecimal("590.00"), events.get(0).option().getStrikePrice());
+        assertEquals(new java.math.BigDecimal("590.00"), events.get(1).option().getStrikePrice());
+        double previousDistance = 0;
+        for (int i = 0; i < 26; i++) {
+            OptionChainLoadEvent event = events.get(i);
+            double distance = Math.abs(event.option().getStrikePrice().doubleValue() - 590);
+            assertTrue(distance >= previousDistance);
+            assertEquals(i + 1, event.done());
+            assertEquals(26, event.total());
+            assertFalse(event.complete());
+            previousDistance = distance;
+        }
+        assertTrue(events.get(26).complete());
+        assertNull(events.get(26).option());
+        assertEquals(26, events.get(26).done());
+        assertTrue(storedWhenPublished.stream().allMatch(Boolean::booleanValue));
+    }
+
+    @Test
+    void testPerContractPublishesAsEachQuoteArrives() throws Exception {
+        // Given
+        start(KisRestSimulator.Profile.defaults().toBuilder()
+                .latencyMillis(1).jitterMillis(0).rateLimitPerSecond(0).build());
+        MarketStateStore store = new MarketStateStore();
+        List<OptionChainLoadEvent> events = new CopyOnWriteArrayList<>();
+        KisApiService service = kisApiService(store, false, event -> events.add((OptionChainLoadEvent) event));
+
+        // When
+        service.loadKospi200Options();
+
+        // Then: 조회 스레드가 여러 개면 발행 순서는 섞일 수 있으나 done은 1..26을 한 번씩, 마지막은 완료 이벤트
+        assertEquals(27, events.size());
+        assertEquals(IntStream.rangeClosed(1, 26).boxed().toList(),
+                events.subList(0, 26).stream().map(OptionChainLoadEvent::done).sorted().toList());
+        for (int i = 0; i < 26; i++) {
+            assertEquals(26, events.get(i).total());
+            assertNotNull(events.get(i).option());
+        }
+        assertTrue(events.get(26).complete());
+        assertEquals(0, events.get(26).etaMillis(System.currentTimeMillis()));
+    }
+
+    @Test
+    void testKisApiServiceRefreshesOnlyRequestedOptions() throws Exception {
+        // Given
+        start(KisRestSimulator.Profile.defaults().toBuilder().latencyMillis(1).jitterMillis(0).build());
+        MarketStateStore store = new MarketStateStore();
+        KisApiService service = kisApiService(store, true);
+        service.loadKospi200Options();
+        long quotesBefore = (long) simulator.getStats().get("quotes");
+        InstrumentState state = store.get("B01601590");
+        long restBefore = state.restUpdatedAtMillis();
+        Thread.sleep(5);
+
+        // When
+        int refreshed = service.refreshOptions(List.of(new RefreshPlanner.Candidate(state.getSymbol(),
+                state.getOptionType(), state.strikePrice(), state.volume(), state.updatedAtMillis(), restBefore)),
+                FixedPoint.ofLong(590));
+
+        // Then: 종목당 시세 1회 (호가 제외), 호가는 전광판 값 유지
+        assertEquals(1, refreshed);
+        assertEquals(quotesBefore + 1, simulator.getStats().get("quotes"));
+        assertEquals(0L, simulator.getStats().get("askingPrices"));
+        assertTrue(state.restUpdatedAtMillis() > restBefore);
+        assertNotNull(state.toOptionData().getAskPrice());
+    }
+
+    private void start(KisRestSimulator.Profile profile) throws Exception {
+        simulator = new KisRestSimulator(0, profile);
+        simulator.start();
+    }
+
+    /**
+     * 토큰은 미리 TokenManager에 넣어 두어 kis_token.cache 파일을 만들지 않음
+     */
+    private KisApiService kisApiService(MarketStateStore store) throws Exception {
+        return kisApiService(store, true);
+    }
+
+    /**
+     * 시장 시계는 평일 주간장(2026-01-07 10:00 KST, 1월물 최종거래일 전)으로 고정 → 전광판 사용 가능
+     * 종목 마스터는 시뮬레이터에서 받아 적재
+     */
+    private KisApiService kisApiService(MarketStateStore store, boolean optionBoard) throws Exception {
+        return kisApiService(store, optionBoard, event -> {
+        });
+    }
+
+    private KisApiService kisApiService(MarketStateStore store, boolean optionBoard,
+            ApplicationEventPublisher eventPublisher) throws Exception {
+        KisApiConfig config = new KisApiConfig();
+        config.setBaseUrl(simulator.getBaseUrl());
+        config.setAppKey("app-key");
+        config.setAppSecret("app-secret");
+        TokenManager tokenManager = new TokenManager();
+        tokenManager.setToken(issueToken(), LocalDateTime.now().plusHours(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        KisFetchEngine fetchEngine = new KisFetchEngine(httpClient, governor(registry, 100), registry);
+        ReflectionTestUtils.setField(fetchEngine, "maxInFlight", 8);
+        ReflectionTestUtils.setField(fetchEngine, "maxRetries", 0);
+        fetchEngine.init();
+        MarketClock clock = new MarketClock();
+        clock.set(LocalDateTime.of(2026, 1, 7, 10, 0).atZone(MarketClock.KST).toInstant().toEpochMilli());
+        InstrumentUniverse universe = new InstrumentUniverse(clock, httpClient);
+        HttpResponse<InputStream> master = httpClient.send(HttpRequest.newBuilder()
+                .uri(URI.create(simulator.getBaseUrl() + KisRestSimulator.MASTER_PATH)).build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream in = master.body()) {
+            universe.load(in);
+        }
+        KisApiService service = new KisApiService(config, Mockito.mock(FuturesDataRepository.class),
+                Mockito.mock(OptionDataRepository.class), objectMapper, tokenManager,
+                new MarketStatusService(new TradingCalendarService(), clock), store, fetchEngine, universe,
+                eventPublisher);
+        ReflectionTestUtils.setField(service, "optionBoardEnabled", optionBoard);
+        return service;
+    }
+
+    private static KisApiGovernor governor(SimpleMeterRegistry registry, double ratePerSecond) {
+        KisApiGovernor governor = new KisApiGovernor(registry);
+        ReflectionTestUtils.setField(governor, "maxRate", ratePerSecond);
+        ReflectionTestUtils.setField(governor, "burst", 5);
+        ReflectionTestUtils.setField(governor, "minRate", 2.0);
+        ReflectionTestUtils.setField(governor, "decreaseFactor", 0.5);
+        ReflectionTestUtils.setField(governor, "increasePerSecond", 1.0);
+        ReflectionTestUtils.setField(governor, "decreaseCooldownMillis", 1000L);
+        ReflectionTestUtils.setField(governor, "maxQueued", 500);
+        ReflectionTestUtils.setField(governor, "maxWaitMillis", 10_000L);
+        governor.init();
+        return governor;
+    }
+
+    private String issueToken() throws Exception {
+        return objectMapper.readTree(post("/oauth2/tokenP").body()).get("access_token").asText();
+    }
+
+    private HttpResponse<String> post(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(simulator.getBaseUrl() + path))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"grant_type\":\"client_credentials\"}"))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String path, String market, String code, String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(simulator.getBaseUrl() + path
+                        + "?FID_COND_MRKT_DIV_CODE=" + market + "&FID_INPUT_ISCD=" + code))
+                .header("authorization", "Bearer " + token)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,214 @@
+package com.trading.dashboard.simulator;
+
+import com.google.gson.JsonParser;
+import com.trading.dashboard.feed.KisFrameDecoder;
+import com.trading.dashboard.feed.KisSubscriptionEngine;
+import com.trading.dashboard.feed.KisTick;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.handshake.ServerHandshake;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KisWebSocketSimulator 단위 테스트
+ */
+class KisWebSocketSimulatorTest {
+
+    private KisWebSocketSimulator simulator;
+    private TestClient client;
+    private final KisSubscriptionEngine engine = new KisSubscriptionEngine(new SimpleMeterRegistry());
+    // 다른 종목을 기다리는 동안 받은 응답 (tr_key별 수신 순서 유지)
+    private final Map<String, Deque<String>> pendingControls = new HashMap<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KisWebSocketSimulator.Profile profile = KisWebSocketSimulator.Profile.defaults().toBuilder()
+                .tickRate(2000)
+                .symbolCount(21)
+                .maxSubscriptions(3)
+                .pingIntervalMillis(100)
+                .approvalKey("test-key")
+                .build();
+        simulator = new KisWebSocketSimulator(0, profile);
+        simulator.start();
+        assertTrue(simulator.awaitStarted(5, TimeUnit.SECONDS), "simulator not started");
+
+        client = new TestClient(new URI("ws://127.0.0.1:" + simulator.getPort()));
+        assertTrue(client.connectBlocking(5, TimeUnit.SECONDS));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.closeBlocking();
+        simulator.shutdown();
+    }
+
+    @Test
+    void testSubscribeAcksAndErrors() throws Exception {
+        // When
+        subscribe("test-key", "H0MFCNT0", "A01603");
+        subscribe("test-key", "H0MFCNT0", "A01603");
+        subscribe("test-key", "H0EUCNT0", "Z99999");
+        subscribe("wrong-key", "H0EUCNT0", "B01601590");
+
+        // Then
+        assertTrue(nextControl("A01603").contains("SUBSCRIBE SUCCESS"));
+        assertTrue(nextControl("A01603").contains("ALREADY IN SUBSCRIBE"));
+        assertTrue(nextControl("Z99999").contains("INVALID TR_KEY"));
+        assertTrue(nextControl("B01601590").contains("invalid approval"));
+    }
+
+    @Test
+    void testEnforcesSubscriptionLimit() throws Exception {
+        // When: 한도 3개 초과
+        for (String symbol : List.of("B01601590", "C01601590", "B01601591", "C01601591")) {
+            subscribe("test-key", "H0EUCNT0", symbol);
+        }
+
+        // Then
+        for (String symbol : List.of("B01601590", "C01601590", "B01601591")) {
+            assertTrue(nextControl(symbol).contains("SUBSCRIBE SUCCESS"), symbol);
+        }
+        assertTrue(nextControl("C01601591").contains("MAX SUBSCRIBE OVER"));
+    }
+
+    @Test
+    void testStreamsDecodablePipeFrames() throws Exception {
+        // Given
+        subscribe("test-key", "H0MFCNT0", "A01603");
+        subscribe("test-key", "H0EUCNT0", "B01601590");
+
+        // When
+        KisFrameDecoder decoder = new KisFrameDecoder();
+        KisTick tick = new KisTick();
+        int futures = 0;
+        int options = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((futures == 0 || options == 0) && System.nanoTime() < deadline) {
+            String frame = client.frames.poll(100, TimeUnit.MILLISECONDS);
+            if (frame == null) {
+                continue;
+            }
+            // Then: 디코더가 그대로 해석 가능한 레코드
+            assertTrue(decoder.wrap(frame), frame);
+            while (decoder.next(tick)) {
+                assertTrue(tick.price() > 0);
+                assertTrue(tick.volume() > 0);
+                if ("A01603".equals(tick.symbol())) {
+                    futures++;
+                } else {
+                    assertEquals("B01601590", tick.symbol());
+                    options++;
+                }
+            }
+        }
+        assertTrue(futures > 0 && options > 0);
+    }
+
+    @Test
+    void testSendsPingPongAndCountsEcho() throws Exception {
+        // When
+        String ping = null;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (ping == null && System.nanoTime() < deadline) {
+            String message = client.controls.poll(100, TimeUnit.MILLISECONDS);
+            if (message != null && message.contains("PINGPONG")) {
+                ping = message;
+            }
+        }
+        assertNotNull(ping);
+        client.send(ping);
+
+        // Then
+        deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while ((long) simulator.getStats().get("pongs") == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1L, simulator.getStats().get("pongs"));
+    }
+
+    @Test
+    void testInjectedDisconnectLooksAbnormal() throws Exception {
+        // When
+        simulator.injectDisconnect();
+
+        // Then
+        assertTrue(client.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(1006, client.closeCode);
+    }
+
+    private void subscribe(String approvalKey, String trId, String symbol) {
+        client.send(engine.frame(KisSubscriptionEngine.Subscription.subscribe(trId, symbol), approvalKey));
+    }
+
+    /**
+     * 해당 종목의 다음 구독 응답 (PINGPONG과 다른 종목 응답은 건너뜀)
+     */
+    private String nextControl(String trKey) throws InterruptedException {
+        Deque<String> pending = pendingControls.get(trKey);
+        if (pending != null && !pending.isEmpty()) {
+            return pending.poll();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            String message = client.controls.poll(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+            assertNotNull(message, "no response for " + trKey);
+            if (message.contains("PINGPONG")) {
+                continue;
+            }
+            String key = JsonParser.parseString(message).getAsJsonObject()
+                    .getAsJsonObject("header").get("tr_key").getAsString();
+            if (trKey.equals(key)) {
+                return message;
+            }
+            pendingControls.computeIfAbsent(key, k -> new ArrayDeque<>()).add(message);
+        }
+    }
+
+    private static final class TestClient extends WebSocketClient {
+
+        final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        final BlockingQueue<String> controls = new LinkedBlockingQueue<>();
+        final CountDownLatch closed = new CountDownLatch(1);
+        volatile int closeCode;
+
+        TestClient(URI uri) {
+            super(uri);
+        }
+
+        @Override
+        public void onOpen(ServerHandshake handshake) {
+        }
+
+        @Override
+        public void onMessage(String message) {
+            (message.startsWith("0|") ? frames : controls).add(message);
+        }
+
+        @Override
+        public void onClose(int code, String reason, boolean remote) {
+            closeCode = code;
+            closed.countDown();
+        }
+
+        @Override
+        public void onError(Exception ex) {
+        }
+    }
+}
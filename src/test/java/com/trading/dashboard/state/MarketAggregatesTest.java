@@ -0,0 +1,171 @@
+package com.trading.dashboard.state;
+
+import com.trading.dashboard.model.FuturesData;
+import com.trading.dashboard.model.OptionData;
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.repository.FuturesDataRepository;
+import com.trading.dashboard.repository.OptionDataRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MarketAggregates 테스트
+ * - 변화량으로 유지한 합계가 DB SUM 쿼리 결과와 일치하는지 확인 (같은 갱신을 양쪽에 반영)
+ */
+@DataJpaTest
+class MarketAggregatesTest {
+
+    @Autowired
+    private OptionDataRepository optionDataRepository;
+
+    @Autowired
+    private FuturesDataRepository futuresDataRepository;
+
+    private MarketStateStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new MarketStateStore();
+    }
+
+    @Test
+    void testTotalsFollowRestAndTicks() {
+        // Given
+        store.upsertOption(option("B01601590", OptionType.CALL, 590, 100L, 10L, "1000.50"));
+        store.upsertOption(option("C01601590", OptionType.PUT, 590, 40L, 20L, "300"));
+
+        // When: 체결 틱(누적거래량/누적거래대금)과 REST 재조회
+        store.get("B01601590").applyExecution(FixedPoint.parse("1.30"), FixedPoint.NULL, FixedPoint.NULL,
+                FixedPoint.NULL, FixedPoint.NULL, FixedPoint.NULL, 150L, FixedPoint.parse("1100.50"),
+                FixedPoint.NULL, System.currentTimeMillis());
+        store.get("C01601590").applyTrade(FixedPoint.parse("2.10"), 45L, System.currentTimeMillis());
+        store.upsertOption(option("C01601590", OptionType.PUT, 590, 60L, 25L, "500"));
+        MarketAggregates.Totals totals = store.totals();
+
+        // Then
+        assertEquals(150L, totals.callVolume());
+        assertEquals(60L, totals.putVolume());
+        assertEquals(10L, totals.callOpenInterest());
+        assertEquals(25L, totals.putOpenInterest());
+        assertEquals(FixedPoint.parse("1100.50"), totals.callTradingValue());
+        assertEquals(FixedPoint.parse("500"), totals.putTradingValue());
+        assertEquals(0L, totals.futuresVolume());
+    }
+
+    @Test
+    void testRefreshKeepsNewerRealtimeVolume() {
+        // Given: REST 조회 이후 실시간 체결이 먼저 반영됨
+        LocalDateTime restTime = LocalDateTime.now().minusMinutes(1);
+        OptionData initial = option("B01601590", OptionType.CALL, 590, 100L, 10L, "1000");
+        initial.setTimestamp(restTime.minusMinutes(1));
+        store.upsertOption(initial);
+        store.get("B01601590").applyTrade(FixedPoint.parse("1.30"), 180L, System.currentTimeMillis());
+
+        // When: 더 오래된 시각의 REST 재조회 (거래량은 유지, 미결제약정만 반영)
+        OptionData refreshed = option("B01601590", OptionType.CALL, 590, 120L, 30L, "1200");
+        refreshed.setTimestamp(restTime);
+        store.refreshOption(refreshed);
+
+        // Then
+        assertEquals(180L, store.totals().callVolume());
+        assertEquals(30L, store.totals().callOpenInterest());
+        assertEquals(FixedPoint.parse("1000"), store.totals().callTradingValue());
+    }
+
+    @Test
+    void testClearStartsFromZero() {
+        // Given
+        store.upsertOption(option("B01601590", OptionType.CALL, 590, 100L, 10L, "1000"));
+        store.upsertFutures(futures("A01603", 500L, 70L, "9000"));
+
+        // When
+        store.clear();
+
+        // Then
+        assertEquals(new MarketAggregates.Totals(0, 0, 0, 0, 0, 0, 0, 0, 0), store.totals());
+    }
+
+    @Test
+    void testTotalsMatchDatabaseSums() {
+        // Given: 같은 종목을 DB와 상태 저장소에 적재
+        Random random = new Random(42);
+        List<OptionData> options = new ArrayList<>();
+        for (int strike = 560; strike <= 620; strike += 5) {
+            options.add(option("B01601" + strike, OptionType.CALL, strike, random.nextInt(5000),
+                    random.nextInt(3000), amount(random)));
+            options.add(option("C01601" + strike, OptionType.PUT, strike, random.nextInt(5000),
+                    random.nextInt(3000), amount(random)));
+        }
+        FuturesData futures = futures("A01603", 12_000L, 8_000L, "1500000.25");
+        optionDataRepository.saveAll(options);
+        futuresDataRepository.save(futures);
+        options.forEach(store::upsertOption);
+        store.upsertFutures(futures);
+
+        // When: 틱/REST 갱신을 양쪽에 같은 값으로 반영
+        for (int i = 0; i < 500; i++) {
+            OptionData option = options.get(random.nextInt(options.size()));
+            option.setVolume(option.getVolume() + random.nextInt(20));
+            option.setTradingValue(option.getTradingValue().add(new BigDecimal(random.nextInt(1000) + ".25")));
+            if (i % 3 == 0) {
+                option.setOpenInterest(option.getOpenInterest() + random.nextInt(21) - 10);
+                store.upsertOption(option);
+            } else {
+                store.get(option.getSymbol()).applyExecution(FixedPoint.NULL, FixedPoint.NULL, FixedPoint.NULL,
+                        FixedPoint.NULL, FixedPoint.NULL, FixedPoint.NULL, option.getVolume(),
+                        FixedPoint.of(option.getTradingValue()), FixedPoint.NULL, System.currentTimeMillis());
+            }
+        }
+        futures.setVolume(futures.getVolume() + 300);
+        futures.setOpenInterest(futures.getOpenInterest() - 40);
+        store.upsertFutures(futures);
+        optionDataRepository.saveAllAndFlush(options);
+        futuresDataRepository.saveAndFlush(futures);
+
+        // Then
+        MarketAggregates.Totals totals = store.totals();
+        assertEquals(optionDataRepository.sumVolumeByOptionType(OptionType.CALL), totals.callVolume());
+        assertEquals(optionDataRepository.sumVolumeByOptionType(OptionType.PUT), totals.putVolume());
+        assertEquals(optionDataRepository.sumOpenInterestByOptionType(OptionType.CALL), totals.callOpenInterest());
+        assertEquals(optionDataRepository.sumOpenInterestByOptionType(OptionType.PUT), totals.putOpenInterest());
+        assertEquals(FixedPoint.of(optionDataRepository.sumTradingValueByOptionType(OptionType.CALL)),
+                totals.callTradingValue());
+        assertEquals(FixedPoint.of(optionDataRepository.sumTradingValueByOptionType(OptionType.PUT)),
+                totals.putTradingValue());
+        assertEquals(futuresDataRepository.sumAllVolume(), totals.futuresVolume());
+        assertEquals(futuresDataRepository.sumAllOpenInterest(), totals.futuresOpenInterest());
+        assertEquals(FixedPoint.of(futuresDataRepository.sumAllTradingValue()), totals.futuresTradingValue());
+    }
+
+    private static String amount(Random random) {
+        return random.nextInt(1_000_000) + "." + random.nextInt(10) + "0";
+    }
+
+    private static OptionData option(String symbol, OptionType type, int strike, long volume, long openInterest,
+            String tradingValue) {
+        return OptionData.builder()
+                .symbol(symbol).name(symbol).optionType(type)
+                .strikePrice(BigDecimal.valueOf(strike)).currentPrice(new BigDecimal("1.25"))
+                .volume(volume).openInterest(openInterest).tradingValue(new BigDecimal(tradingValue))
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private static FuturesData futures(String symbol, long volume, long openInterest, String tradingValue) {
+        return FuturesData.builder()
+                .symbol(symbol).name("KOSPI200 선물 3월물")
+                .currentPrice(new BigDecimal("590.70")).volume(volume).openInterest(openInterest)
+                .tradingValue(new BigDecimal(tradingValue)).timestamp(LocalDateTime.now())
+                .build();
+    }
+}
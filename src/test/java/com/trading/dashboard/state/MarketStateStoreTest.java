@@ -0,0 +1,171 @@
+package com.trading.dashboard.state;
+
+import com.trading.dashboard.model.FuturesData;
+import com.trading.dashboard.model.InstrumentType;
+import com.trading.dashboard.model.OptionData;
+import com.trading.dashboard.model.OptionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MarketStateStore 단위 테스트
+ */
+class MarketStateStoreTest {
+
+    private MarketStateStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new MarketStateStore();
+    }
+
+    @Test
+    void testUpsertAndFindByRange() {
+        // Given
+        store.upsertOption(option("B01601590", OptionType.CALL, "590", "1.25", 100L));
+
+        // When: 프레임 내부 구간으로 조회
+        String frame = "0|H0EUCNT0|001|B01601590^180001^1.30";
+        InstrumentState state = store.find(frame, 15, 24);
+
+        // Then
+        assertNotNull(state);
+        assertEquals("B01601590", state.getSymbol());
+        assertEquals(InstrumentType.OPTIONS, state.getInstrumentType());
+        assertNull(store.get("C01601590"));
+    }
+
+    @Test
+    void testApplyTradeUpdatesSnapshot() {
+        // Given
+        store.upsertOption(option("B01601590", OptionType.CALL, "590", "1.25", 100L));
+
+        // When
+        store.get("B01601590").applyTrade(FixedPoint.parse("1.30"), 150L, System.currentTimeMillis());
+        OptionData snapshot = store.options().get(0);
+
+        // Then
+        assertEquals(new BigDecimal("1.3"), snapshot.getCurrentPrice());
+        assertEquals(150L, snapshot.getVolume());
+        assertEquals(new BigDecimal("590"), snapshot.getStrikePrice());
+        assertEquals(OptionType.CALL, snapshot.getOptionType());
+    }
+
+    @Test
+    void testRegisterManySymbolsAndClear() {
+        // Given: 테이블 확장이 일어날 만큼 등록
+        for (int strike = 500; strike < 600; strike++) {
+            store.upsertOption(option("C01601" + strike, OptionType.PUT, String.valueOf(strike), "1", 1L));
+        }
+        FuturesData futures = FuturesData.builder()
+                .symbol("A01603").name("KOSPI200 선물 3월물")
+                .currentPrice(new BigDecimal("590.70")).volume(10L).openInterest(5L)
+                .tradingValue(BigDecimal.TEN).timestamp(LocalDateTime.now())
+                .build();
+        store.upsertFutures(futures);
+
+        // Then
+        assertEquals(101, store.size());
+        assertEquals(100, store.options().size());
+        assertEquals(new BigDecimal("590.7"), store.futures().get(0).getCurrentPrice());
+        for (int strike = 500; strike < 600; strike++) {
+            assertNotNull(store.get("C01601" + strike));
+        }
+
+        // When
+        store.clear();
+
+        // Then
+        assertEquals(0, store.size());
+        assertNull(store.get("A01603"));
+    }
+
+    @Test
+    void testConcurrentReadsAreConsistent() throws Exception {
+        // Given: 가격과 거래량을 항상 같은 값으로 갱신
+        store.upsertOption(option("B01601590", OptionType.CALL, "590", "0", 0L));
+        InstrumentState state = store.get("B01601590");
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Thread writer = new Thread(() -> {
+            long i = 0;
+            while (running.get()) {
+                i++;
+                state.applyTrade(FixedPoint.ofLong(i), i, System.currentTimeMillis());
+            }
+        });
+        writer.start();
+
+        // When & Then: 읽은 스냅샷은 항상 일관돼야 함
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                OptionData snapshot = state.toOptionData();
+                assertEquals(snapshot.getVolume().longValue(), snapshot.getCurrentPrice().longValue());
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+
+    @Test
+    void testRefreshOptionKeepsNewerRealtimePrice() {
+        // Given: REST 조회 시각 이후 실시간 체결이 들어온 종목
+        LocalDateTime requestedAt = LocalDateTime.now().minusSeconds(5);
+        store.upsertOption(option("B01601590", OptionType.CALL, "590", "1.25", 100L));
+        InstrumentState state = store.get("B01601590");
+        state.applyTrade(FixedPoint.parse("1.40"), 300L, System.currentTimeMillis());
+        state.applyOption(OptionData.builder()
+                .symbol("B01601590").optionType(OptionType.CALL).strikePrice(new BigDecimal("590"))
+                .currentPrice(new BigDecimal("1.40")).volume(300L).openInterest(0L).tradingValue(BigDecimal.ZERO)
+                .askPrice(new BigDecimal("1.45")).timestamp(LocalDateTime.now()).build());
+        long priceUpdatedAt = state.updatedAtMillis();
+
+        OptionData refreshed = option("B01601590", OptionType.CALL, "590", "1.10", 90L);
+        refreshed.setTimestamp(requestedAt);
+        refreshed.setDelta(new BigDecimal("0.52"));
+        refreshed.setOpenInterest(777L);
+
+        // When
+        store.refreshOption(refreshed);
+        OptionData snapshot = store.options().get(0);
+
+        // Then: 가격/거래량/호가는 유지, REST 전용 필드만 반영
+        assertEquals(new BigDecimal("1.4"), snapshot.getCurrentPrice());
+        assertEquals(300L, snapshot.getVolume());
+        assertEquals(new BigDecimal("1.45"), snapshot.getAskPrice());
+        assertEquals(new BigDecimal("0.52"), snapshot.getDelta());
+        assertEquals(777L, snapshot.getOpenInterest());
+        assertEquals(priceUpdatedAt, state.updatedAtMillis());
+        assertTrue(state.restUpdatedAtMillis() < priceUpdatedAt);
+    }
+
+    @Test
+    void testFixedPointParse() {
+        assertEquals(5_907_000L, FixedPoint.parse("590.70"));
+        assertEquals(-1_300L, FixedPoint.parse("-0.13"));
+        assertEquals(12_345_670_000L, FixedPoint.parse("1,234,567"));
+        assertEquals(FixedPoint.NULL, FixedPoint.parse(""));
+        assertEquals(new BigDecimal("590.7"), FixedPoint.toBigDecimal(5_907_000L));
+        assertEquals(new BigDecimal("600"), FixedPoint.toBigDecimal(6_000_000L));
+    }
+
+    private OptionData option(String symbol, OptionType type, String strike, String price, long volume) {
+        return OptionData.builder()
+                .symbol(symbol)
+                .optionType(type)
+                .strikePrice(new BigDecimal(strike))
+                .currentPrice(new BigDecimal(price))
+                .volume(volume)
+                .openInterest(0L)
+                .tradingValue(BigDecimal.ZERO)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.trading.dashboard.universe;
+
+import com.trading.dashboard.model.OptionType;
+import com.trading.dashboard.service.MarketClock;
+import com.trading.dashboard.state.FixedPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * InstrumentUniverse 단위 테스트
+ */
+class InstrumentUniverseTest {
+
+    private static final String MASTER = String.join("\n",
+            "1|A01603|KR4A01603000|F 202603|0||1|K2I|코스피200",
+            "1|A01606|KR4A01606000|F 202606|0||1|K2I|코스피200",
+            "1|A0160C|KR4A0160C000|F 202612|0||1|K2I|코스피200",
+            "2|B01601575|KR4B01601575|C 202601 575.0|0|575.00|1|K2I|코스피200",
+            "2|B01601577|KR4B01601577|C 202601 577.5|0|577.50|1|K2I|코스피200",
+            "3|C01601577|KR4C01601577|P 202601 577.5|0|577.50|1|K2I|코스피200",
+            "2|B01601580|KR4B01601580|C 202601 580.0|1|580.00|1|K2I|코스피200",
+            "3|C01601580|KR4C01601580|P 202601 580.0|1|580.00|1|K2I|코스피200",
+            "2|B01602580|KR4B01602580|C 202602 580.0|1|580.00|2|K2I|코스피200",
+            // 스프레드, 형식 오류 행은 제외
+            "4|D01603606|KR4D01603606|SP 2603-2606|0||1|K2I|코스피200",
+            "2|B01601|broken");
+
+    private MarketClock clock;
+    private InstrumentUniverse universe;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        clock = new MarketClock();
+        at(2026, 1, 7);
+        universe = new InstrumentUniverse(clock, HttpClient.newHttpClient());
+        universe.load(new ByteArrayInputStream(MASTER.getBytes(KisMasterParser.CP949)));
+    }
+
+    @Test
+    void testLookupByCodeUsesListedStrike() {
+        // When
+        Instrument call = universe.get("B01601577");
+
+        // Then: 코드는 정수부(577)만, 행사가는 577.5
+        assertEquals(9, universe.size());
+        assertEquals(FixedPoint.parse("577.5"), call.strike());
+        assertEquals(OptionType.CALL, call.optionType());
+        assertEquals(YearMonth.of(2026, 1), call.expiry());
+        assertEquals(YearMonth.of(2026, 12), universe.get("A0160C").expiry());
+        assertNull(universe.get("D01603606"));
+    }
+
+    @Test
+    void testOptionsInRangeOrderedByStrikeCallFirst() {
+        // When
+        List<Instrument> options = universe.options(InstrumentUniverse.KOSPI200, YearMonth.of(2026, 1),
+                FixedPoint.ofLong(576), FixedPoint.ofLong(590));
+
+        // Then: 576~590 구간의 상장 종목만
+        assertEquals(List.of("B01601577", "C01601577", "B01601580", "C01601580"),
+                options.stream().map(Instrument::code).toList());
+        assertEquals(FixedPoint.ofLong(580),
+                universe.nearestStrike(InstrumentUniverse.KOSPI200, YearMonth.of(2026, 1), FixedPoint.parse("579.2")));
+    }
+
+    @Test
+    void testAtmStrikeFromMasterFlag() {
+        assertTrue(universe.get("B01601580").atm());
+        assertFalse(universe.get("B01601577").atm());
+        assertEquals(FixedPoint.ofLong(580), universe.atmStrike(InstrumentUniverse.KOSPI200, YearMonth.of(2026, 1)));
+        assertEquals(FixedPoint.NULL, universe.atmStrike(InstrumentUniverse.KOSPI200, YearMonth.of(2026, 3)));
+    }
+
+    @Test
+    void testRollsPastLastTradingDay() {
+        // Given: 1월물 최종거래일 2026-01-08 (두 번째 목요일)
+        assertEquals(YearMonth.of(2026, 1), universe.frontOptionExpiry(InstrumentUniverse.KOSPI200));
+        assertEquals("A01603", universe.frontFutures(InstrumentUniverse.KOSPI200).code());
+
+        // When: 최종거래일 다음 날
+        at(2026, 1, 9);
+
+        // Then
+        assertEquals(YearMonth.of(2026, 2), universe.frontOptionExpiry(InstrumentUniverse.KOSPI200));
+
+        // When: 3월물 최종거래일(2026-03-12) 이후
+        at(2026, 3, 13);
+
+        // Then
+        assertEquals(List.of("A01606", "A0160C"), universe.futures(InstrumentUniverse.KOSPI200).stream()
+                .map(Instrument::code).toList());
+        assertNull(universe.frontOptionExpiry(InstrumentUniverse.KOSPI200));
+    }
+
+    @Test
+    void testEmptyUniverseLookupDoesNoIo() {
+        // Given: 적재 전, 응답하지 않는 마스터 주소
+        InstrumentUniverse empty = new InstrumentUniverse(clock, HttpClient.newHttpClient());
+        ReflectionTestUtils.setField(empty, "masterUrl", "http://10.255.255.1/master.mst");
+
+        // When & Then: 조회는 다운로드를 기다리지 않고 빈 결과
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertFalse(empty.isLoaded());
+            assertNull(empty.frontFutures(InstrumentUniverse.KOSPI200));
+            assertNull(empty.frontOptionExpiry(InstrumentUniverse.KOSPI200));
+        });
+    }
+
+    private void at(int year, int month, int day) {
+        clock.set(LocalDateTime.of(year, month, day, 10, 0).atZone(MarketClock.KST).toInstant().toEpochMilli());
+    }
+}